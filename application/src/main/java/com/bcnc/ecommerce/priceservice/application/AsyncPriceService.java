@@ -0,0 +1,48 @@
+package com.bcnc.ecommerce.priceservice.application;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Variante asíncrona de {@link PriceService}.
+ * <p>
+ * Cada búsqueda se resuelve en un ejecutor propio y acotado, y el llamante
+ * recibe un {@link CompletableFuture}: puede lanzar varias búsquedas a la
+ * vez, combinarlas o liberar su hilo mientras se accede al almacenamiento.
+ * Si el ejecutor está saturado, el futuro se completa con una
+ * {@link java.util.concurrent.RejectedExecutionException}. Si el
+ * llamante completa o cancela el futuro antes de tiempo (por ejemplo, con
+ * {@code orTimeout}), la búsqueda se descarta si aún no ha empezado.
+ * </p>
+ */
+public interface AsyncPriceService {
+
+    /**
+     * Recupera de forma asíncrona el precio aplicable para un producto y
+     * una cadena en una fecha dada.
+     * <p>
+     * La ausencia de precio no es un error: el resultado lo indica con
+     * {@link PriceLookupResult#found()}.
+     * </p>
+     *
+     * @param applicationDate fecha de aplicación
+     * @param productId       identificador del producto
+     * @param brandId         identificador de la cadena
+     * @return futuro con el resultado de la consulta
+     */
+    CompletableFuture<PriceLookupResult> findApplicablePriceAsync(
+            LocalDateTime applicationDate, Long productId, Long brandId);
+
+    /**
+     * Recupera de forma asíncrona y en bloque el precio aplicable de varias
+     * consultas, con un único acceso al almacenamiento.
+     *
+     * @param queries consultas a resolver
+     * @return futuro con un resultado por consulta, en el mismo orden
+     */
+    CompletableFuture<List<PriceLookupResult>> findApplicablePricesAsync(
+            List<PriceQuery> queries);
+}
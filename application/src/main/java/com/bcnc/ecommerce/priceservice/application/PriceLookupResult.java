@@ -0,0 +1,20 @@
+package com.bcnc.ecommerce.priceservice.application;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+
+/**
+ * Resultado de una consulta dentro de una búsqueda de precios en bloque.
+ *
+ * @param query consulta original
+ * @param price precio aplicable, o {@code null} si no existe ninguno
+ */
+public record PriceLookupResult(PriceQuery query, Price price) {
+
+    /**
+     * @return true si se encontró un precio aplicable
+     */
+    public boolean found() {
+        return price != null;
+    }
+}
@@ -1,7 +1,9 @@
 package com.bcnc.ecommerce.priceservice.application;
 
 import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Servicio de aplicación que orquesta la lógica de negocio relacionada
@@ -24,5 +26,34 @@ public interface PriceService {
      */
     Price findApplicablePrice(LocalDateTime applicationDate,
                               Long productId, Long brandId);
+
+    /**
+     * Recupera el precio aplicable para un producto y una cadena en una
+     * fecha dada sin lanzar excepción si no existe.
+     * <p>
+     * Pensado para los llamantes que tratan la ausencia de precio como un
+     * resultado normal: evita crear y propagar una
+     * {@code PriceNotFoundException} por cada consulta sin tarifa.
+     * </p>
+     *
+     * @param applicationDate fecha de aplicación
+     * @param productId       identificador del producto
+     * @param brandId         identificador de la cadena
+     * @return el precio correspondiente, o {@code null} si no hay
+     */
+    Price findApplicablePriceOrNull(LocalDateTime applicationDate,
+                                    Long productId, Long brandId);
+
+    /**
+     * Recupera en bloque el precio aplicable de varias consultas.
+     * <p>
+     * Las consultas sin precio aplicable no interrumpen el lote: se
+     * devuelven como resultados no encontrados.
+     * </p>
+     *
+     * @param queries consultas a resolver
+     * @return un resultado por consulta, en el mismo orden
+     */
+    List<PriceLookupResult> findApplicablePrices(List<PriceQuery> queries);
 }
 
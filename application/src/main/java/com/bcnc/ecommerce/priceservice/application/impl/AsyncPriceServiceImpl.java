@@ -0,0 +1,124 @@
+package com.bcnc.ecommerce.priceservice.application.impl;
+
+import com.bcnc.ecommerce.priceservice.application.AsyncPriceService;
+import com.bcnc.ecommerce.priceservice.application.PriceLookupResult;
+import com.bcnc.ecommerce.priceservice.application.PriceService;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncPriceService} que ejecuta las búsquedas de un
+ * {@link PriceService} en un ejecutor dedicado.
+ * <p>
+ * Delega en {@link PriceService#findApplicablePriceOrNull} y
+ * {@link PriceService#findApplicablePrices}, así que comparte con la
+ * variante síncrona la agrupación de búsquedas idénticas y los
+ * decoradores del repositorio. El ejecutor debe estar acotado: si rechaza
+ * una tarea, el futuro devuelto se completa con la
+ * {@link RejectedExecutionException} en lugar de lanzarla al llamante.
+ * Completar o cancelar el futuro devuelto antes de que empiece la
+ * búsqueda la descarta sin ejecutarla. Una búsqueda ya empezada no se
+ * interrumpe: su hilo puede estar cargando para otras llamadas agrupadas
+ * con la suya, que fallarían con ella; termina y su resultado se
+ * descarta. No se anota como {@code @Service}: solo se declara con
+ * {@code price.async.enabled=true}.
+ * </p>
+ */
+public class AsyncPriceServiceImpl implements AsyncPriceService {
+
+    /** Caso de uso síncrono que resuelve cada búsqueda. */
+    private final PriceService priceService;
+
+    /** Ejecutor de las búsquedas. */
+    private final Executor executor;
+
+    /**
+     * Constructor con el caso de uso síncrono y el ejecutor.
+     *
+     * @param service       caso de uso síncrono.
+     * @param lookupExecutor ejecutor acotado de las búsquedas.
+     */
+    public AsyncPriceServiceImpl(final PriceService service,
+                                 final Executor lookupExecutor) {
+        this.priceService = Objects.requireNonNull(service,
+                "service no puede ser nulo");
+        this.executor = Objects.requireNonNull(lookupExecutor,
+                "lookupExecutor no puede ser nulo");
+    }
+
+    /**
+     * Resuelve la búsqueda en el ejecutor.
+     *
+     * @param applicationDate fecha de aplicación del precio.
+     * @param productId       ID del producto.
+     * @param brandId         ID de la cadena.
+     * @return futuro con el resultado de la consulta.
+     */
+    @Override
+    public CompletableFuture<PriceLookupResult> findApplicablePriceAsync(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        PriceQuery query = new PriceQuery(applicationDate, productId, brandId);
+        return submit(() -> new PriceLookupResult(query,
+                priceService.findApplicablePriceOrNull(applicationDate,
+                        productId, brandId)));
+    }
+
+    /**
+     * Resuelve el lote completo en una sola tarea del ejecutor.
+     *
+     * @param queries consultas a resolver.
+     * @return futuro con un resultado por consulta, en el mismo orden.
+     */
+    @Override
+    public CompletableFuture<List<PriceLookupResult>> findApplicablePricesAsync(
+            final List<PriceQuery> queries) {
+        return submit(() -> priceService.findApplicablePrices(queries));
+    }
+
+    /**
+     * Encola la tarea como {@link FutureTask} y la enlaza con el futuro
+     * devuelto en los dos sentidos: el resultado de la tarea completa el
+     * futuro y, si el futuro se completa antes (cancelación o
+     * {@code orTimeout} del llamante), la tarea se cancela sin
+     * interrumpirla, de modo que no llega a ejecutarse si sigue en cola.
+     */
+    private <T> CompletableFuture<T> submit(final Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<T> work = new FutureTask<>(task::get) {
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    result.cancel(false);
+                    return;
+                }
+                try {
+                    result.complete(get());
+                } catch (ExecutionException ex) {
+                    result.completeExceptionally(ex.getCause());
+                } catch (InterruptedException ex) {
+                    // No ocurre: la tarea ya ha terminado.
+                    Thread.currentThread().interrupt();
+                    result.completeExceptionally(ex);
+                }
+            }
+        };
+        result.whenComplete((value, error) -> work.cancel(false));
+        try {
+            executor.execute(work);
+        } catch (RejectedExecutionException ex) {
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
+}
@@ -1,12 +1,20 @@
 package com.bcnc.ecommerce.priceservice.application.impl;
 
+import com.bcnc.ecommerce.priceservice.application.PriceLookupResult;
 import com.bcnc.ecommerce.priceservice.application.PriceService;
 import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
 // Interfaz del puerto de salida hacia la infraestructura de persistencia
 import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
 
 import com.bcnc.ecommerce.priceservice.domain.service.PriceSelectionService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +35,15 @@ public class PriceServiceImpl implements PriceService {
     private static final Logger LOGGER =
             LoggerFactory.getLogger(PriceServiceImpl.class);
 
+    /** Métrica: búsquedas agrupadas en una consulta ya en curso. */
+    public static final String METRIC_COALESCED = "prices.lookup.coalesced";
+
+    /** Métrica: búsquedas que consultaron el repositorio. */
+    public static final String METRIC_EXECUTED = "prices.lookup.executed";
+
+    /** Métrica: consultas al repositorio en curso. */
+    public static final String METRIC_IN_FLIGHT = "prices.lookup.inflight";
+
     /** Puerto de salida: repositorio de dominio inyectado
      * desde la infraestructura. */
     private final PriceRepository priceRepository;
@@ -35,7 +52,14 @@ public class PriceServiceImpl implements PriceService {
     private final PriceSelectionService priceSelectionService;
 
     /**
-     * Constructor con inyección del repositorio de precios.
+     * Agrupación de búsquedas concurrentes idénticas, o {@code null} si
+     * está desactivada.
+     */
+    private final SingleFlight<PriceQuery, List<Price>> singleFlight;
+
+    /**
+     * Constructor con inyección del repositorio de precios, sin agrupación
+     * de búsquedas concurrentes.
      *
      * @param repository       puerto de salida que permite acceder a
      *                         precios desde la infraestructura.
@@ -46,6 +70,54 @@ public class PriceServiceImpl implements PriceService {
                             final PriceSelectionService selectionService) {
         this.priceRepository = repository;
         this.priceSelectionService = selectionService;
+        this.singleFlight = null;
+    }
+
+    /**
+     * Constructor con inyección del repositorio de precios y agrupación
+     * opcional de búsquedas concurrentes idénticas.
+     * <p>
+     * Con la agrupación activa, las búsquedas individuales simultáneas de la
+     * misma consulta (fecha, producto y cadena) comparten un único acceso al
+     * repositorio y su resultado o excepción. La fecha se compara exacta:
+     * nada impide tarifas con fracciones de segundo, así que dos fechas del
+     * mismo segundo pueden tener candidatos distintos. Publica
+     * {@value #METRIC_COALESCED}, {@value #METRIC_EXECUTED} y
+     * {@value #METRIC_IN_FLIGHT}.
+     * </p>
+     *
+     * @param repository       puerto de salida que permite acceder a
+     *                         precios desde la infraestructura.
+     * @param selectionService servicio de dominio que aplica la lógica
+     *                         de negocio de selección.
+     * @param coalescing       si se agrupan las búsquedas concurrentes
+     *                         idénticas.
+     * @param registry         registro de métricas.
+     */
+    @Autowired
+    public PriceServiceImpl(final PriceRepository repository,
+                            final PriceSelectionService selectionService,
+                            @Value("${price.coalescing.enabled:true}")
+                            final boolean coalescing,
+                            final MeterRegistry registry) {
+        this.priceRepository = repository;
+        this.priceSelectionService = selectionService;
+        this.singleFlight = coalescing ? new SingleFlight<>() : null;
+        if (singleFlight != null) {
+            FunctionCounter.builder(METRIC_COALESCED, singleFlight,
+                            SingleFlight::coalesced)
+                    .description("Búsquedas que reutilizaron una consulta "
+                            + "al repositorio en curso")
+                    .register(registry);
+            FunctionCounter.builder(METRIC_EXECUTED, singleFlight,
+                            SingleFlight::executed)
+                    .description("Búsquedas que consultaron el repositorio")
+                    .register(registry);
+            Gauge.builder(METRIC_IN_FLIGHT, singleFlight,
+                            SingleFlight::inFlight)
+                    .description("Consultas al repositorio en curso")
+                    .register(registry);
+        }
     }
 
     /**
@@ -68,8 +140,8 @@ public class PriceServiceImpl implements PriceService {
 
         // 1. Obtener los precios candidatos desde el repositorio
         // (puerto de salida)
-        List<Price> candidatePrices = priceRepository.findApplicablePrices(
-                applicationDate, productId, brandId);
+        List<Price> candidatePrices = findCandidatePrices(applicationDate,
+                productId, brandId);
 
         // 2. Aplicar reglas del dominio para seleccionar el precio más
         // adecuado
@@ -79,4 +151,87 @@ public class PriceServiceImpl implements PriceService {
         LOGGER.info("Precio encontrado: {}", price);
         return price;
     }
+
+    /**
+     * Recupera el precio más prioritario aplicable a un producto y
+     * cadena en una fecha dada, o {@code null} si no hay ninguno.
+     * <p>
+     * Comparte el acceso al repositorio con
+     * {@link #findApplicablePrice(LocalDateTime, Long, Long)}, pero la
+     * ausencia de precio no crea excepción y se traza en DEBUG.
+     * </p>
+     *
+     * @param applicationDate fecha de aplicación del precio.
+     * @param productId       ID del producto.
+     * @param brandId         ID de la cadena.
+     * @return precio aplicable, o {@code null}.
+     */
+    @Override
+    public Price findApplicablePriceOrNull(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        LOGGER.info("Buscando precio para productId={}, brandId={}, "
+                       + "applicationDate={}",
+                productId, brandId, applicationDate);
+
+        Price price = priceSelectionService.findApplicablePriceOrNull(
+                findCandidatePrices(applicationDate, productId, brandId),
+                applicationDate);
+
+        if (price == null) {
+            LOGGER.debug("Sin precio aplicable para productId={}, brandId={}"
+                    + " en la fecha={}", productId, brandId, applicationDate);
+        } else {
+            LOGGER.info("Precio encontrado: {}", price);
+        }
+        return price;
+    }
+
+    /**
+     * Recupera en bloque el precio aplicable de varias consultas con un
+     * único acceso al repositorio.
+     *
+     * @param queries consultas a resolver.
+     * @return un resultado por consulta, en el mismo orden.
+     */
+    @Override
+    public List<PriceLookupResult> findApplicablePrices(
+            final List<PriceQuery> queries) {
+        LOGGER.info("Buscando precios en bloque para {} consultas",
+                queries.size());
+
+        Map<PriceQuery, List<Price>> candidates =
+                priceRepository.findApplicablePrices(queries);
+
+        return queries.stream()
+                .map(query -> new PriceLookupResult(query,
+                        priceSelectionService.findApplicablePriceOrNull(
+                                candidates.getOrDefault(query, List.of()),
+                                query.applicationDate())))
+                .toList();
+    }
+
+    /**
+     * Consulta los candidatos al repositorio, compartiendo la consulta con
+     * las búsquedas idénticas en curso si la agrupación está activa.
+     *
+     * @param applicationDate fecha de aplicación del precio.
+     * @param productId       ID del producto.
+     * @param brandId         ID de la cadena.
+     * @return precios candidatos.
+     */
+    private List<Price> findCandidatePrices(final LocalDateTime applicationDate,
+                                            final Long productId,
+                                            final Long brandId) {
+        if (singleFlight == null || applicationDate == null
+                || productId == null || brandId == null) {
+            return priceRepository.findApplicablePrices(applicationDate,
+                    productId, brandId);
+        }
+        return singleFlight.execute(
+                new PriceQuery(applicationDate, productId, brandId),
+                () -> priceRepository.findApplicablePrices(applicationDate,
+                        productId, brandId));
+    }
 }
@@ -0,0 +1,119 @@
+package com.bcnc.ecommerce.priceservice.application.impl;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa llamadas concurrentes con la misma clave en una sola ejecución
+ * (<em>single flight</em>).
+ * <p>
+ * La primera llamada de una clave ejecuta la carga; las que llegan
+ * mientras está en curso esperan y reciben su mismo resultado o su misma
+ * excepción. En cuanto la carga termina la clave se libera, así que no es
+ * una caché: la siguiente llamada vuelve a ejecutarla.
+ * </p>
+ * <p>
+ * No se mantiene ningún bloqueo durante la carga: el registro de la
+ * llamada en curso es un {@code putIfAbsent} sobre un
+ * {@link ConcurrentHashMap} y la espera se hace sobre su
+ * {@link CompletableFuture}.
+ * </p>
+ *
+ * @param <K> tipo de la clave
+ * @param <V> tipo del resultado
+ */
+public class SingleFlight<K, V> {
+
+    /**
+     * Llamadas en curso por clave.
+     */
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Llamadas que ejecutaron la carga.
+     */
+    private final LongAdder executed = new LongAdder();
+
+    /**
+     * Llamadas que reutilizaron una carga en curso.
+     */
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Ejecuta la carga de la clave o se une a la que ya esté en curso.
+     *
+     * @param key    clave de la llamada
+     * @param loader carga a ejecutar si no hay ninguna en curso
+     * @return resultado de la carga
+     */
+    public V execute(final K key, final Supplier<V> loader) {
+        Objects.requireNonNull(key, "key no puede ser nula");
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        executed.increment();
+        try {
+            V result = loader.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * @return número de llamadas que ejecutaron la carga
+     */
+    public long executed() {
+        return executed.sum();
+    }
+
+    /**
+     * @return número de llamadas que reutilizaron una carga en curso
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return número de claves con una carga en curso
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Espera el resultado de una carga en curso, propagando su excepción
+     * original.
+     *
+     * @param running carga en curso
+     * @return resultado de la carga
+     */
+    private static <V> V await(final CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.bcnc.ecommerce.priceservice.application.reactive;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Puerto de salida reactivo para acceder a los precios almacenados sin
+ * bloquear el hilo que atiende la petición.
+ * <p>
+ * Es la variante de {@code PriceRepository} para la pila no bloqueante:
+ * mismas consultas, con las tarifas emitidas como {@link Flux}.
+ * </p>
+ */
+public interface ReactivePriceRepository {
+
+    /**
+     * Recupera los precios aplicables para un producto y cadena en una
+     * fecha determinada.
+     * <p>
+     * La elección del precio final (el de mayor prioridad) corresponde al
+     * dominio.
+     * </p>
+     *
+     * @param applicationDate fecha de aplicación.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return tarifas candidatas.
+     */
+    Flux<Price> findApplicablePrices(LocalDateTime applicationDate,
+                                     Long productId,
+                                     Long brandId);
+
+    /**
+     * Recupera todas las tarifas de un producto y cadena, sea cual sea su
+     * periodo de validez.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas del producto y cadena, en cualquier orden.
+     */
+    Flux<Price> findAllPrices(Long productId, Long brandId);
+}
@@ -0,0 +1,28 @@
+package com.bcnc.ecommerce.priceservice.application.reactive;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Caso de uso reactivo de búsqueda del precio aplicable.
+ * <p>
+ * Variante de {@code PriceService} para la pila no bloqueante: la
+ * ausencia de precio es un {@link Mono} vacío, no una excepción.
+ * </p>
+ */
+public interface ReactivePriceService {
+
+    /**
+     * Recupera el precio aplicable para un producto y una cadena en una
+     * fecha dada.
+     *
+     * @param applicationDate fecha de aplicación
+     * @param productId       identificador del producto
+     * @param brandId         identificador de la cadena
+     * @return el precio correspondiente, o vacío si no hay
+     */
+    Mono<Price> findApplicablePrice(LocalDateTime applicationDate,
+                                    Long productId, Long brandId);
+}
@@ -0,0 +1,72 @@
+package com.bcnc.ecommerce.priceservice.application.reactive;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.service.PriceSelectionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Caso de uso reactivo que recupera el precio aplicable para un producto
+ * y cadena en una fecha determinada.
+ * <p>
+ * Reúne las tarifas candidatas del {@link ReactivePriceRepository} y aplica
+ * la misma selección por prioridad del dominio que la variante servlet.
+ * No se anota como {@code @Service}: solo lo declara la aplicación
+ * reactiva, que es la que tiene un {@link ReactivePriceRepository}.
+ * </p>
+ */
+public class ReactivePriceServiceImpl implements ReactivePriceService {
+
+    /** Logger. */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ReactivePriceServiceImpl.class);
+
+    /** Puerto de salida reactivo. */
+    private final ReactivePriceRepository priceRepository;
+
+    /** Servicio de dominio que aplica las reglas de selección. */
+    private final PriceSelectionService priceSelectionService;
+
+    /**
+     * Constructor con inyección del repositorio y del servicio de dominio.
+     *
+     * @param repository       puerto de salida reactivo.
+     * @param selectionService servicio de dominio que aplica la lógica de
+     *                         negocio de selección.
+     */
+    public ReactivePriceServiceImpl(
+            final ReactivePriceRepository repository,
+            final PriceSelectionService selectionService) {
+        this.priceRepository = Objects.requireNonNull(repository,
+                "repository no puede ser nulo");
+        this.priceSelectionService = Objects.requireNonNull(selectionService,
+                "selectionService no puede ser nulo");
+    }
+
+    /**
+     * Selecciona el precio más prioritario de los candidatos.
+     *
+     * @param applicationDate fecha de aplicación del precio.
+     * @param productId       ID del producto.
+     * @param brandId         ID de la cadena.
+     * @return precio aplicable, o vacío.
+     */
+    @Override
+    public Mono<Price> findApplicablePrice(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        LOGGER.debug("Buscando precio para productId={}, brandId={}, "
+                        + "applicationDate={}",
+                productId, brandId, applicationDate);
+        return priceRepository
+                .findApplicablePrices(applicationDate, productId, brandId)
+                .collectList()
+                .mapNotNull(prices -> priceSelectionService
+                        .findApplicablePriceOrNull(prices, applicationDate));
+    }
+}
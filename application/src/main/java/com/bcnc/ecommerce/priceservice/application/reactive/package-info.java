@@ -0,0 +1,16 @@
+/**
+ * Variante reactiva de los casos de uso de precios, para la pila no
+ * bloqueante (WebFlux + R2DBC).
+ *
+ * <p>Contiene el puerto de salida {@link
+ * com.bcnc.ecommerce.priceservice.application.reactive.ReactivePriceRepository}
+ * y el caso de uso {@link
+ * com.bcnc.ecommerce.priceservice.application.reactive.ReactivePriceService},
+ * que devuelven {@code Mono}/{@code Flux} de Reactor. La selección por
+ * prioridad sigue siendo la del dominio ({@code PriceSelectionService}), sin
+ * cambios: el dominio no depende de Reactor.</p>
+ *
+ * <p>Reactor es una dependencia opcional del módulo: solo la necesitan los
+ * módulos reactivos.</p>
+ */
+package com.bcnc.ecommerce.priceservice.application.reactive;
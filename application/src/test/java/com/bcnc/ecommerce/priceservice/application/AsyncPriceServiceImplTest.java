@@ -0,0 +1,194 @@
+package com.bcnc.ecommerce.priceservice.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.application.impl.AsyncPriceServiceImpl;
+import com.bcnc.ecommerce.priceservice.application.impl.PriceServiceImpl;
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.domain.service.PriceSelectionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AsyncPriceServiceImplTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    private PriceService priceService;
+    private ExecutorService executor;
+    private AsyncPriceServiceImpl asyncService;
+
+    @BeforeEach
+    void setUp() {
+        priceService = mock(PriceService.class);
+        executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "price-lookup-test"));
+        asyncService = new AsyncPriceServiceImpl(priceService, executor);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static Price price() {
+        return Price.builder()
+                .brandId(1L)
+                .startDate(DATE.minusDays(1))
+                .endDate(DATE.plusDays(1))
+                .priceList(1)
+                .productId(35455L)
+                .priority(0)
+                .price(new BigDecimal("35.50"))
+                .curr("EUR")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Resuelve la búsqueda en el hilo del ejecutor")
+    void shouldResolveLookupOnExecutor() throws Exception {
+        Price price = price();
+        AtomicReference<String> thread = new AtomicReference<>();
+        when(priceService.findApplicablePriceOrNull(DATE, 35455L, 1L)).thenAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            return price;
+        });
+
+        PriceLookupResult result = asyncService.findApplicablePriceAsync(DATE, 35455L, 1L).get(5, TimeUnit.SECONDS);
+
+        assertSame(price, result.price());
+        assertEquals(new PriceQuery(DATE, 35455L, 1L), result.query());
+        assertEquals("price-lookup-test", thread.get());
+    }
+
+    @Test
+    @DisplayName("La ausencia de precio completa el futuro con un resultado no encontrado")
+    void shouldCompleteWithNotFoundResult() throws Exception {
+        PriceLookupResult result = asyncService.findApplicablePriceAsync(DATE, 99999L, 1L).get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.found());
+    }
+
+    @Test
+    @DisplayName("Resuelve el lote con una única llamada al servicio síncrono")
+    void shouldResolveBatchInOneCall() throws Exception {
+        List<PriceQuery> queries = List.of(new PriceQuery(DATE, 35455L, 1L), new PriceQuery(DATE, 99999L, 1L));
+        List<PriceLookupResult> expected = List.of(new PriceLookupResult(queries.get(0), price()),
+                new PriceLookupResult(queries.get(1), null));
+        when(priceService.findApplicablePrices(queries)).thenReturn(expected);
+
+        assertEquals(expected, asyncService.findApplicablePricesAsync(queries).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Si el ejecutor rechaza la tarea, el futuro falla sin lanzar al llamante")
+    void shouldFailFutureWhenExecutorRejects() {
+        executor.shutdown();
+
+        CompletableFuture<PriceLookupResult> future = asyncService.findApplicablePriceAsync(DATE, 35455L, 1L);
+
+        assertTrue(future.isCompletedExceptionally());
+        ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+        verifyNoInteractions(priceService);
+    }
+
+    @Test
+    @DisplayName("Al vencer el plazo del futuro, una búsqueda que sigue en cola se descarta sin ejecutarse")
+    void shouldDropQueuedLookupOnTimeout() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(priceService.findApplicablePriceOrNull(DATE, 35455L, 1L)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return price();
+        });
+
+        CompletableFuture<PriceLookupResult> running = asyncService.findApplicablePriceAsync(DATE, 35455L, 1L);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // El único hilo del ejecutor está ocupado: esta búsqueda queda en cola.
+        CompletableFuture<PriceLookupResult> queued = asyncService.findApplicablePriceAsync(DATE, 99999L, 1L)
+                .orTimeout(100, TimeUnit.MILLISECONDS);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+        release.countDown();
+
+        assertTrue(running.get(5, TimeUnit.SECONDS).found());
+        assertFalse(asyncService.findApplicablePriceAsync(DATE, 88888L, 1L).get(5, TimeUnit.SECONDS).found());
+        verify(priceService, never()).findApplicablePriceOrNull(DATE, 99999L, 1L);
+    }
+
+    @Test
+    @DisplayName("Con agrupación, el plazo vencido de una llamada no interrumpe la carga que comparte con otras")
+    void shouldNotInterruptSharedLookupOnTimeout() throws Exception {
+        Price price = price();
+        PriceRepository repository = mock(PriceRepository.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PriceServiceImpl coalescing = new PriceServiceImpl(repository, new PriceSelectionService(), true, registry);
+        ExecutorService lookups = Executors.newFixedThreadPool(2);
+        AsyncPriceServiceImpl service = new AsyncPriceServiceImpl(coalescing, lookups);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(repository.findApplicablePrices(DATE, 35455L, 1L)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            interrupted.set(Thread.currentThread().isInterrupted());
+            return List.of(price);
+        });
+
+        try {
+            CompletableFuture<PriceLookupResult> leader = service.findApplicablePriceAsync(DATE, 35455L, 1L)
+                    .orTimeout(100, TimeUnit.MILLISECONDS);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<PriceLookupResult> follower = service.findApplicablePriceAsync(DATE, 35455L, 1L);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (registry.get(PriceServiceImpl.METRIC_COALESCED).functionCounter().count() < 1
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(TimeoutException.class, ex.getCause());
+            release.countDown();
+
+            assertSame(price, follower.get(5, TimeUnit.SECONDS).price());
+            assertFalse(interrupted.get());
+        } finally {
+            lookups.shutdownNow();
+        }
+        verify(repository, times(1)).findApplicablePrices(DATE, 35455L, 1L);
+    }
+}
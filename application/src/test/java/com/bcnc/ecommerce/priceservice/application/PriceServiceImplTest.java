@@ -4,7 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -14,12 +18,22 @@ import static org.mockito.Mockito.when;
 import com.bcnc.ecommerce.priceservice.application.impl.PriceServiceImpl;
 import com.bcnc.ecommerce.priceservice.domain.exception.PriceNotFoundException;
 import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
 import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
 
 import com.bcnc.ecommerce.priceservice.domain.service.PriceSelectionService;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -111,6 +125,22 @@ class PriceServiceImplTest {
                 .selectApplicablePrice(emptyList, date, productId, brandId);
     }
 
+    @Test
+    @DisplayName("Devuelve null sin lanzar excepción si no hay tarifas aplicables")
+    void shouldReturnNullWhenNoPriceIsApplicable() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 13, 10, 0);
+        Long productId = 35455L;
+        Long brandId = 1L;
+
+        PriceServiceImpl service = new PriceServiceImpl(priceRepository,
+                new PriceSelectionService());
+        when(priceRepository.findApplicablePrices(date, productId, brandId))
+                .thenReturn(List.of());
+
+        assertNull(service.findApplicablePriceOrNull(date, productId, brandId));
+        verify(priceRepository, times(1)).findApplicablePrices(date, productId, brandId);
+    }
+
     @DisplayName("Selecciona correctamente el precio con mayor prioridad")
     @Test
     void shouldSelectPriceWithHighestPriority() {
@@ -155,4 +185,171 @@ class PriceServiceImplTest {
         verify(priceRepository).findApplicablePrices(date, productId, brandId);
         verify(priceSelectionService).selectApplicablePrice(prices, date, productId, brandId);
     }
+
+    @Test
+    @DisplayName("Resuelve un lote con un único acceso al repositorio y respeta el orden")
+    void shouldResolveBatchWithSingleRepositoryCall() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+        PriceQuery found = new PriceQuery(date, 35455L, 1L);
+        PriceQuery missing = new PriceQuery(date, 99999L, 1L);
+        List<PriceQuery> queries = List.of(missing, found, missing);
+
+        Price price = Price.builder()
+                .brandId(1L)
+                .startDate(date.minusHours(1))
+                .endDate(date.plusHours(1))
+                .priceList(2)
+                .productId(35455L)
+                .priority(1)
+                .price(new BigDecimal("25.45"))
+                .curr("EUR")
+                .build();
+
+        when(priceRepository.findApplicablePrices(queries))
+                .thenReturn(Map.of(found, List.of(price)));
+        when(priceSelectionService.findApplicablePriceOrNull(List.of(price), date))
+                .thenReturn(price);
+        when(priceSelectionService.findApplicablePriceOrNull(List.of(), date))
+                .thenReturn(null);
+
+        List<PriceLookupResult> results = priceService.findApplicablePrices(queries);
+
+        assertEquals(3, results.size());
+        assertAll(
+                () -> assertEquals(missing, results.get(0).query()),
+                () -> assertFalse(results.get(0).found()),
+                () -> assertNull(results.get(0).price()),
+                () -> assertEquals(found, results.get(1).query()),
+                () -> assertTrue(results.get(1).found()),
+                () -> assertEquals(price, results.get(1).price()),
+                () -> assertEquals(missing, results.get(2).query()),
+                () -> assertFalse(results.get(2).found())
+        );
+
+        verify(priceRepository, times(1)).findApplicablePrices(queries);
+    }
+
+    @Test
+    @DisplayName("Con agrupación, las búsquedas concurrentes idénticas comparten un acceso al repositorio")
+    void shouldCoalesceConcurrentIdenticalLookups() throws Exception {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+        Price price = Price.builder()
+                .brandId(1L)
+                .startDate(date.minusHours(1))
+                .endDate(date.plusHours(1))
+                .priceList(2)
+                .productId(35455L)
+                .priority(1)
+                .price(new BigDecimal("25.45"))
+                .curr("EUR")
+                .build();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PriceServiceImpl coalescing = new PriceServiceImpl(priceRepository,
+                new PriceSelectionService(), true, registry);
+
+        CountDownLatch release = new CountDownLatch(1);
+        when(priceRepository.findApplicablePrices(date, 35455L, 1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(price);
+        });
+
+        int callers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Price>> calls = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                calls.add(executor.submit(() -> coalescing.findApplicablePrice(date, 35455L, 1L)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (registry.get(PriceServiceImpl.METRIC_COALESCED).functionCounter().count()
+                    < callers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            for (Future<Price> call : calls) {
+                assertEquals(price, call.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(priceRepository, times(1)).findApplicablePrices(date, 35455L, 1L);
+        assertAll(
+                () -> assertEquals(callers - 1, registry.get(PriceServiceImpl.METRIC_COALESCED)
+                        .functionCounter().count()),
+                () -> assertEquals(1, registry.get(PriceServiceImpl.METRIC_EXECUTED)
+                        .functionCounter().count()),
+                () -> assertEquals(0, registry.get(PriceServiceImpl.METRIC_IN_FLIGHT)
+                        .gauge().value())
+        );
+    }
+
+    @Test
+    @DisplayName("Con agrupación, las búsquedas del mismo segundo con distintos nanosegundos no comparten acceso")
+    void shouldNotCoalesceDifferentDatesWithinTheSameSecond() throws Exception {
+        LocalDateTime second = LocalDateTime.of(2020, 6, 14, 16, 0);
+        LocalDateTime early = second.plusNanos(300_000_000L);
+        LocalDateTime late = second.plusNanos(700_000_000L);
+        // Tarifa que termina a mitad de segundo: cubre early pero no late.
+        Price price = Price.builder()
+                .brandId(1L)
+                .startDate(second.minusHours(1))
+                .endDate(second.plusNanos(500_000_000L))
+                .priceList(2)
+                .productId(35455L)
+                .priority(1)
+                .price(new BigDecimal("25.45"))
+                .curr("EUR")
+                .build();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PriceServiceImpl coalescing = new PriceServiceImpl(priceRepository,
+                new PriceSelectionService(), true, registry);
+
+        CountDownLatch entered = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        when(priceRepository.findApplicablePrices(any(LocalDateTime.class), eq(35455L), eq(1L)))
+                .thenAnswer(invocation -> {
+                    entered.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    LocalDateTime date = invocation.getArgument(0);
+                    return date.isAfter(price.getEndDate()) ? List.of() : List.of(price);
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Price> earlyCall = executor.submit(() -> coalescing.findApplicablePrice(early, 35455L, 1L));
+            Future<Price> lateCall = executor.submit(() -> coalescing.findApplicablePrice(late, 35455L, 1L));
+            // Ambas llegan al repositorio mientras la otra sigue en curso.
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            release.countDown();
+
+            assertEquals(price, earlyCall.get(5, TimeUnit.SECONDS));
+            ExecutionException ex = assertThrows(ExecutionException.class,
+                    () -> lateCall.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(PriceNotFoundException.class, ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, registry.get(PriceServiceImpl.METRIC_COALESCED).functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Sin agrupación, cada búsqueda accede al repositorio y no publica métricas")
+    void shouldNotCoalesceWhenDisabled() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PriceServiceImpl plain = new PriceServiceImpl(priceRepository,
+                new PriceSelectionService(), false, registry);
+        when(priceRepository.findApplicablePrices(date, 35455L, 1L)).thenReturn(List.of());
+
+        assertThrows(PriceNotFoundException.class,
+                () -> plain.findApplicablePrice(date, 35455L, 1L));
+        assertThrows(PriceNotFoundException.class,
+                () -> plain.findApplicablePrice(date, 35455L, 1L));
+
+        verify(priceRepository, times(2)).findApplicablePrices(date, 35455L, 1L);
+        assertTrue(registry.getMeters().isEmpty());
+    }
 }
@@ -0,0 +1,145 @@
+package com.bcnc.ecommerce.priceservice.application;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bcnc.ecommerce.priceservice.application.impl.SingleFlight;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Las llamadas concurrentes con la misma clave comparten una única carga")
+    void shouldShareOneCallBetweenConcurrentCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "price";
+        };
+
+        List<Future<String>> calls = startCallers("key", loader);
+        waitForCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> call : calls) {
+            assertEquals("price", call.get(5, TimeUnit.SECONDS));
+        }
+        assertAll(
+                () -> assertEquals(1, loads.get()),
+                () -> assertEquals(1, singleFlight.executed()),
+                () -> assertEquals(CALLERS - 1, singleFlight.coalesced()),
+                () -> assertEquals(0, singleFlight.inFlight())
+        );
+    }
+
+    @Test
+    @DisplayName("Todas las llamadas agrupadas reciben la misma excepción")
+    void shouldShareExceptionWithConcurrentCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("db down");
+        Supplier<String> loader = () -> {
+            await(release);
+            throw failure;
+        };
+
+        List<Future<String>> calls = startCallers("key", loader);
+        waitForCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> call : calls) {
+            ExecutionException ex = assertThrows(ExecutionException.class,
+                    () -> call.get(5, TimeUnit.SECONDS));
+            assertSame(failure, ex.getCause());
+        }
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    @DisplayName("Libera la clave al terminar: no cachea resultados")
+    void shouldReleaseKeyAfterCompletion() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("key", () -> "v" + loads.incrementAndGet());
+        String second = singleFlight.execute("key", () -> "v" + loads.incrementAndGet());
+
+        assertAll(
+                () -> assertEquals("v2", second),
+                () -> assertEquals(2, singleFlight.executed()),
+                () -> assertEquals(0, singleFlight.coalesced())
+        );
+    }
+
+    @Test
+    @DisplayName("Las claves distintas no se agrupan")
+    void shouldNotCoalesceDifferentKeys() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        Supplier<String> loader = () -> {
+            started.countDown();
+            await(release);
+            return "price";
+        };
+
+        Future<String> first = executor.submit(() -> singleFlight.execute("a", loader));
+        Future<String> second = executor.submit(() -> singleFlight.execute("b", loader));
+        assertEquals(true, started.await(5, TimeUnit.SECONDS));
+        release.countDown();
+
+        assertEquals("price", first.get(5, TimeUnit.SECONDS));
+        assertEquals("price", second.get(5, TimeUnit.SECONDS));
+        assertEquals(2, singleFlight.executed());
+    }
+
+    private List<Future<String>> startCallers(final String key,
+                                              final Supplier<String> loader) {
+        List<Future<String>> calls = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            calls.add(executor.submit(() -> singleFlight.execute(key, loader)));
+        }
+        return calls;
+    }
+
+    private void waitForCoalesced(final long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.coalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, singleFlight.coalesced());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
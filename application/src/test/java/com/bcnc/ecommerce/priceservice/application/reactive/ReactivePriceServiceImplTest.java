@@ -0,0 +1,70 @@
+package com.bcnc.ecommerce.priceservice.application.reactive;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.service.PriceSelectionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+class ReactivePriceServiceImplTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    private ReactivePriceRepository priceRepository;
+    private ReactivePriceServiceImpl priceService;
+
+    @BeforeEach
+    void setUp() {
+        priceRepository = mock(ReactivePriceRepository.class);
+        // Selección real del dominio, sin cambios respecto a la pila servlet.
+        priceService = new ReactivePriceServiceImpl(priceRepository, new PriceSelectionService());
+    }
+
+    @Test
+    @DisplayName("Emite la tarifa de mayor prioridad de los candidatos del repositorio")
+    void shouldEmitPriceWithHighestPriority() {
+        Price base = price(1, 0, "35.50");
+        Price promo = price(2, 1, "25.45");
+        when(priceRepository.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID)).thenReturn(Flux.just(base, promo));
+
+        StepVerifier.create(priceService.findApplicablePrice(DATE, PRODUCT_ID, BRAND_ID))
+                .expectNext(promo)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Completa vacío, sin error, si no hay tarifa aplicable")
+    void shouldCompleteEmptyWithoutCandidates() {
+        when(priceRepository.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID)).thenReturn(Flux.empty());
+
+        StepVerifier.create(priceService.findApplicablePrice(DATE, PRODUCT_ID, BRAND_ID))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Propaga los errores del repositorio")
+    void shouldPropagateRepositoryErrors() {
+        when(priceRepository.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID))
+                .thenReturn(Flux.error(new IllegalStateException("sin conexión")));
+
+        StepVerifier.create(priceService.findApplicablePrice(DATE, PRODUCT_ID, BRAND_ID))
+                .verifyError(IllegalStateException.class);
+    }
+
+    private static Price price(final int priceList, final int priority, final String amount) {
+        return Price.builder()
+                .brandId(BRAND_ID).productId(PRODUCT_ID).priceList(priceList).priority(priority)
+                .startDate(DATE.minusHours(1)).endDate(DATE.plusHours(1))
+                .price(new BigDecimal(amount)).curr("EUR").build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.bcnc.ecommerce.priceservice.benchmark;
+
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.ColumnarPriceRepositoryAdapter;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.InMemoryPriceRepositoryAdapter;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.JdbcPriceRepositoryAdapter;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.JpaPriceRepositoryAdapter;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.SegmentPriceRepositoryAdapter;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.TimelinePriceRepositoryAdapter;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository.PriceJpaRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Contexto Spring mínimo para los benchmarks de persistencia: H2 en
+ * memoria con el esquema de la aplicación, JPA/Hibernate y los adaptadores
+ * de persistencia, sin arrancar Spring Boot.
+ */
+@Configuration
+@EnableJpaRepositories(basePackageClasses = PriceJpaRepository.class)
+public class BenchmarkPersistenceConfig {
+
+    /**
+     * Base de datos H2 en memoria con la tabla PRICES, detrás del mismo
+     * pool de conexiones (HikariCP) que usa la aplicación: sin pool, cada
+     * consulta abriría una conexión nueva y eso dominaría la medida.
+     *
+     * @return pool de conexiones a la base de datos
+     */
+    @Bean(destroyMethod = "close")
+    public HikariDataSource dataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:bench-" + UUID.randomUUID()
+                + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        new ResourceDatabasePopulator(
+                new ClassPathResource("benchmark-schema.sql"))
+                .execute(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * @param dataSource base de datos
+     * @return factoría JPA sobre las entidades de infrastructure
+     */
+    @Bean
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(
+            final DataSource dataSource) {
+        Properties jpaProps = new Properties();
+        jpaProps.put("hibernate.hbm2ddl.auto", "none");
+
+        LocalContainerEntityManagerFactoryBean factory =
+                new LocalContainerEntityManagerFactoryBean();
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setPackagesToScan("com.bcnc.ecommerce.priceservice"
+                + ".infrastructure.adapter.secondary.persistence.entity");
+        factory.setDataSource(dataSource);
+        factory.setJpaProperties(jpaProps);
+        return factory;
+    }
+
+    /**
+     * @param emf factoría JPA
+     * @return gestor de transacciones JPA
+     */
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            final EntityManagerFactory emf) {
+        return new JpaTransactionManager(emf);
+    }
+
+    /**
+     * @param dataSource base de datos
+     * @return plantilla JDBC
+     */
+    @Bean
+    public JdbcTemplate jdbcTemplate(final DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * @return mapeador entidad-dominio
+     */
+    @Bean
+    public PriceMapper priceMapper() {
+        return new PriceMapper();
+    }
+
+    /**
+     * @param jpaRepository repositorio Spring Data
+     * @param mapper        mapeador entidad-dominio
+     * @return adaptador JPA
+     */
+    @Bean
+    public JpaPriceRepositoryAdapter jpaPriceRepositoryAdapter(
+            final PriceJpaRepository jpaRepository,
+            final PriceMapper mapper) {
+        return new JpaPriceRepositoryAdapter(jpaRepository, mapper);
+    }
+
+    /**
+     * @param jdbcTemplate plantilla JDBC
+     * @return adaptador JDBC
+     */
+    @Bean
+    public JdbcPriceRepositoryAdapter jdbcPriceRepositoryAdapter(
+            final JdbcTemplate jdbcTemplate) {
+        return new JdbcPriceRepositoryAdapter(jdbcTemplate);
+    }
+
+    /**
+     * @param jdbcTemplate plantilla JDBC
+     * @return adaptador sobre la tabla de tramos PRICE_SEGMENTS
+     */
+    @Bean
+    public SegmentPriceRepositoryAdapter segmentPriceRepositoryAdapter(
+            final JdbcTemplate jdbcTemplate) {
+        return new SegmentPriceRepositoryAdapter(jdbcTemplate);
+    }
+
+    /**
+     * @param jpaRepository repositorio Spring Data
+     * @param mapper        mapeador entidad-dominio
+     * @return adaptador con índice de intervalos en memoria
+     */
+    @Bean
+    public InMemoryPriceRepositoryAdapter inMemoryPriceRepositoryAdapter(
+            final PriceJpaRepository jpaRepository,
+            final PriceMapper mapper) {
+        return new InMemoryPriceRepositoryAdapter(jpaRepository, mapper);
+    }
+
+    /**
+     * @param jpaRepository repositorio Spring Data
+     * @param mapper        mapeador entidad-dominio
+     * @return adaptador con líneas temporales precalculadas
+     */
+    @Bean
+    public TimelinePriceRepositoryAdapter timelinePriceRepositoryAdapter(
+            final PriceJpaRepository jpaRepository,
+            final PriceMapper mapper) {
+        return new TimelinePriceRepositoryAdapter(jpaRepository, mapper);
+    }
+
+    /**
+     * @param jpaRepository repositorio Spring Data
+     * @param mapper        mapeador entidad-dominio
+     * @return adaptador con almacén en columnas
+     */
+    @Bean
+    public ColumnarPriceRepositoryAdapter columnarPriceRepositoryAdapter(
+            final PriceJpaRepository jpaRepository,
+            final PriceMapper mapper) {
+        return new ColumnarPriceRepositoryAdapter(jpaRepository, mapper);
+    }
+}
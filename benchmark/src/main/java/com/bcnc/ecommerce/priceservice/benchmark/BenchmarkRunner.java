@@ -0,0 +1,46 @@
+package com.bcnc.ecommerce.priceservice.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de {@code benchmarks.jar}.
+ * <p>
+ * Acepta las mismas opciones que {@code org.openjdk.jmh.Main} y añade
+ * siempre el perfilador de GC, de modo que cada resultado incluye
+ * {@code gc.alloc.rate.norm} (bytes asignados por operación) junto al
+ * rendimiento y el tiempo medio.
+ * </p>
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar [patrón] [opciones JMH]
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * @param args patrón de benchmarks y opciones JMH
+     * @throws Exception si alguna opción no es válida o falla la ejecución
+     */
+    public static void main(final String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListWithParams()
+                || cli.shouldListProfilers()
+                || cli.shouldListResultFormats()) {
+            // Listados y ayuda: se delega en el lanzador estándar.
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        Options options = new OptionsBuilder()
+                .parent(cli)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,123 @@
+package com.bcnc.ecommerce.priceservice.benchmark;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Datos sintéticos reproducibles para los benchmarks.
+ * <p>
+ * Cada producto (cadena 1) tiene una tarifa base para todo 2020 y
+ * {@code overlap - 1} tarifas anidadas de prioridad creciente, de modo que
+ * a mitad de año se solapan {@code overlap} candidatas.
+ * </p>
+ */
+public final class PriceFixtures {
+
+    /** Cadena de todas las tarifas generadas. */
+    public static final long BRAND_ID = 1L;
+
+    /** Inicio de la tarifa base. */
+    private static final LocalDateTime YEAR_START =
+            LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    /** Fin de la tarifa base. */
+    private static final LocalDateTime YEAR_END =
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+
+    /** Días del año 2020. */
+    private static final int DAYS = 366;
+
+    /** Tamaño de lote de inserción. */
+    private static final int INSERT_BATCH = 1_000;
+
+    /** Sentencia de inserción de una tarifa. */
+    private static final String INSERT = "INSERT INTO PRICES (BRAND_ID, "
+            + "START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, "
+            + "PRICE_MINOR, CURR) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private PriceFixtures() {
+    }
+
+    /**
+     * Genera las tarifas de {@code products} productos.
+     *
+     * @param products número de productos
+     * @param overlap  tarifas solapadas por producto (al menos 1)
+     * @return tarifas generadas
+     */
+    public static List<Price> prices(final int products, final int overlap) {
+        List<Price> prices = new ArrayList<>(products * overlap);
+        for (long productId = 1; productId <= products; productId++) {
+            for (int level = 0; level < overlap; level++) {
+                // Cada nivel recorta el anterior por ambos lados.
+                int trim = level * (DAYS / 2) / overlap;
+                prices.add(Price.builder()
+                        .brandId(BRAND_ID)
+                        .startDate(YEAR_START.plusDays(trim))
+                        .endDate(YEAR_END.minusDays(trim))
+                        .priceList(level + 1)
+                        .productId(productId)
+                        .priority(level)
+                        .priceMinor(1_000 + level * 100 + productId % 100)
+                        .curr("EUR")
+                        .build());
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Genera consultas aleatorias (semilla fija) sobre los productos
+     * generados, con fechas distribuidas a lo largo de 2020.
+     *
+     * @param products número de productos
+     * @param count    número de consultas
+     * @return consultas generadas
+     */
+    public static PriceQuery[] queries(final int products, final int count) {
+        Random random = new Random(42);
+        PriceQuery[] queries = new PriceQuery[count];
+        for (int i = 0; i < count; i++) {
+            long productId = 1 + random.nextInt(products);
+            LocalDateTime date = YEAR_START
+                    .plusDays(random.nextInt(DAYS))
+                    .plusSeconds(random.nextInt(86_400));
+            queries[i] = new PriceQuery(date, productId, BRAND_ID);
+        }
+        return queries;
+    }
+
+    /**
+     * Inserta las tarifas en la tabla PRICES.
+     *
+     * @param jdbcTemplate plantilla JDBC sobre la base de datos destino
+     * @param prices       tarifas a insertar
+     */
+    public static void insert(final JdbcTemplate jdbcTemplate,
+                              final List<Price> prices) {
+        for (int from = 0; from < prices.size(); from += INSERT_BATCH) {
+            List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+            for (Price price : prices.subList(from,
+                    Math.min(prices.size(), from + INSERT_BATCH))) {
+                rows.add(new Object[] {
+                        price.getBrandId(),
+                        Timestamp.valueOf(price.getStartDate()),
+                        Timestamp.valueOf(price.getEndDate()),
+                        price.getPriceList(),
+                        price.getProductId(),
+                        price.getPriority(),
+                        price.getPriceMinor(),
+                        price.getCurr()
+                });
+            }
+            jdbcTemplate.batchUpdate(INSERT, rows);
+        }
+    }
+}
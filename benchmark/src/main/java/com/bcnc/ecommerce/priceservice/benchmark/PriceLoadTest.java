@@ -0,0 +1,245 @@
+package com.bcnc.ecommerce.priceservice.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prueba de carga HTTP de {@code GET /prices/applicable} contra una
+ * aplicación ya arrancada, para comparar el pool de hilos de plataforma de
+ * Tomcat con los hilos virtuales a alta concurrencia.
+ * <p>
+ * Cada uno de los {@code concurrencia} clientes repite peticiones de los
+ * escenarios del enunciado sin pausa; las del calentamiento no se miden.
+ * Al terminar imprime el rendimiento y los percentiles de latencia.
+ * </p>
+ *
+ * <pre>
+ * java -jar bootstrap/target/bootstrap-1.4.0.jar \
+ *     --spring.threads.virtual.enabled=true
+ * java -cp benchmark/target/benchmarks.jar \
+ *     com.bcnc.ecommerce.priceservice.benchmark.PriceLoadTest \
+ *     [url] [concurrencia] [segundos] [segundos de calentamiento] [token]
+ * </pre>
+ */
+public final class PriceLoadTest {
+
+    /** Fechas de los escenarios del enunciado. */
+    private static final List<String> DATES = List.of(
+            "2020-06-14T10:00:00", "2020-06-14T16:00:00",
+            "2020-06-14T21:00:00", "2020-06-15T10:00:00",
+            "2020-06-16T21:00:00");
+
+    /** Capacidad inicial de las latencias de cada cliente. */
+    private static final int INITIAL_SAMPLES = 1 << 12;
+
+    private PriceLoadTest() {
+    }
+
+    /**
+     * @param args URL base, concurrencia, duración y calentamiento en
+     *             segundos y token, todos opcionales
+     * @throws InterruptedException si se interrumpe la espera a los
+     *                              clientes
+     */
+    public static void main(final String[] args) throws InterruptedException {
+        URI base = URI.create(arg(args, 0, "http://localhost:8080"));
+        int concurrency = Integer.parseInt(arg(args, 1, "1000"));
+        Duration duration = Duration.ofSeconds(
+                Long.parseLong(arg(args, 2, "30")));
+        Duration warmup = Duration.ofSeconds(
+                Long.parseLong(arg(args, 3, "10")));
+        String token = arg(args, 4, "12345678");
+
+        List<HttpRequest> requests = new ArrayList<>();
+        for (String date : DATES) {
+            requests.add(HttpRequest.newBuilder(base.resolve(
+                            "/prices/applicable?applicationDate=" + date
+                                    + "&productId=35455&brandId=1"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET().build());
+        }
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        System.out.printf("Carga contra %s: %d clientes, %d s (+%d s de"
+                        + " calentamiento)%n", base, concurrency,
+                duration.toSeconds(), warmup.toSeconds());
+        System.out.println(run(client, requests, concurrency, warmup,
+                duration));
+    }
+
+    /**
+     * Lanza los clientes y reúne sus latencias.
+     *
+     * @param client      cliente HTTP compartido
+     * @param requests    peticiones que repite cada cliente
+     * @param concurrency clientes simultáneos
+     * @param warmup      tiempo inicial sin medir
+     * @param duration    tiempo medido
+     * @return resultado de la carga
+     * @throws InterruptedException si se interrumpe la espera
+     */
+    static Result run(final HttpClient client,
+                      final List<HttpRequest> requests,
+                      final int concurrency, final Duration warmup,
+                      final Duration duration) throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        LongAdder errors = new LongAdder();
+        Client[] clients = new Client[concurrency];
+        Thread[] threads = new Thread[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            clients[i] = new Client(client, requests, i, measureFrom,
+                    measureUntil, errors);
+            threads[i] = new Thread(clients[i], "load-" + i);
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+        int samples = 0;
+        for (int i = 0; i < concurrency; i++) {
+            threads[i].join();
+            samples += clients[i].count;
+        }
+        long[] latencies = new long[samples];
+        int offset = 0;
+        for (Client c : clients) {
+            System.arraycopy(c.latencies, 0, latencies, offset, c.count);
+            offset += c.count;
+        }
+        Arrays.sort(latencies);
+        return new Result(concurrency, latencies, errors.sum(), duration);
+    }
+
+    private static String arg(final String[] args, final int index,
+                              final String defaultValue) {
+        return args.length > index ? args[index] : defaultValue;
+    }
+
+    /**
+     * Cliente que repite peticiones hasta el final de la medición.
+     */
+    private static final class Client implements Runnable {
+
+        /** Cliente HTTP compartido. */
+        private final HttpClient client;
+
+        /** Peticiones que se repiten. */
+        private final List<HttpRequest> requests;
+
+        /** Siguiente petición. */
+        private int next;
+
+        /** Inicio de la medición ({@link System#nanoTime()}). */
+        private final long measureFrom;
+
+        /** Fin de la medición ({@link System#nanoTime()}). */
+        private final long measureUntil;
+
+        /** Respuestas distintas de 200 y fallos de red medidos. */
+        private final LongAdder errors;
+
+        /** Latencias medidas, en nanosegundos. */
+        private long[] latencies = new long[INITIAL_SAMPLES];
+
+        /** Latencias medidas hasta ahora. */
+        private int count;
+
+        Client(final HttpClient httpClient,
+               final List<HttpRequest> httpRequests, final int first,
+               final long from, final long until, final LongAdder failed) {
+            this.client = httpClient;
+            this.requests = httpRequests;
+            this.next = first % httpRequests.size();
+            this.measureFrom = from;
+            this.measureUntil = until;
+            this.errors = failed;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                long start = System.nanoTime();
+                if (start >= measureUntil) {
+                    return;
+                }
+                boolean ok = send(requests.get(next));
+                next = (next + 1) % requests.size();
+                if (start < measureFrom) {
+                    continue;
+                }
+                if (!ok) {
+                    errors.increment();
+                }
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = System.nanoTime() - start;
+            }
+        }
+
+        private boolean send(final HttpRequest request) {
+            try {
+                return client.send(request,
+                        HttpResponse.BodyHandlers.discarding())
+                        .statusCode() == 200;
+            } catch (IOException ex) {
+                return false;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Resultado de una carga.
+     *
+     * @param concurrency clientes simultáneos
+     * @param latencies   latencias medidas ordenadas, en nanosegundos
+     * @param errors      respuestas distintas de 200 y fallos de red
+     * @param duration    tiempo medido
+     */
+    record Result(int concurrency, long[] latencies, long errors,
+                  Duration duration) {
+
+        /**
+         * @return peticiones completadas por segundo
+         */
+        double throughput() {
+            return latencies.length * 1e9 / duration.toNanos();
+        }
+
+        /**
+         * @param percentile percentil entre 0 y 100
+         * @return latencia del percentil, en milisegundos
+         */
+        double latencyMillis(final double percentile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile / 100 * latencies.length);
+            return latencies[Math.max(0, index - 1)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "concurrencia=%d"
+                            + " peticiones=%d errores=%d peticiones/s=%.0f"
+                            + " p50=%.2fms p90=%.2fms p99=%.2fms"
+                            + " p99.9=%.2fms max=%.2fms",
+                    concurrency, latencies.length, errors, throughput(),
+                    latencyMillis(50), latencyMillis(90), latencyMillis(99),
+                    latencyMillis(99.9), latencyMillis(100));
+        }
+    }
+}
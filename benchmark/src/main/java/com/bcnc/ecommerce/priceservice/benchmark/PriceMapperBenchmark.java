@@ -0,0 +1,91 @@
+package com.bcnc.ecommerce.priceservice.benchmark;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.entity.PriceEntity;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeo entre {@link PriceEntity} y {@link Price} con {@link PriceMapper},
+ * por lista de tarifas del tamaño de un resultado de consulta.
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar PriceMapperBenchmark
+ * </pre>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceMapperBenchmark {
+
+    /** Tarifas mapeadas por invocación. */
+    @Param({"1", "8", "64"})
+    private int size;
+
+    /** Mapeador medido. */
+    private final PriceMapper mapper = new PriceMapper();
+
+    /** Tarifas de dominio de entrada. */
+    private List<Price> prices;
+
+    /** Entidades de entrada. */
+    private List<PriceEntity> entities;
+
+    /**
+     * Genera las tarifas y sus entidades.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        prices = PriceFixtures.prices(1, size);
+        entities = new ArrayList<>(size);
+        for (Price price : prices) {
+            entities.add(mapper.toEntity(price));
+        }
+    }
+
+    /**
+     * Entidades a dominio, como en cada lectura de los adaptadores JPA.
+     *
+     * @return tarifas de dominio
+     */
+    @Benchmark
+    public List<Price> toDomain() {
+        List<Price> result = new ArrayList<>(entities.size());
+        for (PriceEntity entity : entities) {
+            result.add(mapper.toDomain(entity));
+        }
+        return result;
+    }
+
+    /**
+     * Dominio a entidades.
+     *
+     * @return entidades
+     */
+    @Benchmark
+    public List<PriceEntity> toEntity() {
+        List<PriceEntity> result = new ArrayList<>(prices.size());
+        for (Price price : prices) {
+            result.add(mapper.toEntity(price));
+        }
+        return result;
+    }
+}
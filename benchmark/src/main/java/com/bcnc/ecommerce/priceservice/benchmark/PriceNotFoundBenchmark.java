@@ -0,0 +1,241 @@
+package com.bcnc.ecommerce.priceservice.benchmark;
+
+import com.bcnc.ecommerce.priceservice.adapter.web.GlobalExceptionHandler;
+import com.bcnc.ecommerce.priceservice.adapter.web.PriceController;
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceErrorResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.mapper.PriceResponseMapper;
+import com.bcnc.ecommerce.priceservice.application.PriceService;
+import com.bcnc.ecommerce.priceservice.application.impl.PriceServiceImpl;
+import com.bcnc.ecommerce.priceservice.domain.exception.PriceNotFoundException;
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.domain.service.PriceSelectionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Respuesta 404 de {@code GET /prices/applicable} cuando no hay tarifa: el
+ * camino anterior (excepción con traza y mensaje construido al crearla,
+ * resuelta por un {@code @ExceptionHandler}) frente al actual (sin
+ * excepción, con el 404 construido en el controlador).
+ * <p>
+ * Los métodos {@code direct*} llaman a los componentes sin Spring MVC y
+ * miden solo la excepción y el cuerpo de error; los {@code mvc*} hacen la
+ * petición completa con {@link MockMvc}, incluida la resolución de
+ * excepciones y la serialización JSON, sin servidor HTTP. El repositorio no
+ * tiene tarifas, así que no hay E/S.
+ * </p>
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar PriceNotFoundBenchmark
+ * </pre>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceNotFoundBenchmark {
+
+    /** Fecha de aplicación de todas las búsquedas. */
+    private static final LocalDateTime DATE =
+            LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    /** Producto sin tarifas. */
+    private static final long PRODUCT_ID = 99999L;
+
+    /** Cadena. */
+    private static final long BRAND_ID = 1L;
+
+    /** Caso de uso sobre un repositorio vacío. */
+    private PriceService priceService;
+
+    /** Controlador con el camino anterior. */
+    private LegacyPriceController legacyController;
+
+    /** Manejador del camino anterior. */
+    private LegacyExceptionHandler legacyHandler;
+
+    /** Controlador actual. */
+    private PriceController controller;
+
+    /** Petición completa por el camino anterior. */
+    private MockMvc legacyMvc;
+
+    /** Petición completa por el camino actual. */
+    private MockMvc mvc;
+
+    /**
+     * Construye los dos caminos sobre el mismo caso de uso.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        priceService = new PriceServiceImpl(new EmptyPriceRepository(),
+                new PriceSelectionService());
+        legacyController = new LegacyPriceController(priceService);
+        legacyHandler = new LegacyExceptionHandler();
+        controller = new PriceController(priceService,
+                new PriceResponseMapper(), null);
+        legacyMvc = MockMvcBuilders.standaloneSetup(legacyController)
+                .setControllerAdvice(legacyHandler)
+                .build();
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    /**
+     * Camino anterior sin MVC: lanza y captura la excepción con traza y
+     * construye la respuesta como el manejador.
+     *
+     * @return respuesta 404
+     */
+    @Benchmark
+    public ResponseEntity<?> directLegacy() {
+        try {
+            return legacyController.getApplicablePrice(DATE, PRODUCT_ID,
+                    BRAND_ID);
+        } catch (StackTracePriceNotFoundException ex) {
+            return legacyHandler.handlePriceNotFound(ex);
+        }
+    }
+
+    /**
+     * Camino actual sin MVC: el controlador devuelve el 404.
+     *
+     * @return respuesta 404
+     */
+    @Benchmark
+    public ResponseEntity<?> directFastPath() {
+        return controller.getApplicablePrice(DATE, PRODUCT_ID, BRAND_ID);
+    }
+
+    /**
+     * Petición completa por el camino anterior.
+     *
+     * @return estado HTTP
+     * @throws Exception si falla la petición
+     */
+    @Benchmark
+    public int mvcLegacy() throws Exception {
+        return legacyMvc.perform(request()).andReturn().getResponse()
+                .getStatus();
+    }
+
+    /**
+     * Petición completa por el camino actual.
+     *
+     * @return estado HTTP
+     * @throws Exception si falla la petición
+     */
+    @Benchmark
+    public int mvcFastPath() throws Exception {
+        return mvc.perform(request()).andReturn().getResponse().getStatus();
+    }
+
+    private static MockHttpServletRequestBuilder request() {
+        return MockMvcRequestBuilders.get("/prices/applicable")
+                .param("applicationDate", DATE.toString())
+                .param("productId", Long.toString(PRODUCT_ID))
+                .param("brandId", Long.toString(BRAND_ID));
+    }
+
+    /** Repositorio sin tarifas. */
+    private static final class EmptyPriceRepository
+            implements PriceRepository {
+
+        @Override
+        public List<Price> findApplicablePrices(
+                final LocalDateTime applicationDate, final Long productId,
+                final Long brandId) {
+            return List.of();
+        }
+
+        @Override
+        public List<Price> findAllPrices(final Long productId,
+                                         final Long brandId) {
+            return List.of();
+        }
+    }
+
+    /**
+     * {@link PriceNotFoundException} tal como era: captura la traza y
+     * construye el mensaje al crearse.
+     */
+    static final class StackTracePriceNotFoundException
+            extends RuntimeException {
+
+        StackTracePriceNotFoundException(final Long productId,
+                                         final Long brandId,
+                                         final LocalDateTime date) {
+            super(PriceNotFoundException.message(productId, brandId, date));
+        }
+    }
+
+    /** Endpoint tal como era: lanza la excepción si no hay tarifa. */
+    @RestController
+    static final class LegacyPriceController {
+
+        /** Caso de uso. */
+        private final PriceService priceService;
+
+        LegacyPriceController(final PriceService service) {
+            this.priceService = service;
+        }
+
+        @GetMapping("/prices/applicable")
+        public ResponseEntity<?> getApplicablePrice(
+                @RequestParam @DateTimeFormat(
+                        iso = DateTimeFormat.ISO.DATE_TIME)
+                final LocalDateTime applicationDate,
+                @RequestParam final Long productId,
+                @RequestParam final Long brandId) {
+            Price price = priceService.findApplicablePriceOrNull(
+                    applicationDate, productId, brandId);
+            if (price == null) {
+                throw new StackTracePriceNotFoundException(productId,
+                        brandId, applicationDate);
+            }
+            return ResponseEntity.ok(price);
+        }
+    }
+
+    /** Manejador del 404 tal como era. */
+    @RestControllerAdvice
+    static final class LegacyExceptionHandler {
+
+        @ExceptionHandler(StackTracePriceNotFoundException.class)
+        public ResponseEntity<PriceErrorResponse> handlePriceNotFound(
+                final StackTracePriceNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(PriceErrorResponse.of(HttpStatus.NOT_FOUND,
+                            ex.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.bcnc.ecommerce.priceservice.benchmark;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el coste por búsqueda de los adaptadores de
+ * {@link PriceRepository} sobre la misma base de datos H2 en memoria.
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar PriceRepositoryAdapterBenchmark
+ * </pre>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceRepositoryAdapterBenchmark {
+
+    /**
+     * Búsqueda de las tarifas candidatas de una consulta.
+     *
+     * @param state  base de datos y adaptador
+     * @param cursor posición del hilo
+     * @return tarifas devueltas por el adaptador
+     */
+    @Benchmark
+    public List<Price> findApplicablePrices(final PriceRepositoryState state,
+                                            final QueryCursor cursor) {
+        PriceQuery query = cursor.next(state.queries());
+        return state.repository().findApplicablePrices(
+                query.applicationDate(), query.productId(), query.brandId());
+    }
+}
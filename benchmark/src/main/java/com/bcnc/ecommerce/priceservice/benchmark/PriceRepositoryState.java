@@ -0,0 +1,112 @@
+package com.bcnc.ecommerce.priceservice.benchmark;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.ColumnarPriceRepositoryAdapter;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.InMemoryPriceRepositoryAdapter;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.JdbcPriceRepositoryAdapter;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.JpaPriceRepositoryAdapter;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.SegmentPriceRepositoryAdapter;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.TimelinePriceRepositoryAdapter;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Estado compartido de los benchmarks que acceden a un
+ * {@link PriceRepository}: base de datos H2 cargada con datos sintéticos y
+ * el adaptador seleccionado por {@link #adapter}.
+ */
+@State(Scope.Benchmark)
+public class PriceRepositoryState {
+
+    /** Número de consultas precalculadas (potencia de dos). */
+    private static final int QUERY_COUNT = 4_096;
+
+    /** Adaptador medido ({@code price.repository.type}). */
+    @Param({"jpa", "jdbc", "segments", "memory", "timeline", "columnar"})
+    private String adapter;
+
+    /** Número de productos en la tabla. */
+    @Param({"1000"})
+    private int products;
+
+    /** Tarifas solapadas por producto. */
+    @Param({"1", "8"})
+    private int overlap;
+
+    /** Contexto Spring con la base de datos y los adaptadores. */
+    private AnnotationConfigApplicationContext context;
+
+    /** Adaptador seleccionado. */
+    private PriceRepository repository;
+
+    /** Consultas precalculadas. */
+    private PriceQuery[] queries;
+
+    /**
+     * Arranca el contexto, carga los datos y selecciona el adaptador.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(
+                BenchmarkPersistenceConfig.class);
+        PriceFixtures.insert(context.getBean(JdbcTemplate.class),
+                PriceFixtures.prices(products, overlap));
+        repository = switch (adapter) {
+            case "jpa" -> context.getBean(JpaPriceRepositoryAdapter.class);
+            case "jdbc" -> context.getBean(JdbcPriceRepositoryAdapter.class);
+            case "segments" ->
+                    context.getBean(SegmentPriceRepositoryAdapter.class);
+            case "memory" -> {
+                // Los adaptadores precargados leen la tabla al arrancar el
+                // contexto, cuando aún está vacía.
+                InMemoryPriceRepositoryAdapter memory =
+                        context.getBean(InMemoryPriceRepositoryAdapter.class);
+                memory.load();
+                yield memory;
+            }
+            case "timeline" -> {
+                TimelinePriceRepositoryAdapter timeline =
+                        context.getBean(TimelinePriceRepositoryAdapter.class);
+                timeline.load();
+                yield timeline;
+            }
+            case "columnar" -> {
+                ColumnarPriceRepositoryAdapter columnar =
+                        context.getBean(ColumnarPriceRepositoryAdapter.class);
+                columnar.load();
+                yield columnar;
+            }
+            default -> throw new IllegalArgumentException(adapter);
+        };
+        queries = PriceFixtures.queries(products, QUERY_COUNT);
+    }
+
+    /**
+     * Cierra el contexto y la base de datos.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * @return adaptador seleccionado
+     */
+    public PriceRepository repository() {
+        return repository;
+    }
+
+    /**
+     * @return consultas precalculadas
+     */
+    public PriceQuery[] queries() {
+        return queries;
+    }
+}
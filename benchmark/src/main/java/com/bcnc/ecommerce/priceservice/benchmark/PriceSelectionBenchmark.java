@@ -0,0 +1,142 @@
+package com.bcnc.ecommerce.priceservice.benchmark;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.service.PriceSelectionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selección del precio aplicable entre N candidatos
+ * ({@link PriceSelectionService}) y comprobación de vigencia
+ * ({@link Price#isApplicableOn(LocalDateTime)}), sin E/S.
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar PriceSelectionBenchmark
+ * </pre>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceSelectionBenchmark {
+
+    /** Fecha de aplicación de todas las búsquedas. */
+    private static final LocalDateTime DATE =
+            LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    /** Número de candidatos. */
+    @Param({"1", "4", "16", "64"})
+    private int candidates;
+
+    /** Porcentaje de candidatos vigentes en {@link #DATE}. */
+    @Param({"100", "50"})
+    private int applicablePercent;
+
+    /** Servicio de dominio medido. */
+    private final PriceSelectionService selectionService =
+            new PriceSelectionService();
+
+    /** Candidatos, con prioridades barajadas. */
+    private List<Price> prices;
+
+    /**
+     * Genera los candidatos con semilla fija.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<Integer> priorities = new ArrayList<>();
+        for (int i = 0; i < candidates; i++) {
+            priorities.add(i);
+        }
+        Collections.shuffle(priorities, random);
+
+        int applicable = Math.max(1, candidates * applicablePercent / 100);
+        prices = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            // Los no vigentes terminan justo antes de la fecha buscada.
+            LocalDateTime end = i < applicable
+                    ? DATE.plusDays(1 + i)
+                    : DATE.minusSeconds(1 + i);
+            prices.add(Price.builder()
+                    .brandId(1L)
+                    .startDate(DATE.minusDays(1 + i))
+                    .endDate(end)
+                    .priceList(i + 1)
+                    .productId(35455L)
+                    .priority(priorities.get(i))
+                    .priceMinor(1_000L + i)
+                    .curr("EUR")
+                    .build());
+        }
+        Collections.shuffle(prices, random);
+    }
+
+    /**
+     * Selección sin excepción, la usada por las búsquedas en bloque.
+     *
+     * @return precio aplicable
+     */
+    @Benchmark
+    public Optional<Price> findApplicablePrice() {
+        return selectionService.findApplicablePrice(prices, DATE);
+    }
+
+    /**
+     * Selección sin reservas de memoria: debe dar
+     * {@code gc.alloc.rate.norm} ≈ 0 B/op.
+     *
+     * @return precio aplicable, o {@code null}
+     */
+    @Benchmark
+    public Price findApplicablePriceOrNull() {
+        return selectionService.findApplicablePriceOrNull(prices, DATE);
+    }
+
+    /**
+     * Selección con las validaciones de la búsqueda individual.
+     *
+     * @return precio aplicable
+     */
+    @Benchmark
+    public Price selectApplicablePrice() {
+        return selectionService.selectApplicablePrice(prices, DATE,
+                35455L, 1L);
+    }
+
+    /**
+     * Comprobación de vigencia de todos los candidatos.
+     *
+     * @return número de candidatos vigentes
+     */
+    @Benchmark
+    public int isApplicableOn() {
+        int applicable = 0;
+        for (int i = 0; i < prices.size(); i++) {
+            if (prices.get(i).isApplicableOn(DATE)) {
+                applicable++;
+            }
+        }
+        return applicable;
+    }
+}
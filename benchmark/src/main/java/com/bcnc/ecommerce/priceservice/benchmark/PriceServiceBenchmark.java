@@ -0,0 +1,66 @@
+package com.bcnc.ecommerce.priceservice.benchmark;
+
+import com.bcnc.ecommerce.priceservice.application.PriceService;
+import com.bcnc.ecommerce.priceservice.application.impl.PriceServiceImpl;
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.service.PriceSelectionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Llamada completa al caso de uso {@link PriceService}: acceso al
+ * repositorio, selección por prioridad en el dominio y trazas.
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar PriceServiceBenchmark
+ * </pre>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceServiceBenchmark {
+
+    /** Caso de uso medido. */
+    private PriceService priceService;
+
+    /**
+     * Construye el caso de uso sobre el adaptador del estado.
+     *
+     * @param state base de datos y adaptador
+     */
+    @Setup(Level.Trial)
+    public void setUp(final PriceRepositoryState state) {
+        priceService = new PriceServiceImpl(state.repository(),
+                new PriceSelectionService());
+    }
+
+    /**
+     * Búsqueda del precio aplicable de una consulta.
+     *
+     * @param state  base de datos y adaptador
+     * @param cursor posición del hilo
+     * @return precio aplicable
+     */
+    @Benchmark
+    public Price findApplicablePrice(final PriceRepositoryState state,
+                                     final QueryCursor cursor) {
+        PriceQuery query = cursor.next(state.queries());
+        return priceService.findApplicablePrice(query.applicationDate(),
+                query.productId(), query.brandId());
+    }
+}
@@ -0,0 +1,29 @@
+package com.bcnc.ecommerce.priceservice.benchmark;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Posición de cada hilo de benchmark en el array de consultas
+ * precalculadas, para no repetir siempre la misma consulta.
+ */
+@State(Scope.Thread)
+public class QueryCursor {
+
+    /** Siguiente posición. */
+    private int next;
+
+    /**
+     * Devuelve la siguiente consulta, volviendo al principio al final.
+     *
+     * @param queries consultas precalculadas; su longitud debe ser potencia
+     *                de dos
+     * @return consulta siguiente
+     */
+    public PriceQuery next(final PriceQuery[] queries) {
+        PriceQuery query = queries[next];
+        next = (next + 1) & (queries.length - 1);
+        return query;
+    }
+}
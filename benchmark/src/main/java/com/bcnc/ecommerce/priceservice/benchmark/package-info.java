@@ -0,0 +1,9 @@
+/**
+ * Microbenchmarks JMH del camino crítico de cálculo de precios.
+ * <p>
+ * Se compilan solo con el perfil {@code benchmark}
+ * ({@code mvn -Pbenchmark package}) y se ejecutan con
+ * {@code java -jar benchmark/target/benchmarks.jar}.
+ * </p>
+ */
+package com.bcnc.ecommerce.priceservice.benchmark;
@@ -0,0 +1,37 @@
+-- Mismo esquema que bootstrap/src/main/resources/schema.sql
+CREATE TABLE IF NOT EXISTS PRICES (
+    ID INT AUTO_INCREMENT PRIMARY KEY,
+    BRAND_ID INT NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST INT NOT NULL,
+    PRODUCT_ID INT NOT NULL,
+    PRIORITY INT NOT NULL,
+    PRICE_MINOR BIGINT NOT NULL,
+    CURR VARCHAR(3) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS IDX_PRODUCT_BRAND_DATE_PRIORITY
+    ON PRICES (PRODUCT_ID, BRAND_ID, START_DATE, END_DATE, PRIORITY);
+
+CREATE TABLE IF NOT EXISTS PRICE_SEGMENTS (
+    PRODUCT_ID INT NOT NULL,
+    BRAND_ID INT NOT NULL,
+    SEGMENT_START TIMESTAMP(9) NOT NULL,
+    SEGMENT_END TIMESTAMP(9) NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST INT NOT NULL,
+    PRIORITY INT NOT NULL,
+    PRICE_MINOR BIGINT NOT NULL,
+    CURR VARCHAR(3) NOT NULL,
+    PRIMARY KEY (PRODUCT_ID, BRAND_ID, SEGMENT_END)
+);
+
+CREATE TRIGGER IF NOT EXISTS PRICE_SEGMENTS_KEYS
+    AFTER INSERT, UPDATE, DELETE ON PRICES FOR EACH ROW
+    CALL 'com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.segments.PriceSegmentTrigger';
+
+CREATE TRIGGER IF NOT EXISTS PRICE_SEGMENTS_MAINTENANCE
+    AFTER INSERT, UPDATE, DELETE ON PRICES
+    CALL 'com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.segments.PriceSegmentTrigger';
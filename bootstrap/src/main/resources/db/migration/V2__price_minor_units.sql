@@ -0,0 +1,29 @@
+-- Migración de PRICES.PRICE (DOUBLE, unidades mayores) a PRICES.PRICE_MINOR
+-- (BIGINT, unidades menores de la moneda) para bases de datos existentes.
+--
+-- Los decimales de cada moneda son los de ISO 4217 que usa Money, tomados de
+-- java.util.Currency.getAvailableCurrencies() (JDK 17): 0, 3 o 4 para las
+-- monedas listadas y 2 para el resto, incluidas las que Currency no conoce o
+-- que no tienen decimales definidos (metales, XDR...), como hace Money.
+-- PriceMinorUnitsMigrationTest comprueba que coinciden para todas las
+-- monedas de Currency. El redondeo corrige los errores de representación
+-- binaria del DOUBLE (25.45 se guarda como 25.4499999...).
+--
+-- Se ejecuta una sola vez, antes de arrancar con el nuevo esquema; las bases
+-- de datos creadas desde schema.sql ya nacen con PRICE_MINOR.
+
+ALTER TABLE PRICES ADD COLUMN PRICE_MINOR BIGINT;
+
+UPDATE PRICES SET PRICE_MINOR = CAST(ROUND(PRICE * CASE
+        WHEN CURR IN ('ADP', 'BEF', 'BIF', 'BYB', 'BYR', 'CLP', 'DJF', 'ESP',
+            'GNF', 'GRD', 'ISK', 'ITL', 'JPY', 'KMF', 'KRW', 'LUF', 'MGF',
+            'PTE', 'PYG', 'ROL', 'RWF', 'TPE', 'TRL', 'UGX', 'UYI', 'VND',
+            'VUV', 'XAF', 'XOF', 'XPF') THEN 1
+        WHEN CURR IN ('BHD', 'IQD', 'JOD', 'KWD', 'LYD', 'OMR', 'TND') THEN 1000
+        WHEN CURR = 'CLF' THEN 10000
+        ELSE 100
+    END) AS BIGINT);
+
+ALTER TABLE PRICES ALTER COLUMN PRICE_MINOR SET NOT NULL;
+
+ALTER TABLE PRICES DROP COLUMN PRICE;
@@ -0,0 +1,20 @@
+-- Registro de cambios de PRICES para la recarga incremental
+-- (price.changes.enabled) en bases de datos existentes.
+--
+-- El trigger anota en PRICES_CHANGELOG la clave (producto, cadena) de cada
+-- fila insertada, modificada o borrada, dentro de la misma transacción. Las
+-- bases de datos creadas desde schema.sql ya nacen con la tabla y el trigger.
+
+CREATE TABLE IF NOT EXISTS PRICES_CHANGELOG (
+    CHANGE_ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    PRODUCT_ID INT NOT NULL,
+    BRAND_ID INT NOT NULL,
+    CHANGED_AT TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS IDX_PRICES_CHANGELOG_CHANGED_AT
+    ON PRICES_CHANGELOG (CHANGED_AT);
+
+CREATE TRIGGER IF NOT EXISTS PRICES_CHANGE_CAPTURE
+    AFTER INSERT, UPDATE, DELETE ON PRICES FOR EACH ROW
+    CALL 'com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes.PriceChangeTrigger';
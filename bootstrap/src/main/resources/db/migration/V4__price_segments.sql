@@ -0,0 +1,38 @@
+-- Tabla materializada de tramos efectivos (price.repository.type=segments) en
+-- bases de datos existentes.
+--
+-- Los triggers recalculan, al terminar cada sentencia sobre PRICES y dentro de
+-- la misma transacción, los tramos de cada clave (producto, cadena) que ha
+-- cambiado. La carga inicial no toca PRICES (y no llena PRICES_CHANGELOG):
+-- recorre las tarifas una sola vez con PriceSegmentTrigger.rebuildAll. Las
+-- bases de datos creadas desde schema.sql ya nacen con la tabla y los
+-- triggers.
+
+CREATE TABLE IF NOT EXISTS PRICE_SEGMENTS (
+    PRODUCT_ID INT NOT NULL,
+    BRAND_ID INT NOT NULL,
+    SEGMENT_START TIMESTAMP(9) NOT NULL,
+    SEGMENT_END TIMESTAMP(9) NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST INT NOT NULL,
+    PRIORITY INT NOT NULL,
+    PRICE_MINOR BIGINT NOT NULL,
+    CURR VARCHAR(3) NOT NULL,
+    PRIMARY KEY (PRODUCT_ID, BRAND_ID, SEGMENT_END)
+);
+
+CREATE TRIGGER IF NOT EXISTS PRICE_SEGMENTS_KEYS
+    AFTER INSERT, UPDATE, DELETE ON PRICES FOR EACH ROW
+    CALL 'com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.segments.PriceSegmentTrigger';
+
+CREATE TRIGGER IF NOT EXISTS PRICE_SEGMENTS_MAINTENANCE
+    AFTER INSERT, UPDATE, DELETE ON PRICES
+    CALL 'com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.segments.PriceSegmentTrigger';
+
+CREATE ALIAS IF NOT EXISTS REBUILD_PRICE_SEGMENTS FOR
+    'com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.segments.PriceSegmentTrigger.rebuildAll';
+
+CALL REBUILD_PRICE_SEGMENTS();
+
+DROP ALIAS REBUILD_PRICE_SEGMENTS;
@@ -0,0 +1,24 @@
+-- Archivo de tarifas caducadas (price.archive.enabled) en bases de datos
+-- existentes.
+--
+-- PriceArchiver traslada a PRICES_ARCHIVE, con su ID original, las tarifas
+-- de PRICES caducadas hace más de price.archive.retention; el índice sobre
+-- END_DATE las localiza sin recorrer la tabla. Las bases de datos creadas
+-- desde schema.sql ya nacen con la tabla y los índices.
+
+CREATE TABLE IF NOT EXISTS PRICES_ARCHIVE (
+    ID INT PRIMARY KEY,
+    BRAND_ID INT NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST INT NOT NULL,
+    PRODUCT_ID INT NOT NULL,
+    PRIORITY INT NOT NULL,
+    PRICE_MINOR BIGINT NOT NULL,
+    CURR VARCHAR(3) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS IDX_ARCHIVE_PRODUCT_BRAND_DATE_PRIORITY
+    ON PRICES_ARCHIVE (PRODUCT_ID, BRAND_ID, START_DATE, END_DATE, PRIORITY);
+
+CREATE INDEX IF NOT EXISTS IDX_PRICES_END_DATE ON PRICES (END_DATE);
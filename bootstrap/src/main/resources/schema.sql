@@ -6,10 +6,77 @@ CREATE TABLE IF NOT EXISTS PRICES (
     PRICE_LIST INT NOT NULL,
     PRODUCT_ID INT NOT NULL,
     PRIORITY INT NOT NULL,
-    PRICE DOUBLE NOT NULL,
+    -- Importe en unidades menores de la moneda (céntimos para EUR)
+    PRICE_MINOR BIGINT NOT NULL,
     CURR VARCHAR(3) NOT NULL
 );
 
 -- Índice para acelerar búsquedas por producto, marca y rango de fechas
 CREATE INDEX IF NOT EXISTS IDX_PRODUCT_BRAND_DATE_PRIORITY
-    ON PRICES (PRODUCT_ID, BRAND_ID, START_DATE, END_DATE, PRIORITY);
\ No newline at end of file
+    ON PRICES (PRODUCT_ID, BRAND_ID, START_DATE, END_DATE, PRIORITY);
+-- Registro de cambios de PRICES para la recarga incremental: el trigger anota la
+-- clave (producto, cadena) de cada fila insertada, modificada o borrada
+CREATE TABLE IF NOT EXISTS PRICES_CHANGELOG (
+    CHANGE_ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    PRODUCT_ID INT NOT NULL,
+    BRAND_ID INT NOT NULL,
+    CHANGED_AT TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS IDX_PRICES_CHANGELOG_CHANGED_AT
+    ON PRICES_CHANGELOG (CHANGED_AT);
+
+CREATE TRIGGER IF NOT EXISTS PRICES_CHANGE_CAPTURE
+    AFTER INSERT, UPDATE, DELETE ON PRICES FOR EACH ROW
+    CALL 'com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes.PriceChangeTrigger';
+
+-- Tramos efectivos de PRICES ya resueltos: por cada clave (producto, cadena),
+-- intervalos [SEGMENT_START, SEGMENT_END) que no se solapan, con la tarifa
+-- ganadora de cada uno. Los tramos de una clave terminan en fechas distintas y
+-- crecientes, así que la clave primaria convierte la búsqueda en un único
+-- acceso por rango: primer tramo de la clave con SEGMENT_END > fecha.
+-- Precisión de nanosegundos: el fin excluido de una tarifa es END_DATE + 1 ns
+CREATE TABLE IF NOT EXISTS PRICE_SEGMENTS (
+    PRODUCT_ID INT NOT NULL,
+    BRAND_ID INT NOT NULL,
+    SEGMENT_START TIMESTAMP(9) NOT NULL,
+    SEGMENT_END TIMESTAMP(9) NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST INT NOT NULL,
+    PRIORITY INT NOT NULL,
+    PRICE_MINOR BIGINT NOT NULL,
+    CURR VARCHAR(3) NOT NULL,
+    PRIMARY KEY (PRODUCT_ID, BRAND_ID, SEGMENT_END)
+);
+
+-- Anota la clave de cada fila cambiada y, al terminar la sentencia, recalcula
+-- una vez los tramos de cada clave anotada, en la misma transacción
+CREATE TRIGGER IF NOT EXISTS PRICE_SEGMENTS_KEYS
+    AFTER INSERT, UPDATE, DELETE ON PRICES FOR EACH ROW
+    CALL 'com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.segments.PriceSegmentTrigger';
+
+CREATE TRIGGER IF NOT EXISTS PRICE_SEGMENTS_MAINTENANCE
+    AFTER INSERT, UPDATE, DELETE ON PRICES
+    CALL 'com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.segments.PriceSegmentTrigger';
+
+-- Archivo de tarifas caducadas (nivel frío, price.archive.enabled): mismas
+-- columnas que PRICES, con el ID original. PriceArchiver traslada aquí las
+-- tarifas caducadas para que no ralenticen las búsquedas de las vigentes
+CREATE TABLE IF NOT EXISTS PRICES_ARCHIVE (
+    ID INT PRIMARY KEY,
+    BRAND_ID INT NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST INT NOT NULL,
+    PRODUCT_ID INT NOT NULL,
+    PRIORITY INT NOT NULL,
+    PRICE_MINOR BIGINT NOT NULL,
+    CURR VARCHAR(3) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS IDX_ARCHIVE_PRODUCT_BRAND_DATE_PRIORITY
+    ON PRICES_ARCHIVE (PRODUCT_ID, BRAND_ID, START_DATE, END_DATE, PRIORITY);
+
+-- Localiza las tarifas caducadas que hay que trasladar al archivo
+CREATE INDEX IF NOT EXISTS IDX_PRICES_END_DATE ON PRICES (END_DATE);
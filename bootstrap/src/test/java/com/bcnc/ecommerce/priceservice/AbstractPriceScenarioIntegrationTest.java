@@ -0,0 +1,101 @@
+package com.bcnc.ecommerce.priceservice;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Escenarios funcionales del enunciado reutilizables para verificar que
+ * cada adaptador de {@code PriceRepository} devuelve los mismos resultados
+ * que el adaptador JPA por defecto.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+abstract class AbstractPriceScenarioIntegrationTest
+{
+    private static final String PRICE_CALCULATION_ENDPOINT = "/prices/applicable";
+    private static final String PRICE_BATCH_ENDPOINT = "/prices/applicable:batch";
+    private static final String AUTH_HEADER = "Bearer 12345678";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @ParameterizedTest(name = "{0} -> tarifa {1}")
+    @CsvSource({
+            "2020-06-14T10:00:00, 1, 35.50",
+            "2020-06-14T16:00:00, 2, 25.45",
+            "2020-06-14T21:00:00, 1, 35.50",
+            "2020-06-15T10:00:00, 3, 30.50",
+            "2020-06-16T21:00:00, 4, 38.95",
+            "2020-06-14T15:00:00, 2, 25.45",
+            "2020-06-14T18:30:00, 2, 25.45"
+    })
+    void shouldReturnExpectedTariff(final String date, final int priceList,
+                                    final double price) throws Exception
+    {
+        mockMvc.perform(get(PRICE_CALCULATION_ENDPOINT)
+                        .param("applicationDate", date)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(priceList))
+                .andExpect(jsonPath("$.price").value(price));
+    }
+
+    @ParameterizedTest(name = "producto {1} el {0} -> 404")
+    @CsvSource({
+            "2020-06-13T10:00:00, 35455",
+            "2020-06-14T10:00:00, 99999"
+    })
+    void shouldReturnNotFound(final String date, final String productId) throws Exception
+    {
+        mockMvc.perform(get(PRICE_CALCULATION_ENDPOINT)
+                        .param("applicationDate", date)
+                        .param("productId", productId)
+                        .param("brandId", "1")
+                        .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldResolveAllScenariosInOneBatch() throws Exception
+    {
+        String body = """
+                {"queries": [
+                  {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-14T21:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-15T10:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-16T21:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-13T10:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-14T10:00:00", "productId": 99999, "brandId": 1}
+                ]}
+                """;
+
+        mockMvc.perform(post(PRICE_BATCH_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body)
+                        .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].price.priceList").value(1))
+                .andExpect(jsonPath("$.results[1].price.priceList").value(2))
+                .andExpect(jsonPath("$.results[2].price.priceList").value(1))
+                .andExpect(jsonPath("$.results[3].price.priceList").value(3))
+                .andExpect(jsonPath("$.results[4].price.priceList").value(4))
+                .andExpect(jsonPath("$.results[5].status").value(404))
+                .andExpect(jsonPath("$.results[6].status").value(404));
+    }
+}
@@ -0,0 +1,133 @@
+package com.bcnc.ecommerce.priceservice;
+
+import com.bcnc.ecommerce.priceservice.adapter.web.async.PriceLookupExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Los endpoints asíncronos {@code /prices/async/*} con
+ * {@code price.async.enabled=true}: mismas respuestas que sus equivalentes
+ * síncronos, resueltas en el ejecutor de búsquedas.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "price.async.enabled=true",
+        "price.repository.type=jdbc"
+})
+@DisplayName("Tests de integración de las búsquedas asíncronas")
+class AsyncPriceIntegrationTest
+{
+    private static final String AUTH_HEADER = "Bearer 12345678";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MvcResult startAsync(final String date, final String productId) throws Exception
+    {
+        return mockMvc.perform(get("/prices/async/applicable")
+                        .param("applicationDate", date)
+                        .param("productId", productId)
+                        .param("brandId", "1")
+                        .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    @Test
+    @DisplayName("Tarifa 2 el 14 de junio a las 16:00, resuelta en el ejecutor de búsquedas")
+    void shouldReturnPriceAsynchronously() throws Exception
+    {
+        MvcResult result = startAsync("2020-06-14T16:00:00", "35455");
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2))
+                .andExpect(jsonPath("$.price").value(25.45));
+
+        assertTrue(meterRegistry.get("executor.completed").tag("name", PriceLookupExecutor.NAME)
+                .functionCounter().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Devuelve 404 con el mismo mensaje que la búsqueda síncrona")
+    void shouldReturnNotFoundAsynchronously() throws Exception
+    {
+        MvcResult result = startAsync("2020-06-14T10:00:00", "99999");
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(containsString("99999")));
+    }
+
+    @Test
+    @DisplayName("Resuelve el lote de forma asíncrona con un resultado por consulta")
+    void shouldResolveBatchAsynchronously() throws Exception
+    {
+        String body = """
+                {"queries": [
+                  {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-15T10:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-13T10:00:00", "productId": 35455, "brandId": 1}
+                ]}
+                """;
+        MvcResult result = mockMvc.perform(post("/prices/async/applicable:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body)
+                        .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].price.priceList").value(1))
+                .andExpect(jsonPath("$.results[1].price.priceList").value(3))
+                .andExpect(jsonPath("$.results[2].status").value(404));
+    }
+
+    @Test
+    @DisplayName("Valida los parámetros antes de encolar la búsqueda")
+    void shouldRejectNegativeIdWithoutStartingAsync() throws Exception
+    {
+        mockMvc.perform(get("/prices/async/applicable")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "-1")
+                        .param("brandId", "1")
+                        .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Sin token responde 401 sin encolar la búsqueda")
+    void shouldRequireTokenBeforeStartingAsync() throws Exception
+    {
+        mockMvc.perform(get("/prices/async/applicable")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(request().asyncNotStarted());
+    }
+}
@@ -0,0 +1,14 @@
+package com.bcnc.ecommerce.priceservice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+        "price.batching.enabled=true",
+        "price.batching.window=1ms",
+        "price.cache.enabled=true"
+})
+@DisplayName("Tests de integración con micro-lotes y caché sobre JPA")
+class BatchedPriceRepositoryIntegrationTest extends AbstractPriceScenarioIntegrationTest
+{
+}
@@ -0,0 +1,10 @@
+package com.bcnc.ecommerce.priceservice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "price.cache.enabled=true")
+@DisplayName("Tests de integración con la caché de líneas temporales sobre JPA")
+class CachedPriceRepositoryIntegrationTest extends AbstractPriceScenarioIntegrationTest
+{
+}
@@ -0,0 +1,93 @@
+package com.bcnc.ecommerce.priceservice;
+
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.current.CurrentPriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "price.repository.type=jdbc",
+        "price.changes.enabled=true",
+        "price.current.enabled=true"
+})
+@DisplayName("Tests de integración de la tabla de precios vigentes")
+class CurrentPriceIntegrationTest
+{
+    private static final String CURRENT_PRICE_ENDPOINT = "/prices/applicable/now";
+    private static final String AUTH_HEADER = "Bearer 12345678";
+    private static final long PRODUCT_ID = 99004L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Test
+    void shouldServeCurrentPricesFromTheTableAndOtherDatesFromStorage() throws Exception
+    {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST,"
+                        + " PRODUCT_ID, PRIORITY, PRICE_MINOR, CURR) VALUES (1, ?, ?, 7, ?, 0, 1999, 'EUR')",
+                Timestamp.valueOf(now.minusDays(1)), Timestamp.valueOf(now.plusDays(1)), PRODUCT_ID);
+        assertTrue(priceRepository instanceof CurrentPriceRepository);
+        ((CurrentPriceRepository) priceRepository).rebuild();
+        double served = lookups("served");
+        double passed = lookups("passed");
+
+        mockMvc.perform(request(PRODUCT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(7))
+                .andExpect(jsonPath("$.price").value(19.99));
+        mockMvc.perform(request(35455L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+        mockMvc.perform(request(35455L).param("applicationDate", "2020-06-14T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(1));
+
+        assertEquals(served + 2, lookups("served"));
+        assertEquals(passed + 1, lookups("passed"));
+    }
+
+    private double lookups(final String result)
+    {
+        return meterRegistry.get(CurrentPriceRepository.METRIC_LOOKUPS)
+                .tag("result", result).counter().count();
+    }
+
+    private MockHttpServletRequestBuilder request(final long productId)
+    {
+        return get(CURRENT_PRICE_ENDPOINT)
+                .param("productId", String.valueOf(productId))
+                .param("brandId", "1")
+                .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER);
+    }
+}
@@ -0,0 +1,10 @@
+package com.bcnc.ecommerce.priceservice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "price.repository.type=memory")
+@DisplayName("Tests de integración con el índice de precios en memoria")
+class InMemoryPriceRepositoryIntegrationTest extends AbstractPriceScenarioIntegrationTest
+{
+}
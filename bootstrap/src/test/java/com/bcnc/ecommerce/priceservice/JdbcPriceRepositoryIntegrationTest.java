@@ -0,0 +1,10 @@
+package com.bcnc.ecommerce.priceservice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "price.repository.type=jdbc")
+@DisplayName("Tests de integración con el adaptador JDBC directo")
+class JdbcPriceRepositoryIntegrationTest extends AbstractPriceScenarioIntegrationTest
+{
+}
@@ -0,0 +1,87 @@
+package com.bcnc.ecommerce.priceservice;
+
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes.PriceChangePoller;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "price.repository.type=columnar",
+        "price.cache.enabled=true",
+        "price.changes.enabled=true",
+        "price.changes.interval=1h"
+})
+@DisplayName("Tests de integración de la captura incremental de cambios de PRICES")
+class PriceChangeCaptureIntegrationTest
+{
+    private static final String PRICE_CALCULATION_ENDPOINT = "/prices/applicable";
+    private static final String AUTH_HEADER = "Bearer 12345678";
+    private static final long NEW_PRODUCT_ID = 99002L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PriceChangePoller poller;
+
+    @AfterEach
+    void tearDown()
+    {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = ?", NEW_PRODUCT_ID);
+        poller.poll();
+    }
+
+    @Test
+    void shouldApplyInsertUpdateAndDeleteIncrementally() throws Exception
+    {
+        poller.poll();
+        performLookup().andExpect(status().isNotFound());
+
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST,"
+                + " PRODUCT_ID, PRIORITY, PRICE_MINOR, CURR) VALUES (1, '2020-06-14 00:00:00',"
+                + " '2020-12-31 23:59:59', 5, ?, 0, 1999, 'EUR')", NEW_PRODUCT_ID);
+        assertTrue(poller.poll() >= 1);
+        // La caché tenía la clave como "sin tarifas": el sondeo la descarta.
+        performLookup()
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(19.99));
+
+        jdbcTemplate.update("UPDATE PRICES SET PRICE_MINOR = 1499 WHERE PRODUCT_ID = ?",
+                NEW_PRODUCT_ID);
+        poller.poll();
+        performLookup()
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(14.99));
+
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = ?", NEW_PRODUCT_ID);
+        poller.poll();
+        performLookup().andExpect(status().isNotFound());
+    }
+
+    private ResultActions performLookup() throws Exception
+    {
+        return mockMvc.perform(get(PRICE_CALCULATION_ENDPOINT)
+                .param("applicationDate", "2020-06-16T10:00:00")
+                .param("productId", String.valueOf(NEW_PRODUCT_ID))
+                .param("brandId", "1")
+                .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER));
+    }
+}
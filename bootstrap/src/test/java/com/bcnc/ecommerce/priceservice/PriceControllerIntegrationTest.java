@@ -11,8 +11,15 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -22,6 +29,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class PriceControllerIntegrationTest
 {
     private static final String PRICE_CALCULATION_ENDPOINT = "/prices/applicable";
+    private static final String PRICE_BATCH_ENDPOINT = "/prices/applicable:batch";
+    private static final String PRICE_STREAM_ENDPOINT = "/prices/applicable:stream";
     private static final String PARAM_DATE = "applicationDate";
     private static final String PARAM_PRODUCT = "productId";
     private static final String PARAM_BRAND = "brandId";
@@ -273,4 +282,137 @@ public class PriceControllerIntegrationTest
                     .andExpect(status().isUnauthorized());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Búsqueda de precios en bloque")
+    class BatchTests
+    {
+        @Test
+        @DisplayName("Devuelve un resultado por consulta, incluidos los no encontrados")
+        void testBatchReturnsPerItemResults() throws Exception
+        {
+            String body = """
+                    {"queries": [
+                      {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+                      {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                      {"applicationDate": "2020-06-13T10:00:00", "productId": 35455, "brandId": 1},
+                      {"applicationDate": "2020-06-16T21:00:00", "productId": 35455, "brandId": 1},
+                      {"applicationDate": "2020-06-14T10:00:00", "productId": 99999, "brandId": 1}
+                    ]}
+                    """;
+
+            mockMvc.perform(post(PRICE_BATCH_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body)
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results.length()").value(5))
+                    .andExpect(jsonPath("$.results[0].status").value(200))
+                    .andExpect(jsonPath("$.results[0].price.priceList").value(1))
+                    .andExpect(jsonPath("$.results[1].price.priceList").value(2))
+                    .andExpect(jsonPath("$.results[1].price.price").value(25.45))
+                    .andExpect(jsonPath("$.results[2].status").value(404))
+                    .andExpect(jsonPath("$.results[2].price").doesNotExist())
+                    .andExpect(jsonPath("$.results[2].message",
+                            containsString("producto 35455")))
+                    .andExpect(jsonPath("$.results[3].price.priceList").value(4))
+                    .andExpect(jsonPath("$.results[4].status").value(404))
+                    .andExpect(jsonPath("$.results[4].productId").value(99999));
+        }
+
+        @Test
+        @DisplayName("Debe devolver 400 si el lote está vacío")
+        void testEmptyBatch_shouldReturn400() throws Exception
+        {
+            mockMvc.perform(post(PRICE_BATCH_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"queries\": []}")
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("queries")));
+        }
+
+        @Test
+        @DisplayName("Debe devolver 400 si el lote supera el tamaño máximo")
+        void testOversizedBatch_shouldReturn400() throws Exception
+        {
+            Map<String, Object> query = Map.of("applicationDate", "2020-06-14T10:00:00",
+                    "productId", 35455, "brandId", 1);
+            String body = objectMapper.writeValueAsString(
+                    Map.of("queries", Collections.nCopies(501, query)));
+
+            mockMvc.perform(post(PRICE_BATCH_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body)
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Debe devolver 400 si una consulta es inválida")
+        void testInvalidQuery_shouldReturn400() throws Exception
+        {
+            String body = objectMapper.writeValueAsString(Map.of("queries", List.of(
+                    Map.of("applicationDate", "2020-06-14T10:00:00", "productId", -1,
+                            "brandId", 1))));
+
+            mockMvc.perform(post(PRICE_BATCH_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body)
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("productId")));
+        }
+
+        @Test
+        @DisplayName("Debe devolver 400 si el cuerpo está mal formado")
+        void testMalformedBody_shouldReturn400() throws Exception
+        {
+            mockMvc.perform(post(PRICE_BATCH_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"queries\": [{\"applicationDate\": \"no-date\"}]}")
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message")
+                            .value("Cuerpo de la petición inválido o mal formado"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Búsqueda de precios en streaming NDJSON")
+    class StreamTests
+    {
+        @Test
+        @DisplayName("Devuelve una línea NDJSON por consulta en el mismo orden")
+        void testStreamReturnsOneLinePerQuery() throws Exception
+        {
+            String body = """
+                    {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1}
+                    {"applicationDate": "2020-06-14T10:00:00", "productId": 99999, "brandId": 1}
+                    no-json
+                    {"applicationDate": "2020-06-16T21:00:00", "productId": 35455, "brandId": 1}
+                    """;
+
+            String result = mockMvc.perform(post(PRICE_STREAM_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .content(body)
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)
+                            .accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<String> lines = result.lines().toList();
+            assertEquals(4, lines.size());
+            assertEquals(2,
+                    objectMapper.readTree(lines.get(0)).at("/price/priceList").asInt());
+            assertEquals(404,
+                    objectMapper.readTree(lines.get(1)).get("status").asInt());
+            assertEquals(400,
+                    objectMapper.readTree(lines.get(2)).get("status").asInt());
+            assertEquals(4,
+                    objectMapper.readTree(lines.get(3)).at("/price/priceList").asInt());
+        }
+    }
+}
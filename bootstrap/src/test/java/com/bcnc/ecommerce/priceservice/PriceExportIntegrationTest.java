@@ -0,0 +1,112 @@
+package com.bcnc.ecommerce.priceservice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Tests de integración de la exportación masiva de tarifas")
+class PriceExportIntegrationTest
+{
+    private static final String AUTH_HEADER = "Bearer 12345678";
+    private static final String PRICE_EXPORT_ENDPOINT = "/actuator/priceexport";
+
+    @TempDir
+    static Path tempDir;
+
+    @DynamicPropertySource
+    static void exportDirectory(final DynamicPropertyRegistry registry)
+    {
+        registry.add("price.export.directory", tempDir::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldExportBrandToFile() throws Exception
+    {
+        Path file = tempDir.resolve("precios.csv");
+
+        mockMvc.perform(post(PRICE_EXPORT_ENDPOINT).header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"file\":\"precios.csv\",\"brandId\":1}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exported").value(true))
+                .andExpect(jsonPath("$.report.brandId").value(1))
+                .andExpect(jsonPath("$.report.rows").isNumber())
+                .andExpect(jsonPath("$.report.rowsPerSecond").isNumber());
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals("BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE_MINOR,CURR",
+                lines.get(0));
+        assertTrue(lines.contains("1,2020-06-14T15:00:00,2020-06-14T18:30:00,2,35455,1,2545,EUR"));
+    }
+
+    @Test
+    void shouldRejectPathsOutsideExportDirectory() throws Exception
+    {
+        for (String file : new String[] {"/tmp/precios.csv", "../precios.csv", "sub/../../precios.csv"}) {
+            mockMvc.perform(post(PRICE_EXPORT_ENDPOINT).header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"file\":\"" + file + "\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.exported").value(false))
+                    .andExpect(jsonPath("$.error").value("Nombre de fichero no válido: " + file));
+        }
+    }
+
+    @Test
+    void shouldRejectLinksOutsideExportDirectory() throws Exception
+    {
+        Path outside = Files.createTempDirectory("fuera");
+        Path outsideFile = Files.createFile(outside.resolve("precios.csv"));
+        try {
+            Files.createSymbolicLink(tempDir.resolve("enlace"), outside);
+            Files.createSymbolicLink(tempDir.resolve("enlace.csv"), outsideFile);
+
+            for (String file : new String[] {"enlace/precios.csv", "enlace.csv"}) {
+                mockMvc.perform(post(PRICE_EXPORT_ENDPOINT).header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"file\":\"" + file + "\"}"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.exported").value(false))
+                        .andExpect(jsonPath("$.error").value("Nombre de fichero no válido: " + file));
+            }
+            assertEquals(0, Files.size(outsideFile));
+        } finally {
+            Files.deleteIfExists(tempDir.resolve("enlace"));
+            Files.deleteIfExists(tempDir.resolve("enlace.csv"));
+            Files.delete(outsideFile);
+            Files.delete(outside);
+        }
+    }
+
+    @Test
+    void shouldRequireToken() throws Exception
+    {
+        mockMvc.perform(post(PRICE_EXPORT_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"file\":\"precios.csv\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+}
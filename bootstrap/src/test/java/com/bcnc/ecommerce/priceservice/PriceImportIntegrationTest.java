@@ -0,0 +1,119 @@
+package com.bcnc.ecommerce.priceservice;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Tests de integración de la importación masiva de tarifas")
+class PriceImportIntegrationTest
+{
+    private static final String PRICE_IMPORT_ENDPOINT = "/actuator/priceimport";
+    private static final String AUTH_HEADER = "Bearer 12345678";
+    private static final long NEW_PRODUCT_ID = 99003L;
+
+    @TempDir
+    static Path tempDir;
+
+    @DynamicPropertySource
+    static void importDirectory(final DynamicPropertyRegistry registry)
+    {
+        registry.add("price.import.directory", tempDir::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown()
+    {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = ?", NEW_PRODUCT_ID);
+    }
+
+    @Test
+    void shouldImportFileAndReportRejectedRows() throws Exception
+    {
+        Path file = Files.writeString(tempDir.resolve("tarifas.csv"), """
+                BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR
+                1,2020-06-14 00:00:00,2020-12-31 23:59:59,7,99003,0,12.34,EUR
+                1,2020-06-14 00:00:00,2020-06-01 00:00:00,8,99003,1,15.00,EUR
+                """);
+
+        mockMvc.perform(post(PRICE_IMPORT_ENDPOINT).header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"file\":\"" + file.getFileName() + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(true))
+                .andExpect(jsonPath("$.report.read").value(2))
+                .andExpect(jsonPath("$.report.imported").value(1))
+                .andExpect(jsonPath("$.report.rejected").value(1))
+                .andExpect(jsonPath("$.report.rowsPerSecond").isNumber())
+                .andExpect(jsonPath("$.report.rejectedLines[0]").value(3))
+                .andExpect(jsonPath("$.report.errors").doesNotExist());
+
+        // Con el adaptador JPA por defecto la tarifa importada se sirve al momento.
+        mockMvc.perform(get("/prices/applicable")
+                        .param("applicationDate", "2020-06-16T10:00:00")
+                        .param("productId", String.valueOf(NEW_PRODUCT_ID))
+                        .param("brandId", "1")
+                        .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(7))
+                .andExpect(jsonPath("$.price").value(12.34));
+    }
+
+    @Test
+    void shouldReportUnreadableFile() throws Exception
+    {
+        mockMvc.perform(post(PRICE_IMPORT_ENDPOINT).header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"file\":\"tarifas.xlsx\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(false))
+                .andExpect(jsonPath("$.error").value("Formato de importación desconocido: tarifas.xlsx"));
+    }
+
+    @Test
+    void shouldRejectPathsOutsideImportDirectory() throws Exception
+    {
+        for (String file : new String[] {"/etc/passwd", "../tarifas.csv", "sub/../../tarifas.csv"}) {
+            mockMvc.perform(post(PRICE_IMPORT_ENDPOINT).header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"file\":\"" + file + "\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(false))
+                    .andExpect(jsonPath("$.error").value("Nombre de fichero no válido: " + file));
+        }
+    }
+
+    @Test
+    void shouldRequireToken() throws Exception
+    {
+        mockMvc.perform(post(PRICE_IMPORT_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"file\":\"tarifas.csv\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,100 @@
+package com.bcnc.ecommerce.priceservice;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "price.repository.type=columnar",
+        "price.cache.enabled=true"
+})
+@DisplayName("Tests de integración de la recarga en caliente del índice de precios")
+class PriceIndexReloadIntegrationTest
+{
+    private static final String PRICE_CALCULATION_ENDPOINT = "/prices/applicable";
+    private static final String PRICE_INDEX_ENDPOINT = "/actuator/priceindex";
+    private static final String AUTH_HEADER = "Bearer 12345678";
+    private static final long NEW_PRODUCT_ID = 99001L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = ?", NEW_PRODUCT_ID);
+        mockMvc.perform(post(PRICE_INDEX_ENDPOINT).header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)).andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldServeNewPricesOnlyAfterReload() throws Exception
+    {
+        long version = readVersion();
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST,"
+                + " PRODUCT_ID, PRIORITY, PRICE_MINOR, CURR) VALUES (1, '2020-06-14 00:00:00',"
+                + " '2020-12-31 23:59:59', 5, ?, 0, 1999, 'EUR')", NEW_PRODUCT_ID);
+
+        performLookup().andExpect(status().isNotFound());
+
+        mockMvc.perform(post(PRICE_INDEX_ENDPOINT).header(HttpHeaders.AUTHORIZATION, AUTH_HEADER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.storage").value("ColumnarPriceRepositoryAdapter"))
+                .andExpect(jsonPath("$.reloaded").value(true))
+                .andExpect(jsonPath("$.index.version").value(version + 1))
+                .andExpect(jsonPath("$.index.prices").isNumber())
+                .andExpect(jsonPath("$.index.buildMillis").isNumber())
+                .andExpect(jsonPath("$.index.estimatedBytes").isNumber());
+
+        // La caché de líneas temporales se vacía al publicar la versión.
+        performLookup()
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(5))
+                .andExpect(jsonPath("$.price").value(19.99));
+    }
+
+    @Test
+    @DisplayName("La recarga exige el token aunque la lectura del estado sea pública")
+    void shouldRequireTokenToReload() throws Exception
+    {
+        mockMvc.perform(post(PRICE_INDEX_ENDPOINT))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get(PRICE_INDEX_ENDPOINT))
+                .andExpect(status().isOk());
+    }
+
+    private long readVersion() throws Exception
+    {
+        String body = mockMvc.perform(get(PRICE_INDEX_ENDPOINT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reloadable").value(true))
+                .andReturn().getResponse().getContentAsString();
+        return Long.parseLong(body.replaceAll(".*\"version\":(\\d+).*", "$1"));
+    }
+
+    private ResultActions performLookup() throws Exception
+    {
+        return mockMvc.perform(get(PRICE_CALCULATION_ENDPOINT)
+                .param("applicationDate", "2020-06-16T10:00:00")
+                .param("productId", String.valueOf(NEW_PRODUCT_ID))
+                .param("brandId", "1")
+                .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER));
+    }
+}
@@ -0,0 +1,68 @@
+package com.bcnc.ecommerce.priceservice;
+
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.filter.FilteringPriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "price.repository.type=jdbc",
+        "price.changes.enabled=true",
+        "price.filter.enabled=true"
+})
+@DisplayName("Tests de integración del filtro de claves sin tarifas")
+class PriceKeyFilterIntegrationTest
+{
+    private static final String PRICE_CALCULATION_ENDPOINT = "/prices/applicable";
+    private static final String AUTH_HEADER = "Bearer 12345678";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldAnswerUnknownKeysWithoutStorageAndKnownKeysAsUsual() throws Exception
+    {
+        double rejected = rejectedLookups();
+
+        performLookup(99999L).andExpect(status().isNotFound());
+        performLookup(35455L)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(1))
+                .andExpect(jsonPath("$.price").value(35.50));
+
+        assertEquals(rejected + 1, rejectedLookups());
+        assertEquals(1, meterRegistry.get(FilteringPriceRepository.METRIC_FPP).gauges().size());
+    }
+
+    private double rejectedLookups()
+    {
+        return meterRegistry.get(FilteringPriceRepository.METRIC_LOOKUPS)
+                .tag("result", "rejected").counter().count();
+    }
+
+    private ResultActions performLookup(final long productId) throws Exception
+    {
+        return mockMvc.perform(get(PRICE_CALCULATION_ENDPOINT)
+                .param("applicationDate", "2020-06-14T10:00:00")
+                .param("productId", String.valueOf(productId))
+                .param("brandId", "1")
+                .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER));
+    }
+}
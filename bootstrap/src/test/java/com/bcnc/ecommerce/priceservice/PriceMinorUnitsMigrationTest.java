@@ -0,0 +1,107 @@
+package com.bcnc.ecommerce.priceservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.bcnc.ecommerce.priceservice.domain.model.Money;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@DisplayName("Migración de PRICE (DOUBLE) a PRICE_MINOR (BIGINT)")
+class PriceMinorUnitsMigrationTest
+{
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        // Esquema anterior a la migración.
+        jdbcTemplate.execute("""
+                CREATE TABLE PRICES (
+                    ID INT AUTO_INCREMENT PRIMARY KEY,
+                    BRAND_ID INT NOT NULL,
+                    START_DATE TIMESTAMP NOT NULL,
+                    END_DATE TIMESTAMP NOT NULL,
+                    PRICE_LIST INT NOT NULL,
+                    PRODUCT_ID INT NOT NULL,
+                    PRIORITY INT NOT NULL,
+                    PRICE DOUBLE NOT NULL,
+                    CURR VARCHAR(3) NOT NULL)""");
+        jdbcTemplate.execute("""
+                INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID,
+                                    PRIORITY, PRICE, CURR) VALUES
+                (1, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 1, 35455, 0, 35.50, 'EUR'),
+                (1, '2020-06-14 15:00:00', '2020-06-14 18:30:00', 2, 35455, 1, 25.45, 'EUR'),
+                (1, '2020-06-15 00:00:00', '2020-06-15 11:00:00', 3, 35455, 1, 0.29, 'EUR'),
+                (1, '2020-06-15 16:00:00', '2020-12-31 23:59:59', 4, 35455, 1, 1500, 'JPY'),
+                (1, '2020-06-15 16:00:00', '2020-12-31 23:59:59', 5, 35455, 1, 1.255, 'KWD')""");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Convierte cada importe a unidades menores de su moneda y elimina PRICE")
+    void shouldMigrateToMinorUnits() {
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V2__price_minor_units.sql"))
+                .execute(database);
+
+        List<Long> minor = jdbcTemplate.queryForList(
+                "SELECT PRICE_MINOR FROM PRICES ORDER BY PRICE_LIST", Long.class);
+        List<String> columns = jdbcTemplate.queryForList(
+                "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS"
+                        + " WHERE TABLE_NAME = 'PRICES'", String.class);
+
+        assertEquals(List.of(3550L, 2545L, 29L, 1500L, 1255L), minor);
+        assertFalse(columns.contains("PRICE"));
+    }
+
+    @Test
+    @DisplayName("Usa los mismos decimales que Money para todas las monedas de Currency")
+    void shouldMatchMoneyForEveryCurrency() {
+        jdbcTemplate.update("DELETE FROM PRICES");
+        List<String> codes = Currency.getAvailableCurrencies().stream()
+                .map(Currency::getCurrencyCode)
+                .sorted()
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST,"
+                        + " PRODUCT_ID, PRIORITY, PRICE, CURR) VALUES (1, '2020-06-14 00:00:00',"
+                        + " '2020-12-31 23:59:59', 1, 35455, 0, 1, ?)",
+                codes.stream().map(code -> new Object[] {code}).toList());
+
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V2__price_minor_units.sql"))
+                .execute(database);
+
+        Map<String, Long> migrated = new TreeMap<>();
+        jdbcTemplate.query("SELECT CURR, PRICE_MINOR FROM PRICES",
+                (RowCallbackHandler) rs -> migrated.put(rs.getString(1), rs.getLong(2)));
+        Map<String, Long> expected = new TreeMap<>();
+        codes.forEach(code -> expected.put(code, Money.of(BigDecimal.ONE, code).minorUnits()));
+
+        assertEquals(expected, migrated);
+    }
+}
@@ -0,0 +1,102 @@
+package com.bcnc.ecommerce.priceservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.SegmentPriceRepositoryAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+
+@DisplayName("Migración a la tabla de tramos PRICE_SEGMENTS")
+class PriceSegmentsMigrationTest
+{
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        // Esquema anterior a la migración, ya con tarifas.
+        jdbcTemplate.execute("""
+                CREATE TABLE PRICES (
+                    ID INT AUTO_INCREMENT PRIMARY KEY,
+                    BRAND_ID INT NOT NULL,
+                    START_DATE TIMESTAMP NOT NULL,
+                    END_DATE TIMESTAMP NOT NULL,
+                    PRICE_LIST INT NOT NULL,
+                    PRODUCT_ID INT NOT NULL,
+                    PRIORITY INT NOT NULL,
+                    PRICE_MINOR BIGINT NOT NULL,
+                    CURR VARCHAR(3) NOT NULL)""");
+        jdbcTemplate.execute("""
+                INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID,
+                                    PRIORITY, PRICE_MINOR, CURR) VALUES
+                (1, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 1, 35455, 0, 3550, 'EUR'),
+                (1, '2020-06-14 15:00:00', '2020-06-14 18:30:00', 2, 35455, 1, 2545, 'EUR'),
+                (1, '2020-06-15 00:00:00', '2020-06-15 11:00:00', 3, 35455, 1, 3050, 'EUR'),
+                (1, '2020-06-15 16:00:00', '2020-12-31 23:59:59', 4, 35455, 1, 3895, 'EUR')""");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Crea la tabla y el trigger y calcula los tramos de las tarifas existentes")
+    void shouldCreateAndFillSegments() {
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V3__prices_changelog.sql"),
+                new ClassPathResource("db/migration/V4__price_segments.sql"))
+                .execute(database);
+        SegmentPriceRepositoryAdapter adapter = new SegmentPriceRepositoryAdapter(jdbcTemplate);
+
+        assertEquals(6, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM PRICE_SEGMENTS", Integer.class));
+        // La carga inicial no modifica PRICES: no registra cambios.
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM PRICES_CHANGELOG", Integer.class));
+        assertEquals(2, adapter.findApplicablePrices(
+                LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L).get(0).getPriceList());
+        assertEquals(4, adapter.findApplicablePrices(
+                LocalDateTime.of(2020, 6, 16, 21, 0), 35455L, 1L).get(0).getPriceList());
+
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRICE_LIST = 4");
+        assertEquals(1, adapter.findApplicablePrices(
+                LocalDateTime.of(2020, 6, 16, 21, 0), 35455L, 1L).get(0).getPriceList());
+    }
+
+    @Test
+    @DisplayName("Una sentencia que cambia varias filas de una clave deja sus tramos al día")
+    void shouldRebuildKeysChangedByMultiRowStatements() {
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V4__price_segments.sql"))
+                .execute(database);
+        SegmentPriceRepositoryAdapter adapter = new SegmentPriceRepositoryAdapter(jdbcTemplate);
+
+        jdbcTemplate.update("UPDATE PRICES SET PRIORITY = 0 WHERE PRICE_LIST > 1");
+
+        // A igual prioridad gana la tarifa de menor ID: la base.
+        assertEquals(1, adapter.findApplicablePrices(
+                LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L).get(0).getPriceList());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM PRICE_SEGMENTS", Integer.class));
+
+        jdbcTemplate.update("DELETE FROM PRICES");
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM PRICE_SEGMENTS", Integer.class));
+    }
+}
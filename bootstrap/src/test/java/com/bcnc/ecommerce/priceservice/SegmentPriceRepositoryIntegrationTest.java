@@ -0,0 +1,10 @@
+package com.bcnc.ecommerce.priceservice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "price.repository.type=segments")
+@DisplayName("Tests de integración con el adaptador sobre la tabla de tramos PRICE_SEGMENTS")
+class SegmentPriceRepositoryIntegrationTest extends AbstractPriceScenarioIntegrationTest
+{
+}
@@ -0,0 +1,47 @@
+package com.bcnc.ecommerce.priceservice;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.index.ColumnarPriceStore;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.snapshot.PriceSnapshotWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@DisplayName("Tests de integración con la instantánea mapeada en memoria")
+class SnapshotPriceRepositoryIntegrationTest extends AbstractPriceScenarioIntegrationTest
+{
+    @DynamicPropertySource
+    static void snapshotProperties(final DynamicPropertyRegistry registry) throws IOException {
+        Path file = Files.createTempFile("prices", ".snapshot");
+        file.toFile().deleteOnExit();
+        PriceSnapshotWriter.write(ColumnarPriceStore.of(List.of(
+                createPrice("2020-06-14T00:00:00", "2020-12-31T23:59:59", 1, 0, 3550L),
+                createPrice("2020-06-14T15:00:00", "2020-06-14T18:30:00", 2, 1, 2545L),
+                createPrice("2020-06-15T00:00:00", "2020-06-15T11:00:00", 3, 1, 3050L),
+                createPrice("2020-06-15T16:00:00", "2020-12-31T23:59:59", 4, 1, 3895L))), file);
+
+        registry.add("price.repository.type", () -> "snapshot");
+        registry.add("price.snapshot.path", file::toString);
+    }
+
+    private static Price createPrice(final String start, final String end,
+                                     final int priceList, final int priority,
+                                     final long priceMinor) {
+        return Price.builder()
+                .brandId(1L)
+                .startDate(LocalDateTime.parse(start))
+                .endDate(LocalDateTime.parse(end))
+                .priceList(priceList)
+                .productId(35455L)
+                .priority(priority)
+                .priceMinor(priceMinor)
+                .curr("EUR")
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.bcnc.ecommerce.priceservice;
+
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.archive.PriceArchiver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Los escenarios del enunciado, todos de 2020, se resuelven desde el
+ * archivo: usa una base de datos propia para no vaciar PRICES en los
+ * demás contextos.
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archivedb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "price.repository.type=jdbc",
+        "price.archive.enabled=true",
+        "price.changes.enabled=true",
+        "price.filter.enabled=true"
+})
+@DisplayName("Tests de integración con las tarifas caducadas en el archivo PRICES_ARCHIVE")
+class TieredPriceRepositoryIntegrationTest extends AbstractPriceScenarioIntegrationTest
+{
+    @Autowired
+    private PriceArchiver priceArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldMoveExpiredTariffsToTheArchive()
+    {
+        priceArchiver.archive();
+
+        assertEquals(0, count("PRICES"));
+        assertEquals(4, count("PRICES_ARCHIVE"));
+    }
+
+    private int count(final String table)
+    {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table
+                + " WHERE PRODUCT_ID = 35455 AND BRAND_ID = 1", Integer.class);
+    }
+}
@@ -0,0 +1,10 @@
+package com.bcnc.ecommerce.priceservice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "price.repository.type=timeline")
+@DisplayName("Tests de integración con las líneas temporales precalculadas")
+class TimelinePriceRepositoryIntegrationTest extends AbstractPriceScenarioIntegrationTest
+{
+}
@@ -0,0 +1,31 @@
+package com.bcnc.ecommerce.priceservice;
+
+import com.bcnc.ecommerce.priceservice.adapter.web.threads.VirtualThreadPinningMonitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Los escenarios del enunciado con el modo de hilos virtuales activo. En
+ * Java 17 Spring Boot ignora la propiedad y el monitor no arranca, pero el
+ * resultado debe ser el mismo.
+ */
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "price.repository.type=jdbc"
+})
+@DisplayName("Tests de integración con las peticiones en hilos virtuales")
+class VirtualThreadIntegrationTest extends AbstractPriceScenarioIntegrationTest
+{
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Test
+    void shouldReportPinningOnlyWhenTheJvmHasVirtualThreads()
+    {
+        assertEquals(Runtime.version().feature() >= 21, pinningMonitor.isRunning());
+    }
+}
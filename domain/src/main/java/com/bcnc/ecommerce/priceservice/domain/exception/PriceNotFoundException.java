@@ -5,19 +5,84 @@ import java.time.LocalDateTime;
 /**
  * Excepción que se lanza cuando no se encuentra ningún precio aplicable
  * para un producto, una cadena y una fecha concretos.
+ * <p>
+ * Que no haya precio es un resultado habitual, no un fallo, así que la
+ * excepción no captura la traza de la pila ni admite excepciones
+ * suprimidas, y el mensaje se construye solo cuando se pide. Quien quiera
+ * evitar también el lanzamiento puede usar las búsquedas que devuelven
+ * {@code null}.
+ * </p>
  */
 public class PriceNotFoundException extends RuntimeException {
+
+    /** ID del producto buscado. */
+    private final Long productId;
+
+    /** ID de la cadena. */
+    private final Long brandId;
+
+    /** Fecha de aplicación del precio. */
+    private final LocalDateTime applicationDate;
+
     /**
      * Crea una nueva excepción indicando que no se encontró precio aplicable.
      *
+     * @param productIdParam       ID del producto buscado.
+     * @param brandIdParam         ID de la cadena.
+     * @param applicationDateParam Fecha de aplicación del precio.
+     */
+    public PriceNotFoundException(final Long productIdParam,
+                                  final Long brandIdParam,
+                                  final LocalDateTime applicationDateParam) {
+        super(null, null, false, false);
+        this.productId = productIdParam;
+        this.brandId = brandIdParam;
+        this.applicationDate = applicationDateParam;
+    }
+
+    /**
+     * @return mensaje descriptivo, construido en cada llamada.
+     */
+    @Override
+    public String getMessage() {
+        return message(productId, brandId, applicationDate);
+    }
+
+    /**
+     * @return ID del producto buscado.
+     */
+    public Long getProductId() {
+        return productId;
+    }
+
+    /**
+     * @return ID de la cadena.
+     */
+    public Long getBrandId() {
+        return brandId;
+    }
+
+    /**
+     * @return fecha de aplicación del precio.
+     */
+    public LocalDateTime getApplicationDate() {
+        return applicationDate;
+    }
+
+    /**
+     * Construye el mensaje que describe la ausencia de precio, para los
+     * casos en que se informa sin lanzar la excepción (por ejemplo, en las
+     * búsquedas en bloque).
+     *
      * @param productId       ID del producto buscado.
      * @param brandId         ID de la cadena.
      * @param applicationDate Fecha de aplicación del precio.
+     * @return mensaje descriptivo.
      */
-    public PriceNotFoundException(final Long productId,
-                                  final Long brandId,
-                                  final LocalDateTime applicationDate) {
-        super("No se encontró un precio para el producto " + productId
-                + ", cadena " + brandId + " en la fecha " + applicationDate);
+    public static String message(final Long productId,
+                                 final Long brandId,
+                                 final LocalDateTime applicationDate) {
+        return "No se encontró un precio para el producto " + productId
+                + ", cadena " + brandId + " en la fecha " + applicationDate;
     }
 }
@@ -0,0 +1,179 @@
+package com.bcnc.ecommerce.priceservice.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Importe monetario en punto fijo: número entero de unidades menores de la
+ * moneda (céntimos para EUR) y código ISO 4217 de la moneda.
+ * <p>
+ * Evita la pérdida de precisión de {@code double} y el coste de
+ * {@link BigDecimal} en el camino crítico: comparar, copiar y serializar un
+ * importe no crea objetos. {@link #toBigDecimal()} se mantiene como vista
+ * para compatibilidad.
+ * </p>
+ * <p>
+ * Los decimales de cada moneda son los de {@link Currency}; para códigos
+ * que no son ISO 4217 se asumen {@value #DEFAULT_FRACTION_DIGITS}.
+ * </p>
+ *
+ * @param minorUnits importe en unidades menores (por ejemplo, 2545 para
+ *                   25,45 EUR)
+ * @param currency   código de la moneda (por ejemplo, "EUR")
+ */
+public record Money(long minorUnits, String currency) {
+
+    /**
+     * Decimales de las monedas que no son ISO 4217.
+     */
+    public static final int DEFAULT_FRACTION_DIGITS = 2;
+
+    /**
+     * Decimales por código de moneda ya resueltos.
+     */
+    private static final Map<String, Integer> FRACTION_DIGITS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Valida el código de moneda.
+     *
+     * @param minorUnits importe en unidades menores
+     * @param currency   código de la moneda
+     */
+    public Money {
+        Objects.requireNonNull(currency, "currency no puede ser nula");
+        if (currency.isBlank()) {
+            throw new IllegalArgumentException("currency vacía");
+        }
+    }
+
+    /**
+     * Crea un importe a partir de unidades menores.
+     *
+     * @param minorUnits importe en unidades menores
+     * @param currency   código de la moneda
+     * @return importe
+     */
+    public static Money ofMinor(final long minorUnits,
+                                final String currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * Crea un importe a partir de su valor decimal.
+     *
+     * @param amount   importe en unidades mayores
+     * @param currency código de la moneda
+     * @return importe
+     * @throws IllegalArgumentException si el importe tiene más decimales
+     *                                  de los que admite la moneda
+     */
+    public static Money of(final BigDecimal amount, final String currency) {
+        Objects.requireNonNull(amount, "amount no puede ser nulo");
+        Objects.requireNonNull(currency, "currency no puede ser nula");
+        try {
+            long minor = amount.setScale(fractionDigits(currency),
+                    RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+            return new Money(minor, currency);
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("El importe " + amount
+                    + " no es representable en " + currency, ex);
+        }
+    }
+
+    /**
+     * @return número de decimales de la moneda
+     */
+    public int fractionDigits() {
+        return fractionDigits(currency);
+    }
+
+    /**
+     * @return true si el importe es negativo
+     */
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    /**
+     * Vista decimal del importe, con tantos decimales como la moneda.
+     *
+     * @return importe en unidades mayores
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, fractionDigits());
+    }
+
+    /**
+     * Escribe el importe en unidades mayores (por ejemplo, "25.45") en
+     * {@code buffer} a partir de la posición 0, sin crear objetos.
+     *
+     * @param buffer destino; con 24 posiciones cabe cualquier importe
+     * @return número de caracteres escritos
+     */
+    public int writeDecimal(final char[] buffer) {
+        int digits = fractionDigits();
+        long value = minorUnits;
+        int pos = buffer.length;
+        // Se escribe de derecha a izquierda y después se desplaza al inicio.
+        for (int i = 0; i < digits; i++) {
+            buffer[--pos] = (char) ('0' + Math.abs(value % 10));
+            value /= 10;
+        }
+        if (digits > 0) {
+            buffer[--pos] = '.';
+        }
+        do {
+            buffer[--pos] = (char) ('0' + Math.abs(value % 10));
+            value /= 10;
+        } while (value != 0);
+        if (minorUnits < 0) {
+            buffer[--pos] = '-';
+        }
+        int length = buffer.length - pos;
+        System.arraycopy(buffer, pos, buffer, 0, length);
+        return length;
+    }
+
+    /**
+     * @return importe en unidades mayores (por ejemplo, "25.45")
+     */
+    public String toPlainString() {
+        char[] buffer = new char[24];
+        return new String(buffer, 0, writeDecimal(buffer));
+    }
+
+    /**
+     * @return importe y moneda (por ejemplo, "25.45 EUR")
+     */
+    @Override
+    public String toString() {
+        return toPlainString() + " " + currency;
+    }
+
+    /**
+     * @param currency código de la moneda
+     * @return decimales de la moneda
+     */
+    private static int fractionDigits(final String currency) {
+        Integer cached = FRACTION_DIGITS.get(currency);
+        if (cached != null) {
+            return cached;
+        }
+        int digits;
+        try {
+            digits = Currency.getInstance(currency).getDefaultFractionDigits();
+        } catch (IllegalArgumentException ex) {
+            digits = DEFAULT_FRACTION_DIGITS;
+        }
+        if (digits < 0) {
+            digits = DEFAULT_FRACTION_DIGITS;
+        }
+        FRACTION_DIGITS.put(currency, digits);
+        return digits;
+    }
+}
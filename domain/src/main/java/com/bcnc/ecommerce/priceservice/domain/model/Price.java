@@ -12,6 +12,11 @@ import java.util.Objects;
  * final en una determinada moneda.
  * </p>
  * <p>
+ * El importe se guarda en punto fijo ({@link Money}, unidades menores de
+ * la moneda); {@link #getPrice()} ofrece la vista {@link BigDecimal} por
+ * compatibilidad.
+ * </p>
+ * <p>
  * Se utiliza en la lógica de negocio y en la capa de aplicación
  * para resolver qué tarifa se aplica en una fecha concreta.
  * </p>
@@ -48,24 +53,18 @@ public final class Price {
     private final Integer priority;
 
     /**
-     * Valor monetario del precio.
-     */
-    private final BigDecimal price;
-
-    /**
-     * Código de la moneda (por ejemplo, "EUR").
+     * Importe del precio en unidades menores de su moneda.
      */
-    private final String curr;
+    private final Money money;
 
-    private Price(final Builder builder) {
+    private Price(final Builder builder, final Money builtMoney) {
         this.brandId = builder.brandId;
         this.startDate = builder.startDate;
         this.endDate = builder.endDate;
         this.priceList = builder.priceList;
         this.productId = builder.productId;
         this.priority = builder.priority;
-        this.price = builder.price;
-        this.curr = builder.curr;
+        this.money = builtMoney;
     }
 
     /**
@@ -104,10 +103,15 @@ public final class Price {
         private Integer priority;
 
         /**
-         * Valor monetario del precio.
+         * Valor monetario del precio en unidades mayores, si se indicó así.
          */
         private BigDecimal price;
 
+        /**
+         * Valor monetario del precio en unidades menores, si se indicó así.
+         */
+        private Long priceMinor;
+
         /**
          * Código de la moneda (por ejemplo, "EUR").
          */
@@ -180,16 +184,43 @@ public final class Price {
         }
 
         /**
-         * Establece el precio.
+         * Establece el precio en unidades mayores (por ejemplo, 25.45). Debe
+         * ser representable con los decimales de la moneda.
          *
          * @param inputPrice precio
          * @return el builder actualizado
          */
         public Builder price(final BigDecimal inputPrice) {
             this.price = inputPrice;
+            this.priceMinor = null;
+            return this;
+        }
+
+        /**
+         * Establece el precio en unidades menores de la moneda (por
+         * ejemplo, 2545 céntimos).
+         *
+         * @param inputPriceMinor precio en unidades menores
+         * @return el builder actualizado
+         */
+        public Builder priceMinor(final Long inputPriceMinor) {
+            this.priceMinor = inputPriceMinor;
+            this.price = null;
             return this;
         }
 
+        /**
+         * Establece el precio y la moneda a partir de un importe.
+         *
+         * @param inputMoney importe
+         * @return el builder actualizado
+         */
+        public Builder money(final Money inputMoney) {
+            Objects.requireNonNull(inputMoney, "money no puede ser nulo");
+            return priceMinor(inputMoney.minorUnits())
+                    .curr(inputMoney.currency());
+        }
+
         /**
          * Establece el código de la moneda.
          *
@@ -213,7 +244,9 @@ public final class Price {
             Objects.requireNonNull(endDate, "endDate no puede ser nulo");
             Objects.requireNonNull(priceList, "priceList no puede ser nulo");
             Objects.requireNonNull(priority, "priority no puede ser nulo");
-            Objects.requireNonNull(price, "price no puede ser nulo");
+            if (price == null && priceMinor == null) {
+                throw new NullPointerException("price no puede ser nulo");
+            }
             Objects.requireNonNull(curr, "curr no puede ser nulo");
 
             if (brandId < 0) {
@@ -228,9 +261,6 @@ public final class Price {
             if (priority < 0) {
                 throw new IllegalArgumentException("priority negativa");
             }
-            if (price.compareTo(BigDecimal.ZERO) < 0) {
-                throw new IllegalArgumentException("precio < 0");
-            }
             if (endDate.isBefore(startDate)) {
                 throw new IllegalArgumentException(
                         "endDate antes de startDate"
@@ -239,8 +269,14 @@ public final class Price {
             if (curr.isBlank()) {
                 throw new IllegalArgumentException("curr vacío");
             }
+            Money builtMoney = priceMinor != null
+                    ? Money.ofMinor(priceMinor, curr)
+                    : Money.of(price, curr);
+            if (builtMoney.isNegative()) {
+                throw new IllegalArgumentException("precio < 0");
+            }
 
-            return new Price(this);
+            return new Price(this, builtMoney);
         }
     }
 
@@ -296,17 +332,35 @@ public final class Price {
     }
 
     /**
+     * Vista decimal del importe, con tantos decimales como la moneda. Crea
+     * un {@link BigDecimal} en cada llamada: en el camino crítico se usa
+     * {@link #getMoney()}.
+     *
      * @return valor del precio
      */
     public BigDecimal getPrice() {
-        return price;
+        return money.toBigDecimal();
+    }
+
+    /**
+     * @return importe en punto fijo (unidades menores y moneda)
+     */
+    public Money getMoney() {
+        return money;
+    }
+
+    /**
+     * @return valor del precio en unidades menores de la moneda
+     */
+    public long getPriceMinor() {
+        return money.minorUnits();
     }
 
     /**
      * @return código de moneda (por ejemplo "EUR")
      */
     public String getCurr() {
-        return curr;
+        return money.currency();
     }
 
     /**
@@ -323,8 +377,8 @@ public final class Price {
                 .append(", priceList=").append(priceList)
                 .append(", productId=").append(productId)
                 .append(", priority=").append(priority)
-                .append(", price=").append(price)
-                .append(", curr='").append(curr).append('\'')
+                .append(", price=").append(money.toPlainString())
+                .append(", curr='").append(money.currency()).append('\'')
                 .append('}')
                 .toString();
     }
@@ -349,8 +403,7 @@ public final class Price {
                 && Objects.equals(priceList, other.priceList)
                 && Objects.equals(productId, other.productId)
                 && Objects.equals(priority, other.priority)
-                && Objects.equals(price, other.price)
-                && Objects.equals(curr, other.curr);
+                && money.equals(other.money);
     }
 
     /**
@@ -362,7 +415,7 @@ public final class Price {
     public int hashCode() {
         return Objects.hash(
                 brandId, startDate, endDate, priceList,
-                productId, priority, price, curr
+                productId, priority, money
         );
     }
 
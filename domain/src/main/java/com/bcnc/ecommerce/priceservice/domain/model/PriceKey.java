@@ -0,0 +1,24 @@
+package com.bcnc.ecommerce.priceservice.domain.model;
+
+/**
+ * Clave que identifica el conjunto de tarifas de un producto en una cadena.
+ * <p>
+ * Se utiliza para agrupar precios por (productId, brandId) en estructuras
+ * de búsqueda en memoria, cachés o filtros.
+ * </p>
+ *
+ * @param productId identificador del producto
+ * @param brandId   identificador de la cadena
+ */
+public record PriceKey(long productId, long brandId) {
+
+    /**
+     * Obtiene la clave a la que pertenece un precio.
+     *
+     * @param price precio del dominio
+     * @return clave (productId, brandId) del precio
+     */
+    public static PriceKey of(final Price price) {
+        return new PriceKey(price.getProductId(), price.getBrandId());
+    }
+}
@@ -0,0 +1,40 @@
+package com.bcnc.ecommerce.priceservice.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Consulta de precio aplicable: un producto de una cadena en una fecha.
+ * <p>
+ * Se usa en las búsquedas en bloque para identificar cada una de las
+ * peticiones de un lote.
+ * </p>
+ *
+ * @param applicationDate fecha de aplicación
+ * @param productId       identificador del producto
+ * @param brandId         identificador de la cadena
+ */
+public record PriceQuery(LocalDateTime applicationDate, Long productId,
+                         Long brandId) {
+
+    /**
+     * Valida que la consulta esté completa.
+     *
+     * @param applicationDate fecha de aplicación
+     * @param productId       identificador del producto
+     * @param brandId         identificador de la cadena
+     */
+    public PriceQuery {
+        Objects.requireNonNull(applicationDate,
+                "applicationDate no puede ser nula");
+        Objects.requireNonNull(productId, "productId no puede ser nulo");
+        Objects.requireNonNull(brandId, "brandId no puede ser nulo");
+    }
+
+    /**
+     * @return clave (productId, brandId) de la consulta
+     */
+    public PriceKey key() {
+        return new PriceKey(productId, brandId);
+    }
+}
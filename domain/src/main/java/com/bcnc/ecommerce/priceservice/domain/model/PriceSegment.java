@@ -0,0 +1,49 @@
+package com.bcnc.ecommerce.priceservice.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Tramo de tiempo en el que un único precio es el aplicable para un
+ * producto y una cadena.
+ * <p>
+ * El intervalo es semiabierto: incluye {@code from} y excluye
+ * {@code until}. Un {@code until} igual a {@link LocalDateTime#MAX} indica
+ * que el tramo no tiene fin.
+ * </p>
+ *
+ * @param from  inicio del tramo (incluido)
+ * @param until fin del tramo (excluido)
+ * @param price precio ganador en todo el tramo
+ */
+public record PriceSegment(LocalDateTime from, LocalDateTime until,
+                           Price price) {
+
+    /**
+     * Valida que el tramo esté bien formado.
+     *
+     * @param from  inicio del tramo (incluido)
+     * @param until fin del tramo (excluido)
+     * @param price precio ganador en todo el tramo
+     */
+    public PriceSegment {
+        Objects.requireNonNull(from, "from no puede ser nulo");
+        Objects.requireNonNull(until, "until no puede ser nulo");
+        Objects.requireNonNull(price, "price no puede ser nulo");
+        if (!from.isBefore(until)) {
+            throw new IllegalArgumentException("until debe ser posterior "
+                    + "a from");
+        }
+    }
+
+    /**
+     * Indica si la fecha pertenece al tramo.
+     *
+     * @param date fecha a comprobar
+     * @return true si {@code from <= date < until}
+     */
+    public boolean contains(final LocalDateTime date) {
+        return !date.isBefore(from)
+                && (date.isBefore(until) || until.equals(LocalDateTime.MAX));
+    }
+}
@@ -0,0 +1,206 @@
+package com.bcnc.ecommerce.priceservice.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Línea temporal del precio efectivo de un producto en una cadena.
+ * <p>
+ * Resultado de "aplanar" todas las tarifas de una clave
+ * (productId, brandId): una lista ordenada de tramos
+ * ({@link PriceSegment}) que no se solapan, cada uno con su precio ganador
+ * ya resuelto. Los conflictos de prioridad se deciden una única vez al
+ * construir la línea temporal, con el mismo criterio que
+ * {@code PriceSelectionService}: gana la tarifa de mayor prioridad y, a
+ * igual prioridad, la que aparece antes en la colección de entrada.
+ * </p>
+ * <p>
+ * Cada consulta es una búsqueda binaria sobre los inicios de tramo.
+ * Las instancias son inmutables y seguras para su uso concurrente.
+ * </p>
+ */
+public final class PriceTimeline {
+
+    /** Línea temporal sin tramos. */
+    private static final PriceTimeline EMPTY = new PriceTimeline(
+            new LocalDateTime[0], new LocalDateTime[0], new Price[0]);
+
+    /** Inicio (incluido) de cada tramo, en orden creciente. */
+    private final LocalDateTime[] starts;
+
+    /** Fin (excluido) de cada tramo. */
+    private final LocalDateTime[] ends;
+
+    /** Precio ganador de cada tramo. */
+    private final Price[] winners;
+
+    private PriceTimeline(final LocalDateTime[] segmentStarts,
+                          final LocalDateTime[] segmentEnds,
+                          final Price[] segmentWinners) {
+        this.starts = segmentStarts;
+        this.ends = segmentEnds;
+        this.winners = segmentWinners;
+    }
+
+    /**
+     * Devuelve una línea temporal vacía.
+     *
+     * @return línea temporal sin tramos
+     */
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Aplana las tarifas de una misma clave (productId, brandId) en tramos
+     * que no se solapan.
+     *
+     * @param prices tarifas de una única clave
+     * @return línea temporal con el precio ganador de cada tramo
+     */
+    public static PriceTimeline of(final Collection<Price> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+        Price[] input = prices.toArray(new Price[0]);
+
+        // Cada tarifa [inicio, fin] se convierte en el intervalo semiabierto
+        // [inicio, fin + 1ns): entra en su inicio y sale tras su fin.
+        TreeMap<LocalDateTime, List<Integer>> arrivals = new TreeMap<>();
+        TreeMap<LocalDateTime, List<Integer>> departures = new TreeMap<>();
+        for (int i = 0; i < input.length; i++) {
+            arrivals.computeIfAbsent(input[i].getStartDate(),
+                    date -> new ArrayList<>()).add(i);
+            departures.computeIfAbsent(exclusiveEnd(input[i].getEndDate()),
+                    date -> new ArrayList<>()).add(i);
+        }
+        TreeSet<LocalDateTime> boundaries = new TreeSet<>(arrivals.keySet());
+        boundaries.addAll(departures.keySet());
+
+        // Tarifas activas ordenadas de "mejor" a "peor".
+        TreeSet<Integer> active = new TreeSet<>(Comparator
+                .comparing((Integer i) -> input[i].getPriority())
+                .reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        List<LocalDateTime> segmentStarts = new ArrayList<>();
+        List<LocalDateTime> segmentEnds = new ArrayList<>();
+        List<Price> segmentWinners = new ArrayList<>();
+        LocalDateTime[] points = boundaries.toArray(new LocalDateTime[0]);
+        for (int b = 0; b < points.length; b++) {
+            LocalDateTime point = points[b];
+            active.removeAll(departures.getOrDefault(point, List.of()));
+            active.addAll(arrivals.getOrDefault(point, List.of()));
+            if (active.isEmpty() || b + 1 == points.length) {
+                continue;
+            }
+            Price winner = input[active.first()];
+            int last = segmentWinners.size() - 1;
+            if (last >= 0 && segmentWinners.get(last) == winner
+                    && segmentEnds.get(last).equals(point)) {
+                // Tramo contiguo con el mismo ganador: se fusiona.
+                segmentEnds.set(last, points[b + 1]);
+            } else {
+                segmentStarts.add(point);
+                segmentEnds.add(points[b + 1]);
+                segmentWinners.add(winner);
+            }
+        }
+
+        return new PriceTimeline(
+                segmentStarts.toArray(new LocalDateTime[0]),
+                segmentEnds.toArray(new LocalDateTime[0]),
+                segmentWinners.toArray(new Price[0]));
+    }
+
+    /**
+     * Busca el precio aplicable en una fecha.
+     *
+     * @param date fecha de aplicación
+     * @return precio ganador, o vacío si ninguna tarifa aplica
+     */
+    public Optional<Price> priceAt(final LocalDateTime date) {
+        int segment = indexOf(date);
+        return segment < 0 ? Optional.empty()
+                : Optional.of(winners[segment]);
+    }
+
+    /**
+     * Busca el tramo que contiene una fecha.
+     *
+     * @param date fecha de aplicación
+     * @return tramo con su precio ganador y su ventana de validez, o vacío
+     * si ninguna tarifa aplica
+     */
+    public Optional<PriceSegment> segmentAt(final LocalDateTime date) {
+        int segment = indexOf(date);
+        return segment < 0 ? Optional.empty()
+                : Optional.of(segment(segment));
+    }
+
+    /**
+     * @return tramos de la línea temporal en orden cronológico
+     */
+    public List<PriceSegment> segments() {
+        List<PriceSegment> segments = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            segments.add(segment(i));
+        }
+        return segments;
+    }
+
+    /**
+     * @return número de tramos
+     */
+    public int segmentCount() {
+        return starts.length;
+    }
+
+    /**
+     * Precios distintos que ganan en algún tramo, en orden cronológico de
+     * su primer tramo. Las tarifas completamente ocultas por otras de mayor
+     * prioridad no aparecen.
+     *
+     * @return precios ganadores sin repeticiones
+     */
+    public List<Price> winningPrices() {
+        return Arrays.stream(winners).distinct().toList();
+    }
+
+    private PriceSegment segment(final int i) {
+        return new PriceSegment(starts[i], ends[i], winners[i]);
+    }
+
+    private int indexOf(final LocalDateTime date) {
+        // Último tramo cuyo inicio es <= date.
+        int lo = 0;
+        int hi = starts.length - 1;
+        int found = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid].isAfter(date)) {
+                hi = mid - 1;
+            } else {
+                found = mid;
+                lo = mid + 1;
+            }
+        }
+        if (found < 0) {
+            return -1;
+        }
+        LocalDateTime end = ends[found];
+        return date.isBefore(end) || end.equals(LocalDateTime.MAX)
+                ? found : -1;
+    }
+
+    private static LocalDateTime exclusiveEnd(final LocalDateTime end) {
+        return end.equals(LocalDateTime.MAX) ? end : end.plusNanos(1);
+    }
+}
@@ -1,8 +1,13 @@
 package com.bcnc.ecommerce.priceservice.domain.repository;
 
 import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Puerto de salida del dominio que define las operaciones para
@@ -28,4 +33,63 @@ public interface PriceRepository {
     List<Price> findApplicablePrices(LocalDateTime applicationDate,
                                      Long productId,
                                      Long brandId);
+
+    /**
+     * Recupera en bloque los precios candidatos de varias consultas.
+     * <p>
+     * La implementación por defecto resuelve cada consulta por separado.
+     * Los adaptadores con acceso remoto deben sobrescribirla para resolver
+     * todo el lote con un único acceso al almacenamiento.
+     * </p>
+     *
+     * @param queries consultas del lote (puede contener repetidas).
+     * @return candidatos de cada consulta distinta; una consulta sin
+     * candidatos puede no aparecer o tener una lista vacía.
+     */
+    default Map<PriceQuery, List<Price>> findApplicablePrices(
+            final Collection<PriceQuery> queries) {
+        Map<PriceQuery, List<Price>> result = new HashMap<>();
+        for (PriceQuery query : queries) {
+            result.computeIfAbsent(query, q -> findApplicablePrices(
+                    q.applicationDate(), q.productId(), q.brandId()));
+        }
+        return result;
+    }
+
+    /**
+     * Recupera todas las tarifas de un producto y cadena, sea cual sea su
+     * periodo de validez.
+     * <p>
+     * Permite construir la línea temporal completa de una clave (por
+     * ejemplo, para cachear cada precio junto con su ventana de validez).
+     * </p>
+     *
+     * @param productId Identificador del producto.
+     * @param brandId   Identificador de la cadena.
+     * @return tarifas del producto y cadena, en cualquier orden.
+     */
+    List<Price> findAllPrices(Long productId, Long brandId);
+
+    /**
+     * Recupera en bloque todas las tarifas de varias claves
+     * (productId, brandId).
+     * <p>
+     * La implementación por defecto resuelve cada clave por separado; los
+     * adaptadores con acceso remoto deben sobrescribirla para usar un
+     * único acceso al almacenamiento.
+     * </p>
+     *
+     * @param keys claves a recuperar.
+     * @return tarifas de cada clave; una clave sin tarifas puede no
+     * aparecer o tener una lista vacía.
+     */
+    default Map<PriceKey, List<Price>> findAllPrices(
+            final Collection<PriceKey> keys) {
+        Map<PriceKey, List<Price>> result = new HashMap<>();
+        for (PriceKey key : keys) {
+            result.computeIfAbsent(key, k -> findAllPrices(
+                    k.productId(), k.brandId()));
+        }
+        return result;
+    }
 }
@@ -4,16 +4,35 @@ import com.bcnc.ecommerce.priceservice.domain.exception.PriceNotFoundException;
 import com.bcnc.ecommerce.priceservice.domain.model.Price;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Servicio de dominio encargado de aplicar las reglas de negocio
  * para seleccionar el precio correcto por su fecha y prioridad.
+ * <p>
+ * Si varias tarifas aplicables comparten la prioridad más alta, gana la
+ * primera de la lista de candidatos, por lo que el desempate depende del
+ * orden en que las entrega cada almacenamiento y no es el mismo en todos:
+ * </p>
+ * <ul>
+ *   <li>{@code jpa} y {@code jdbc}: el de la base de datos, sin criterio
+ *   fijo ({@code ORDER BY PRIORITY DESC}).</li>
+ *   <li>{@code memory}, {@code columnar} y la instantánea: la de inicio
+ *   más temprano; a igual inicio, la cargada antes ({@code memory}).</li>
+ *   <li>{@code timeline}: la cargada antes.</li>
+ *   <li>{@code segments}: la de menor ID.</li>
+ * </ul>
+ * <p>
+ * Los datos de tarifas no deberían tener solapamientos con la misma
+ * prioridad; este criterio solo hace que cada adaptador responda siempre
+ * igual.
+ * </p>
  */
 public class PriceSelectionService {
 
@@ -56,17 +75,91 @@ public class PriceSelectionService {
         Objects.requireNonNull(brandId, "brandId no puede ser nulo.");
         Objects.requireNonNull(prices, "prices no puede ser nulo.");
 
-        return prices.stream()
-                .filter(price -> price.isApplicableOn(applicationDate))
-                .max(Comparator.comparingInt(Price::getPriority))
-                .orElseThrow(() -> logAndThrow(productId, brandId,
-                        applicationDate));
+        Price price = findApplicablePriceOrNull(prices, applicationDate);
+        if (price == null) {
+            throw logAndThrow(productId, brandId, applicationDate);
+        }
+        return price;
+    }
+
+    /**
+     * Busca el precio aplicable para la fecha dada (el de mayor prioridad,
+     * si hay más de uno) sin lanzar excepción si no existe.
+     * <p>
+     * Pensado para las búsquedas en bloque, donde la ausencia de precio
+     * es un resultado más de cada elemento del lote.
+     * </p>
+     *
+     * @param prices          lista de precios candidatos.
+     * @param applicationDate fecha de aplicación.
+     * @return precio aplicable, o vacío si ninguno aplica.
+     */
+    public Optional<Price> findApplicablePrice(
+            final List<Price> prices,
+            final LocalDateTime applicationDate) {
+        return Optional.ofNullable(
+                findApplicablePriceOrNull(prices, applicationDate));
+    }
+
+    /**
+     * Busca el precio aplicable para la fecha dada (el de mayor prioridad,
+     * si hay más de uno) sin reservar memoria en el camino habitual.
+     * <p>
+     * Recorre los candidatos por índice, sin {@code Stream}, lambdas,
+     * comparadores ni {@link Optional}. Ante igual prioridad se queda con
+     * el primero, igual que {@code Stream.max}. Con listas que no son de
+     * acceso aleatorio se recorre con iterador.
+     * </p>
+     *
+     * @param prices          lista de precios candidatos.
+     * @param applicationDate fecha de aplicación.
+     * @return precio aplicable, o {@code null} si ninguno aplica.
+     */
+    public Price findApplicablePriceOrNull(
+            final List<Price> prices,
+            final LocalDateTime applicationDate) {
+        Objects.requireNonNull(applicationDate,
+                "applicationDate no puede ser nula.");
+        Objects.requireNonNull(prices, "prices no puede ser nulo.");
+
+        if (!(prices instanceof RandomAccess)) {
+            Price best = null;
+            for (Price price : prices) {
+                best = higherPriority(best, price, applicationDate);
+            }
+            return best;
+        }
+
+        Price best = null;
+        for (int i = 0, size = prices.size(); i < size; i++) {
+            best = higherPriority(best, prices.get(i), applicationDate);
+        }
+        return best;
+    }
+
+    /**
+     * @param best      mejor candidato hasta ahora, o {@code null}.
+     * @param candidate candidato a comparar.
+     * @param date      fecha de aplicación.
+     * @return {@code candidate} si aplica y supera estrictamente la
+     * prioridad de {@code best}; si no, {@code best}.
+     */
+    private static Price higherPriority(final Price best,
+                                        final Price candidate,
+                                        final LocalDateTime date) {
+        if (!candidate.isApplicableOn(date)) {
+            return best;
+        }
+        if (best == null || candidate.getPriority() > best.getPriority()) {
+            return candidate;
+        }
+        return best;
     }
 
     private PriceNotFoundException logAndThrow(final Long productId,
                                                final Long brandId,
                                                final LocalDateTime date) {
-        LOGGER.warn("No se encontró ningún precio aplicable para productId={},"
+        LOGGER.debug("No se encontró ningún precio aplicable para productId={},"
                         + " brandId={} en la fecha={}",
                 productId, brandId, date);
 
@@ -0,0 +1,80 @@
+package com.bcnc.ecommerce.priceservice.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("Convierte entre unidades mayores y menores según la moneda")
+    void shouldConvertUsingCurrencyFractionDigits() {
+        assertAll(
+                () -> assertEquals(2545, Money.of(new BigDecimal("25.45"), "EUR").minorUnits()),
+                () -> assertEquals(3550, Money.of(new BigDecimal("35.5"), "EUR").minorUnits()),
+                () -> assertEquals(1500, Money.of(new BigDecimal("1500"), "JPY").minorUnits()),
+                () -> assertEquals(1250, Money.of(new BigDecimal("1.25"), "KWD").minorUnits()),
+                () -> assertEquals(Money.DEFAULT_FRACTION_DIGITS,
+                        Money.ofMinor(1, "XYZ1").fractionDigits())
+        );
+    }
+
+    @Test
+    @DisplayName("La vista BigDecimal tiene la escala de la moneda")
+    void shouldExposeBigDecimalView() {
+        assertEquals(new BigDecimal("25.45"), Money.ofMinor(2545, "EUR").toBigDecimal());
+        assertEquals(new BigDecimal("10.00"), Money.ofMinor(1000, "EUR").toBigDecimal());
+        assertEquals(new BigDecimal("1500"), Money.ofMinor(1500, "JPY").toBigDecimal());
+    }
+
+    @Test
+    @DisplayName("Rechaza importes con más decimales de los que admite la moneda")
+    void shouldRejectExcessPrecision() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Money.of(new BigDecimal("25.455"), "EUR"));
+        assertThrows(IllegalArgumentException.class,
+                () -> Money.of(new BigDecimal("1.5"), "JPY"));
+    }
+
+    @Test
+    @DisplayName("Rechaza monedas nulas o vacías")
+    void shouldRejectInvalidCurrency() {
+        assertThrows(NullPointerException.class, () -> Money.ofMinor(1, null));
+        assertThrows(IllegalArgumentException.class, () -> Money.ofMinor(1, " "));
+    }
+
+    @Test
+    @DisplayName("writeDecimal coincide con BigDecimal.toPlainString")
+    void shouldWriteSameDigitsAsBigDecimal() {
+        Random random = new Random(42);
+        char[] buffer = new char[24];
+        long[] edges = {0, 1, -1, 9, 10, 99, 100, -5, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long minor : edges) {
+            assertWrites(Money.ofMinor(minor, "EUR"), buffer);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            String currency = i % 3 == 0 ? "JPY" : i % 3 == 1 ? "EUR" : "BHD";
+            assertWrites(Money.ofMinor(random.nextLong(), currency), buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("toString incluye importe y moneda")
+    void testToString() {
+        assertEquals("25.45 EUR", Money.ofMinor(2545, "EUR").toString());
+        assertTrue(Money.ofMinor(-1, "EUR").isNegative());
+    }
+
+    private static void assertWrites(final Money money, final char[] buffer) {
+        int length = money.writeDecimal(buffer);
+        assertEquals(money.toBigDecimal().toPlainString(),
+                new String(buffer, 0, length));
+    }
+}
@@ -312,4 +312,40 @@ class PriceTest {
 
         assertFalse(price.isApplicableOn(now));
     }
+
+    @Test
+    @DisplayName("El precio en unidades menores y en decimal es equivalente")
+    void shouldBuildSamePriceFromMinorUnits() {
+        LocalDateTime now = LocalDateTime.now();
+        Price fromDecimal = baseBuilder()
+                .startDate(now)
+                .endDate(now.plusDays(1))
+                .price(new BigDecimal("25.45"))
+                .build();
+        Price fromMinor = baseBuilder()
+                .startDate(now)
+                .endDate(now.plusDays(1))
+                .priceMinor(2545L)
+                .build();
+
+        assertAll(
+                () -> assertEquals(fromDecimal, fromMinor),
+                () -> assertEquals(2545L, fromMinor.getPriceMinor()),
+                () -> assertEquals(Money.ofMinor(2545, "EUR"), fromMinor.getMoney()),
+                () -> assertEquals(new BigDecimal("25.45"), fromMinor.getPrice())
+        );
+    }
+
+    @Test
+    @DisplayName("Lanza excepción si el precio tiene más decimales que la moneda")
+    void shouldThrowExceptionForExcessPrecision() {
+        LocalDateTime now = LocalDateTime.now();
+        assertThrows(IllegalArgumentException.class, () ->
+                baseBuilder()
+                        .startDate(now)
+                        .endDate(now.plusDays(1))
+                        .price(new BigDecimal("25.455"))
+                        .build()
+        );
+    }
 }
@@ -0,0 +1,133 @@
+package com.bcnc.ecommerce.priceservice.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bcnc.ecommerce.priceservice.domain.exception.PriceNotFoundException;
+import com.bcnc.ecommerce.priceservice.domain.service.PriceSelectionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+class PriceTimelineTest {
+
+    private static final long PRODUCT_ID = 35455L;
+    private static final long BRAND_ID = 1L;
+
+    private Price createPrice(
+            final LocalDateTime start,
+            final LocalDateTime end,
+            final int priceList,
+            final int priority
+    ) {
+        return Price.builder()
+                .brandId(BRAND_ID)
+                .startDate(start)
+                .endDate(end)
+                .priceList(priceList)
+                .productId(PRODUCT_ID)
+                .priority(priority)
+                .price(new BigDecimal("10.00"))
+                .curr("EUR")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Aplana las tarifas del enunciado en tramos sin solapamiento")
+    void shouldFlattenStatementTariffs() {
+        Price tariff1 = createPrice(LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, 0);
+        Price tariff2 = createPrice(LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30), 2, 1);
+        Price tariff3 = createPrice(LocalDateTime.of(2020, 6, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 15, 11, 0), 3, 1);
+        Price tariff4 = createPrice(LocalDateTime.of(2020, 6, 15, 16, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59), 4, 1);
+
+        PriceTimeline timeline = PriceTimeline.of(List.of(tariff1, tariff2, tariff3, tariff4));
+
+        assertAll(
+                () -> assertEquals(6, timeline.segmentCount()),
+                () -> assertEquals(Optional.of(tariff1), timeline.priceAt(LocalDateTime.of(2020, 6, 14, 10, 0))),
+                () -> assertEquals(Optional.of(tariff2), timeline.priceAt(LocalDateTime.of(2020, 6, 14, 18, 30))),
+                () -> assertEquals(Optional.of(tariff1),
+                        timeline.priceAt(LocalDateTime.of(2020, 6, 14, 18, 30).plusNanos(1))),
+                () -> assertEquals(Optional.of(tariff3), timeline.priceAt(LocalDateTime.of(2020, 6, 15, 10, 0))),
+                () -> assertEquals(Optional.of(tariff4), timeline.priceAt(LocalDateTime.of(2020, 6, 16, 21, 0))),
+                () -> assertEquals(Optional.empty(), timeline.priceAt(LocalDateTime.of(2020, 6, 13, 10, 0))),
+                () -> assertEquals(Optional.empty(), timeline.priceAt(LocalDateTime.of(2021, 1, 1, 0, 0)))
+        );
+    }
+
+    @Test
+    @DisplayName("El tramo devuelto expone la ventana de validez del precio ganador")
+    void shouldExposeSegmentWindow() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Price base = createPrice(start, start.plusDays(1), 1, 0);
+        Price promo = createPrice(start.plusHours(15), start.plusHours(18), 2, 1);
+
+        PriceTimeline timeline = PriceTimeline.of(List.of(base, promo));
+        PriceSegment segment = timeline.segmentAt(start.plusHours(10)).orElseThrow();
+
+        assertAll(
+                () -> assertEquals(start, segment.from()),
+                () -> assertEquals(start.plusHours(15), segment.until()),
+                () -> assertEquals(base, segment.price()),
+                () -> assertTrue(segment.contains(start.plusHours(15).minusNanos(1))),
+                () -> assertFalse(segment.contains(start.plusHours(15))),
+                () -> assertEquals(List.of(base, promo), timeline.winningPrices())
+        );
+    }
+
+    @Test
+    @DisplayName("Fusiona tramos contiguos del mismo ganador y omite tarifas ocultas")
+    void shouldMergeAdjacentSegmentsOfSameWinner() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Price top = createPrice(start, start.plusDays(1), 1, 5);
+        Price hidden = createPrice(start.plusHours(2), start.plusHours(3), 2, 1);
+
+        PriceTimeline timeline = PriceTimeline.of(List.of(hidden, top));
+
+        assertEquals(1, timeline.segmentCount());
+        assertEquals(List.of(top), timeline.winningPrices());
+        assertTrue(PriceTimeline.empty().priceAt(start).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Coincide con PriceSelectionService sobre tarifas aleatorias")
+    void shouldMatchSelectionService() {
+        PriceSelectionService selectionService = new PriceSelectionService();
+        Random random = new Random(7);
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+        for (int round = 0; round < 20; round++) {
+            List<Price> prices = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                LocalDateTime start = base.plusHours(random.nextInt(500));
+                prices.add(createPrice(start, start.plusHours(random.nextInt(100)), i,
+                        random.nextInt(3)));
+            }
+            PriceTimeline timeline = PriceTimeline.of(prices);
+
+            for (int i = 0; i < 200; i++) {
+                LocalDateTime date = base.plusMinutes(random.nextInt(650 * 60));
+                Optional<Price> expected;
+                try {
+                    expected = Optional.of(selectionService.selectApplicablePrice(
+                            prices, date, PRODUCT_ID, BRAND_ID));
+                } catch (PriceNotFoundException e) {
+                    expected = Optional.empty();
+                }
+                assertEquals(expected, timeline.priceAt(date), "fecha " + date);
+            }
+        }
+    }
+}
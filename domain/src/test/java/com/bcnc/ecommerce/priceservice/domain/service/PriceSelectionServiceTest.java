@@ -3,8 +3,11 @@ package com.bcnc.ecommerce.priceservice.domain.service;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import com.bcnc.ecommerce.priceservice.domain.exception.PriceNotFoundException;
 import com.bcnc.ecommerce.priceservice.domain.model.Price;
@@ -12,9 +15,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 
 class PriceSelectionServiceTest {
 
@@ -112,6 +121,26 @@ class PriceSelectionServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("PriceNotFoundException no captura la pila y conserva el mensaje y la consulta")
+    void shouldThrowStacklessExceptionWithMessage() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        PriceNotFoundException exception = assertThrows(
+                PriceNotFoundException.class,
+                () -> service.selectApplicablePrice(List.of(), date, PRODUCT_ID, BRAND_ID)
+        );
+
+        assertAll(
+                () -> assertEquals(0, exception.getStackTrace().length),
+                () -> assertEquals(PriceNotFoundException.message(PRODUCT_ID, BRAND_ID, date),
+                        exception.getMessage()),
+                () -> assertEquals(PRODUCT_ID, exception.getProductId()),
+                () -> assertEquals(BRAND_ID, exception.getBrandId()),
+                () -> assertEquals(date, exception.getApplicationDate())
+        );
+    }
+
     @Test
     @DisplayName("Devuelve uno de los precios si hay empate de prioridad")
     void shouldReturnAnyIfPrioritiesAreEqual() {
@@ -156,4 +185,104 @@ class PriceSelectionServiceTest {
                 })
         );
     }
+
+    @Test
+    @DisplayName("findApplicablePrice devuelve el de mayor prioridad o vacío sin lanzar")
+    void shouldFindApplicablePriceWithoutThrowing() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        Price low = createPrice(BRAND_ID, date.minusHours(2), date.plusHours(2), 1,
+                PRODUCT_ID, 0, new BigDecimal("35.50"));
+        Price high = createPrice(BRAND_ID, date.minusHours(1), date.plusHours(1), 2,
+                PRODUCT_ID, 1, new BigDecimal("25.45"));
+
+        assertAll(
+                () -> assertEquals(Optional.of(high),
+                        service.findApplicablePrice(List.of(low, high), date)),
+                () -> assertEquals(Optional.empty(),
+                        service.findApplicablePrice(List.of(low, high), date.plusDays(1))),
+                () -> assertEquals(Optional.empty(),
+                        service.findApplicablePrice(List.of(), date))
+        );
+    }
+
+    @Test
+    @DisplayName("findApplicablePriceOrNull se queda con el primero ante empate de prioridad")
+    void shouldKeepFirstOnPriorityTie() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        Price first = createPrice(BRAND_ID, date.minusHours(1), date.plusHours(1),
+                1, PRODUCT_ID, 1, new BigDecimal("30.00"));
+        Price second = createPrice(BRAND_ID, date.minusHours(2), date.plusHours(2),
+                2, PRODUCT_ID, 1, new BigDecimal("40.00"));
+
+        assertAll(
+                () -> assertSame(first, service.findApplicablePriceOrNull(
+                        List.of(first, second), date)),
+                () -> assertSame(second, service.findApplicablePriceOrNull(
+                        new LinkedList<>(List.of(second, first)), date)),
+                () -> assertNull(service.findApplicablePriceOrNull(List.of(), date))
+        );
+    }
+
+    @Test
+    @DisplayName("findApplicablePriceOrNull devuelve lo mismo que la selección con Stream")
+    void shouldMatchStreamSelection() {
+        LocalDateTime base = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Random random = new Random(7);
+
+        for (int round = 0; round < 500; round++) {
+            List<Price> prices = new ArrayList<>();
+            for (int i = random.nextInt(10); i > 0; i--) {
+                LocalDateTime start = base.plusHours(random.nextInt(48));
+                prices.add(createPrice(BRAND_ID, start, start.plusHours(random.nextInt(48)),
+                        i, PRODUCT_ID, random.nextInt(4), BigDecimal.ONE));
+            }
+            LocalDateTime date = base.plusHours(random.nextInt(96));
+
+            Price expected = prices.stream()
+                    .filter(price -> price.isApplicableOn(date))
+                    .max(Comparator.comparingInt(Price::getPriority))
+                    .orElse(null);
+
+            assertSame(expected, service.findApplicablePriceOrNull(prices, date));
+            assertSame(expected, service.findApplicablePriceOrNull(
+                    new LinkedList<>(prices), date));
+        }
+    }
+
+    @Test
+    @DisplayName("findApplicablePriceOrNull no reserva memoria por llamada")
+    void shouldNotAllocateWhenSelecting() {
+        java.lang.management.ThreadMXBean bean =
+                ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported()
+                && threads.isThreadAllocatedMemoryEnabled());
+
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            prices.add(createPrice(BRAND_ID, date.minusDays(i + 1), date.plusDays(i % 3),
+                    i + 1, PRODUCT_ID, (i * 7) % 16, BigDecimal.ONE));
+        }
+        long threadId = Thread.currentThread().getId();
+
+        int calls = 20_000;
+        for (int i = 0; i < calls; i++) {
+            service.findApplicablePriceOrNull(prices, date);
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < calls; i++) {
+            service.findApplicablePriceOrNull(prices, date);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Margen para las reservas propias de la medición, muy por debajo
+        // de un solo objeto por llamada.
+        assertTrue(allocated < 1_024,
+                "Se reservaron " + allocated + " bytes en " + calls + " llamadas");
+    }
 }
@@ -0,0 +1,109 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.r2dbc;
+
+import com.bcnc.ecommerce.priceservice.application.reactive.ReactivePriceRepository;
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Adaptador de infraestructura que implementa
+ * {@link ReactivePriceRepository} con R2DBC.
+ * <p>
+ * Ejecuta las mismas sentencias que {@code JdbcPriceRepositoryAdapter}
+ * (búsqueda con {@code LIMIT 1} por el índice de producto, cadena, fechas
+ * y prioridad) a través de {@link DatabaseClient}, y mapea cada fila por
+ * posición a {@link Price}. Las filas se emiten según llegan del driver,
+ * sin ocupar un hilo mientras se espera a la base de datos.
+ * </p>
+ */
+public class R2dbcPriceRepositoryAdapter implements ReactivePriceRepository {
+
+    /** Columnas seleccionadas, en el orden que espera {@link #map}. */
+    private static final String COLUMNS = "BRAND_ID, START_DATE, END_DATE, "
+            + "PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE_MINOR, CURR";
+
+    /** Tarifa aplicable de mayor prioridad para un producto, cadena y fecha. */
+    static final String SQL_APPLICABLE = "SELECT " + COLUMNS + " FROM PRICES"
+            + " WHERE PRODUCT_ID = :productId AND BRAND_ID = :brandId"
+            + " AND START_DATE <= :date AND END_DATE >= :date"
+            + " ORDER BY PRIORITY DESC LIMIT 1";
+
+    /** Todas las tarifas de un producto y cadena. */
+    static final String SQL_ALL_BY_KEY = "SELECT " + COLUMNS + " FROM PRICES"
+            + " WHERE PRODUCT_ID = :productId AND BRAND_ID = :brandId";
+
+    /** Cliente R2DBC sobre la base de datos de precios. */
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * @param client cliente R2DBC sobre la base de datos de precios.
+     */
+    public R2dbcPriceRepositoryAdapter(final DatabaseClient client) {
+        this.databaseClient = Objects.requireNonNull(client,
+                "client no puede ser nulo");
+    }
+
+    /**
+     * Recupera la tarifa aplicable de mayor prioridad con una única
+     * sentencia {@code LIMIT 1}.
+     * @param applicationDate fecha de aplicación para la búsqueda.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return la tarifa de mayor prioridad, o ninguna.
+     */
+    @Override
+    public Flux<Price> findApplicablePrices(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        return databaseClient.sql(SQL_APPLICABLE)
+                .bind("productId", productId)
+                .bind("brandId", brandId)
+                .bind("date", applicationDate)
+                .map(R2dbcPriceRepositoryAdapter::map)
+                .all();
+    }
+
+    /**
+     * Recupera todas las tarifas del producto y cadena.
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas de la clave.
+     */
+    @Override
+    public Flux<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        return databaseClient.sql(SQL_ALL_BY_KEY)
+                .bind("productId", productId)
+                .bind("brandId", brandId)
+                .map(R2dbcPriceRepositoryAdapter::map)
+                .all();
+    }
+
+    /**
+     * Mapea una fila con las columnas de {@link #COLUMNS}, por posición.
+     * <p>
+     * Los identificadores son columnas INT, que el driver solo decodifica
+     * como {@link Integer}: se leen como {@link Number} y se amplían.
+     * </p>
+     * @param row fila a mapear.
+     * @return tarifa de dominio.
+     */
+    private static Price map(final Readable row) {
+        return Price.builder()
+                .brandId(row.get(0, Number.class).longValue())
+                .startDate(row.get(1, LocalDateTime.class))
+                .endDate(row.get(2, LocalDateTime.class))
+                .priceList(row.get(3, Integer.class))
+                .productId(row.get(4, Number.class).longValue())
+                .priority(row.get(5, Integer.class))
+                .priceMinor(row.get(6, Long.class))
+                .curr(row.get(7, String.class))
+                .build();
+    }
+}
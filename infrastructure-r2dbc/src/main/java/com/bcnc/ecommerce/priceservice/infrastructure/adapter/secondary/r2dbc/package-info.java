@@ -0,0 +1,8 @@
+/**
+ * Adaptador de persistencia no bloqueante sobre R2DBC.
+ *
+ * <p>Implementa el puerto {@code ReactivePriceRepository} con
+ * {@code DatabaseClient} sobre la misma tabla PRICES que los adaptadores
+ * JDBC y JPA, para la variante WebFlux de la API.</p>
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.r2dbc;
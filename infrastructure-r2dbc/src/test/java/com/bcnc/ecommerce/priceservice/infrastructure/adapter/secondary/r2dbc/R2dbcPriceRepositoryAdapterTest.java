@@ -0,0 +1,84 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.r2dbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import io.r2dbc.h2.CloseableConnectionFactory;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+class R2dbcPriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    private CloseableConnectionFactory connectionFactory;
+    private R2dbcPriceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = H2ConnectionFactory.inMemory(UUID.randomUUID().toString());
+        DatabaseClient client = DatabaseClient.create(connectionFactory);
+        client.sql("CREATE TABLE PRICES (ID INT AUTO_INCREMENT PRIMARY KEY, BRAND_ID INT NOT NULL,"
+                + " START_DATE TIMESTAMP NOT NULL, END_DATE TIMESTAMP NOT NULL, PRICE_LIST INT NOT NULL,"
+                + " PRODUCT_ID INT NOT NULL, PRIORITY INT NOT NULL, PRICE_MINOR BIGINT NOT NULL,"
+                + " CURR VARCHAR(3) NOT NULL)").then().block();
+        client.sql("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY,"
+                + " PRICE_MINOR, CURR) VALUES"
+                + " (1, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 1, 35455, 0, 3550, 'EUR'),"
+                + " (1, '2020-06-14 15:00:00', '2020-06-14 18:30:00', 2, 35455, 1, 2545, 'EUR'),"
+                + " (1, '2020-06-15 00:00:00', '2020-06-15 11:00:00', 3, 35455, 1, 3050, 'EUR'),"
+                + " (2, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 9, 35455, 5, 100, 'EUR')").then().block();
+        adapter = new R2dbcPriceRepositoryAdapter(client);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.close().block();
+    }
+
+    @Test
+    @DisplayName("Emite solo la tarifa aplicable de mayor prioridad, mapeada por posición")
+    void shouldEmitHighestPriorityApplicablePrice() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        StepVerifier.create(adapter.findApplicablePrices(date, PRODUCT_ID, BRAND_ID))
+                .assertNext(price -> {
+                    assertEquals(2, price.getPriceList());
+                    assertEquals(BRAND_ID, price.getBrandId());
+                    assertEquals(PRODUCT_ID, price.getProductId());
+                    assertEquals(1, price.getPriority());
+                    assertEquals(LocalDateTime.of(2020, 6, 14, 15, 0), price.getStartDate());
+                    assertEquals(LocalDateTime.of(2020, 6, 14, 18, 30), price.getEndDate());
+                    assertEquals(2545L, price.getMoney().minorUnits());
+                    assertEquals("EUR", price.getCurr());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("No emite nada fuera del periodo de validez ni para claves desconocidas")
+    void shouldEmitNothingWithoutApplicablePrice() {
+        StepVerifier.create(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 13, 10, 0), PRODUCT_ID, BRAND_ID))
+                .verifyComplete();
+        StepVerifier.create(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 10, 0), 99999L, BRAND_ID))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Emite todas las tarifas de la clave, sea cual sea su periodo")
+    void shouldEmitAllPricesOfKey() {
+        StepVerifier.create(adapter.findAllPrices(PRODUCT_ID, BRAND_ID).map(Price::getPriceList).collectSortedList())
+                .expectNext(List.of(1, 2, 3))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,111 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.index.ColumnarPriceStore;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository.PriceJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Adaptador de infraestructura que implementa {@link PriceRepository}
+ * sobre un almacén en columnas de tipos primitivos.
+ * <p>
+ * Carga la tabla PRICES una única vez al arrancar en un
+ * {@link ColumnarPriceStore} (unos 39 bytes por tarifa) y resuelve cada
+ * consulta sobre las columnas, construyendo un {@link Price} solo para la
+ * tarifa ganadora. Pensado para mantener decenas de millones de tarifas
+ * por nodo. Se activa con {@code price.repository.type=columnar}.
+ * </p>
+ */
+@Component
+@PriceStorage
+@ConditionalOnProperty(prefix = "price.repository", name = "type",
+        havingValue = "columnar")
+public class ColumnarPriceRepositoryAdapter
+        extends PreloadedPriceRepositoryAdapter<ColumnarPriceStore> {
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jpaRepository repositorio JPA del que se cargan las tarifas.
+     * @param mapper        componente de mapeo entre entidad y
+     *                      modelo de dominio.
+     */
+    public ColumnarPriceRepositoryAdapter(
+            final PriceJpaRepository jpaRepository,
+            final PriceMapper mapper) {
+        super(jpaRepository, mapper, ColumnarPriceStore.empty());
+    }
+
+    /**
+     * Recupera la tarifa aplicable de mayor prioridad.
+     *
+     * @param applicationDate fecha de aplicación para la búsqueda.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return lista con el {@link Price} ganador, o vacía si no hay tarifa.
+     */
+    @Override
+    public List<Price> findApplicablePrices(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        ColumnarPriceStore store = index();
+        int row = store.findApplicable(productId, brandId, applicationDate);
+        if (row == ColumnarPriceStore.NOT_FOUND) {
+            return List.of();
+        }
+        return List.of(store.toPrice(row));
+    }
+
+    /**
+     * Recupera todas las tarifas de un producto y cadena.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas de la clave.
+     */
+    @Override
+    public List<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        return index().findAll(productId, brandId);
+    }
+
+    @Override
+    protected ColumnarPriceStore buildIndex(final List<Price> prices) {
+        return ColumnarPriceStore.of(prices);
+    }
+
+    @Override
+    protected ColumnarPriceStore applyChanges(
+            final ColumnarPriceStore current,
+            final Map<PriceKey, List<Price>> changed) {
+        return current.withKeys(changed);
+    }
+
+    @Override
+    protected int priceCount(final ColumnarPriceStore loaded) {
+        return loaded.size();
+    }
+
+    @Override
+    protected long estimatedBytes(final ColumnarPriceStore loaded,
+                                  final int prices) {
+        return loaded.estimatedBytes();
+    }
+
+    @Override
+    protected String describe(final ColumnarPriceStore loaded) {
+        return String.format(Locale.ROOT, "%d claves, %d bytes (%.1f bytes"
+                        + "/tarifa)", loaded.keyCount(),
+                loaded.estimatedBytes(), loaded.bytesPerPrice());
+    }
+}
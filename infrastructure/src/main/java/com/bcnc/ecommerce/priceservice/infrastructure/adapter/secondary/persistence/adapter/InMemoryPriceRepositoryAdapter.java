@@ -0,0 +1,96 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.index.PriceIntervalIndex;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository.PriceJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adaptador de infraestructura que implementa {@link PriceRepository}
+ * sobre un índice de intervalos en memoria.
+ * <p>
+ * Carga la tabla PRICES una única vez al arrancar y responde a las
+ * consultas desde un {@link PriceIntervalIndex}, sin acceder a la base de
+ * datos. Se activa con {@code price.repository.type=memory}.
+ * </p>
+ */
+@Component
+@PriceStorage
+@ConditionalOnProperty(prefix = "price.repository", name = "type",
+        havingValue = "memory")
+public class InMemoryPriceRepositoryAdapter
+        extends PreloadedPriceRepositoryAdapter<PriceIntervalIndex> {
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jpaRepository repositorio JPA del que se cargan las tarifas.
+     * @param mapper        componente de mapeo entre entidad y
+     *                      modelo de dominio.
+     */
+    public InMemoryPriceRepositoryAdapter(
+            final PriceJpaRepository jpaRepository,
+            final PriceMapper mapper) {
+        super(jpaRepository, mapper, PriceIntervalIndex.empty());
+    }
+
+    /**
+     * Recupera desde memoria las tarifas cuyo intervalo contiene la fecha
+     * de aplicación indicada.
+     *
+     * @param applicationDate fecha de aplicación para la búsqueda.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return lista de {@link Price} aplicables.
+     */
+    @Override
+    public List<Price> findApplicablePrices(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        return index().findContaining(productId, brandId, applicationDate);
+    }
+
+    /**
+     * Recupera desde memoria todas las tarifas de un producto y cadena.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas de la clave.
+     */
+    @Override
+    public List<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        return index().findAll(productId, brandId);
+    }
+
+    @Override
+    protected PriceIntervalIndex buildIndex(final List<Price> prices) {
+        return PriceIntervalIndex.of(prices);
+    }
+
+    @Override
+    protected PriceIntervalIndex applyChanges(
+            final PriceIntervalIndex current,
+            final Map<PriceKey, List<Price>> changed) {
+        return current.withKeys(changed);
+    }
+
+    @Override
+    protected int priceCount(final PriceIntervalIndex loaded) {
+        return loaded.size();
+    }
+
+    @Override
+    protected String describe(final PriceIntervalIndex loaded) {
+        return loaded.keyCount() + " claves";
+    }
+}
@@ -0,0 +1,255 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de infraestructura que implementa {@link PriceRepository} con
+ * JDBC directo, sin pasar por JPA/Hibernate.
+ * <p>
+ * Cada búsqueda ejecuta una sentencia SQL constante con parámetros
+ * posicionales y {@code LIMIT 1}, de modo que el driver reutiliza el plan
+ * ya preparado (en H2, la caché de consultas de la sesión), y el
+ * {@link ResultSet} se mapea directamente a {@link Price}, sin hidratar
+ * entidades ni pasar por {@code PriceMapper}. Se activa con
+ * {@code price.repository.type=jdbc}; fuera de Spring también se usa sobre
+ * otras tablas con las mismas columnas (el archivo de tarifas caducadas).
+ * </p>
+ */
+@Component
+@PriceStorage
+@ConditionalOnProperty(prefix = "price.repository", name = "type",
+        havingValue = "jdbc")
+public class JdbcPriceRepositoryAdapter implements PriceRepository {
+
+    /** Columnas seleccionadas, en el orden que espera {@link #ROW_MAPPER}. */
+    private static final String COLUMNS = "BRAND_ID, START_DATE, END_DATE, "
+            + "PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE_MINOR, CURR";
+
+    /** Tabla de tarifas por defecto. */
+    public static final String PRICES_TABLE = "PRICES";
+
+    /** Mapeo por posición de cada fila a {@link Price}. */
+    private static final RowMapper<Price> ROW_MAPPER =
+            JdbcPriceRepositoryAdapter::mapRow;
+
+    /** Plantilla JDBC para las sentencias con parámetros posicionales. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Plantilla JDBC para las sentencias con listas de parámetros. */
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /** Tarifa aplicable de mayor prioridad para un producto, cadena y fecha. */
+    private final String sqlApplicable;
+
+    /** Todas las tarifas de un producto y cadena. */
+    private final String sqlAllByKey;
+
+    /** Tarifas candidatas de un lote de consultas. */
+    private final String sqlCandidates;
+
+    /** Todas las tarifas de un conjunto de claves. */
+    private final String sqlAllByKeys;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param template plantilla JDBC sobre el {@code DataSource} de la
+     *                 aplicación.
+     */
+    @Autowired
+    public JdbcPriceRepositoryAdapter(final JdbcTemplate template) {
+        this(template, PRICES_TABLE);
+    }
+
+    /**
+     * Crea el adaptador sobre otra tabla con las mismas columnas que
+     * PRICES, como el archivo de tarifas caducadas.
+     *
+     * @param template plantilla JDBC sobre el {@code DataSource} de la
+     *                 aplicación.
+     * @param table    tabla de tarifas.
+     */
+    public JdbcPriceRepositoryAdapter(final JdbcTemplate template,
+                                      final String table) {
+        this.jdbcTemplate = template;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.sqlApplicable = "SELECT " + COLUMNS + " FROM " + table
+                + " WHERE PRODUCT_ID = ? AND BRAND_ID = ?"
+                + " AND START_DATE <= ? AND END_DATE >= ?"
+                + " ORDER BY PRIORITY DESC LIMIT 1";
+        this.sqlAllByKey = "SELECT " + COLUMNS + " FROM " + table
+                + " WHERE PRODUCT_ID = ? AND BRAND_ID = ?";
+        this.sqlCandidates = "SELECT " + COLUMNS + " FROM " + table
+                + " WHERE (PRODUCT_ID, BRAND_ID) IN (:keys)"
+                + " AND START_DATE <= :maxDate AND END_DATE >= :minDate";
+        this.sqlAllByKeys = "SELECT " + COLUMNS + " FROM " + table
+                + " WHERE (PRODUCT_ID, BRAND_ID) IN (:keys)";
+    }
+
+    /**
+     * Recupera la tarifa aplicable de mayor prioridad con una única
+     * sentencia {@code LIMIT 1}.
+     *
+     * @param applicationDate fecha de aplicación para la búsqueda.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return lista con la tarifa de mayor prioridad, o vacía.
+     */
+    @Override
+    public List<Price> findApplicablePrices(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        return jdbcTemplate.query(sqlApplicable, ROW_MAPPER,
+                productId, brandId, applicationDate, applicationDate);
+    }
+
+    /**
+     * Recupera los candidatos de un lote de consultas con una única
+     * sentencia, filtrando después en memoria las tarifas que aplican a
+     * cada consulta.
+     *
+     * @param queries consultas del lote.
+     * @return candidatos de cada consulta distinta.
+     */
+    @Override
+    public Map<PriceQuery, List<Price>> findApplicablePrices(
+            final Collection<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<PriceKey> keys = new HashSet<>();
+        LocalDateTime minDate = null;
+        LocalDateTime maxDate = null;
+        for (PriceQuery query : queries) {
+            keys.add(query.key());
+            LocalDateTime date = query.applicationDate();
+            if (minDate == null || date.isBefore(minDate)) {
+                minDate = date;
+            }
+            if (maxDate == null || date.isAfter(maxDate)) {
+                maxDate = date;
+            }
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keys", keyRows(keys))
+                .addValue("minDate", minDate)
+                .addValue("maxDate", maxDate);
+        Map<PriceKey, List<Price>> candidatesByKey = namedJdbcTemplate
+                .query(sqlCandidates, params, ROW_MAPPER)
+                .stream()
+                .collect(Collectors.groupingBy(PriceKey::of));
+
+        Map<PriceQuery, List<Price>> result = new HashMap<>();
+        for (PriceQuery query : queries) {
+            result.computeIfAbsent(query, q -> candidatesByKey
+                    .getOrDefault(q.key(), List.of())
+                    .stream()
+                    .filter(price -> price.isApplicableOn(
+                            q.applicationDate()))
+                    .toList());
+        }
+        return result;
+    }
+
+    /**
+     * Recupera todas las tarifas de un producto y cadena.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas del producto y cadena.
+     */
+    @Override
+    public List<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        return jdbcTemplate.query(sqlAllByKey, ROW_MAPPER,
+                productId, brandId);
+    }
+
+    /**
+     * Recupera todas las tarifas de varias claves con una única sentencia.
+     *
+     * @param keys claves a recuperar.
+     * @return tarifas de cada clave pedida.
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findAllPrices(
+            final Collection<PriceKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keys", keyRows(keys));
+        Map<PriceKey, List<Price>> pricesByKey = namedJdbcTemplate
+                .query(sqlAllByKeys, params, ROW_MAPPER)
+                .stream()
+                .collect(Collectors.groupingBy(PriceKey::of));
+
+        Map<PriceKey, List<Price>> result = new HashMap<>();
+        for (PriceKey key : keys) {
+            result.put(key, pricesByKey.getOrDefault(key, List.of()));
+        }
+        return result;
+    }
+
+    /**
+     * Convierte las claves en filas {@code (productId, brandId)}, que
+     * {@link NamedParameterJdbcTemplate} expande como lista de valores de
+     * fila {@code ((?, ?), ...)}.
+     *
+     * @param keys claves a convertir.
+     * @return una fila por clave.
+     */
+    private static List<Object[]> keyRows(final Collection<PriceKey> keys) {
+        return keys.stream()
+                .map(key -> new Object[] {key.productId(), key.brandId()})
+                .toList();
+    }
+
+    /**
+     * Mapea la fila actual a {@link Price} leyendo las columnas por
+     * posición, en el orden de {@link #COLUMNS}.
+     *
+     * @param rs     resultado posicionado en la fila a mapear.
+     * @param rowNum número de fila (no se usa).
+     * @return tarifa de dominio.
+     * @throws SQLException si falla la lectura de alguna columna.
+     */
+    private static Price mapRow(final ResultSet rs, final int rowNum)
+            throws SQLException {
+        return Price.builder()
+                .brandId(rs.getLong(1))
+                .startDate(rs.getObject(2, LocalDateTime.class))
+                .endDate(rs.getObject(3, LocalDateTime.class))
+                .priceList(rs.getInt(4))
+                .productId(rs.getLong(5))
+                .priority(rs.getInt(6))
+                .priceMinor(rs.getLong(7))
+                .curr(rs.getString(8))
+                .build();
+    }
+}
@@ -1,15 +1,24 @@
 package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
 
 import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
 import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
 import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
 import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository.PriceJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Adaptador de infraestructura que implementa el repositorio de
@@ -19,8 +28,14 @@ import java.util.List;
  * Este adaptador actúa como puerto de salida para acceder a los precios
  * persistidos, y se encarga de mapear las entidades JPA a objetos del dominio.
  * </p>
+ * <p>
+ * Es el adaptador por defecto ({@code price.repository.type=jpa}).
+ * </p>
  */
 @Component
+@PriceStorage
+@ConditionalOnProperty(prefix = "price.repository", name = "type",
+        havingValue = "jpa", matchIfMissing = true)
 public class JpaPriceRepositoryAdapter implements PriceRepository {
 
     /** Campo de ordenación por prioridad. */
@@ -71,4 +86,94 @@ public class JpaPriceRepositoryAdapter implements PriceRepository {
                 .map(priceMapper::toDomain)
                 .toList();
     }
+
+    /**
+     * Recupera los candidatos de un lote de consultas con una única
+     * consulta a la base de datos, filtrando después en memoria las
+     * tarifas que aplican a cada consulta.
+     *
+     * @param queries consultas del lote.
+     * @return candidatos de cada consulta distinta.
+     */
+    @Override
+    public Map<PriceQuery, List<Price>> findApplicablePrices(
+            final Collection<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<PriceKey> keys = new HashSet<>();
+        LocalDateTime minDate = null;
+        LocalDateTime maxDate = null;
+        for (PriceQuery query : queries) {
+            keys.add(query.key());
+            LocalDateTime date = query.applicationDate();
+            if (minDate == null || date.isBefore(minDate)) {
+                minDate = date;
+            }
+            if (maxDate == null || date.isAfter(maxDate)) {
+                maxDate = date;
+            }
+        }
+
+        Map<PriceKey, List<Price>> candidatesByKey = priceJpaRepository
+                .findCandidatePrices(keys, minDate, maxDate)
+                .stream()
+                .map(priceMapper::toDomain)
+                .collect(Collectors.groupingBy(PriceKey::of));
+
+        Map<PriceQuery, List<Price>> result = new HashMap<>();
+        for (PriceQuery query : queries) {
+            result.computeIfAbsent(query, q -> candidatesByKey
+                    .getOrDefault(q.key(), List.of())
+                    .stream()
+                    .filter(price -> price.isApplicableOn(
+                            q.applicationDate()))
+                    .toList());
+        }
+        return result;
+    }
+
+    /**
+     * Recupera todas las tarifas de un producto y cadena.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas del producto y cadena.
+     */
+    @Override
+    public List<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        return priceJpaRepository.findByProductIdAndBrandId(productId, brandId)
+                .stream()
+                .map(priceMapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * Recupera todas las tarifas de varias claves con una única consulta a
+     * la base de datos.
+     *
+     * @param keys claves a recuperar.
+     * @return tarifas de cada clave pedida.
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findAllPrices(
+            final Collection<PriceKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<PriceKey, List<Price>> pricesByKey = priceJpaRepository
+                .findByKeys(keys)
+                .stream()
+                .map(priceMapper::toDomain)
+                .collect(Collectors.groupingBy(PriceKey::of));
+
+        Map<PriceKey, List<Price>> result = new HashMap<>();
+        for (PriceKey key : keys) {
+            result.put(key, pricesByKey.getOrDefault(key, List.of()));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,215 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes.PriceChangeListener;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload.LoadedPriceIndex;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload.PriceIndexHolder;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload.PriceIndexStatus;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload.ReloadablePriceStorage;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository.PriceJpaRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base de los adaptadores de {@link PriceRepository} que cargan la tabla
+ * PRICES en memoria al arrancar y responden sin acceder a la base de datos.
+ * <p>
+ * Cada subclase decide la estructura de búsqueda que construye a partir de
+ * las tarifas. La estructura se publica completa en un
+ * {@link PriceIndexHolder}, de forma que las consultas nunca ven un índice
+ * a medio construir, y se puede recargar en caliente
+ * ({@link ReloadablePriceStorage}): la nueva versión se construye en
+ * segundo plano mientras las consultas siguen usando la anterior.
+ * </p>
+ * <p>
+ * Como {@link PriceChangeListener}, aplica además los cambios de claves
+ * sueltas: lee solo esas claves y publica una versión nueva derivada de
+ * la actual, sin volver a leer la tabla completa.
+ * </p>
+ *
+ * @param <I> tipo de la estructura de búsqueda en memoria
+ */
+public abstract class PreloadedPriceRepositoryAdapter<I>
+        implements PriceRepository, ReloadablePriceStorage,
+        PriceChangeListener, SmartInitializingSingleton, DisposableBean {
+
+    /**
+     * Bytes que ocupa en el heap un {@link Price} con sus fechas, números
+     * y moneda, medidos con un millón de tarifas; base de la estimación
+     * de los índices que guardan objetos {@link Price}.
+     */
+    protected static final long PRICE_OBJECT_BYTES = 290;
+
+    /** Repositorio JPA usado únicamente para la carga. */
+    private final PriceJpaRepository priceJpaRepository;
+
+    /** Mapeador entre entidad persistente y modelo de dominio. */
+    private final PriceMapper priceMapper;
+
+    /** Versión publicada; se sustituye completa en cada carga. */
+    private final PriceIndexHolder<I> holder;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jpaRepository repositorio JPA del que se cargan las tarifas.
+     * @param mapper        componente de mapeo entre entidad y
+     *                      modelo de dominio.
+     * @param emptyIndex    estructura vacía usada hasta la primera carga.
+     */
+    protected PreloadedPriceRepositoryAdapter(
+            final PriceJpaRepository jpaRepository,
+            final PriceMapper mapper,
+            final I emptyIndex) {
+        this.priceJpaRepository = jpaRepository;
+        this.priceMapper = mapper;
+        this.holder = new PriceIndexHolder<>(getClass().getSimpleName(),
+                emptyIndex, this::loadIndex, retired -> { });
+    }
+
+    /**
+     * Carga el índice una vez creados todos los singletons, cuando los
+     * scripts de inicialización de la base de datos ya se han ejecutado.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    /**
+     * Lee todas las tarifas de la base de datos y publica una nueva
+     * estructura de búsqueda en el hilo actual.
+     *
+     * @return estado de la versión publicada
+     */
+    public PriceIndexStatus load() {
+        return holder.load();
+    }
+
+    /**
+     * @return estado de la versión publicada del índice
+     */
+    @Override
+    public PriceIndexStatus indexStatus() {
+        return holder.status();
+    }
+
+    /**
+     * Lee la base de datos y publica una nueva versión en segundo plano.
+     *
+     * @return estado de la nueva versión, o fallo si no es válida
+     */
+    @Override
+    public CompletableFuture<PriceIndexStatus> reload() {
+        return holder.reloadAsync();
+    }
+
+    /**
+     * @param listener acción a ejecutar tras cada publicación
+     */
+    @Override
+    public void addReloadListener(final Runnable listener) {
+        holder.addListener(listener);
+    }
+
+    /**
+     * Publica una versión con las tarifas actuales de las claves
+     * cambiadas. Las claves se leen dentro de la exclusión mutua de las
+     * cargas, de modo que una recarga completa simultánea nunca deja
+     * publicado un estado más antiguo.
+     *
+     * @param keys   claves cambiadas
+     * @param source repositorio del estado actual de la base de datos
+     */
+    @Override
+    public void onPricesChanged(final Set<PriceKey> keys,
+                                final PriceRepository source) {
+        holder.update(current -> {
+            I updated = applyChanges(current, source.findAllPrices(keys));
+            int prices = priceCount(updated);
+            return new LoadedPriceIndex<>(updated, prices,
+                    estimatedBytes(updated, prices), describe(updated));
+        });
+    }
+
+    /**
+     * Detiene el hilo de recarga al parar el contexto.
+     */
+    @Override
+    public void destroy() {
+        holder.close();
+    }
+
+    /**
+     * Estructura publicada actualmente. Cada consulta debe leerla una sola
+     * vez y trabajar con esa referencia, para no mezclar dos versiones.
+     *
+     * @return estructura de búsqueda publicada actualmente
+     */
+    protected final I index() {
+        return holder.index();
+    }
+
+    /**
+     * Memoria estimada de la estructura construida. Por defecto, la de
+     * las tarifas como objetos {@link Price}.
+     *
+     * @param loaded estructura recién construida
+     * @param prices número de tarifas
+     * @return bytes estimados
+     */
+    protected long estimatedBytes(final I loaded, final int prices) {
+        return prices * PRICE_OBJECT_BYTES;
+    }
+
+    private LoadedPriceIndex<I> loadIndex() {
+        List<Price> prices = priceJpaRepository.findAll().stream()
+                .map(priceMapper::toDomain)
+                .toList();
+        I loaded = buildIndex(prices);
+        return new LoadedPriceIndex<>(loaded, prices.size(),
+                estimatedBytes(loaded, prices.size()), describe(loaded));
+    }
+
+    /**
+     * Construye la estructura de búsqueda a partir de todas las tarifas.
+     *
+     * @param prices tarifas leídas de la base de datos
+     * @return estructura inmutable lista para publicarse
+     */
+    protected abstract I buildIndex(List<Price> prices);
+
+    /**
+     * Construye una estructura nueva a partir de otra sustituyendo las
+     * tarifas de algunas claves, sin modificar la original.
+     *
+     * @param current estructura publicada
+     * @param changed tarifas actuales de cada clave cambiada (lista vacía
+     *                si ya no tiene tarifas)
+     * @return estructura inmutable lista para publicarse
+     */
+    protected abstract I applyChanges(I current,
+                                      Map<PriceKey, List<Price>> changed);
+
+    /**
+     * @param loaded estructura construida
+     * @return número de tarifas que contiene
+     */
+    protected abstract int priceCount(I loaded);
+
+    /**
+     * Describe brevemente la estructura construida para el log de carga.
+     *
+     * @param loaded estructura recién construida
+     * @return descripción legible
+     */
+    protected abstract String describe(I loaded);
+}
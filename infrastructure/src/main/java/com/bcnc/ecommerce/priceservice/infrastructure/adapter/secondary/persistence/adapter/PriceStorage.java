@@ -0,0 +1,27 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Calificador de los adaptadores de almacenamiento de precios
+ * ({@code price.repository.type}).
+ * <p>
+ * Permite a {@code PriceRepositoryConfig} inyectar el adaptador de
+ * almacenamiento activo sin ambigüedad para envolverlo con sus decoradores
+ * (caché, micro-lotes...), mientras que el resto de la aplicación recibe
+ * el repositorio compuesto marcado como {@code @Primary}.
+ * </p>
+ */
+@Qualifier
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD,
+        ElementType.PARAMETER})
+public @interface PriceStorage {
+}
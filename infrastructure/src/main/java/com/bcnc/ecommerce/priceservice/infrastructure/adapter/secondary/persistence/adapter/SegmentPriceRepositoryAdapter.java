@@ -0,0 +1,228 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceSegment;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Adaptador de infraestructura que implementa {@link PriceRepository} sobre
+ * PRICE_SEGMENTS, la tabla materializada de tramos efectivos que mantiene
+ * el trigger {@code PriceSegmentTrigger}.
+ * <p>
+ * Sobre PRICES, el índice solo acota producto y cadena y la búsqueda
+ * recorre todas las tarifas de la clave. Los tramos de PRICE_SEGMENTS no se
+ * solapan y ya tienen resuelta la prioridad, de modo que la tarifa
+ * aplicable es el primer tramo de la clave que termina después de la
+ * fecha: un único acceso por rango a la clave primaria
+ * (PRODUCT_ID, BRAND_ID, SEGMENT_END), con independencia del historial.
+ * Devuelve como mucho una tarifa, igual que {@link JdbcPriceRepositoryAdapter}.
+ * </p>
+ * <p>
+ * {@link #findAllPrices} necesita también las tarifas que ningún tramo
+ * gana, así que sigue leyendo PRICES. Se activa con
+ * {@code price.repository.type=segments}.
+ * </p>
+ */
+@Component
+@PriceStorage
+@ConditionalOnProperty(prefix = "price.repository", name = "type",
+        havingValue = "segments")
+public class SegmentPriceRepositoryAdapter implements PriceRepository {
+
+    /**
+     * Columnas de la tarifa ganadora y límites del tramo, en el orden que
+     * espera {@link #mapRow}.
+     */
+    private static final String COLUMNS = "BRAND_ID, START_DATE, END_DATE, "
+            + "PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE_MINOR, CURR, "
+            + "SEGMENT_START, SEGMENT_END";
+
+    /**
+     * Primer tramo de la clave que termina después de la fecha. El
+     * {@code ORDER BY} repite la clave primaria completa para que el
+     * optimizador lea el índice ya ordenado y se detenga en la primera fila.
+     */
+    static final String SQL_SEGMENT = "SELECT " + COLUMNS
+            + " FROM PRICE_SEGMENTS"
+            + " WHERE PRODUCT_ID = ? AND BRAND_ID = ? AND SEGMENT_END > ?"
+            + " ORDER BY PRODUCT_ID, BRAND_ID, SEGMENT_END LIMIT 1";
+
+    /** Tramos que cortan el rango de fechas de un lote de consultas. */
+    static final String SQL_SEGMENTS = "SELECT " + COLUMNS
+            + " FROM PRICE_SEGMENTS"
+            + " WHERE (PRODUCT_ID, BRAND_ID) IN (:keys)"
+            + " AND SEGMENT_END > :minDate AND SEGMENT_START <= :maxDate";
+
+    /** Mapeo por posición de cada fila a {@link PriceSegment}. */
+    private static final RowMapper<PriceSegment> ROW_MAPPER =
+            SegmentPriceRepositoryAdapter::mapRow;
+
+    /** Plantilla JDBC para las sentencias con parámetros posicionales. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Plantilla JDBC para las sentencias con listas de parámetros. */
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /** Lectura de todas las tarifas de PRICES. */
+    private final JdbcPriceRepositoryAdapter prices;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param template plantilla JDBC sobre el {@code DataSource} de la
+     *                 aplicación.
+     */
+    public SegmentPriceRepositoryAdapter(final JdbcTemplate template) {
+        this.jdbcTemplate = template;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.prices = new JdbcPriceRepositoryAdapter(template);
+    }
+
+    /**
+     * Recupera la tarifa ganadora del tramo que contiene la fecha.
+     *
+     * @param applicationDate fecha de aplicación para la búsqueda.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return lista con la tarifa ganadora, o vacía si la fecha cae fuera
+     * de todo tramo.
+     */
+    @Override
+    public List<Price> findApplicablePrices(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        List<PriceSegment> segments = jdbcTemplate.query(SQL_SEGMENT,
+                ROW_MAPPER, productId, brandId, applicationDate);
+        // El primer tramo que termina después de la fecha puede empezar
+        // también después: la fecha cae en un hueco entre tarifas.
+        if (segments.isEmpty() || !segments.get(0).contains(
+                applicationDate)) {
+            return List.of();
+        }
+        return List.of(segments.get(0).price());
+    }
+
+    /**
+     * Recupera los tramos de un lote de consultas con una única sentencia
+     * y resuelve en memoria el tramo de cada consulta.
+     *
+     * @param queries consultas del lote.
+     * @return tarifa ganadora de cada consulta distinta, o lista vacía.
+     */
+    @Override
+    public Map<PriceQuery, List<Price>> findApplicablePrices(
+            final Collection<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<PriceKey> keys = new HashSet<>();
+        LocalDateTime minDate = null;
+        LocalDateTime maxDate = null;
+        for (PriceQuery query : queries) {
+            keys.add(query.key());
+            LocalDateTime date = query.applicationDate();
+            if (minDate == null || date.isBefore(minDate)) {
+                minDate = date;
+            }
+            if (maxDate == null || date.isAfter(maxDate)) {
+                maxDate = date;
+            }
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keys", keys.stream()
+                        .map(key -> new Object[] {key.productId(),
+                                key.brandId()})
+                        .toList())
+                .addValue("minDate", minDate)
+                .addValue("maxDate", maxDate);
+        Map<PriceKey, List<PriceSegment>> segmentsByKey = new HashMap<>();
+        for (PriceSegment segment : namedJdbcTemplate.query(SQL_SEGMENTS,
+                params, ROW_MAPPER)) {
+            segmentsByKey.computeIfAbsent(PriceKey.of(segment.price()),
+                    key -> new ArrayList<>()).add(segment);
+        }
+
+        Map<PriceQuery, List<Price>> result = new HashMap<>();
+        for (PriceQuery query : queries) {
+            result.computeIfAbsent(query, q -> segmentsByKey
+                    .getOrDefault(q.key(), List.of())
+                    .stream()
+                    .filter(segment -> segment.contains(q.applicationDate()))
+                    .map(PriceSegment::price)
+                    .toList());
+        }
+        return result;
+    }
+
+    /**
+     * Recupera todas las tarifas de un producto y cadena de PRICES.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas del producto y cadena.
+     */
+    @Override
+    public List<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        return prices.findAllPrices(productId, brandId);
+    }
+
+    /**
+     * Recupera todas las tarifas de varias claves de PRICES.
+     *
+     * @param keys claves a recuperar.
+     * @return tarifas de cada clave pedida.
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findAllPrices(
+            final Collection<PriceKey> keys) {
+        return prices.findAllPrices(keys);
+    }
+
+    /**
+     * Mapea la fila actual a un {@link PriceSegment} leyendo las columnas
+     * por posición, en el orden de {@link #COLUMNS}.
+     *
+     * @param rs     resultado posicionado en la fila a mapear.
+     * @param rowNum número de fila (no se usa).
+     * @return tramo con su tarifa ganadora.
+     * @throws SQLException si falla la lectura de alguna columna.
+     */
+    private static PriceSegment mapRow(final ResultSet rs, final int rowNum)
+            throws SQLException {
+        Price price = Price.builder()
+                .brandId(rs.getLong(1))
+                .startDate(rs.getObject(2, LocalDateTime.class))
+                .endDate(rs.getObject(3, LocalDateTime.class))
+                .priceList(rs.getInt(4))
+                .productId(rs.getLong(5))
+                .priority(rs.getInt(6))
+                .priceMinor(rs.getLong(7))
+                .curr(rs.getString(8))
+                .build();
+        return new PriceSegment(rs.getObject(9, LocalDateTime.class),
+                rs.getObject(10, LocalDateTime.class), price);
+    }
+}
@@ -0,0 +1,169 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload.LoadedPriceIndex;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload.PriceIndexHolder;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload.PriceIndexStatus;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload.ReloadablePriceStorage;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.snapshot.PriceSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Adaptador de infraestructura que implementa {@link PriceRepository}
+ * sobre un fichero de instantánea mapeado en memoria.
+ * <p>
+ * Al arrancar solo mapea el fichero indicado en
+ * {@code price.snapshot.path} (generado con
+ * {@code price.snapshot.export-path}), sin leer la base de datos ni
+ * construir índices en el heap; cada consulta se resuelve sobre las
+ * páginas mapeadas y solo se construye el {@link Price} ganador. Se
+ * activa con {@code price.repository.type=snapshot}.
+ * </p>
+ * <p>
+ * Una recarga vuelve a abrir la ruta, por lo que recoge la instantánea
+ * regenerada en el mismo sitio. El fichero anterior se cierra al
+ * publicar el nuevo; sus regiones mapeadas siguen siendo válidas para
+ * las consultas en curso hasta que el recolector las libera.
+ * </p>
+ */
+@Component
+@PriceStorage
+@ConditionalOnProperty(prefix = "price.repository", name = "type",
+        havingValue = "snapshot")
+public class SnapshotPriceRepositoryAdapter
+        implements PriceRepository, ReloadablePriceStorage, DisposableBean {
+
+    /** Logger. */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(SnapshotPriceRepositoryAdapter.class);
+
+    /** Fichero de la instantánea. */
+    private final Path path;
+
+    /** Instantánea mapeada publicada. */
+    private final PriceIndexHolder<PriceSnapshot> holder;
+
+    /**
+     * Abre y mapea la instantánea.
+     *
+     * @param snapshotPath fichero de la instantánea.
+     */
+    public SnapshotPriceRepositoryAdapter(
+            @Value("${price.snapshot.path}") final String snapshotPath) {
+        this.path = Path.of(snapshotPath);
+        this.holder = new PriceIndexHolder<>(
+                getClass().getSimpleName(), null, this::open,
+                SnapshotPriceRepositoryAdapter::close);
+        holder.load();
+    }
+
+    /**
+     * Recupera la tarifa aplicable de mayor prioridad.
+     *
+     * @param applicationDate fecha de aplicación para la búsqueda.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return lista con el {@link Price} ganador, o vacía si no hay tarifa.
+     */
+    @Override
+    public List<Price> findApplicablePrices(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        PriceSnapshot snapshot = holder.index();
+        int row = snapshot.findApplicable(productId, brandId,
+                applicationDate);
+        if (row == PriceSnapshot.NOT_FOUND) {
+            return List.of();
+        }
+        return List.of(snapshot.toPrice(row));
+    }
+
+    /**
+     * Recupera todas las tarifas de un producto y cadena.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas de la clave.
+     */
+    @Override
+    public List<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        return holder.index().findAll(productId, brandId);
+    }
+
+    /**
+     * @return estado de la instantánea publicada
+     */
+    @Override
+    public PriceIndexStatus indexStatus() {
+        return holder.status();
+    }
+
+    /**
+     * Vuelve a abrir la instantánea en segundo plano y la publica si es
+     * válida.
+     *
+     * @return estado de la nueva versión, o fallo si no es válida
+     */
+    @Override
+    public CompletableFuture<PriceIndexStatus> reload() {
+        return holder.reloadAsync();
+    }
+
+    /**
+     * @param listener acción a ejecutar tras cada publicación
+     */
+    @Override
+    public void addReloadListener(final Runnable listener) {
+        holder.addListener(listener);
+    }
+
+    /**
+     * Cierra el fichero y el hilo de recarga al parar el contexto.
+     */
+    @Override
+    public void destroy() {
+        holder.close();
+        close(holder.index());
+    }
+
+    private LoadedPriceIndex<PriceSnapshot> open() {
+        PriceSnapshot snapshot;
+        try {
+            snapshot = PriceSnapshot.open(path);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(
+                    "No se pudo abrir la instantánea de precios " + path, ex);
+        }
+        return new LoadedPriceIndex<>(snapshot, snapshot.size(),
+                snapshot.fileSize(), snapshot.keyCount() + " claves, "
+                        + snapshot.fileSize() + " bytes mapeados de "
+                        + path);
+    }
+
+    private static void close(final PriceSnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            snapshot.close();
+        } catch (IOException ex) {
+            LOGGER.warn("No se pudo cerrar la instantánea {}",
+                    snapshot.path(), ex);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceTimeline;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository.PriceJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de infraestructura que implementa {@link PriceRepository}
+ * sobre líneas temporales de precio efectivo precalculadas.
+ * <p>
+ * Al cargar, agrupa las tarifas por (productId, brandId) y aplana cada
+ * grupo en una {@link PriceTimeline}, resolviendo los solapamientos por
+ * prioridad una sola vez. Cada consulta es una búsqueda binaria que
+ * devuelve, como mucho, el precio ganador. Junto a cada línea temporal
+ * se conservan las tarifas originales de la clave, en el orden de carga,
+ * para {@link #findAllPrices(Long, Long)}. Se activa con
+ * {@code price.repository.type=timeline}.
+ * </p>
+ */
+@Component
+@PriceStorage
+@ConditionalOnProperty(prefix = "price.repository", name = "type",
+        havingValue = "timeline")
+public class TimelinePriceRepositoryAdapter extends
+        PreloadedPriceRepositoryAdapter<
+                Map<PriceKey, TimelinePriceRepositoryAdapter.KeyTimeline>> {
+
+    /**
+     * Tarifas de una clave en el orden de carga y su línea temporal.
+     *
+     * @param prices   tarifas originales de la clave
+     * @param timeline línea temporal construida con ellas
+     */
+    record KeyTimeline(List<Price> prices, PriceTimeline timeline) {
+
+        static KeyTimeline of(final List<Price> prices) {
+            return new KeyTimeline(List.copyOf(prices),
+                    PriceTimeline.of(prices));
+        }
+    }
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jpaRepository repositorio JPA del que se cargan las tarifas.
+     * @param mapper        componente de mapeo entre entidad y
+     *                      modelo de dominio.
+     */
+    public TimelinePriceRepositoryAdapter(
+            final PriceJpaRepository jpaRepository,
+            final PriceMapper mapper) {
+        super(jpaRepository, mapper, Map.of());
+    }
+
+    /**
+     * Recupera el precio ganador del tramo que contiene la fecha de
+     * aplicación.
+     *
+     * @param applicationDate fecha de aplicación para la búsqueda.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return lista con el {@link Price} ganador, o vacía si no hay tarifa.
+     */
+    @Override
+    public List<Price> findApplicablePrices(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        KeyTimeline entry = index().get(new PriceKey(productId, brandId));
+        if (entry == null) {
+            return List.of();
+        }
+        return entry.timeline().priceAt(applicationDate)
+                .map(List::of)
+                .orElse(List.of());
+    }
+
+    /**
+     * Recupera todas las tarifas de un producto y cadena en el orden en
+     * que se cargaron, incluidas las que ninguna fecha llega a aplicar.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas de la clave.
+     */
+    @Override
+    public List<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        KeyTimeline entry = index().get(new PriceKey(productId, brandId));
+        return entry == null ? List.of() : entry.prices();
+    }
+
+    @Override
+    protected Map<PriceKey, KeyTimeline> buildIndex(
+            final List<Price> prices) {
+        Map<PriceKey, KeyTimeline> timelines = new HashMap<>();
+        prices.stream()
+                .collect(Collectors.groupingBy(PriceKey::of))
+                .forEach((key, keyPrices) ->
+                        timelines.put(key, KeyTimeline.of(keyPrices)));
+        return Map.copyOf(timelines);
+    }
+
+    @Override
+    protected Map<PriceKey, KeyTimeline> applyChanges(
+            final Map<PriceKey, KeyTimeline> current,
+            final Map<PriceKey, List<Price>> changed) {
+        Map<PriceKey, KeyTimeline> timelines = new HashMap<>(current);
+        changed.forEach((key, keyPrices) -> {
+            if (keyPrices.isEmpty()) {
+                timelines.remove(key);
+            } else {
+                timelines.put(key, KeyTimeline.of(keyPrices));
+            }
+        });
+        return Map.copyOf(timelines);
+    }
+
+    @Override
+    protected int priceCount(final Map<PriceKey, KeyTimeline> loaded) {
+        return loaded.values().stream()
+                .mapToInt(entry -> entry.prices().size())
+                .sum();
+    }
+
+    @Override
+    protected String describe(final Map<PriceKey, KeyTimeline> loaded) {
+        int segments = loaded.values().stream()
+                .mapToInt(entry -> entry.timeline().segmentCount())
+                .sum();
+        return loaded.size() + " claves, " + segments + " tramos";
+    }
+}
@@ -0,0 +1,98 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del archivo de tarifas caducadas, con el prefijo
+ * {@code price.archive}.
+ *
+ * <p>Ejemplo:</p>
+ * <pre>
+ * price.archive.enabled=true
+ * price.archive.retention=1d
+ * price.archive.interval=1h
+ * price.archive.batch-size=1000
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "price.archive")
+public class PriceArchiveProperties {
+
+    /**
+     * Si el archivo está activo.
+     */
+    private boolean enabled;
+
+    /**
+     * Tiempo que una tarifa sigue en PRICES después de caducar.
+     */
+    private Duration retention = Duration.ofDays(1);
+
+    /**
+     * Pausa entre dos traslados.
+     */
+    private Duration interval = Duration.ofHours(1);
+
+    /**
+     * Número máximo de tarifas trasladadas en cada transacción.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * @return si el archivo está activo
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabledParam si el archivo está activo
+     */
+    public void setEnabled(final boolean enabledParam) {
+        this.enabled = enabledParam;
+    }
+
+    /**
+     * @return tiempo que una tarifa sigue en PRICES después de caducar
+     */
+    public Duration getRetention() {
+        return retention;
+    }
+
+    /**
+     * @param retentionParam tiempo que una tarifa sigue en PRICES después
+     *                       de caducar
+     */
+    public void setRetention(final Duration retentionParam) {
+        this.retention = retentionParam;
+    }
+
+    /**
+     * @return pausa entre traslados
+     */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * @param intervalParam pausa entre traslados
+     */
+    public void setInterval(final Duration intervalParam) {
+        this.interval = intervalParam;
+    }
+
+    /**
+     * @return número máximo de tarifas por transacción
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSizeParam número máximo de tarifas por transacción
+     */
+    public void setBatchSize(final int batchSizeParam) {
+        this.batchSize = batchSizeParam;
+    }
+}
@@ -0,0 +1,267 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.archive;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Traslado periódico de las tarifas caducadas de PRICES al archivo
+ * PRICES_ARCHIVE.
+ * <p>
+ * Cada traslado mueve las tarifas cuyo fin es anterior al reloj menos
+ * {@code retention}, en lotes de {@code batchSize} filas: cada lote
+ * bloquea sus filas, las copia al archivo con su mismo ID y las borra de
+ * PRICES en una única transacción. Antes de mover nada avisa a los
+ * destinatarios registrados del nuevo límite (el {@link TieredPriceRepository}
+ * empieza a consultar el archivo para las fechas anteriores), de modo que
+ * una tarifa trasladada nunca deja de encontrarse.
+ * </p>
+ * <p>
+ * El borrado en PRICES pasa por sus triggers: con la recarga incremental
+ * activa, los índices en memoria descartan las tarifas trasladadas como
+ * cualquier otro cambio. Publica {@value #METRIC_MOVED}.
+ * </p>
+ */
+public class PriceArchiver implements SmartLifecycle {
+
+    /**
+     * Métrica de tarifas trasladadas al archivo.
+     */
+    public static final String METRIC_MOVED = "prices.archive.moved";
+
+    /**
+     * Tabla del archivo, con las mismas columnas que PRICES.
+     */
+    public static final String ARCHIVE_TABLE = "PRICES_ARCHIVE";
+
+    /** Tarifas caducadas de un lote, bloqueadas hasta el fin del lote. */
+    static final String SQL_EXPIRED = "SELECT ID FROM PRICES"
+            + " WHERE END_DATE < ? LIMIT ? FOR UPDATE";
+
+    /** Copia de un lote al archivo. */
+    static final String SQL_COPY = "INSERT INTO PRICES_ARCHIVE (ID,"
+            + " BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID,"
+            + " PRIORITY, PRICE_MINOR, CURR) SELECT ID, BRAND_ID,"
+            + " START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY,"
+            + " PRICE_MINOR, CURR FROM PRICES WHERE ID IN (:ids)";
+
+    /** Borrado de un lote de PRICES. */
+    static final String SQL_DELETE = "DELETE FROM PRICES WHERE ID IN (:ids)";
+
+    /** Fin de la tarifa archivada más reciente. */
+    static final String SQL_ARCHIVED_UNTIL =
+            "SELECT MAX(END_DATE) FROM PRICES_ARCHIVE";
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(PriceArchiver.class);
+
+    /**
+     * Plantilla JDBC para las sentencias con parámetros posicionales.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Plantilla JDBC para las sentencias con listas de parámetros.
+     */
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Transacción de cada lote.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Configuración del traslado.
+     */
+    private final PriceArchiveProperties properties;
+
+    /**
+     * Reloj del que se deduce qué tarifas han caducado.
+     */
+    private final Clock clock;
+
+    /**
+     * Destinatarios del límite de cada traslado.
+     */
+    private final List<Consumer<LocalDateTime>> listeners =
+            new CopyOnWriteArrayList<>();
+
+    /**
+     * Tarifas trasladadas.
+     */
+    private final Counter moved;
+
+    /**
+     * Hilo del traslado, o {@code null} si está parado.
+     */
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Crea el archivador y registra sus métricas.
+     *
+     * @param template           plantilla JDBC
+     * @param transactionManager gestor de transacciones de los lotes
+     * @param archiveProperties  configuración del traslado
+     * @param archiveClock       reloj del que se deduce qué tarifas han
+     *                           caducado
+     * @param registry           registro de métricas
+     */
+    public PriceArchiver(final JdbcTemplate template,
+                         final PlatformTransactionManager transactionManager,
+                         final PriceArchiveProperties archiveProperties,
+                         final Clock archiveClock,
+                         final MeterRegistry registry) {
+        if (archiveProperties.getBatchSize() < 1) {
+            throw new IllegalArgumentException(
+                    "batchSize debe ser positivo");
+        }
+        this.jdbcTemplate = template;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = archiveProperties;
+        this.clock = Objects.requireNonNull(archiveClock,
+                "archiveClock no puede ser nulo");
+        this.moved = Counter.builder(METRIC_MOVED)
+                .description("Tarifas trasladadas de PRICES al archivo")
+                .register(registry);
+    }
+
+    /**
+     * Registra un destinatario del límite de cada traslado: el fin
+     * (excluido) de todas las tarifas que puede haber en el archivo. Se
+     * invoca antes de mover nada.
+     *
+     * @param listener destinatario
+     */
+    public void addListener(final Consumer<LocalDateTime> listener) {
+        listeners.add(Objects.requireNonNull(listener,
+                "listener no puede ser nulo"));
+    }
+
+    /**
+     * Fin (excluido) de las tarifas que ya están en el archivo.
+     *
+     * @return instante posterior al fin de la tarifa archivada más
+     * reciente, o {@link LocalDateTime#MIN} si el archivo está vacío
+     */
+    public LocalDateTime archivedUntil() {
+        Timestamp latest = jdbcTemplate.queryForObject(SQL_ARCHIVED_UNTIL,
+                Timestamp.class);
+        return latest == null ? LocalDateTime.MIN
+                : latest.toLocalDateTime().plusNanos(1);
+    }
+
+    /**
+     * Traslada al archivo todas las tarifas caducadas hace más de
+     * {@code retention}.
+     *
+     * @return número de tarifas trasladadas
+     */
+    public synchronized int archive() {
+        LocalDateTime cutoff = LocalDateTime.now(clock)
+                .minus(properties.getRetention());
+        for (Consumer<LocalDateTime> listener : listeners) {
+            listener.accept(cutoff);
+        }
+        int total = 0;
+        int batch;
+        do {
+            batch = moveBatch(cutoff);
+            moved.increment(batch);
+            total += batch;
+        } while (batch == properties.getBatchSize());
+
+        if (total > 0) {
+            LOGGER.info("{} tarifas caducadas antes del {} trasladadas al"
+                    + " archivo", total, cutoff);
+        }
+        return total;
+    }
+
+    private int moveBatch(final LocalDateTime cutoff) {
+        Integer count = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(SQL_EXPIRED,
+                    Long.class, Timestamp.valueOf(cutoff),
+                    properties.getBatchSize());
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            Map<String, List<Long>> params = Map.of("ids", ids);
+            namedJdbcTemplate.update(SQL_COPY, params);
+            namedJdbcTemplate.update(SQL_DELETE, params);
+            return ids.size();
+        });
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Programa el traslado, el primero al arrancar.
+     */
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        LOGGER.info("Traslado al archivo cada {} de las tarifas caducadas"
+                + " hace más de {}", properties.getInterval(),
+                properties.getRetention());
+        ScheduledExecutorService executor =
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "price-archive");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.scheduleWithFixedDelay(this::archiveSafely, 0,
+                properties.getInterval().toMillis(), TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    /**
+     * Detiene el traslado.
+     */
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * @return si el traslado está programado
+     */
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void archiveSafely() {
+        try {
+            archive();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Fallo al trasladar tarifas al archivo; se"
+                    + " reintentará en el siguiente traslado", ex);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.archive;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link PriceRepository} que dirige cada consulta al nivel del historial
+ * de tarifas que le corresponde según su fecha.
+ * <p>
+ * El nivel caliente es el almacenamiento activo sobre PRICES (tarifas
+ * vigentes, futuras y recién caducadas); el frío, el archivo
+ * PRICES_ARCHIVE con las tarifas que {@link PriceArchiver} traslada al
+ * caducar. Todas las tarifas del archivo terminan antes de
+ * {@link #coldUntil()}, y una tarifa solo aplica en fechas anteriores a su
+ * fin: las consultas de fechas posteriores solo leen el nivel caliente, y
+ * las anteriores leen los dos, porque una tarifa larga que empezó entonces
+ * puede seguir en PRICES.
+ * </p>
+ * <p>
+ * El límite solo avanza, y el archivador lo avanza antes de trasladar
+ * nada. Por eso se lee el nivel caliente antes que el límite y que el
+ * nivel frío: una tarifa que se traslada entre las lecturas aparece en
+ * ambos niveles y se descarta el duplicado, pero nunca falta. Las
+ * búsquedas de todas las tarifas de una clave leen siempre los dos
+ * niveles. Publica {@value #METRIC_LOOKUPS} con {@code tier=hot|cold}.
+ * </p>
+ */
+public class TieredPriceRepository implements PriceRepository {
+
+    /**
+     * Métrica de consultas por nivel.
+     */
+    public static final String METRIC_LOOKUPS = "prices.tier.lookups";
+
+    /**
+     * Nivel caliente.
+     */
+    private final PriceRepository hot;
+
+    /**
+     * Nivel frío.
+     */
+    private final PriceRepository cold;
+
+    /**
+     * Consultas resueltas solo con el nivel caliente.
+     */
+    private final Counter hotLookups;
+
+    /**
+     * Consultas que también leen el nivel frío.
+     */
+    private final Counter coldLookups;
+
+    /**
+     * Fin (excluido) de todas las tarifas del nivel frío.
+     */
+    private volatile LocalDateTime coldUntil;
+
+    /**
+     * Crea el repositorio y registra sus métricas.
+     *
+     * @param hotTier   almacenamiento sobre PRICES
+     * @param coldTier  archivo de tarifas caducadas
+     * @param coldLimit fin (excluido) de todas las tarifas del archivo
+     * @param registry  registro de métricas
+     */
+    public TieredPriceRepository(final PriceRepository hotTier,
+                                 final PriceRepository coldTier,
+                                 final LocalDateTime coldLimit,
+                                 final MeterRegistry registry) {
+        this.hot = Objects.requireNonNull(hotTier,
+                "hotTier no puede ser nulo");
+        this.cold = Objects.requireNonNull(coldTier,
+                "coldTier no puede ser nulo");
+        this.coldUntil = Objects.requireNonNull(coldLimit,
+                "coldLimit no puede ser nulo");
+        this.hotLookups = Counter.builder(METRIC_LOOKUPS)
+                .tag("tier", "hot")
+                .description("Consultas resueltas solo con PRICES")
+                .register(registry);
+        this.coldLookups = Counter.builder(METRIC_LOOKUPS)
+                .tag("tier", "cold")
+                .description("Consultas que también leen el archivo")
+                .register(registry);
+    }
+
+    /**
+     * Avanza el fin del nivel frío. Se invoca antes de trasladar al
+     * archivo tarifas que terminan antes de {@code until}.
+     *
+     * @param until nuevo fin (excluido) de las tarifas del archivo
+     */
+    public synchronized void extendColdUntil(final LocalDateTime until) {
+        if (until.isAfter(coldUntil)) {
+            coldUntil = until;
+        }
+    }
+
+    /**
+     * @return fin (excluido) de todas las tarifas del nivel frío
+     */
+    public LocalDateTime coldUntil() {
+        return coldUntil;
+    }
+
+    /**
+     * Busca en el nivel caliente y, si la fecha es anterior al fin del
+     * frío, también en el frío.
+     *
+     * @param applicationDate fecha de aplicación.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return candidatos de los niveles consultados.
+     */
+    @Override
+    public List<Price> findApplicablePrices(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        List<Price> hotPrices = hot.findApplicablePrices(applicationDate,
+                productId, brandId);
+        if (!applicationDate.isBefore(coldUntil)) {
+            hotLookups.increment();
+            return hotPrices;
+        }
+        coldLookups.increment();
+        return merge(hotPrices, cold.findApplicablePrices(applicationDate,
+                productId, brandId));
+    }
+
+    /**
+     * Resuelve el lote en el nivel caliente y las consultas anteriores al
+     * fin del frío, además, en el frío.
+     *
+     * @param queries consultas del lote.
+     * @return candidatos de cada consulta distinta.
+     */
+    @Override
+    public Map<PriceQuery, List<Price>> findApplicablePrices(
+            final Collection<PriceQuery> queries) {
+        Map<PriceQuery, List<Price>> result = new HashMap<>(
+                hot.findApplicablePrices(queries));
+        LocalDateTime limit = coldUntil;
+        List<PriceQuery> old = new ArrayList<>();
+        for (PriceQuery query : queries) {
+            if (query.applicationDate().isBefore(limit)) {
+                old.add(query);
+            }
+        }
+        hotLookups.increment(queries.size() - old.size());
+        if (old.isEmpty()) {
+            return result;
+        }
+        coldLookups.increment(old.size());
+        cold.findApplicablePrices(old).forEach((query, prices) ->
+                result.merge(query, prices, TieredPriceRepository::merge));
+        return result;
+    }
+
+    /**
+     * Recupera las tarifas de la clave de los dos niveles.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas vigentes y archivadas.
+     */
+    @Override
+    public List<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        return merge(hot.findAllPrices(productId, brandId),
+                cold.findAllPrices(productId, brandId));
+    }
+
+    /**
+     * Recupera las tarifas de varias claves de los dos niveles.
+     *
+     * @param keys claves a recuperar.
+     * @return tarifas vigentes y archivadas de cada clave.
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findAllPrices(
+            final Collection<PriceKey> keys) {
+        Map<PriceKey, List<Price>> result = new HashMap<>(
+                hot.findAllPrices(keys));
+        cold.findAllPrices(keys).forEach((key, prices) ->
+                result.merge(key, prices, TieredPriceRepository::merge));
+        return result;
+    }
+
+    /**
+     * Une las tarifas de los dos niveles, primero las calientes, sin las
+     * frías repetidas (trasladadas entre las dos lecturas).
+     */
+    private static List<Price> merge(final List<Price> hotPrices,
+                                     final List<Price> coldPrices) {
+        if (coldPrices.isEmpty()) {
+            return hotPrices;
+        }
+        if (hotPrices.isEmpty()) {
+            return coldPrices;
+        }
+        List<Price> merged = new ArrayList<>(hotPrices);
+        for (Price price : coldPrices) {
+            if (!hotPrices.contains(price)) {
+                merged.add(price);
+            }
+        }
+        return merged;
+    }
+}
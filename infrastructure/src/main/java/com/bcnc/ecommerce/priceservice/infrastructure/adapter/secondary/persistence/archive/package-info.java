@@ -0,0 +1,7 @@
+/**
+ * Contiene el almacenamiento por niveles del historial de tarifas: el
+ * traslado periódico de las tarifas caducadas de PRICES (nivel caliente)
+ * al archivo PRICES_ARCHIVE (nivel frío) y el repositorio que dirige cada
+ * consulta al nivel que le corresponde según su fecha.
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.archive;
@@ -0,0 +1,127 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.batching;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Decorador de {@link PriceRepository} que agrupa las búsquedas
+ * individuales concurrentes en una única consulta multi-clave.
+ * <p>
+ * Las búsquedas de precio aplicable que llegan dentro de la misma ventana
+ * (o hasta completar el tamaño máximo de lote) se resuelven con
+ * {@link PriceRepository#findApplicablePrices(Collection)}, y las de todas
+ * las tarifas de una clave con
+ * {@link PriceRepository#findAllPrices(Collection)}; cada llamada recibe
+ * después su propio resultado. Las búsquedas que ya son en bloque se
+ * delegan sin cambios.
+ * </p>
+ */
+public class BatchingPriceRepository implements PriceRepository {
+
+    /**
+     * Adaptador de almacenamiento decorado.
+     */
+    private final PriceRepository delegate;
+
+    /**
+     * Agrupador de las búsquedas de precio aplicable.
+     */
+    private final MicroBatcher<PriceQuery, List<Price>> applicable;
+
+    /**
+     * Agrupador de las búsquedas de todas las tarifas de una clave.
+     */
+    private final MicroBatcher<PriceKey, List<Price>> all;
+
+    /**
+     * Crea el decorador y registra sus métricas.
+     *
+     * @param storage  adaptador de almacenamiento decorado
+     * @param window   tiempo máximo de espera para completar un lote
+     * @param maxSize  número máximo de claves por lote
+     * @param registry registro de métricas
+     */
+    public BatchingPriceRepository(final PriceRepository storage,
+                                   final Duration window,
+                                   final int maxSize,
+                                   final MeterRegistry registry) {
+        this.delegate = Objects.requireNonNull(storage,
+                "storage no puede ser nulo");
+        this.applicable = new MicroBatcher<>("applicable",
+                delegate::findApplicablePrices, List.of(), window, maxSize,
+                registry);
+        this.all = new MicroBatcher<>("all", delegate::findAllPrices,
+                List.of(), window, maxSize, registry);
+    }
+
+    /**
+     * Resuelve la búsqueda dentro del lote en curso.
+     *
+     * @param applicationDate fecha de aplicación.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return candidatos de la consulta.
+     */
+    @Override
+    public List<Price> findApplicablePrices(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        if (applicationDate == null || productId == null || brandId == null) {
+            return delegate.findApplicablePrices(applicationDate, productId,
+                    brandId);
+        }
+        return applicable.load(
+                new PriceQuery(applicationDate, productId, brandId));
+    }
+
+    /**
+     * Delega: la búsqueda ya es en bloque.
+     *
+     * @param queries consultas del lote.
+     * @return candidatos de cada consulta.
+     */
+    @Override
+    public Map<PriceQuery, List<Price>> findApplicablePrices(
+            final Collection<PriceQuery> queries) {
+        return delegate.findApplicablePrices(queries);
+    }
+
+    /**
+     * Resuelve la búsqueda dentro del lote en curso.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas del producto y cadena.
+     */
+    @Override
+    public List<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        if (productId == null || brandId == null) {
+            return delegate.findAllPrices(productId, brandId);
+        }
+        return all.load(new PriceKey(productId, brandId));
+    }
+
+    /**
+     * Delega: la búsqueda ya es en bloque.
+     *
+     * @param keys claves a recuperar.
+     * @return tarifas de cada clave.
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findAllPrices(
+            final Collection<PriceKey> keys) {
+        return delegate.findAllPrices(keys);
+    }
+}
@@ -0,0 +1,277 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.batching;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Agrupa cargas individuales concurrentes en una única carga en bloque
+ * (al estilo <em>DataLoader</em>).
+ * <p>
+ * La primera llamada que llega con el lote vacío abre un lote y actúa de
+ * líder: espera como mucho la ventana configurada, cierra el lote y
+ * ejecuta en su propio hilo la carga en bloque de todas las claves
+ * reunidas. Las llamadas que llegan mientras el lote está abierto se
+ * añaden a él y esperan su resultado. Si el lote alcanza el tamaño máximo
+ * se cierra y el líder lo ejecuta sin agotar la ventana. Las claves
+ * repetidas dentro de un lote comparten resultado.
+ * </p>
+ * <p>
+ * No hay hilos propios ni tareas programadas. El bloqueo solo protege la
+ * apertura y el cierre del lote, nunca la carga. Publica
+ * {@value #METRIC_SIZE} (distribución del tamaño de los lotes) y
+ * {@value #METRIC_DELAY} (espera de cada llamada hasta que empieza su
+ * carga), etiquetadas con {@code operation}.
+ * </p>
+ *
+ * @param <K> tipo de la clave
+ * @param <V> tipo del resultado
+ */
+public class MicroBatcher<K, V> {
+
+    /**
+     * Métrica de tamaño de lote.
+     */
+    public static final String METRIC_SIZE = "prices.batching.size";
+
+    /**
+     * Métrica de espera en cola.
+     */
+    public static final String METRIC_DELAY = "prices.batching.queue.delay";
+
+    /**
+     * Carga en bloque; debe devolver una entrada por clave encontrada.
+     */
+    private final Function<Set<K>, Map<K, V>> bulkLoader;
+
+    /**
+     * Valor de las claves que la carga en bloque no devuelve.
+     */
+    private final V missing;
+
+    /**
+     * Tiempo máximo que el líder espera a que se llene el lote.
+     */
+    private final long windowNanos;
+
+    /**
+     * Número máximo de claves distintas por lote.
+     */
+    private final int maxSize;
+
+    /**
+     * Distribución del tamaño de los lotes.
+     */
+    private final DistributionSummary batchSize;
+
+    /**
+     * Espera de cada llamada hasta que empieza la carga de su lote.
+     */
+    private final Timer queueDelay;
+
+    /**
+     * Lote abierto, o {@code null} si no hay ninguno.
+     */
+    private Batch<K, V> open;
+
+    /**
+     * Crea el agrupador y registra sus métricas.
+     *
+     * @param operation  nombre de la operación en las métricas
+     * @param bulkLoader carga en bloque
+     * @param missing    valor de las claves sin resultado
+     * @param window     tiempo máximo de espera del líder
+     * @param maxSize    número máximo de claves por lote
+     * @param registry   registro de métricas
+     */
+    public MicroBatcher(final String operation,
+                        final Function<Set<K>, Map<K, V>> bulkLoader,
+                        final V missing,
+                        final Duration window,
+                        final int maxSize,
+                        final MeterRegistry registry) {
+        if (window.isNegative() || maxSize < 1) {
+            throw new IllegalArgumentException(
+                    "window no puede ser negativa y maxSize debe ser positivo");
+        }
+        this.bulkLoader = Objects.requireNonNull(bulkLoader,
+                "bulkLoader no puede ser nulo");
+        this.missing = missing;
+        this.windowNanos = window.toNanos();
+        this.maxSize = maxSize;
+        this.batchSize = DistributionSummary.builder(METRIC_SIZE)
+                .description("Claves distintas por carga en bloque")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.queueDelay = Timer.builder(METRIC_DELAY)
+                .description("Espera de cada búsqueda hasta que empieza la "
+                        + "carga en bloque de su lote")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Carga una clave junto con las demás que lleguen dentro de la ventana.
+     *
+     * @param key clave a cargar
+     * @return resultado de la clave
+     */
+    public V load(final K key) {
+        Objects.requireNonNull(key, "key no puede ser nula");
+        long enqueued = System.nanoTime();
+        Batch<K, V> batch;
+        CompletableFuture<V> result;
+        boolean leader;
+        synchronized (this) {
+            leader = open == null;
+            if (leader) {
+                open = new Batch<>();
+            }
+            batch = open;
+            result = batch.add(key, enqueued);
+            if (batch.size() >= maxSize) {
+                open = null;
+                batch.full.countDown();
+            }
+        }
+
+        if (leader) {
+            awaitWindow(batch);
+            synchronized (this) {
+                if (open == batch) {
+                    open = null;
+                }
+            }
+            run(batch);
+        }
+        return await(result);
+    }
+
+    /**
+     * El líder espera a que pase la ventana o se llene el lote.
+     *
+     * @param batch lote abierto por el líder
+     */
+    private void awaitWindow(final Batch<K, V> batch) {
+        try {
+            batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            // Se ejecuta el lote igualmente: hay otras llamadas esperándolo.
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Ejecuta la carga en bloque de un lote cerrado y entrega a cada
+     * llamada su resultado o la excepción de la carga.
+     *
+     * @param batch lote cerrado
+     */
+    private void run(final Batch<K, V> batch) {
+        long started = System.nanoTime();
+        for (int i = 0; i < batch.calls; i++) {
+            queueDelay.record(started - batch.enqueued[i],
+                    TimeUnit.NANOSECONDS);
+        }
+        batchSize.record(batch.size());
+
+        try {
+            Map<K, V> loaded = bulkLoader.apply(batch.results.keySet());
+            batch.results.forEach((key, future) ->
+                    future.complete(loaded.getOrDefault(key, missing)));
+        } catch (RuntimeException | Error ex) {
+            batch.results.values().forEach(future ->
+                    future.completeExceptionally(ex));
+        }
+    }
+
+    /**
+     * Espera el resultado de una clave, propagando la excepción original
+     * de la carga.
+     *
+     * @param result resultado pendiente
+     * @return resultado de la clave
+     */
+    private static <V> V await(final CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Lote de claves pendientes. Solo se modifica con el monitor del
+     * {@link MicroBatcher} y mientras está abierto.
+     *
+     * @param <K> tipo de la clave
+     * @param <V> tipo del resultado
+     */
+    private static final class Batch<K, V> {
+
+        /**
+         * Resultado pendiente de cada clave distinta, en orden de llegada.
+         */
+        private final Map<K, CompletableFuture<V>> results =
+                new LinkedHashMap<>();
+
+        /**
+         * Instante de llegada de cada llamada.
+         */
+        private long[] enqueued = new long[8];
+
+        /**
+         * Número de llamadas añadidas.
+         */
+        private int calls;
+
+        /**
+         * Se abre cuando el lote alcanza el tamaño máximo.
+         */
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        /**
+         * Añade una llamada al lote.
+         *
+         * @param key     clave de la llamada
+         * @param arrival instante de llegada
+         * @return resultado pendiente de la clave
+         */
+        CompletableFuture<V> add(final K key, final long arrival) {
+            if (calls == enqueued.length) {
+                enqueued = Arrays.copyOf(enqueued, calls * 2);
+            }
+            enqueued[calls++] = arrival;
+            return results.computeIfAbsent(key,
+                    k -> new CompletableFuture<>());
+        }
+
+        /**
+         * @return número de claves distintas del lote
+         */
+        int size() {
+            return results.size();
+        }
+    }
+}
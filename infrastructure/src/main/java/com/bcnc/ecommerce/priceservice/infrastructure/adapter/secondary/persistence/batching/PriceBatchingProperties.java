@@ -0,0 +1,78 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.batching;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la agrupación en micro-lotes, con el prefijo
+ * {@code price.batching}.
+ *
+ * <p>Ejemplo:</p>
+ * <pre>
+ * price.batching.enabled=true
+ * price.batching.window=2ms
+ * price.batching.max-size=64
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "price.batching")
+public class PriceBatchingProperties {
+
+    /**
+     * Si la agrupación está activa.
+     */
+    private boolean enabled;
+
+    /**
+     * Tiempo máximo que espera la primera búsqueda de un lote a que
+     * lleguen más.
+     */
+    private Duration window = Duration.ofMillis(2);
+
+    /**
+     * Número máximo de claves distintas por lote.
+     */
+    private int maxSize = 64;
+
+    /**
+     * @return si la agrupación está activa
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabledParam si la agrupación está activa
+     */
+    public void setEnabled(final boolean enabledParam) {
+        this.enabled = enabledParam;
+    }
+
+    /**
+     * @return tiempo máximo de espera de un lote
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * @param windowParam tiempo máximo de espera de un lote
+     */
+    public void setWindow(final Duration windowParam) {
+        this.window = windowParam;
+    }
+
+    /**
+     * @return número máximo de claves por lote
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param maxSizeParam número máximo de claves por lote
+     */
+    public void setMaxSize(final int maxSizeParam) {
+        this.maxSize = maxSizeParam;
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Contiene la agrupación en micro-lotes de las búsquedas concurrentes de
+ * precios antes de llegar al adaptador de almacenamiento activo de
+ * {@code PriceRepository}.
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.batching;
@@ -0,0 +1,200 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.cache;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceTimeline;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Decorador de {@link PriceRepository} que cachea, por cada
+ * (productId, brandId), el precio ganador junto con su ventana de validez.
+ * <p>
+ * El precio aplicable de una clave es el mismo para cualquier fecha dentro
+ * de un tramo de precio efectivo, por lo que una caché indexada por la
+ * fecha exacta apenas acertaría. En su lugar, al primer fallo de una clave
+ * se cargan todas sus tarifas y se cachea su {@link PriceTimeline}: la
+ * secuencia de tramos (ventana de validez y precio ganador) de la clave.
+ * Cualquier consulta posterior de esa clave, sea cual sea la fecha, se
+ * resuelve en memoria; las claves sin tarifas también se cachean.
+ * </p>
+ * <p>
+ * La caché es de Caffeine (política de expulsión W-TinyLFU), con tamaño
+ * acotado por el número total de tramos cacheados y caducidad tras la
+ * escritura. Publica en Micrometer las métricas estándar de caché
+ * ({@code cache.gets} con {@code result=hit|miss}, {@code cache.evictions},
+ * {@code cache.size}...) con el nombre {@value #CACHE_NAME}.
+ * </p>
+ */
+public class CachingPriceRepository implements PriceRepository {
+
+    /**
+     * Nombre de la caché en las métricas.
+     */
+    public static final String CACHE_NAME = "prices.timeline";
+
+    /**
+     * Adaptador de almacenamiento decorado.
+     */
+    private final PriceRepository delegate;
+
+    /**
+     * Líneas temporales cacheadas por clave.
+     */
+    private final Cache<PriceKey, PriceTimeline> cache;
+
+    /**
+     * Crea el decorador y registra sus métricas.
+     *
+     * @param storage         adaptador de almacenamiento decorado
+     * @param maximumSegments número máximo de tramos cacheados
+     * @param expireAfterWrite tiempo de vida de cada entrada
+     * @param registry        registro de métricas
+     */
+    public CachingPriceRepository(final PriceRepository storage,
+                                  final long maximumSegments,
+                                  final Duration expireAfterWrite,
+                                  final MeterRegistry registry) {
+        this.delegate = Objects.requireNonNull(storage,
+                "storage no puede ser nulo");
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSegments)
+                .weigher((PriceKey key, PriceTimeline timeline) ->
+                        Math.max(1, timeline.segmentCount()))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Resuelve la consulta con la línea temporal cacheada de la clave,
+     * cargándola del almacenamiento si no está en caché.
+     *
+     * @param applicationDate fecha de aplicación.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return lista con el precio ganador, o vacía si no hay tarifa.
+     */
+    @Override
+    public List<Price> findApplicablePrices(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        PriceTimeline timeline = cache.get(new PriceKey(productId, brandId),
+                key -> PriceTimeline.of(delegate.findAllPrices(
+                        key.productId(), key.brandId())));
+        return winnerAt(timeline, applicationDate);
+    }
+
+    /**
+     * Resuelve un lote de consultas; las claves que no están en caché se
+     * cargan juntas con un único acceso al almacenamiento.
+     *
+     * @param queries consultas del lote.
+     * @return candidatos (como mucho el ganador) de cada consulta.
+     */
+    @Override
+    public Map<PriceQuery, List<Price>> findApplicablePrices(
+            final Collection<PriceQuery> queries) {
+        Set<PriceKey> keys = new HashSet<>();
+        for (PriceQuery query : queries) {
+            keys.add(query.key());
+        }
+
+        Map<PriceKey, PriceTimeline> timelines = cache.getAll(keys,
+                this::loadTimelines);
+
+        Map<PriceQuery, List<Price>> result = new HashMap<>();
+        for (PriceQuery query : queries) {
+            result.computeIfAbsent(query, q -> winnerAt(
+                    timelines.get(q.key()), q.applicationDate()));
+        }
+        return result;
+    }
+
+    /**
+     * Delega en el almacenamiento: la caché solo conserva las tarifas
+     * ganadoras, no todas.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas del producto y cadena.
+     */
+    @Override
+    public List<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        return delegate.findAllPrices(productId, brandId);
+    }
+
+    /**
+     * Delega en el almacenamiento: la caché solo conserva las tarifas
+     * ganadoras, no todas.
+     *
+     * @param keys claves a recuperar.
+     * @return tarifas de cada clave.
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findAllPrices(
+            final Collection<PriceKey> keys) {
+        return delegate.findAllPrices(keys);
+    }
+
+    /**
+     * Descarta la entrada de una clave, por ejemplo tras modificar sus
+     * tarifas.
+     *
+     * @param key clave a descartar
+     */
+    public void invalidate(final PriceKey key) {
+        cache.invalidate(key);
+    }
+
+    /**
+     * Descarta todas las entradas.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return número aproximado de claves cacheadas
+     */
+    public long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private Map<PriceKey, PriceTimeline> loadTimelines(
+            final Set<? extends PriceKey> missing) {
+        Map<PriceKey, List<Price>> prices = delegate.findAllPrices(
+                Set.copyOf(missing));
+        Map<PriceKey, PriceTimeline> timelines = new HashMap<>();
+        for (PriceKey key : missing) {
+            timelines.put(key, PriceTimeline.of(
+                    prices.getOrDefault(key, List.of())));
+        }
+        return timelines;
+    }
+
+    private static List<Price> winnerAt(final PriceTimeline timeline,
+                                        final LocalDateTime date) {
+        return timeline.priceAt(date)
+                .map(List::of)
+                .orElse(List.of());
+    }
+}
@@ -0,0 +1,77 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la caché de precios, con el prefijo
+ * {@code price.cache}.
+ *
+ * <p>Ejemplo:</p>
+ * <pre>
+ * price.cache.enabled=true
+ * price.cache.maximum-segments=100000
+ * price.cache.expire-after-write=10m
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "price.cache")
+public class PriceCacheProperties {
+
+    /**
+     * Si la caché está activa.
+     */
+    private boolean enabled;
+
+    /**
+     * Número máximo de tramos de precio cacheados entre todas las claves.
+     */
+    private long maximumSegments = 100_000;
+
+    /**
+     * Tiempo de vida de cada entrada desde que se carga.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /**
+     * @return si la caché está activa
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabledParam si la caché está activa
+     */
+    public void setEnabled(final boolean enabledParam) {
+        this.enabled = enabledParam;
+    }
+
+    /**
+     * @return número máximo de tramos cacheados
+     */
+    public long getMaximumSegments() {
+        return maximumSegments;
+    }
+
+    /**
+     * @param maximumSegmentsParam número máximo de tramos cacheados
+     */
+    public void setMaximumSegments(final long maximumSegmentsParam) {
+        this.maximumSegments = maximumSegmentsParam;
+    }
+
+    /**
+     * @return tiempo de vida de cada entrada
+     */
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    /**
+     * @param expireAfterWriteParam tiempo de vida de cada entrada
+     */
+    public void setExpireAfterWrite(final Duration expireAfterWriteParam) {
+        this.expireAfterWrite = expireAfterWriteParam;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Contiene la caché de precios que decora el adaptador de almacenamiento
+ * activo de {@code PriceRepository}.
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.cache;
@@ -0,0 +1,36 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cambios leídos del registro a partir de una marca de agua o en un rango
+ * de identificadores.
+ *
+ * @param keys         claves distintas afectadas
+ * @param lastChangeId identificador del último cambio leído (nueva marca
+ *                     de agua)
+ * @param changes      número de cambios leídos
+ * @param gaps         identificadores del tramo leído que no aparecen en
+ *                     el registro, en orden
+ */
+public record PriceChangeBatch(Set<PriceKey> keys,
+                               long lastChangeId,
+                               int changes,
+                               List<PriceChangeLog.Gap> gaps) {
+
+    /**
+     * Lote sin huecos.
+     *
+     * @param keys         claves distintas afectadas
+     * @param lastChangeId identificador del último cambio leído
+     * @param changes      número de cambios leídos
+     */
+    public PriceChangeBatch(final Set<PriceKey> keys,
+                            final long lastChangeId,
+                            final int changes) {
+        this(keys, lastChangeId, changes, List.of());
+    }
+}
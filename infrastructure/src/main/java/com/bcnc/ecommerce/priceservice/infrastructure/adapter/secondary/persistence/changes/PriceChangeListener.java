@@ -0,0 +1,30 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+
+import java.util.Set;
+
+/**
+ * Destinatario de los cambios de PRICES: un índice o caché que hay delante
+ * de {@code PriceRepository} y debe reflejarlos sin una recarga completa.
+ * <p>
+ * Los cambios se entregan como claves: el destinatario lee el estado
+ * actual de esas claves de {@code source} cuando le conviene (por
+ * ejemplo, dentro de su propia exclusión mutua), de modo que aplicar dos
+ * veces las mismas claves es inocuo.
+ * </p>
+ */
+@FunctionalInterface
+public interface PriceChangeListener {
+
+    /**
+     * Aplica los cambios de un conjunto de claves.
+     *
+     * @param keys   claves con alguna tarifa insertada, modificada o
+     *               borrada
+     * @param source repositorio que lee el estado actual de la base de
+     *               datos
+     */
+    void onPricesChanged(Set<PriceKey> keys, PriceRepository source);
+}
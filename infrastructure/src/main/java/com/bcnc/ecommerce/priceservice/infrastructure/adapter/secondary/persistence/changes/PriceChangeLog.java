@@ -0,0 +1,168 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Acceso JDBC a la tabla PRICES_CHANGELOG que alimenta
+ * {@link PriceChangeTrigger}.
+ * <p>
+ * Cada cambio tiene un identificador creciente ({@code CHANGE_ID}) que
+ * sirve de marca de agua: un consumidor lee los cambios posteriores a la
+ * última marca aplicada.
+ * </p>
+ * <p>
+ * El identificador se asigna al insertar, no al confirmar: una
+ * transacción larga puede confirmar sus cambios después de que otra
+ * posterior haya confirmado los suyos. Por eso cada lectura informa de
+ * los huecos de identificadores que deja por debajo de su último cambio,
+ * para que el consumidor los vuelva a leer con
+ * {@link #readRange(long, long)}.
+ * </p>
+ */
+public class PriceChangeLog {
+
+    /** Cambios posteriores a una marca de agua, en orden. */
+    static final String SQL_SINCE = "SELECT CHANGE_ID, PRODUCT_ID, BRAND_ID"
+            + " FROM PRICES_CHANGELOG WHERE CHANGE_ID > ?"
+            + " ORDER BY CHANGE_ID LIMIT ?";
+
+    /** Cambios de un rango de identificadores, en orden. */
+    static final String SQL_RANGE = "SELECT CHANGE_ID, PRODUCT_ID, BRAND_ID"
+            + " FROM PRICES_CHANGELOG WHERE CHANGE_ID BETWEEN ? AND ?"
+            + " ORDER BY CHANGE_ID";
+
+    /** Último cambio registrado antes de un instante. */
+    static final String SQL_LAST_BEFORE = "SELECT COALESCE(MAX(CHANGE_ID),"
+            + " 0) FROM PRICES_CHANGELOG WHERE CHANGED_AT < ?";
+
+    /** Cambios pendientes y antigüedad en milisegundos del más antiguo. */
+    static final String SQL_PENDING = "SELECT COUNT(*),"
+            + " COALESCE(DATEDIFF('MILLISECOND', MIN(CHANGED_AT),"
+            + " LOCALTIMESTAMP), 0)"
+            + " FROM PRICES_CHANGELOG WHERE CHANGE_ID > ?";
+
+    /** Borrado de los cambios anteriores a un instante. */
+    static final String SQL_PURGE = "DELETE FROM PRICES_CHANGELOG"
+            + " WHERE CHANGED_AT < ?";
+
+    /** Plantilla JDBC sobre el {@code DataSource} de la aplicación. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param template plantilla JDBC.
+     */
+    public PriceChangeLog(final JdbcTemplate template) {
+        this.jdbcTemplate = template;
+    }
+
+    /**
+     * Lee los cambios posteriores a una marca de agua.
+     *
+     * @param watermark último cambio ya aplicado
+     * @param limit     número máximo de cambios a leer
+     * @return cambios leídos, con los huecos entre la marca y el último
+     *         cambio leído; sin claves y con la misma marca si no hay
+     */
+    public PriceChangeBatch readSince(final long watermark,
+                                      final int limit) {
+        return read(SQL_SINCE, watermark, watermark + 1, Long.MIN_VALUE,
+                watermark, limit);
+    }
+
+    /**
+     * Lee los cambios de un rango de identificadores, normalmente un hueco
+     * que dejó una lectura anterior.
+     *
+     * @param from primer identificador del rango
+     * @param to   último identificador del rango
+     * @return cambios leídos, con los identificadores del rango que siguen
+     *         sin aparecer
+     */
+    public PriceChangeBatch readRange(final long from, final long to) {
+        return read(SQL_RANGE, from - 1, from, to, from, to);
+    }
+
+    private PriceChangeBatch read(final String sql, final long none,
+                                  final long from, final long to,
+                                  final Object... args) {
+        Set<PriceKey> keys = new LinkedHashSet<>();
+        List<Gap> gaps = new ArrayList<>();
+        long[] last = {none};
+        long[] expected = {from};
+        int[] changes = {0};
+        jdbcTemplate.query(sql, rs -> {
+            long id = rs.getLong(1);
+            if (id > expected[0]) {
+                gaps.add(new Gap(expected[0], id - 1));
+            }
+            expected[0] = id + 1;
+            last[0] = id;
+            keys.add(new PriceKey(rs.getLong(2), rs.getLong(3)));
+            changes[0]++;
+        }, args);
+        if (expected[0] <= to) {
+            gaps.add(new Gap(expected[0], to));
+        }
+        return new PriceChangeBatch(keys, last[0], changes[0], gaps);
+    }
+
+    /**
+     * @param instant instante de referencia
+     * @return identificador del último cambio registrado antes del
+     *         instante, o 0
+     */
+    public long lastChangeIdBefore(final LocalDateTime instant) {
+        Long id = jdbcTemplate.queryForObject(SQL_LAST_BEFORE, Long.class,
+                instant);
+        return id == null ? 0 : id;
+    }
+
+    /**
+     * Cuenta los cambios pendientes tras una marca de agua.
+     *
+     * @param watermark último cambio ya aplicado
+     * @return cambios pendientes y antigüedad del más antiguo
+     */
+    public Pending pending(final long watermark) {
+        return jdbcTemplate.queryForObject(SQL_PENDING, (rs, rowNum) ->
+                new Pending(rs.getLong(1), rs.getLong(2)), watermark);
+    }
+
+    /**
+     * Borra los cambios registrados antes de un instante.
+     *
+     * @param instant instante límite
+     * @return número de cambios borrados
+     */
+    public int purgeBefore(final LocalDateTime instant) {
+        return jdbcTemplate.update(SQL_PURGE, instant);
+    }
+
+    /**
+     * Rango de identificadores de cambio que no aparecen en el registro:
+     * de una transacción aún sin confirmar o de una deshecha.
+     *
+     * @param from primer identificador del hueco
+     * @param to   último identificador del hueco
+     */
+    public record Gap(long from, long to) {
+    }
+
+    /**
+     * Cambios pendientes tras una marca de agua.
+     *
+     * @param changes   número de cambios pendientes
+     * @param lagMillis antigüedad en milisegundos del más antiguo, o 0
+     */
+    public record Pending(long changes, long lagMillis) {
+    }
+}
@@ -0,0 +1,350 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes;
+
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sondeo periódico del registro de cambios de PRICES
+ * ({@link PriceChangeLog}) que aplica a los {@link PriceChangeListener}
+ * registrados solo las claves cambiadas desde la última marca de agua.
+ * <p>
+ * Cada sondeo lee los cambios en lotes de {@code batchSize} hasta ponerse
+ * al día, entrega las claves de cada lote a los destinatarios en el orden
+ * en que se registraron, y solo después avanza la marca de agua: si un
+ * destinatario falla, el lote se vuelve a aplicar en el siguiente sondeo.
+ * </p>
+ * <p>
+ * {@code CHANGE_ID} se asigna al insertar y no al confirmar, así que la
+ * marca de agua puede adelantar a una transacción aún abierta (un bloque
+ * de importación, por ejemplo) cuyos identificadores quedan por debajo.
+ * Esos huecos se guardan y cada sondeo los vuelve a leer por rango de
+ * clave primaria, entregando lo que haya aparecido, hasta que se llenan o
+ * pasa {@code gapTimeout} (una transacción deshecha deja huecos
+ * permanentes). Un cambio solo se pierde si su transacción tarda en
+ * confirmarse más que {@code gapTimeout}.
+ * </p>
+ * <p>
+ * La marca de agua y los huecos viven en memoria. Al arrancar, los
+ * índices se cargan completos y el sondeo empieza en el último cambio
+ * anterior a {@code replayFrom} (el arranque del proceso menos un
+ * margen), de modo que vuelve a aplicar todo cambio que pudiera haberse
+ * registrado durante la carga inicial; aplicar de nuevo una clave es
+ * inocuo.
+ * </p>
+ * <p>
+ * Publica {@value #METRIC_LAG} (antigüedad del cambio pendiente más
+ * antiguo), {@value #METRIC_PENDING}, {@value #METRIC_APPLIED} y
+ * {@value #METRIC_WATERMARK}.
+ * </p>
+ */
+public class PriceChangePoller implements SmartLifecycle {
+
+    /**
+     * Métrica de retraso: antigüedad del cambio pendiente más antiguo.
+     */
+    public static final String METRIC_LAG = "prices.changes.lag";
+
+    /**
+     * Métrica de cambios pendientes de aplicar.
+     */
+    public static final String METRIC_PENDING = "prices.changes.pending";
+
+    /**
+     * Métrica de cambios aplicados.
+     */
+    public static final String METRIC_APPLIED = "prices.changes.applied";
+
+    /**
+     * Métrica de la marca de agua.
+     */
+    public static final String METRIC_WATERMARK = "prices.changes.watermark";
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(PriceChangePoller.class);
+
+    /**
+     * Registro de cambios.
+     */
+    private final PriceChangeLog changeLog;
+
+    /**
+     * Repositorio del que los destinatarios leen el estado actual.
+     */
+    private final PriceRepository source;
+
+    /**
+     * Configuración del sondeo.
+     */
+    private final PriceChangeProperties properties;
+
+    /**
+     * Instante desde el que se vuelven a aplicar los cambios al arrancar.
+     */
+    private final LocalDateTime replayFrom;
+
+    /**
+     * Destinatarios de los cambios.
+     */
+    private final List<PriceChangeListener> listeners =
+            new CopyOnWriteArrayList<>();
+
+    /**
+     * Último cambio aplicado; -1 antes de arrancar.
+     */
+    private final AtomicLong watermark = new AtomicLong(-1);
+
+    /**
+     * Huecos de identificadores pendientes de volver a leer, en orden de
+     * detección; solo se usa dentro de {@link #poll()}.
+     */
+    private final List<PendingGap> gaps = new ArrayList<>();
+
+    /**
+     * Cambios pendientes en el último sondeo.
+     */
+    private final AtomicLong pendingChanges = new AtomicLong();
+
+    /**
+     * Antigüedad del cambio pendiente más antiguo en el último sondeo.
+     */
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    /**
+     * Cambios aplicados.
+     */
+    private final Counter applied;
+
+    /**
+     * Hilo del sondeo, o {@code null} si está parado.
+     */
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Crea el sondeo y registra sus métricas.
+     *
+     * @param log            registro de cambios
+     * @param priceSource    repositorio del estado actual de la base de
+     *                       datos
+     * @param changeProperties configuración del sondeo
+     * @param registry       registro de métricas
+     * @param replayInstant  instante desde el que se vuelven a aplicar los
+     *                       cambios al arrancar
+     */
+    public PriceChangePoller(final PriceChangeLog log,
+                             final PriceRepository priceSource,
+                             final PriceChangeProperties changeProperties,
+                             final MeterRegistry registry,
+                             final LocalDateTime replayInstant) {
+        if (changeProperties.getBatchSize() < 1) {
+            throw new IllegalArgumentException(
+                    "batchSize debe ser positivo");
+        }
+        this.changeLog = Objects.requireNonNull(log, "log no puede ser nulo");
+        this.source = Objects.requireNonNull(priceSource,
+                "priceSource no puede ser nulo");
+        this.properties = changeProperties;
+        this.replayFrom = replayInstant;
+        this.applied = Counter.builder(METRIC_APPLIED)
+                .description("Cambios de PRICES aplicados")
+                .register(registry);
+        TimeGauge.builder(METRIC_LAG, lagMillis, TimeUnit.MILLISECONDS,
+                        AtomicLong::get)
+                .description("Antigüedad del cambio de PRICES pendiente más"
+                        + " antiguo")
+                .register(registry);
+        Gauge.builder(METRIC_PENDING, pendingChanges, AtomicLong::get)
+                .description("Cambios de PRICES pendientes de aplicar")
+                .register(registry);
+        Gauge.builder(METRIC_WATERMARK, watermark, AtomicLong::get)
+                .description("Último cambio de PRICES aplicado")
+                .register(registry);
+    }
+
+    /**
+     * Registra un destinatario de los cambios. Se invocan en el orden de
+     * registro: primero los índices y después las cachés que los usan.
+     *
+     * @param listener destinatario
+     */
+    public void addListener(final PriceChangeListener listener) {
+        listeners.add(Objects.requireNonNull(listener,
+                "listener no puede ser nulo"));
+    }
+
+    /**
+     * Fija la marca de agua inicial y programa el sondeo.
+     */
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        watermark.set(changeLog.lastChangeIdBefore(replayFrom));
+        LOGGER.info("Sondeo de cambios de PRICES cada {} desde el cambio {}",
+                properties.getInterval(), watermark.get());
+        ScheduledExecutorService executor =
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "price-changes");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        long interval = properties.getInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::pollSafely, 0, interval,
+                TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    /**
+     * Detiene el sondeo.
+     */
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * @return si el sondeo está programado
+     */
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Aplica todos los cambios pendientes, actualiza las métricas y borra
+     * del registro los cambios más antiguos que la retención.
+     *
+     * @return número de cambios aplicados
+     */
+    public synchronized int poll() {
+        if (watermark.get() < 0) {
+            watermark.set(changeLog.lastChangeIdBefore(replayFrom));
+        }
+        int changes = pollGaps();
+        PriceChangeBatch batch;
+        do {
+            batch = changeLog.readSince(watermark.get(),
+                    properties.getBatchSize());
+            deliver(batch);
+            watermark.set(batch.lastChangeId());
+            LocalDateTime detectedAt = LocalDateTime.now();
+            batch.gaps().forEach(gap ->
+                    gaps.add(new PendingGap(gap, detectedAt)));
+            changes += batch.changes();
+        } while (batch.changes() == properties.getBatchSize());
+
+        if (changes > 0) {
+            LOGGER.debug("{} cambios de PRICES aplicados hasta el {}",
+                    changes, watermark.get());
+        }
+        updatePending();
+        changeLog.purgeBefore(LocalDateTime.now()
+                .minus(properties.getRetention()));
+        return changes;
+    }
+
+    /**
+     * @return último cambio aplicado
+     */
+    public long watermark() {
+        return watermark.get();
+    }
+
+    /**
+     * @return huecos de identificadores pendientes de volver a leer
+     */
+    public synchronized int pendingGaps() {
+        return gaps.size();
+    }
+
+    /**
+     * Vuelve a leer cada hueco pendiente y entrega los cambios que han
+     * aparecido. Lo que sigue sin aparecer se conserva con su instante de
+     * detección, salvo que haya caducado. Si un destinatario falla, el
+     * hueco en curso y los siguientes se conservan intactos.
+     *
+     * @return número de cambios aplicados
+     */
+    private int pollGaps() {
+        LocalDateTime expiry = LocalDateTime.now()
+                .minus(properties.getGapTimeout());
+        int changes = 0;
+        for (int remaining = gaps.size(); remaining > 0; remaining--) {
+            PendingGap pending = gaps.get(0);
+            PriceChangeBatch batch = changeLog.readRange(
+                    pending.gap().from(), pending.gap().to());
+            deliver(batch);
+            changes += batch.changes();
+            gaps.remove(0);
+            if (pending.detectedAt().isBefore(expiry)) {
+                LOGGER.debug("Hueco de cambios {}-{} caducado",
+                        pending.gap().from(), pending.gap().to());
+            } else {
+                batch.gaps().forEach(gap -> gaps.add(
+                        new PendingGap(gap, pending.detectedAt())));
+            }
+        }
+        return changes;
+    }
+
+    private void deliver(final PriceChangeBatch batch) {
+        if (!batch.keys().isEmpty()) {
+            for (PriceChangeListener listener : listeners) {
+                listener.onPricesChanged(batch.keys(), source);
+            }
+        }
+        applied.increment(batch.changes());
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Fallo al aplicar los cambios de PRICES desde el {};"
+                    + " se reintentará", watermark.get(), ex);
+            try {
+                updatePending();
+            } catch (RuntimeException ignored) {
+                // La base de datos no responde: se conservan las métricas.
+            }
+        }
+    }
+
+    private void updatePending() {
+        PriceChangeLog.Pending pending = changeLog.pending(watermark.get());
+        pendingChanges.set(pending.changes());
+        lagMillis.set(pending.lagMillis());
+    }
+
+    /**
+     * Hueco de identificadores y el instante en que se detectó.
+     *
+     * @param gap        rango de identificadores
+     * @param detectedAt instante de detección
+     */
+    private record PendingGap(PriceChangeLog.Gap gap,
+                              LocalDateTime detectedAt) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la captura incremental de cambios, con el prefijo
+ * {@code price.changes}.
+ *
+ * <p>Ejemplo:</p>
+ * <pre>
+ * price.changes.enabled=true
+ * price.changes.interval=1s
+ * price.changes.batch-size=1000
+ * price.changes.startup-replay=1m
+ * price.changes.gap-timeout=5m
+ * price.changes.retention=1d
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "price.changes")
+public class PriceChangeProperties {
+
+    /**
+     * Si el sondeo de cambios está activo.
+     */
+    private boolean enabled;
+
+    /**
+     * Pausa entre dos sondeos.
+     */
+    private Duration interval = Duration.ofSeconds(1);
+
+    /**
+     * Número máximo de cambios leídos por consulta.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Margen antes del arranque del proceso desde el que se vuelven a
+     * aplicar los cambios al arrancar, para cubrir los registrados durante
+     * la carga inicial y la diferencia de reloj con la base de datos.
+     */
+    private Duration startupReplay = Duration.ofMinutes(1);
+
+    /**
+     * Tiempo durante el que se vuelve a leer un hueco de identificadores
+     * de cambio: debe superar la transacción de escritura más larga (una
+     * importación, por ejemplo) y ser menor que la retención.
+     */
+    private Duration gapTimeout = Duration.ofMinutes(5);
+
+    /**
+     * Antigüedad a partir de la cual se borran los cambios del registro.
+     */
+    private Duration retention = Duration.ofDays(1);
+
+    /**
+     * @return si el sondeo está activo
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabledParam si el sondeo está activo
+     */
+    public void setEnabled(final boolean enabledParam) {
+        this.enabled = enabledParam;
+    }
+
+    /**
+     * @return pausa entre sondeos
+     */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * @param intervalParam pausa entre sondeos
+     */
+    public void setInterval(final Duration intervalParam) {
+        this.interval = intervalParam;
+    }
+
+    /**
+     * @return número máximo de cambios por consulta
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSizeParam número máximo de cambios por consulta
+     */
+    public void setBatchSize(final int batchSizeParam) {
+        this.batchSize = batchSizeParam;
+    }
+
+    /**
+     * @return margen de cambios que se vuelven a aplicar al arrancar
+     */
+    public Duration getStartupReplay() {
+        return startupReplay;
+    }
+
+    /**
+     * @param startupReplayParam margen de cambios que se vuelven a
+     *                           aplicar al arrancar
+     */
+    public void setStartupReplay(final Duration startupReplayParam) {
+        this.startupReplay = startupReplayParam;
+    }
+
+    /**
+     * @return tiempo durante el que se vuelve a leer un hueco
+     */
+    public Duration getGapTimeout() {
+        return gapTimeout;
+    }
+
+    /**
+     * @param gapTimeoutParam tiempo durante el que se vuelve a leer un
+     *                        hueco
+     */
+    public void setGapTimeout(final Duration gapTimeoutParam) {
+        this.gapTimeout = gapTimeoutParam;
+    }
+
+    /**
+     * @return antigüedad de borrado del registro
+     */
+    public Duration getRetention() {
+        return retention;
+    }
+
+    /**
+     * @param retentionParam antigüedad de borrado del registro
+     */
+    public void setRetention(final Duration retentionParam) {
+        this.retention = retentionParam;
+    }
+}
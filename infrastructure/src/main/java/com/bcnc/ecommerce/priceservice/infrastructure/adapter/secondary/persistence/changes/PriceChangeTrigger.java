@@ -0,0 +1,109 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Trigger de H2 que registra en PRICES_CHANGELOG la clave
+ * (PRODUCT_ID, BRAND_ID) de cada fila insertada, modificada o borrada en
+ * PRICES, dentro de la misma transacción que el cambio.
+ * <p>
+ * Se registra en {@code schema.sql}:
+ * </p>
+ * <pre>
+ * CREATE TRIGGER PRICES_CHANGE_CAPTURE AFTER INSERT, UPDATE, DELETE
+ *     ON PRICES FOR EACH ROW CALL '...PriceChangeTrigger';
+ * </pre>
+ * <p>
+ * Una modificación que cambia la clave de la fila registra las dos
+ * claves. Las posiciones de las columnas se resuelven al crear el
+ * trigger, de modo que no dependen del orden de la tabla. En otras bases
+ * de datos basta un trigger nativo que escriba la misma tabla.
+ * </p>
+ */
+public class PriceChangeTrigger implements Trigger {
+
+    /** Alta de una clave en el registro de cambios. */
+    private static final String SQL_INSERT = "INSERT INTO PRICES_CHANGELOG"
+            + " (PRODUCT_ID, BRAND_ID) VALUES (?, ?)";
+
+    /** Posición de PRODUCT_ID en las filas de PRICES. */
+    private int productIdColumn = -1;
+
+    /** Posición de BRAND_ID en las filas de PRICES. */
+    private int brandIdColumn = -1;
+
+    /**
+     * Resuelve la posición de las columnas de la clave.
+     *
+     * @param conn        conexión de la sesión que crea el trigger
+     * @param schemaName  esquema de la tabla
+     * @param triggerName nombre del trigger
+     * @param tableName   tabla vigilada
+     * @param before      si se ejecuta antes del cambio
+     * @param type        operaciones vigiladas
+     * @throws SQLException si la tabla no tiene las columnas de la clave
+     */
+    @Override
+    public void init(final Connection conn, final String schemaName,
+                     final String triggerName, final String tableName,
+                     final boolean before, final int type)
+            throws SQLException {
+        try (ResultSet columns = conn.getMetaData().getColumns(
+                null, schemaName, tableName, null)) {
+            while (columns.next()) {
+                int position = columns.getInt("ORDINAL_POSITION") - 1;
+                switch (columns.getString("COLUMN_NAME")) {
+                    case "PRODUCT_ID" -> productIdColumn = position;
+                    case "BRAND_ID" -> brandIdColumn = position;
+                    default -> { }
+                }
+            }
+        }
+        if (productIdColumn < 0 || brandIdColumn < 0) {
+            throw new SQLException("La tabla " + tableName
+                    + " no tiene PRODUCT_ID y BRAND_ID");
+        }
+    }
+
+    /**
+     * Registra la clave de la fila anterior y de la nueva.
+     *
+     * @param conn   conexión de la transacción del cambio
+     * @param oldRow fila anterior, o {@code null} en inserciones
+     * @param newRow fila nueva, o {@code null} en borrados
+     * @throws SQLException si falla el registro (se deshace el cambio)
+     */
+    @Override
+    public void fire(final Connection conn, final Object[] oldRow,
+                     final Object[] newRow) throws SQLException {
+        try (PreparedStatement insert = conn.prepareStatement(SQL_INSERT)) {
+            if (oldRow != null) {
+                record(insert, oldRow);
+            }
+            if (newRow != null && (oldRow == null || !sameKey(oldRow,
+                    newRow))) {
+                record(insert, newRow);
+            }
+        }
+    }
+
+    private void record(final PreparedStatement insert, final Object[] row)
+            throws SQLException {
+        insert.setObject(1, row[productIdColumn]);
+        insert.setObject(2, row[brandIdColumn]);
+        insert.executeUpdate();
+    }
+
+    private boolean sameKey(final Object[] oldRow, final Object[] newRow) {
+        return Objects.equals(oldRow[productIdColumn],
+                newRow[productIdColumn])
+                && Objects.equals(oldRow[brandIdColumn],
+                newRow[brandIdColumn]);
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Contiene la captura incremental de cambios de la tabla PRICES: registro
+ * de cambios alimentado por un trigger, lectura por marca de agua y
+ * aplicación de las claves cambiadas a los índices y cachés que hay
+ * delante de {@code PriceRepository}.
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes;
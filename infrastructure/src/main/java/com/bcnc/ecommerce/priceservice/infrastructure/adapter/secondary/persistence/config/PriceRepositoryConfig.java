@@ -0,0 +1,257 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.config;
+
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.PriceStorage;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.archive.PriceArchiveProperties;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.archive.PriceArchiver;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.archive.TieredPriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.batching.BatchingPriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.batching.PriceBatchingProperties;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.cache.CachingPriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.cache.PriceCacheProperties;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes.PriceChangeListener;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes.PriceChangeLog;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes.PriceChangePoller;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes.PriceChangeProperties;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.current.CurrentPriceLoader;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.current.CurrentPriceProperties;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.current.CurrentPriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.exports.PriceExportProperties;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.filter.FilteringPriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.filter.PriceKeyFilterLoader;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.filter.PriceKeyFilterProperties;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports.PriceImportProperties;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.JdbcPriceRepositoryAdapter;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload.ReloadablePriceStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Configuración del {@link PriceRepository} que usa la aplicación.
+ * <p>
+ * Parte del adaptador de almacenamiento activo ({@link PriceStorage},
+ * según {@code price.repository.type}) y lo envuelve, de dentro a fuera,
+ * con los decoradores activos:
+ * </p>
+ * <ol>
+ *   <li>{@link TieredPriceRepository} ({@code price.archive.enabled}):
+ *       añade a las consultas de fechas pasadas las tarifas que
+ *       {@link PriceArchiver} ha trasladado al archivo.</li>
+ *   <li>{@link BatchingPriceRepository} ({@code price.batching.enabled}):
+ *       agrupa en una consulta las búsquedas concurrentes que llegan al
+ *       almacenamiento.</li>
+ *   <li>{@link CachingPriceRepository} ({@code price.cache.enabled}):
+ *       resuelve en memoria las claves ya cargadas; sus fallos pasan por
+ *       la agrupación anterior.</li>
+ *   <li>{@link FilteringPriceRepository} ({@code price.filter.enabled},
+ *       que exige {@code price.changes.enabled}): responde sin tarifas a
+ *       las claves que no tiene ninguna, sin llegar a la caché ni al
+ *       almacenamiento.</li>
+ *   <li>{@link CurrentPriceRepository} ({@code price.current.enabled},
+ *       que exige {@code price.changes.enabled}): responde las consultas
+ *       de "ahora" desde la tabla de precios vigentes, sin llegar a
+ *       ninguna de las capas anteriores.</li>
+ * </ol>
+ * <p>
+ * El resultado se publica como {@code @Primary}; sin decoradores activos es
+ * el propio adaptador de almacenamiento. Si el almacenamiento se puede
+ * recargar en caliente ({@link ReloadablePriceStorage}), la caché se vacía
+ * y el filtro de claves y la tabla de precios vigentes se reconstruyen tras
+ * publicar cada nueva versión.
+ * </p>
+ * <p>
+ * Con {@code price.changes.enabled=true}, el {@link PriceChangePoller}
+ * entrega los cambios de PRICES primero al almacenamiento (si es un
+ * {@link PriceChangeListener}), después a la caché, que descarta las
+ * claves cambiadas, después al filtro, que las añade, y por último a la
+ * tabla de precios vigentes, que las recalcula.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties({PriceCacheProperties.class,
+        PriceBatchingProperties.class, PriceChangeProperties.class,
+        PriceImportProperties.class, PriceExportProperties.class,
+        PriceKeyFilterProperties.class, CurrentPriceProperties.class,
+        PriceArchiveProperties.class})
+public class PriceRepositoryConfig {
+    /**
+     * Logger de la clase PriceRepositoryConfig.
+     */
+    private static final Logger LOG = LoggerFactory
+            .getLogger(PriceRepositoryConfig.class);
+
+    /**
+     * Compone el repositorio de precios principal.
+     *
+     * @param storage       adaptador de almacenamiento activo
+     * @param cache         propiedades de la caché
+     * @param batching      propiedades de la agrupación en micro-lotes
+     * @param filter        propiedades del filtro de claves
+     * @param current       propiedades de la tabla de precios vigentes
+     * @param jdbcTemplates plantilla JDBC (solo se exige con el archivo,
+     *                      el filtro o la tabla de precios vigentes
+     *                      activos)
+     * @param registries    registro de métricas (solo se exige con algún
+     *                      decorador activo)
+     * @param pollers       sondeo de cambios de PRICES, si está activo
+     * @param archivers     traslado de tarifas caducadas al archivo, si
+     *                      está activo
+     * @return repositorio de precios principal
+     */
+    @Bean
+    @Primary
+    public PriceRepository priceRepository(
+            @PriceStorage final PriceRepository storage,
+            final PriceCacheProperties cache,
+            final PriceBatchingProperties batching,
+            final PriceKeyFilterProperties filter,
+            final CurrentPriceProperties current,
+            final ObjectProvider<JdbcTemplate> jdbcTemplates,
+            final ObjectProvider<MeterRegistry> registries,
+            final ObjectProvider<PriceChangePoller> pollers,
+            final ObjectProvider<PriceArchiver> archivers) {
+        PriceChangePoller poller = pollers.getIfAvailable();
+        if (poller != null && storage instanceof PriceChangeListener index) {
+            poller.addListener(index);
+        }
+        PriceArchiver archiver = archivers.getIfAvailable();
+        PriceRepository repository = storage;
+        if (archiver != null) {
+            TieredPriceRepository tiered = new TieredPriceRepository(
+                    repository, new JdbcPriceRepositoryAdapter(
+                            jdbcTemplates.getObject(),
+                            PriceArchiver.ARCHIVE_TABLE),
+                    archiver.archivedUntil(), registries.getObject());
+            archiver.addListener(tiered::extendColdUntil);
+            repository = tiered;
+        }
+        if (batching.isEnabled()) {
+            repository = new BatchingPriceRepository(repository,
+                    batching.getWindow(), batching.getMaxSize(),
+                    registries.getObject());
+        }
+        if (cache.isEnabled()) {
+            CachingPriceRepository caching = new CachingPriceRepository(
+                    repository, cache.getMaximumSegments(),
+                    cache.getExpireAfterWrite(), registries.getObject());
+            if (storage instanceof ReloadablePriceStorage reloadable) {
+                reloadable.addReloadListener(caching::invalidateAll);
+            }
+            if (poller != null) {
+                poller.addListener((keys, source) ->
+                        keys.forEach(caching::invalidate));
+            }
+            repository = caching;
+        }
+        if (filter.isEnabled()) {
+            if (poller == null) {
+                throw new IllegalStateException("price.filter.enabled=true"
+                        + " exige price.changes.enabled=true: sin la captura"
+                        + " de cambios, el filtro responde sin tarifas a las"
+                        + " claves nuevas hasta la siguiente reconstrucción");
+            }
+            FilteringPriceRepository filtering = new FilteringPriceRepository(
+                    repository, new PriceKeyFilterLoader(
+                            jdbcTemplates.getObject(),
+                            filter.getFalsePositiveRate(), archiver != null),
+                    filter.getRefreshInterval(), registries.getObject());
+            if (storage instanceof ReloadablePriceStorage reloadable) {
+                reloadable.addReloadListener(filtering::rebuild);
+            }
+            if (poller != null) {
+                poller.addListener(filtering);
+            }
+            repository = filtering;
+        }
+        if (current.isEnabled()) {
+            if (poller == null) {
+                throw new IllegalStateException("price.current.enabled=true"
+                        + " exige price.changes.enabled=true: sin la captura"
+                        + " de cambios, la tabla de precios vigentes no ve"
+                        + " las tarifas nuevas hasta la siguiente"
+                        + " reconstrucción");
+            }
+            CurrentPriceRepository currentPrices = new CurrentPriceRepository(
+                    repository,
+                    new CurrentPriceLoader(jdbcTemplates.getObject(), storage),
+                    current.getSkew(), current.getRefreshInterval(),
+                    Clock.systemDefaultZone(), registries.getObject());
+            if (storage instanceof ReloadablePriceStorage reloadable) {
+                reloadable.addReloadListener(currentPrices::rebuild);
+            }
+            if (poller != null) {
+                poller.addListener(currentPrices);
+            }
+            repository = currentPrices;
+        }
+        LOG.info("PriceRepository: {} (caché={}, micro-lotes={},"
+                        + " cambios={}, filtro={}, vigentes={}, archivo={})",
+                storage.getClass().getSimpleName(), cache.isEnabled(),
+                batching.isEnabled(), poller != null, filter.isEnabled(),
+                current.isEnabled(), archiver != null);
+        return repository;
+    }
+
+    /**
+     * Sondeo del registro de cambios de PRICES. Al arrancar vuelve a
+     * aplicar los cambios registrados desde el arranque del proceso menos
+     * {@code price.changes.startup-replay}.
+     *
+     * @param jdbcTemplate plantilla JDBC sobre la base de datos de precios
+     * @param changes      propiedades del sondeo
+     * @param registry     registro de métricas
+     * @return sondeo de cambios
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "price.changes", name = "enabled",
+            havingValue = "true")
+    public PriceChangePoller priceChangePoller(
+            final JdbcTemplate jdbcTemplate,
+            final PriceChangeProperties changes,
+            final MeterRegistry registry) {
+        LocalDateTime processStart = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean()
+                        .getStartTime()), ZoneId.systemDefault());
+        return new PriceChangePoller(new PriceChangeLog(jdbcTemplate),
+                new JdbcPriceRepositoryAdapter(jdbcTemplate), changes,
+                registry, processStart.minus(changes.getStartupReplay()));
+    }
+
+    /**
+     * Traslado periódico de las tarifas caducadas de PRICES al archivo
+     * PRICES_ARCHIVE.
+     *
+     * @param jdbcTemplate       plantilla JDBC sobre la base de datos de
+     *                           precios
+     * @param transactionManager gestor de transacciones de los lotes
+     * @param archive            propiedades del traslado
+     * @param registry           registro de métricas
+     * @return archivador de tarifas caducadas
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "price.archive", name = "enabled",
+            havingValue = "true")
+    public PriceArchiver priceArchiver(
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            final PriceArchiveProperties archive,
+            final MeterRegistry registry) {
+        return new PriceArchiver(jdbcTemplate, transactionManager, archive,
+                Clock.systemDefaultZone(), registry);
+    }
+}
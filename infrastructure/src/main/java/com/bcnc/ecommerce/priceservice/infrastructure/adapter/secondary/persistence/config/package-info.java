@@ -0,0 +1,5 @@
+/**
+ * Contiene la composición del {@code PriceRepository} principal a partir
+ * del adaptador de almacenamiento activo y sus decoradores.
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.config;
@@ -0,0 +1,64 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.current;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceSegment;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceTimeline;
+
+import java.time.LocalDateTime;
+
+/**
+ * Precio vigente de una clave en un momento dado, con la ventana en la
+ * que sigue siéndolo.
+ * <p>
+ * La ventana es semiabierta, {@code [from, until)}, igual que
+ * {@link PriceSegment}; si ninguna tarifa aplica, {@code price} es
+ * {@code null} y la ventana es el hueco entre tarifas. {@code until} es
+ * el siguiente límite en el que hay que recalcularlo, o
+ * {@link LocalDateTime#MAX} si no hay ninguno.
+ * </p>
+ *
+ * @param price precio vigente, o {@code null} si ninguna tarifa aplica
+ * @param from  inicio de la ventana (incluido)
+ * @param until fin de la ventana (excluido)
+ */
+public record CurrentPrice(Price price, LocalDateTime from,
+                           LocalDateTime until) {
+
+    /** Sin tarifas en ningún momento. */
+    static final CurrentPrice NONE =
+            new CurrentPrice(null, LocalDateTime.MIN, LocalDateTime.MAX);
+
+    /**
+     * Calcula el precio vigente de una línea temporal en un momento.
+     *
+     * @param timeline línea temporal de la clave
+     * @param now      momento de referencia
+     * @return precio vigente y su ventana
+     */
+    public static CurrentPrice at(final PriceTimeline timeline,
+                                  final LocalDateTime now) {
+        LocalDateTime from = LocalDateTime.MIN;
+        for (PriceSegment segment : timeline.segments()) {
+            if (segment.contains(now)) {
+                return new CurrentPrice(segment.price(), segment.from(),
+                        segment.until());
+            }
+            if (segment.from().isAfter(now)) {
+                return new CurrentPrice(null, from, segment.from());
+            }
+            from = segment.until();
+        }
+        return new CurrentPrice(null, from, LocalDateTime.MAX);
+    }
+
+    /**
+     * Indica si el resultado vale para una fecha.
+     *
+     * @param date fecha de aplicación
+     * @return true si {@code from <= date < until}
+     */
+    public boolean covers(final LocalDateTime date) {
+        return !date.isBefore(from)
+                && (date.isBefore(until) || until.equals(LocalDateTime.MAX));
+    }
+}
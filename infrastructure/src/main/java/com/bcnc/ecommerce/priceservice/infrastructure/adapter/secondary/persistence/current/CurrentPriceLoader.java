@@ -0,0 +1,74 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.current;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceTimeline;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Construye la línea temporal ({@link PriceTimeline}) de cada clave
+ * (productId, brandId) con las tarifas del adaptador de almacenamiento.
+ * <p>
+ * Las claves salen de la tabla PRICES, pero las tarifas de cada una se
+ * piden al almacenamiento activo con {@code findAllPrices}, en bloques de
+ * {@value #KEYS_PER_LOAD} claves: la tabla de precios vigentes responde lo
+ * mismo que él aunque sea un índice en memoria o una instantánea. Las
+ * claves que el almacenamiento no conoce se quedan fuera de la tabla, y
+ * sus consultas se delegan.
+ * </p>
+ */
+public class CurrentPriceLoader
+        implements Supplier<Map<PriceKey, PriceTimeline>> {
+
+    /** Claves con tarifas en PRICES. */
+    static final String SQL_KEYS = "SELECT DISTINCT PRODUCT_ID, BRAND_ID"
+            + " FROM PRICES ORDER BY PRODUCT_ID, BRAND_ID";
+
+    /** Claves por llamada a {@code findAllPrices}. */
+    static final int KEYS_PER_LOAD = 500;
+
+    /** Plantilla JDBC de la aplicación. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Adaptador de almacenamiento del que leer las tarifas. */
+    private final PriceRepository storage;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param template     plantilla JDBC de la aplicación.
+     * @param priceStorage adaptador de almacenamiento activo.
+     */
+    public CurrentPriceLoader(final JdbcTemplate template,
+                              final PriceRepository priceStorage) {
+        this.jdbcTemplate = template;
+        this.storage = priceStorage;
+    }
+
+    /**
+     * @return línea temporal de cada clave con tarifas en el
+     *         almacenamiento
+     */
+    @Override
+    public Map<PriceKey, PriceTimeline> get() {
+        List<PriceKey> keys = jdbcTemplate.query(SQL_KEYS, (rs, row) ->
+                new PriceKey(rs.getLong(1), rs.getLong(2)));
+        Map<PriceKey, PriceTimeline> timelines =
+                new HashMap<>(Math.max(16, keys.size() * 2));
+        for (int from = 0; from < keys.size(); from += KEYS_PER_LOAD) {
+            List<PriceKey> chunk = keys.subList(from,
+                    Math.min(keys.size(), from + KEYS_PER_LOAD));
+            storage.findAllPrices(chunk).forEach((key, prices) -> {
+                if (!prices.isEmpty()) {
+                    timelines.put(key, PriceTimeline.of(prices));
+                }
+            });
+        }
+        return timelines;
+    }
+}
@@ -0,0 +1,80 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.current;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la tabla de precios vigentes, con el prefijo
+ * {@code price.current}.
+ *
+ * <p>Ejemplo:</p>
+ * <pre>
+ * price.current.enabled=true
+ * price.current.skew=5s
+ * price.current.refresh-interval=5m
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "price.current")
+public class CurrentPriceProperties {
+
+    /**
+     * Si la tabla está activa.
+     */
+    private boolean enabled;
+
+    /**
+     * Diferencia máxima entre la fecha de una consulta y el reloj del
+     * servidor para buscarla en la tabla.
+     */
+    private Duration skew = Duration.ofSeconds(5);
+
+    /**
+     * Pausa entre dos reconstrucciones completas de la tabla desde la base
+     * de datos; acota cuánto tarda en verse un cambio que no llega por la
+     * recarga del índice ni por la captura de cambios.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * @return si la tabla está activa
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabledParam si la tabla está activa
+     */
+    public void setEnabled(final boolean enabledParam) {
+        this.enabled = enabledParam;
+    }
+
+    /**
+     * @return diferencia máxima con el reloj del servidor
+     */
+    public Duration getSkew() {
+        return skew;
+    }
+
+    /**
+     * @param skewParam diferencia máxima con el reloj del servidor
+     */
+    public void setSkew(final Duration skewParam) {
+        this.skew = skewParam;
+    }
+
+    /**
+     * @return pausa entre reconstrucciones completas
+     */
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * @param refreshIntervalParam pausa entre reconstrucciones completas
+     */
+    public void setRefreshInterval(final Duration refreshIntervalParam) {
+        this.refreshInterval = refreshIntervalParam;
+    }
+}
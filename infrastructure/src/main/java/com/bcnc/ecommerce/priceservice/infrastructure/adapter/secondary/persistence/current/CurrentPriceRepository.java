@@ -0,0 +1,485 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.current;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceTimeline;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes.PriceChangeListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Decorador de {@link PriceRepository} que resuelve en O(1), sin acceder
+ * al repositorio decorado, las consultas del precio vigente "ahora".
+ * <p>
+ * Mantiene por cada clave (productId, brandId) su {@link PriceTimeline} y
+ * el {@link CurrentPrice} en el reloj del servidor. Un hilo planificador
+ * espera en una {@link DelayQueue} al siguiente límite (inicio o fin de
+ * tarifa) de cada clave y, al llegar, recalcula solo esa clave. Una
+ * consulta se resuelve desde la tabla si su fecha se aleja del reloj como
+ * mucho {@code skew} y cae en la ventana del precio vigente; si no (otra
+ * fecha, o un límite que el planificador aún no ha aplicado), delega.
+ * </p>
+ * <p>
+ * La tabla se construye completa al crear el decorador, tras cada recarga
+ * del almacenamiento y cada {@code refreshInterval}, y como
+ * {@link PriceChangeListener} recalcula al momento las claves cambiadas,
+ * que es la única forma de que conozca las claves nuevas antes de la
+ * siguiente reconstrucción. Las consultas de claves que no están en la
+ * tabla se delegan. Publica
+ * {@value #METRIC_LOOKUPS} con {@code result=served|passed},
+ * {@value #METRIC_KEYS} y {@value #METRIC_BOUNDARIES}.
+ * </p>
+ */
+public class CurrentPriceRepository
+        implements PriceRepository, PriceChangeListener, AutoCloseable {
+
+    /**
+     * Métrica de consultas de un precio.
+     */
+    public static final String METRIC_LOOKUPS = "prices.current.lookups";
+
+    /**
+     * Métrica de claves en la tabla.
+     */
+    public static final String METRIC_KEYS = "prices.current.keys";
+
+    /**
+     * Métrica de límites de tarifa aplicados por el planificador.
+     */
+    public static final String METRIC_BOUNDARIES =
+            "prices.current.boundaries";
+
+    /**
+     * Logger de la clase CurrentPriceRepository.
+     */
+    private static final Logger LOG = LoggerFactory
+            .getLogger(CurrentPriceRepository.class);
+
+    /**
+     * Repositorio decorado.
+     */
+    private final PriceRepository delegate;
+
+    /**
+     * Carga de las líneas temporales de todas las claves.
+     */
+    private final Supplier<Map<PriceKey, PriceTimeline>> loader;
+
+    /**
+     * Diferencia máxima con el reloj para buscar en la tabla.
+     */
+    private final Duration skew;
+
+    /**
+     * Reloj del servidor.
+     */
+    private final Clock clock;
+
+    /**
+     * Consultas resueltas desde la tabla.
+     */
+    private final Counter served;
+
+    /**
+     * Consultas delegadas.
+     */
+    private final Counter passed;
+
+    /**
+     * Límites aplicados.
+     */
+    private final Counter boundariesApplied;
+
+    /**
+     * Siguiente límite de cada clave, en orden de vencimiento.
+     */
+    private final DelayQueue<Boundary> boundaries = new DelayQueue<>();
+
+    /**
+     * Hilo que aplica los límites; {@code null} si no se planifican.
+     */
+    private final Thread scheduler;
+
+    /**
+     * Reconstrucción periódica; {@code null} si está desactivada.
+     */
+    private final ScheduledExecutorService refresher;
+
+    /**
+     * Tabla publicada.
+     */
+    private volatile Map<PriceKey, Slot> table = new ConcurrentHashMap<>();
+
+    /**
+     * Crea el decorador, construye la tabla, registra sus métricas y
+     * arranca el planificador.
+     *
+     * @param storage         repositorio decorado
+     * @param timelineLoader  carga de las líneas temporales de todas las
+     *                        claves
+     * @param maxSkew         diferencia máxima con el reloj para buscar
+     *                        en la tabla
+     * @param refreshInterval pausa entre reconstrucciones completas;
+     *                        {@code Duration.ZERO} para no programarlas
+     * @param serverClock     reloj del servidor
+     * @param registry        registro de métricas
+     */
+    public CurrentPriceRepository(
+            final PriceRepository storage,
+            final Supplier<Map<PriceKey, PriceTimeline>> timelineLoader,
+            final Duration maxSkew,
+            final Duration refreshInterval,
+            final Clock serverClock,
+            final MeterRegistry registry) {
+        this(storage, timelineLoader, maxSkew, refreshInterval, serverClock,
+                registry, true);
+    }
+
+    /**
+     * Crea el decorador, con o sin hilo planificador.
+     *
+     * @param storage         repositorio decorado
+     * @param timelineLoader  carga de las líneas temporales
+     * @param maxSkew         diferencia máxima con el reloj
+     * @param refreshInterval pausa entre reconstrucciones completas
+     * @param serverClock     reloj del servidor
+     * @param registry        registro de métricas
+     * @param schedule        si se arranca el hilo planificador; sin él,
+     *                        los límites se aplican con
+     *                        {@link #applyDueBoundaries()}
+     */
+    CurrentPriceRepository(
+            final PriceRepository storage,
+            final Supplier<Map<PriceKey, PriceTimeline>> timelineLoader,
+            final Duration maxSkew,
+            final Duration refreshInterval,
+            final Clock serverClock,
+            final MeterRegistry registry,
+            final boolean schedule) {
+        this.delegate = Objects.requireNonNull(storage,
+                "storage no puede ser nulo");
+        this.loader = timelineLoader;
+        this.skew = maxSkew;
+        this.clock = serverClock;
+        this.served = Counter.builder(METRIC_LOOKUPS)
+                .tag("result", "served")
+                .description("Consultas resueltas desde la tabla de precios"
+                        + " vigentes")
+                .register(registry);
+        this.passed = Counter.builder(METRIC_LOOKUPS)
+                .tag("result", "passed")
+                .description("Consultas que la tabla de precios vigentes"
+                        + " delega")
+                .register(registry);
+        this.boundariesApplied = Counter.builder(METRIC_BOUNDARIES)
+                .description("Límites de tarifa aplicados a la tabla de"
+                        + " precios vigentes")
+                .register(registry);
+        Gauge.builder(METRIC_KEYS, this, r -> r.table.size())
+                .description("Claves en la tabla de precios vigentes")
+                .register(registry);
+        rebuild();
+        if (schedule) {
+            this.scheduler = new Thread(this::runScheduler, "price-current");
+            this.scheduler.setDaemon(true);
+            this.scheduler.start();
+        } else {
+            this.scheduler = null;
+        }
+        if (refreshInterval.isZero() || refreshInterval.isNegative()) {
+            this.refresher = null;
+        } else {
+            this.refresher = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable,
+                                "price-current-refresh");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            this.refresher.scheduleWithFixedDelay(this::rebuildSafely,
+                    refreshInterval.toMillis(), refreshInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Devuelve el precio vigente si la fecha es "ahora" y cae en su
+     * ventana; si no, delega.
+     *
+     * @param applicationDate fecha de aplicación.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return precio vigente, lista vacía, o candidatos del repositorio
+     *         decorado si la fecha no es "ahora" o la clave no está en la
+     *         tabla.
+     */
+    @Override
+    public List<Price> findApplicablePrices(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        CurrentPrice current = lookup(applicationDate, productId, brandId);
+        if (current == null) {
+            passed.increment();
+            return delegate.findApplicablePrices(applicationDate, productId,
+                    brandId);
+        }
+        served.increment();
+        return current.price() == null ? List.of()
+                : List.of(current.price());
+    }
+
+    /**
+     * Resuelve desde la tabla las consultas de "ahora" y delega las demás.
+     *
+     * @param queries consultas del lote.
+     * @return candidatos de cada consulta; las que no tienen ninguno no
+     *         aparecen.
+     */
+    @Override
+    public Map<PriceQuery, List<Price>> findApplicablePrices(
+            final Collection<PriceQuery> queries) {
+        Map<PriceQuery, List<Price>> result = new HashMap<>();
+        List<PriceQuery> pending = new ArrayList<>(queries.size());
+        for (PriceQuery query : queries) {
+            CurrentPrice current = lookup(query.applicationDate(),
+                    query.productId(), query.brandId());
+            if (current == null) {
+                passed.increment();
+                pending.add(query);
+            } else {
+                served.increment();
+                if (current.price() != null) {
+                    result.put(query, List.of(current.price()));
+                }
+            }
+        }
+        if (!pending.isEmpty()) {
+            result.putAll(delegate.findApplicablePrices(pending));
+        }
+        return result;
+    }
+
+    /**
+     * Delega; la tabla solo guarda el precio vigente.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas del repositorio decorado.
+     */
+    @Override
+    public List<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        return delegate.findAllPrices(productId, brandId);
+    }
+
+    /**
+     * Delega; la tabla solo guarda el precio vigente.
+     *
+     * @param keys claves a recuperar.
+     * @return tarifas del repositorio decorado.
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findAllPrices(
+            final Collection<PriceKey> keys) {
+        return delegate.findAllPrices(keys);
+    }
+
+    /**
+     * Recalcula las claves cambiadas con sus tarifas actuales, leídas del
+     * repositorio decorado y no de {@code source} para que la tabla
+     * responda lo mismo que él.
+     *
+     * @param keys   claves cambiadas
+     * @param source repositorio sobre PRICES del sondeo (no se usa)
+     */
+    @Override
+    public synchronized void onPricesChanged(final Set<PriceKey> keys,
+                                             final PriceRepository source) {
+        Map<PriceKey, List<Price>> prices = delegate.findAllPrices(keys);
+        Map<PriceKey, Slot> current = table;
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (PriceKey key : keys) {
+            List<Price> keyPrices = prices.getOrDefault(key, List.of());
+            if (keyPrices.isEmpty()) {
+                current.remove(key);
+            } else {
+                publish(current, key, PriceTimeline.of(keyPrices), now);
+            }
+        }
+    }
+
+    /**
+     * Reconstruye la tabla con las tarifas actuales y la publica. Las
+     * consultas en curso terminan con la tabla anterior.
+     */
+    public synchronized void rebuild() {
+        Map<PriceKey, PriceTimeline> timelines = loader.get();
+        Map<PriceKey, Slot> rebuilt =
+                new ConcurrentHashMap<>(Math.max(16, timelines.size() * 2));
+        LocalDateTime now = LocalDateTime.now(clock);
+        boundaries.clear();
+        timelines.forEach((key, timeline) ->
+                publish(rebuilt, key, timeline, now));
+        table = rebuilt;
+        LOG.info("Tabla de precios vigentes construida: {} claves, {}"
+                + " límites pendientes", rebuilt.size(), boundaries.size());
+    }
+
+    /**
+     * Aplica los límites ya alcanzados por el reloj, sin esperar al
+     * planificador.
+     */
+    void applyDueBoundaries() {
+        for (Boundary boundary = boundaries.poll(); boundary != null;
+                boundary = boundaries.poll()) {
+            apply(boundary);
+        }
+    }
+
+    /**
+     * @param productId identificador del producto
+     * @param brandId   identificador de la cadena
+     * @return precio vigente de la clave en la tabla
+     */
+    public CurrentPrice currentPrice(final long productId,
+                                     final long brandId) {
+        Slot slot = table.get(new PriceKey(productId, brandId));
+        return slot == null ? CurrentPrice.NONE : slot.current();
+    }
+
+    /**
+     * Detiene el planificador y la reconstrucción periódica.
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.interrupt();
+        }
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    private CurrentPrice lookup(final LocalDateTime applicationDate,
+                                final Long productId,
+                                final Long brandId) {
+        if (applicationDate == null || productId == null || brandId == null
+                || !isNow(applicationDate)) {
+            return null;
+        }
+        Slot slot = table.get(new PriceKey(productId, brandId));
+        if (slot == null) {
+            // Clave desconocida: puede ser nueva y aún no estar en la tabla.
+            return null;
+        }
+        CurrentPrice current = slot.current();
+        return current.covers(applicationDate) ? current : null;
+    }
+
+    private boolean isNow(final LocalDateTime date) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return !date.isBefore(now.minus(skew))
+                && !date.isAfter(now.plus(skew));
+    }
+
+    private void publish(final Map<PriceKey, Slot> target,
+                         final PriceKey key,
+                         final PriceTimeline timeline,
+                         final LocalDateTime now) {
+        CurrentPrice current = CurrentPrice.at(timeline, now);
+        target.put(key, new Slot(timeline, current));
+        if (!current.until().equals(LocalDateTime.MAX)) {
+            boundaries.add(new Boundary(key, current.until()));
+        }
+    }
+
+    private synchronized void apply(final Boundary boundary) {
+        Map<PriceKey, Slot> current = table;
+        Slot slot = current.get(boundary.key);
+        // Límite obsoleto: la clave ha cambiado o ya se ha aplicado.
+        if (slot == null || !slot.current().until().equals(boundary.at)) {
+            return;
+        }
+        publish(current, boundary.key, slot.timeline(),
+                LocalDateTime.now(clock));
+        boundariesApplied.increment();
+    }
+
+    private void runScheduler() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                apply(boundaries.take());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            LOG.warn("No se pudo reconstruir la tabla de precios vigentes;"
+                    + " se mantiene la anterior", ex);
+        }
+    }
+
+    /**
+     * Línea temporal de una clave y su precio vigente.
+     *
+     * @param timeline línea temporal de la clave
+     * @param current  precio vigente y su ventana
+     */
+    private record Slot(PriceTimeline timeline, CurrentPrice current) {
+    }
+
+    /** Siguiente límite de una clave, que vence al llegar el reloj. */
+    private final class Boundary implements Delayed {
+
+        /** Clave afectada. */
+        private final PriceKey key;
+
+        /** Momento del límite. */
+        private final LocalDateTime at;
+
+        Boundary(final PriceKey boundaryKey, final LocalDateTime boundaryAt) {
+            this.key = boundaryKey;
+            this.at = boundaryAt;
+        }
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(clock),
+                    at));
+        }
+
+        @Override
+        public int compareTo(final Delayed other) {
+            return at.compareTo(((Boundary) other).at);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Contiene la tabla del precio vigente de cada clave
+ * (productId, brandId), mantenida por un planificador que la actualiza en
+ * los límites de cada tarifa, y el decorador que resuelve desde ella las
+ * consultas de "ahora".
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.current;
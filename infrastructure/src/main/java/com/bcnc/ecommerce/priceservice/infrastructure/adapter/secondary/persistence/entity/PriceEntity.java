@@ -7,7 +7,6 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.io.Serializable;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -74,10 +73,11 @@ public class PriceEntity implements Serializable {
     private Integer priority;
 
     /**
-     * Precio monetario que aplica.
+     * Precio que aplica, en unidades menores de la moneda (por ejemplo,
+     * céntimos).
      */
-    @Column(name = "PRICE", nullable = false)
-    private BigDecimal price;
+    @Column(name = "PRICE_MINOR", nullable = false)
+    private Long priceMinor;
 
     /**
      * Código de la moneda (por ejemplo, "EUR").
@@ -100,7 +100,7 @@ public class PriceEntity implements Serializable {
         this.priceList = builder.priceList;
         this.productId = builder.productId;
         this.priority = builder.priority;
-        this.price = builder.price;
+        this.priceMinor = builder.priceMinor;
         this.curr = builder.curr;
     }
 
@@ -140,9 +140,9 @@ public class PriceEntity implements Serializable {
         private Integer priority;
 
         /**
-         * Valor monetario del precio.
+         * Valor del precio en unidades menores de la moneda.
          */
-        private BigDecimal price;
+        private Long priceMinor;
 
         /**
          * Código de la moneda (por ejemplo, "EUR").
@@ -216,13 +216,13 @@ public class PriceEntity implements Serializable {
         }
 
         /**
-         * Establece el precio.
+         * Establece el precio en unidades menores de la moneda.
          *
-         * @param inputPrice precio
+         * @param inputPriceMinor precio en unidades menores
          * @return el builder actualizado
          */
-        public Builder price(final BigDecimal inputPrice) {
-            this.price = inputPrice;
+        public Builder priceMinor(final Long inputPriceMinor) {
+            this.priceMinor = inputPriceMinor;
             return this;
         }
 
@@ -325,10 +325,10 @@ public class PriceEntity implements Serializable {
     /**
      * Obtiene el valor monetario de la tarifa.
      *
-     * @return precio como valor decimal.
+     * @return precio en unidades menores de la moneda.
      */
-    public BigDecimal getPrice() {
-        return price;
+    public Long getPriceMinor() {
+        return priceMinor;
     }
 
     /**
@@ -399,10 +399,10 @@ public class PriceEntity implements Serializable {
     /**
      * Establece el valor monetario del precio.
      *
-     * @param priceParam nuevo valor monetario.
+     * @param priceMinorParam nuevo valor en unidades menores de la moneda.
      */
-    public void setPrice(final BigDecimal priceParam) {
-        this.price = priceParam;
+    public void setPriceMinor(final Long priceMinorParam) {
+        this.priceMinor = priceMinorParam;
     }
 
     /**
@@ -431,7 +431,7 @@ public class PriceEntity implements Serializable {
                 .append(", priceList=").append(priceList)
                 .append(", productId=").append(productId)
                 .append(", priority=").append(priority)
-                .append(", price=").append(price)
+                .append(", priceMinor=").append(priceMinor)
                 .append(", curr='").append(curr).append('\'')
                 .append('}')
                 .toString();
@@ -461,7 +461,7 @@ public class PriceEntity implements Serializable {
                 && Objects.equals(priceList, that.priceList)
                 && Objects.equals(productId, that.productId)
                 && Objects.equals(priority, that.priority)
-                && Objects.equals(price, that.price)
+                && Objects.equals(priceMinor, that.priceMinor)
                 && Objects.equals(curr, that.curr);
     }
 
@@ -479,6 +479,6 @@ public class PriceEntity implements Serializable {
     @Override
     public int hashCode() {
         return Objects.hash(id, brandId, startDate, endDate, priceList,
-                productId, priority, price, curr);
+                productId, priority, priceMinor, curr);
     }
 }
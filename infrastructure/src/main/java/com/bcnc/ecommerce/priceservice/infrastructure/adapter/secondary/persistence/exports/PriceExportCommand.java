@@ -0,0 +1,64 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.exports;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Comando de exportación masiva de tarifas al arrancar.
+ * <p>
+ * Se activa con {@code price.export.file}: vuelca la tabla PRICES, o solo
+ * la cadena {@code price.export.brand-id}, con {@link PriceExporter}. Para
+ * usarlo como comando de una sola ejecución se arranca sin servidor web,
+ * y la aplicación termina al acabar la exportación:
+ * </p>
+ * <pre>
+ * java -jar bootstrap.jar --spring.main.web-application-type=none \
+ *      --price.export.file=/var/lib/prices/precios.csv
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(prefix = "price.export", name = "file")
+public class PriceExportCommand implements ApplicationRunner {
+
+    /** Exportador de tarifas. */
+    private final PriceExporter exporter;
+
+    /** Fichero destino. */
+    private final Path file;
+
+    /** Cadena a exportar; {@code null} para todas. */
+    private final Long brandId;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param priceExporter exportador de tarifas.
+     * @param path          fichero destino.
+     * @param brand         cadena a exportar; todas si no se indica.
+     */
+    public PriceExportCommand(
+            final PriceExporter priceExporter,
+            @Value("${price.export.file}") final String path,
+            @Value("${price.export.brand-id:#{null}}") final Long brand) {
+        this.exporter = priceExporter;
+        this.file = Path.of(path);
+        this.brandId = brand;
+    }
+
+    /**
+     * Exporta las tarifas al arrancar.
+     *
+     * @param args argumentos de la aplicación (no se usan)
+     * @throws IOException si falla la escritura
+     */
+    @Override
+    public void run(final ApplicationArguments args) throws IOException {
+        exporter.exportFile(file, brandId);
+    }
+}
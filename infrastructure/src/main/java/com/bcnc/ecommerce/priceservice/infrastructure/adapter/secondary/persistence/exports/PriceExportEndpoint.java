@@ -0,0 +1,86 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.exports;
+
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports.PriceFilePaths;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator {@code /actuator/priceexport} de exportación masiva
+ * de tarifas.
+ * <p>
+ * {@code POST} con el cuerpo {@code {"file": "precios.ndjson"}} vuelca la
+ * tabla PRICES completa a un fichero CSV o NDJSON del directorio
+ * {@code price.export.directory}; con {@code "brandId": 1} vuelca solo las
+ * tarifas de esa cadena. Devuelve el número de filas, la duración y las
+ * filas por segundo, o el motivo del error. Como toda operación de
+ * escritura de Actuator, exige el token.
+ * </p>
+ * <p>
+ * Solo se aceptan nombres relativos a ese directorio, sin {@code ..}; sin
+ * directorio configurado la exportación por HTTP está desactivada.
+ * </p>
+ */
+@Component
+@Endpoint(id = "priceexport")
+public class PriceExportEndpoint {
+
+    /** Exportador de tarifas. */
+    private final PriceExporter exporter;
+
+    /** Directorio de los ficheros exportados, o {@code null}. */
+    private final Path directory;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param priceExporter exportador de tarifas.
+     * @param properties    propiedades con el directorio de exportación.
+     */
+    public PriceExportEndpoint(final PriceExporter priceExporter,
+                               final PriceExportProperties properties) {
+        this.exporter = priceExporter;
+        this.directory = properties.getDirectory();
+    }
+
+    /**
+     * Exporta las tarifas a un fichero del directorio de exportación y
+     * espera a que termine.
+     *
+     * @param file    nombre del fichero, relativo a
+     *                {@code price.export.directory}
+     * @param brandId cadena a exportar; todas si se omite
+     * @return informe de la exportación, o motivo del error
+     */
+    @WriteOperation
+    public Map<String, Object> exportFile(final String file,
+                                          @Nullable final Long brandId) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("file", file);
+        if (directory == null) {
+            body.put("exported", false);
+            body.put("error", "Exportación por HTTP desactivada: falta"
+                    + " price.export.directory");
+            return body;
+        }
+        try {
+            PriceExportReport report = exporter.exportFile(
+                    PriceFilePaths.resolve(directory, file), brandId);
+            body.put("exported", true);
+            body.put("report", report);
+        } catch (IOException ex) {
+            body.put("exported", false);
+            body.put("error", "No se puede escribir el fichero " + file);
+        } catch (IllegalArgumentException ex) {
+            body.put("exported", false);
+            body.put("error", ex.getMessage());
+        }
+        return body;
+    }
+}
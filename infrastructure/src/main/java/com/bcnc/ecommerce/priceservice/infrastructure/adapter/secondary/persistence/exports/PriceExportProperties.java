@@ -0,0 +1,59 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.exports;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Propiedades de la exportación masiva de tarifas, con el prefijo
+ * {@code price.export}.
+ *
+ * <p>Ejemplo:</p>
+ * <pre>
+ * price.export.fetch-size=1000
+ * price.export.directory=/var/lib/prices/export
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "price.export")
+public class PriceExportProperties {
+
+    /**
+     * Filas que el driver trae de la base de datos en cada viaje del
+     * cursor.
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * Directorio en el que /actuator/priceexport escribe los ficheros; sin
+     * él, la exportación por HTTP está desactivada.
+     */
+    private Path directory;
+
+    /**
+     * @return filas por viaje del cursor
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * @param fetchSizeParam filas por viaje del cursor
+     */
+    public void setFetchSize(final int fetchSizeParam) {
+        this.fetchSize = fetchSizeParam;
+    }
+
+    /**
+     * @return directorio de exportación, o {@code null}
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @param directoryParam directorio de exportación
+     */
+    public void setDirectory(final Path directoryParam) {
+        this.directory = directoryParam;
+    }
+}
@@ -0,0 +1,17 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.exports;
+
+/**
+ * Resultado de una exportación masiva.
+ *
+ * @param target        fichero o destino escrito
+ * @param brandId       cadena exportada; {@code null} si se exportan todas
+ * @param rows          filas escritas
+ * @param elapsedMillis duración total en milisegundos
+ * @param rowsPerSecond filas escritas por segundo
+ */
+public record PriceExportReport(String target,
+                                Long brandId,
+                                long rows,
+                                long elapsedMillis,
+                                long rowsPerSecond) {
+}
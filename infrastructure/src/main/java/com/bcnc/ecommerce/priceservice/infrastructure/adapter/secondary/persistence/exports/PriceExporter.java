@@ -0,0 +1,303 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.exports;
+
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports.PriceImportFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportación masiva de la tabla PRICES, completa o de una cadena.
+ * <p>
+ * Recorre las filas con un cursor en el servidor: la consulta se ejecuta
+ * en una transacción de solo lectura con {@code price.export.fetch-size},
+ * de modo que el driver trae las filas por bloques en lugar de cargar el
+ * resultado entero, y cada fila se escribe directamente en la salida sin
+ * crear entidades ni {@code Price}. La memoria usada no depende del
+ * número de tarifas.
+ * </p>
+ * <p>
+ * Los formatos son los de la importación ({@link PriceImportFormat}),
+ * con el importe en {@code PRICE_MINOR}/{@code priceMinor}: un volcado se
+ * puede volver a importar tal cual.
+ * </p>
+ */
+@Component
+public class PriceExporter {
+
+    /** Logger. */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(PriceExporter.class);
+
+    /** Columnas exportadas, en el orden de la cabecera CSV. */
+    static final String COLUMNS = "BRAND_ID,START_DATE,END_DATE,PRICE_LIST,"
+            + "PRODUCT_ID,PRIORITY,PRICE_MINOR,CURR";
+
+    /** Todas las tarifas. */
+    static final String SQL_ALL = "SELECT " + COLUMNS
+            + " FROM PRICES ORDER BY ID";
+
+    /** Tarifas de una cadena. */
+    static final String SQL_BY_BRAND = "SELECT " + COLUMNS
+            + " FROM PRICES WHERE BRAND_ID = ? ORDER BY ID";
+
+    /** Formato de fecha y hora, siempre con segundos. */
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /** Generador JSON de las líneas NDJSON. */
+    private static final JsonFactory JSON = new JsonFactory();
+
+    /** Plantilla JDBC con el tamaño de bloque del cursor. */
+    private final JdbcTemplate cursorTemplate;
+
+    /** Transacción de solo lectura que mantiene abierto el cursor. */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param template           plantilla JDBC de la aplicación.
+     * @param transactionManager gestor de transacciones.
+     * @param properties         propiedades de la exportación.
+     */
+    public PriceExporter(final JdbcTemplate template,
+                         final PlatformTransactionManager transactionManager,
+                         final PriceExportProperties properties) {
+        this.cursorTemplate = new JdbcTemplate(template.getDataSource());
+        this.cursorTemplate.setFetchSize(properties.getFetchSize());
+        this.readOnlyTransaction =
+                new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Exporta a un fichero, CSV o NDJSON según su extensión. Se escribe
+     * primero en un fichero temporal nuevo junto al destino y se mueve al
+     * terminar, de modo que nunca se lee un volcado a medias. El temporal
+     * tiene un nombre único, así que dos exportaciones simultáneas no se
+     * pisan, y se abre sin seguir enlaces simbólicos.
+     *
+     * @param file    fichero destino
+     * @param brandId cadena a exportar; {@code null} para todas
+     * @return informe de la exportación
+     * @throws IOException si falla la escritura
+     * @throws IllegalArgumentException si el formato no se reconoce
+     */
+    public PriceExportReport exportFile(final Path file, final Long brandId)
+            throws IOException {
+        PriceImportFormat format = PriceImportFormat.of(file);
+        Path target = file.toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(),
+                "." + target.getFileName() + ".", ".tmp");
+        PriceExportReport report;
+        try (OutputStream out = Files.newOutputStream(temp,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                LinkOption.NOFOLLOW_LINKS)) {
+            report = export(out, format, brandId, target.toString());
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temp);
+            throw ex;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        return report;
+    }
+
+    /**
+     * Exporta a un flujo de salida, que no se cierra.
+     *
+     * @param out     salida
+     * @param format  formato de la salida
+     * @param brandId cadena a exportar; {@code null} para todas
+     * @param target  nombre del destino para el informe
+     * @return informe de la exportación
+     * @throws IOException si falla la escritura
+     */
+    public PriceExportReport export(final OutputStream out,
+                                    final PriceImportFormat format,
+                                    final Long brandId,
+                                    final String target) throws IOException {
+        long started = System.nanoTime();
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == PriceImportFormat.CSV
+                ? new CsvRowWriter(writer)
+                : new JsonRowWriter(writer);
+        long rows;
+        try {
+            rows = readOnlyTransaction.execute(status -> {
+                RowCounter counter = new RowCounter(rowWriter);
+                if (brandId == null) {
+                    cursorTemplate.query(SQL_ALL, counter);
+                } else {
+                    cursorTemplate.query(SQL_BY_BRAND, counter, brandId);
+                }
+                return counter.rows;
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        rowWriter.finish();
+        writer.flush();
+
+        long elapsedNanos = System.nanoTime() - started;
+        long rowsPerSecond = elapsedNanos == 0 ? rows
+                : rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        PriceExportReport report = new PriceExportReport(target, brandId,
+                rows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                rowsPerSecond);
+        LOGGER.info("Exportación de precios a {}: {} filas en {} ms ({}"
+                + " filas/s)", target, report.rows(), report.elapsedMillis(),
+                report.rowsPerSecond());
+        return report;
+    }
+
+    /** Escritura de una fila del cursor en el formato de salida. */
+    private interface RowWriter {
+
+        /**
+         * @param rs cursor posicionado en la fila
+         * @throws SQLException si falla la lectura
+         * @throws IOException  si falla la escritura
+         */
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        /**
+         * Vacía lo pendiente al terminar.
+         *
+         * @throws IOException si falla la escritura
+         */
+        void finish() throws IOException;
+    }
+
+    /** Recorre el cursor y cuenta las filas escritas. */
+    private static final class RowCounter implements RowCallbackHandler {
+
+        /** Formato de salida. */
+        private final RowWriter rowWriter;
+
+        /** Filas escritas. */
+        private long rows;
+
+        RowCounter(final RowWriter writer) {
+            this.rowWriter = writer;
+        }
+
+        @Override
+        public void processRow(final ResultSet rs) throws SQLException {
+            try {
+                rowWriter.write(rs);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            rows++;
+        }
+    }
+
+    /** Filas CSV con cabecera, en el orden de {@link #COLUMNS}. */
+    private static final class CsvRowWriter implements RowWriter {
+
+        /** Salida. */
+        private final Writer writer;
+
+        /** Si ya se ha escrito la cabecera. */
+        private boolean headerWritten;
+
+        CsvRowWriter(final Writer out) {
+            this.writer = out;
+        }
+
+        @Override
+        public void write(final ResultSet rs)
+                throws SQLException, IOException {
+            writeHeader();
+            writer.write(Long.toString(rs.getLong(1)));
+            writer.write(',');
+            writer.write(DATE_FORMAT.format(rs.getTimestamp(2)
+                    .toLocalDateTime()));
+            writer.write(',');
+            writer.write(DATE_FORMAT.format(rs.getTimestamp(3)
+                    .toLocalDateTime()));
+            for (int column = 4; column <= 7; column++) {
+                writer.write(',');
+                writer.write(Long.toString(rs.getLong(column)));
+            }
+            writer.write(',');
+            writer.write(rs.getString(8));
+            writer.write('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writeHeader();
+        }
+
+        private void writeHeader() throws IOException {
+            if (!headerWritten) {
+                writer.write(COLUMNS);
+                writer.write('\n');
+                headerWritten = true;
+            }
+        }
+    }
+
+    /** Un objeto JSON por línea, con los nombres de campo de Price. */
+    private static final class JsonRowWriter implements RowWriter {
+
+        /** Generador JSON sobre la salida. */
+        private final JsonGenerator generator;
+
+        JsonRowWriter(final Writer out) throws IOException {
+            this.generator = JSON.createGenerator(out);
+            this.generator.setRootValueSeparator(null);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(final ResultSet rs)
+                throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("brandId", rs.getLong(1));
+            generator.writeStringField("startDate",
+                    DATE_FORMAT.format(rs.getTimestamp(2).toLocalDateTime()));
+            generator.writeStringField("endDate",
+                    DATE_FORMAT.format(rs.getTimestamp(3).toLocalDateTime()));
+            generator.writeNumberField("priceList", rs.getInt(4));
+            generator.writeNumberField("productId", rs.getLong(5));
+            generator.writeNumberField("priority", rs.getInt(6));
+            generator.writeNumberField("priceMinor", rs.getLong(7));
+            generator.writeStringField("curr", rs.getString(8));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Contiene la exportación masiva de la tabla PRICES a ficheros CSV o
+ * NDJSON: lectura con cursor en el servidor y escritura fila a fila, con
+ * memoria constante independientemente del número de tarifas.
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.exports;
@@ -0,0 +1,302 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.filter;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes.PriceChangeListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Decorador de {@link PriceRepository} que responde sin tarifas, sin
+ * acceder al almacenamiento, a las consultas de claves (productId,
+ * brandId) que no tienen ninguna.
+ * <p>
+ * Consulta un {@link PriceKeyBloomFilter} con todas las claves conocidas:
+ * si la clave seguro que no está, devuelve una lista vacía; si puede
+ * estar, delega. Los falsos positivos solo cuestan el acceso que se
+ * habría hecho de todas formas. Los falsos negativos son las claves con
+ * tarifas que el filtro aún no conoce: una clave nueva se responde sin
+ * tarifas hasta que el filtro la añade.
+ * </p>
+ * <p>
+ * El filtro se reconstruye completo al crear el decorador, tras cada
+ * recarga del almacenamiento y cada {@code refreshInterval}, y como
+ * {@link PriceChangeListener} añade las claves cambiadas en cuanto el
+ * sondeo de cambios las entrega, así que una clave nueva se filtra como
+ * mucho un intervalo de sondeo. Por eso la configuración solo lo activa
+ * con la captura de cambios. Las claves que se quedan sin tarifas siguen
+ * en el filtro hasta la siguiente reconstrucción. Publica {@value #METRIC_LOOKUPS} con
+ * {@code result=rejected|passed}, {@value #METRIC_FPP} (probabilidad
+ * estimada de falso positivo con las claves actuales) y
+ * {@value #METRIC_KEYS}.
+ * </p>
+ */
+public class FilteringPriceRepository
+        implements PriceRepository, PriceChangeListener, AutoCloseable {
+
+    /**
+     * Métrica de consultas filtradas.
+     */
+    public static final String METRIC_LOOKUPS = "prices.filter.lookups";
+
+    /**
+     * Métrica de probabilidad estimada de falso positivo.
+     */
+    public static final String METRIC_FPP =
+            "prices.filter.false.positive.rate";
+
+    /**
+     * Métrica de claves en el filtro.
+     */
+    public static final String METRIC_KEYS = "prices.filter.keys";
+
+    /**
+     * Logger de la clase FilteringPriceRepository.
+     */
+    private static final Logger LOG = LoggerFactory
+            .getLogger(FilteringPriceRepository.class);
+
+    /**
+     * Repositorio decorado.
+     */
+    private final PriceRepository delegate;
+
+    /**
+     * Construcción de un filtro completo con las claves actuales.
+     */
+    private final Supplier<PriceKeyBloomFilter> loader;
+
+    /**
+     * Consultas resueltas por el filtro.
+     */
+    private final Counter rejected;
+
+    /**
+     * Consultas que el filtro deja pasar.
+     */
+    private final Counter passed;
+
+    /**
+     * Reconstrucción periódica; {@code null} si está desactivada.
+     */
+    private final ScheduledExecutorService refresher;
+
+    /**
+     * Filtro publicado.
+     */
+    private volatile PriceKeyBloomFilter filter;
+
+    /**
+     * Crea el decorador, construye el filtro y registra sus métricas.
+     *
+     * @param storage         repositorio decorado
+     * @param filterLoader    construcción de un filtro completo
+     * @param refreshInterval pausa entre reconstrucciones completas;
+     *                        {@code Duration.ZERO} para no programarlas
+     * @param registry        registro de métricas
+     */
+    public FilteringPriceRepository(
+            final PriceRepository storage,
+            final Supplier<PriceKeyBloomFilter> filterLoader,
+            final Duration refreshInterval,
+            final MeterRegistry registry) {
+        this.delegate = Objects.requireNonNull(storage,
+                "storage no puede ser nulo");
+        this.loader = filterLoader;
+        this.filter = filterLoader.get();
+        this.rejected = Counter.builder(METRIC_LOOKUPS)
+                .tag("result", "rejected")
+                .description("Consultas de claves sin tarifas resueltas"
+                        + " por el filtro")
+                .register(registry);
+        this.passed = Counter.builder(METRIC_LOOKUPS)
+                .tag("result", "passed")
+                .description("Consultas que el filtro deja pasar")
+                .register(registry);
+        Gauge.builder(METRIC_FPP, this,
+                        r -> r.filter.expectedFalsePositiveRate())
+                .description("Probabilidad estimada de falso positivo")
+                .register(registry);
+        Gauge.builder(METRIC_KEYS, this, r -> r.filter.keyCount())
+                .description("Claves distintas añadidas al filtro")
+                .register(registry);
+        if (refreshInterval.isZero() || refreshInterval.isNegative()) {
+            this.refresher = null;
+        } else {
+            this.refresher = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "price-filter");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            this.refresher.scheduleWithFixedDelay(this::rebuildSafely,
+                    refreshInterval.toMillis(), refreshInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+        describe("construido");
+    }
+
+    /**
+     * Devuelve una lista vacía si la clave no tiene tarifas; si no,
+     * delega.
+     *
+     * @param applicationDate fecha de aplicación.
+     * @param productId       identificador del producto.
+     * @param brandId         identificador de la cadena.
+     * @return candidatos del repositorio decorado, o lista vacía.
+     */
+    @Override
+    public List<Price> findApplicablePrices(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        if (!mightContain(productId, brandId)) {
+            return List.of();
+        }
+        return delegate.findApplicablePrices(applicationDate, productId,
+                brandId);
+    }
+
+    /**
+     * Delega solo las consultas cuyas claves pueden tener tarifas.
+     *
+     * @param queries consultas del lote.
+     * @return candidatos de las consultas delegadas; las demás no
+     *         aparecen.
+     */
+    @Override
+    public Map<PriceQuery, List<Price>> findApplicablePrices(
+            final Collection<PriceQuery> queries) {
+        List<PriceQuery> known = new ArrayList<>(queries.size());
+        for (PriceQuery query : queries) {
+            if (mightContain(query.productId(), query.brandId())) {
+                known.add(query);
+            }
+        }
+        return known.isEmpty() ? new HashMap<>()
+                : delegate.findApplicablePrices(known);
+    }
+
+    /**
+     * Devuelve una lista vacía si la clave no tiene tarifas; si no,
+     * delega.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas del repositorio decorado, o lista vacía.
+     */
+    @Override
+    public List<Price> findAllPrices(final Long productId,
+                                     final Long brandId) {
+        if (!mightContain(productId, brandId)) {
+            return List.of();
+        }
+        return delegate.findAllPrices(productId, brandId);
+    }
+
+    /**
+     * Delega solo las claves que pueden tener tarifas.
+     *
+     * @param keys claves a recuperar.
+     * @return tarifas de las claves delegadas; las demás no aparecen.
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findAllPrices(
+            final Collection<PriceKey> keys) {
+        List<PriceKey> known = new ArrayList<>(keys.size());
+        for (PriceKey key : keys) {
+            if (mightContain(key.productId(), key.brandId())) {
+                known.add(key);
+            }
+        }
+        return known.isEmpty() ? new HashMap<>()
+                : delegate.findAllPrices(known);
+    }
+
+    /**
+     * Añade al filtro las claves cambiadas, que pueden tener tarifas
+     * nuevas.
+     *
+     * @param keys   claves cambiadas
+     * @param source repositorio del que leer las tarifas (no se usa)
+     */
+    @Override
+    public synchronized void onPricesChanged(final Set<PriceKey> keys,
+                                             final PriceRepository source) {
+        PriceKeyBloomFilter current = filter;
+        keys.forEach(current::add);
+    }
+
+    /**
+     * Reconstruye el filtro con las claves actuales y lo publica. Las
+     * consultas en curso terminan con el filtro anterior.
+     */
+    public synchronized void rebuild() {
+        filter = loader.get();
+        describe("reconstruido");
+    }
+
+    /**
+     * @return filtro publicado
+     */
+    public PriceKeyBloomFilter filter() {
+        return filter;
+    }
+
+    /**
+     * Detiene la reconstrucción periódica.
+     */
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    private boolean mightContain(final Long productId, final Long brandId) {
+        if (productId == null || brandId == null
+                || filter.mightContain(productId, brandId)) {
+            passed.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            LOG.warn("No se pudo reconstruir el filtro de claves; se"
+                    + " mantiene el anterior", ex);
+        }
+    }
+
+    private void describe(final String action) {
+        PriceKeyBloomFilter current = filter;
+        LOG.info("Filtro de claves {}: {} claves, {} bytes, {} hashes,"
+                        + " falso positivo estimado {}", action,
+                current.keyCount(), current.estimatedBytes(),
+                current.hashCount(),
+                String.format("%.4f", current.expectedFalsePositiveRate()));
+    }
+}
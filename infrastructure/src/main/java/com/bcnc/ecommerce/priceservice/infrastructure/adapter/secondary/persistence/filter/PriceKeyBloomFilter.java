@@ -0,0 +1,196 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.filter;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de claves (productId, brandId).
+ * <p>
+ * {@link #mightContain} nunca da falsos negativos: si devuelve
+ * {@code false}, la clave no se ha añadido. Puede dar falsos positivos con
+ * la probabilidad indicada al crearlo mientras no se añadan más claves de
+ * las previstas. Se dimensiona con las fórmulas habituales
+ * ({@code m = -n ln p / ln²2} bits y {@code k = m/n ln 2} funciones hash)
+ * y las {@code k} posiciones se derivan de un único hash de 64 bits por
+ * doble hashing, sin crear objetos en la consulta.
+ * </p>
+ * <p>
+ * Es seguro entre hilos: las consultas no bloquean y las altas posteriores
+ * a la construcción usan operaciones atómicas sobre los bits. No admite
+ * bajas; para olvidar claves se construye uno nuevo.
+ * </p>
+ */
+public final class PriceKeyBloomFilter {
+
+    /** Número máximo de funciones hash. */
+    private static final int MAX_HASHES = 16;
+
+    /** ln² 2. */
+    private static final double LN2_SQUARED = Math.log(2) * Math.log(2);
+
+    /** Bits del filtro, en palabras de 64. */
+    private final AtomicLongArray words;
+
+    /** Número de bits del filtro. */
+    private final long bitCount;
+
+    /** Número de funciones hash. */
+    private final int hashCount;
+
+    /** Altas que marcaron algún bit nuevo. */
+    private final AtomicLong keyCount = new AtomicLong();
+
+    private PriceKeyBloomFilter(final long bits, final int hashes) {
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8,
+                (bits + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount = hashes;
+    }
+
+    /**
+     * Crea un filtro vacío dimensionado para un número de claves.
+     *
+     * @param expectedKeys           claves previstas
+     * @param falsePositiveRate      probabilidad de falso positivo buscada,
+     *                               entre 0 y 1 (exclusivos)
+     * @return filtro vacío
+     * @throws IllegalArgumentException si la probabilidad no está en
+     *                                  (0, 1)
+     */
+    public static PriceKeyBloomFilter create(final long expectedKeys,
+                                             final double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException(
+                    "falsePositiveRate debe estar entre 0 y 1");
+        }
+        long keys = Math.max(1, expectedKeys);
+        long bits = Math.max(Long.SIZE, (long) Math.ceil(
+                -keys * Math.log(falsePositiveRate) / LN2_SQUARED));
+        int hashes = (int) Math.max(1, Math.min(MAX_HASHES,
+                Math.round((double) bits / keys * Math.log(2))));
+        return new PriceKeyBloomFilter(bits, hashes);
+    }
+
+    /**
+     * Añade una clave. Solo cuenta en {@link #keyCount()} si marca algún
+     * bit nuevo.
+     *
+     * @param productId identificador del producto
+     * @param brandId   identificador de la cadena
+     */
+    public void add(final long productId, final long brandId) {
+        long hash = hash(productId, brandId);
+        long step = step(hash);
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash + i * step);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0) {
+                if (words.compareAndSet(word, current, current | mask)) {
+                    changed = true;
+                    break;
+                }
+                current = words.get(word);
+            }
+        }
+        if (changed) {
+            keyCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Añade una clave.
+     *
+     * @param key clave a añadir
+     */
+    public void add(final PriceKey key) {
+        add(key.productId(), key.brandId());
+    }
+
+    /**
+     * Indica si una clave puede haberse añadido.
+     *
+     * @param productId identificador del producto
+     * @param brandId   identificador de la cadena
+     * @return {@code false} si la clave seguro que no se ha añadido
+     */
+    public boolean mightContain(final long productId, final long brandId) {
+        long hash = hash(productId, brandId);
+        long step = step(hash);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash + i * step);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Probabilidad de falso positivo estimada con las claves añadidas
+     * hasta ahora: {@code (1 - e^(-k n / m))^k}.
+     *
+     * @return probabilidad estimada de falso positivo
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * keyCount.get()
+                / bitCount), hashCount);
+    }
+
+    /**
+     * Claves que marcaron algún bit al añadirse. Las repetidas no cuentan,
+     * y tampoco una clave nueva cuyos bits ya estaban todos marcados (un
+     * falso positivo), que no cambia la ocupación del filtro: es una cota
+     * inferior de las claves distintas añadidas.
+     *
+     * @return claves contadas
+     */
+    public long keyCount() {
+        return keyCount.get();
+    }
+
+    /**
+     * @return número de bits del filtro
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * @return número de funciones hash
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * @return memoria de los bits en bytes
+     */
+    public long estimatedBytes() {
+        return bitCount / Byte.SIZE;
+    }
+
+    private long index(final long combined) {
+        return (combined & Long.MAX_VALUE) % bitCount;
+    }
+
+    private static long step(final long hash) {
+        return Long.rotateLeft(hash, 32) | 1;
+    }
+
+    /** Mezcla final de MurmurHash3 (fmix64) sobre las dos mitades. */
+    private static long hash(final long productId, final long brandId) {
+        long h = productId * 0x9E3779B97F4A7C15L ^ brandId;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,97 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.filter;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Construye un {@link PriceKeyBloomFilter} con las claves
+ * (productId, brandId) distintas de la tabla PRICES y, con el archivo de
+ * tarifas caducadas activo, también de PRICES_ARCHIVE.
+ * <p>
+ * Cuenta primero las claves para dimensionar el filtro, con un margen
+ * para las que se añadan después sin reconstruirlo, y las recorre con un
+ * cursor sin cargarlas en memoria.
+ * </p>
+ */
+public class PriceKeyFilterLoader implements Supplier<PriceKeyBloomFilter> {
+
+    /** Número de claves distintas. */
+    static final String SQL_COUNT = "SELECT COUNT(*) FROM (SELECT DISTINCT"
+            + " PRODUCT_ID, BRAND_ID FROM PRICES) K";
+
+    /** Claves distintas. */
+    static final String SQL_KEYS = "SELECT DISTINCT PRODUCT_ID, BRAND_ID"
+            + " FROM PRICES";
+
+    /** Número de claves distintas de PRICES y del archivo. */
+    static final String SQL_COUNT_WITH_ARCHIVE = "SELECT COUNT(*) FROM"
+            + " (SELECT PRODUCT_ID, BRAND_ID FROM PRICES"
+            + " UNION SELECT PRODUCT_ID, BRAND_ID FROM PRICES_ARCHIVE) K";
+
+    /** Claves distintas de PRICES y del archivo. */
+    static final String SQL_KEYS_WITH_ARCHIVE = "SELECT PRODUCT_ID, BRAND_ID"
+            + " FROM PRICES UNION SELECT PRODUCT_ID, BRAND_ID"
+            + " FROM PRICES_ARCHIVE";
+
+    /** Margen de claves sobre las actuales al dimensionar el filtro. */
+    private static final double HEADROOM = 1.1;
+
+    /** Filas por viaje del cursor. */
+    private static final int FETCH_SIZE = 1000;
+
+    /** Plantilla JDBC con el tamaño de bloque del cursor. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Probabilidad de falso positivo buscada. */
+    private final double falsePositiveRate;
+
+    /** Consulta que cuenta las claves. */
+    private final String sqlCount;
+
+    /** Consulta que recorre las claves. */
+    private final String sqlKeys;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param template  plantilla JDBC de la aplicación.
+     * @param fpp       probabilidad de falso positivo buscada.
+     */
+    public PriceKeyFilterLoader(final JdbcTemplate template,
+                                final double fpp) {
+        this(template, fpp, false);
+    }
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param template    plantilla JDBC de la aplicación.
+     * @param fpp         probabilidad de falso positivo buscada.
+     * @param withArchive si se incluyen las claves de PRICES_ARCHIVE.
+     */
+    public PriceKeyFilterLoader(final JdbcTemplate template,
+                                final double fpp,
+                                final boolean withArchive) {
+        this.jdbcTemplate = new JdbcTemplate(template.getDataSource());
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.falsePositiveRate = fpp;
+        this.sqlCount = withArchive ? SQL_COUNT_WITH_ARCHIVE : SQL_COUNT;
+        this.sqlKeys = withArchive ? SQL_KEYS_WITH_ARCHIVE : SQL_KEYS;
+    }
+
+    /**
+     * @return filtro con las claves actuales
+     */
+    @Override
+    public PriceKeyBloomFilter get() {
+        Long keys = jdbcTemplate.queryForObject(sqlCount, Long.class);
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(
+                (long) Math.ceil((keys == null ? 0 : keys) * HEADROOM),
+                falsePositiveRate);
+        jdbcTemplate.query(sqlKeys, rs -> {
+            filter.add(rs.getLong(1), rs.getLong(2));
+        });
+        return filter;
+    }
+}
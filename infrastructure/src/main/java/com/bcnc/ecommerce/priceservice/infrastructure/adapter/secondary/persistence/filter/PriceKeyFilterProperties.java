@@ -0,0 +1,79 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del filtro de claves desconocidas, con el prefijo
+ * {@code price.filter}.
+ *
+ * <p>Ejemplo:</p>
+ * <pre>
+ * price.filter.enabled=true
+ * price.filter.false-positive-rate=0.01
+ * price.filter.refresh-interval=5m
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "price.filter")
+public class PriceKeyFilterProperties {
+
+    /**
+     * Si el filtro está activo.
+     */
+    private boolean enabled;
+
+    /**
+     * Probabilidad de falso positivo con la que se dimensiona el filtro.
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * Pausa entre dos reconstrucciones completas del filtro desde la base
+     * de datos; acota cuánto tarda en verse una clave nueva si no llega
+     * por la recarga del índice ni por la captura de cambios.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * @return si el filtro está activo
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabledParam si el filtro está activo
+     */
+    public void setEnabled(final boolean enabledParam) {
+        this.enabled = enabledParam;
+    }
+
+    /**
+     * @return probabilidad de falso positivo buscada
+     */
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * @param falsePositiveRateParam probabilidad de falso positivo buscada
+     */
+    public void setFalsePositiveRate(final double falsePositiveRateParam) {
+        this.falsePositiveRate = falsePositiveRateParam;
+    }
+
+    /**
+     * @return pausa entre reconstrucciones completas
+     */
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * @param refreshIntervalParam pausa entre reconstrucciones completas
+     */
+    public void setRefreshInterval(final Duration refreshIntervalParam) {
+        this.refreshInterval = refreshIntervalParam;
+    }
+}
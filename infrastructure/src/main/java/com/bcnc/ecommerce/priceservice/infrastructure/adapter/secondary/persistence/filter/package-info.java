@@ -0,0 +1,6 @@
+/**
+ * Contiene el filtro de pertenencia (Bloom) de las claves
+ * (productId, brandId) con tarifas, que resuelve sin acceder al
+ * almacenamiento las consultas de combinaciones desconocidas.
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.filter;
@@ -0,0 +1,56 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Resolución de los nombres de fichero que reciben los endpoints de
+ * importación y exportación dentro de su directorio configurado.
+ * <p>
+ * Solo se aceptan nombres relativos sin {@code ..}, y ni el directorio
+ * del fichero ni el fichero, si ya existe, pueden ser enlaces que salgan
+ * del directorio configurado.
+ * </p>
+ */
+public final class PriceFilePaths {
+
+    private PriceFilePaths() {
+    }
+
+    /**
+     * Resuelve un nombre de fichero dentro de un directorio.
+     *
+     * @param directory directorio configurado
+     * @param file      nombre relativo a {@code directory}
+     * @return ruta del fichero dentro del directorio real
+     * @throws IOException si el directorio, o el del fichero, no existe
+     * @throws IllegalArgumentException si el nombre no es válido o sale
+     *                                  del directorio
+     */
+    public static Path resolve(final Path directory, final String file)
+            throws IOException {
+        if (file == null || file.isBlank() || Path.of(file).isAbsolute()) {
+            throw invalid(file);
+        }
+        for (Path part : Path.of(file)) {
+            if ("..".equals(part.toString())) {
+                throw invalid(file);
+            }
+        }
+        Path root = directory.toRealPath();
+        Path resolved = root.resolve(file).normalize();
+        if (!resolved.startsWith(root)
+                || !resolved.getParent().toRealPath().startsWith(root)
+                || Files.exists(resolved)
+                && !resolved.toRealPath().startsWith(root)) {
+            throw invalid(file);
+        }
+        return resolved;
+    }
+
+    private static IllegalArgumentException invalid(final String file) {
+        return new IllegalArgumentException(
+                "Nombre de fichero no válido: " + file);
+    }
+}
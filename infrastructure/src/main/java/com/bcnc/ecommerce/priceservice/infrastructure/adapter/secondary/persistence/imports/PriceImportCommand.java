@@ -0,0 +1,58 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Comando de importación masiva de tarifas al arrancar.
+ * <p>
+ * Se activa con {@code price.import.file}: importa el fichero con
+ * {@link PriceImporter} y deja el informe en el log. Para usarlo como
+ * comando de una sola ejecución se arranca sin servidor web, y la
+ * aplicación termina al acabar la importación:
+ * </p>
+ * <pre>
+ * java -jar bootstrap.jar --spring.main.web-application-type=none \
+ *      --price.import.file=/var/lib/prices/temporada.csv
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(prefix = "price.import", name = "file")
+public class PriceImportCommand implements ApplicationRunner {
+
+    /** Importador de tarifas. */
+    private final PriceImporter importer;
+
+    /** Fichero a importar. */
+    private final Path file;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param priceImporter importador de tarifas.
+     * @param path          fichero a importar.
+     */
+    public PriceImportCommand(
+            final PriceImporter priceImporter,
+            @Value("${price.import.file}") final String path) {
+        this.importer = priceImporter;
+        this.file = Path.of(path);
+    }
+
+    /**
+     * Importa el fichero al arrancar.
+     *
+     * @param args argumentos de la aplicación (no se usan)
+     * @throws IOException si falla la lectura del fichero
+     */
+    @Override
+    public void run(final ApplicationArguments args) throws IOException {
+        importer.importFile(file);
+    }
+}
@@ -0,0 +1,111 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator {@code /actuator/priceimport} de importación masiva
+ * de tarifas.
+ * <p>
+ * {@code POST} con el cuerpo {@code {"file": "tarifas.csv"}} importa un
+ * fichero CSV o JSONL del directorio {@code price.import.directory} y
+ * devuelve el informe: filas leídas, insertadas y rechazadas, duración,
+ * filas por segundo y las líneas de las primeras filas rechazadas. Los
+ * motivos de cada rechazo, que pueden citar el contenido del fichero, solo
+ * se registran en el log del servidor. Como toda operación de escritura de
+ * Actuator, exige el token.
+ * </p>
+ * <p>
+ * Solo se aceptan nombres relativos a ese directorio, sin {@code ..}; sin
+ * directorio configurado la importación por HTTP está desactivada. Si el
+ * fichero no se puede leer o su cabecera no es válida se devuelve el
+ * motivo y no se inserta nada.
+ * </p>
+ */
+@Component
+@Endpoint(id = "priceimport")
+public class PriceImportEndpoint {
+
+    /** Logger. */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(PriceImportEndpoint.class);
+
+    /** Importador de tarifas. */
+    private final PriceImporter importer;
+
+    /** Directorio de los ficheros importables, o {@code null}. */
+    private final Path directory;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param priceImporter importador de tarifas.
+     * @param properties    propiedades con el directorio de importación.
+     */
+    public PriceImportEndpoint(final PriceImporter priceImporter,
+                               final PriceImportProperties properties) {
+        this.importer = priceImporter;
+        this.directory = properties.getDirectory();
+    }
+
+    /**
+     * Importa un fichero del directorio de importación y espera a que
+     * termine.
+     *
+     * @param file nombre del fichero, relativo a
+     *             {@code price.import.directory}
+     * @return informe de la importación, o motivo del error
+     */
+    @WriteOperation
+    public Map<String, Object> importFile(final String file) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("file", file);
+        if (directory == null) {
+            body.put("imported", false);
+            body.put("error", "Importación por HTTP desactivada: falta"
+                    + " price.import.directory");
+            return body;
+        }
+        try {
+            PriceImportReport report = importer.importFile(
+                    PriceFilePaths.resolve(directory, file));
+            body.put("imported", true);
+            body.put("report", summary(report));
+        } catch (IOException ex) {
+            body.put("imported", false);
+            body.put("error", "No se puede leer el fichero " + file);
+        } catch (IllegalArgumentException ex) {
+            body.put("imported", false);
+            body.put("error", ex.getMessage());
+        }
+        return body;
+    }
+
+    /**
+     * Informe sin los motivos de rechazo, que se registran en el log.
+     */
+    private Map<String, Object> summary(final PriceImportReport report) {
+        for (PriceImportError error : report.errors()) {
+            LOGGER.warn("Importación de {}: línea {} rechazada: {}",
+                    report.source(), error.line(), error.message());
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("read", report.read());
+        summary.put("imported", report.imported());
+        summary.put("rejected", report.rejected());
+        summary.put("elapsedMillis", report.elapsedMillis());
+        summary.put("rowsPerSecond", report.rowsPerSecond());
+        summary.put("rejectedLines", report.errors().stream()
+                .map(PriceImportError::line)
+                .toList());
+        return summary;
+    }
+}
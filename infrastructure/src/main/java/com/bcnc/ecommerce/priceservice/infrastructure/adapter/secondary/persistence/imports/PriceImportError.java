@@ -0,0 +1,10 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
+
+/**
+ * Fila rechazada durante una importación.
+ *
+ * @param line    número de línea en el fichero (desde 1)
+ * @param message motivo del rechazo
+ */
+public record PriceImportError(long line, String message) {
+}
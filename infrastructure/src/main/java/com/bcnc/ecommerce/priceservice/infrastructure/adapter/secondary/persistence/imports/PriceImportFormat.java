@@ -0,0 +1,43 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Formatos de fichero admitidos por la importación y la exportación
+ * masivas. Un volcado exportado se puede volver a importar.
+ */
+public enum PriceImportFormat {
+
+    /**
+     * Valores separados por comas, con una cabecera con los nombres de las
+     * columnas de PRICES ({@code BRAND_ID}, {@code START_DATE}, ...).
+     */
+    CSV,
+
+    /**
+     * Un objeto JSON por línea, con los nombres de los campos de
+     * {@code Price} ({@code brandId}, {@code startDate}, ...).
+     */
+    JSONL;
+
+    /**
+     * Deduce el formato a partir de la extensión del fichero.
+     *
+     * @param file fichero a importar
+     * @return formato del fichero
+     * @throws IllegalArgumentException si la extensión no es {@code .csv},
+     *                                  {@code .jsonl} ni {@code .ndjson}
+     */
+    public static PriceImportFormat of(final Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return JSONL;
+        }
+        throw new IllegalArgumentException(
+                "Formato de importación desconocido: " + file.getFileName());
+    }
+}
@@ -0,0 +1,79 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Propiedades de la importación masiva de tarifas, con el prefijo
+ * {@code price.import}.
+ *
+ * <p>Ejemplo:</p>
+ * <pre>
+ * price.import.chunk-size=5000
+ * price.import.max-reported-errors=100
+ * price.import.directory=/var/lib/prices/import
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "price.import")
+public class PriceImportProperties {
+
+    /**
+     * Filas insertadas por lote JDBC y por transacción.
+     */
+    private int chunkSize = 5000;
+
+    /**
+     * Número máximo de filas rechazadas que se detallan en el informe.
+     */
+    private int maxReportedErrors = 100;
+
+    /**
+     * Directorio del que {@code /actuator/priceimport} lee los ficheros;
+     * sin él, la importación por HTTP está desactivada.
+     */
+    private Path directory;
+
+    /**
+     * @return filas por lote y por transacción
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @param chunkSizeParam filas por lote y por transacción
+     */
+    public void setChunkSize(final int chunkSizeParam) {
+        this.chunkSize = chunkSizeParam;
+    }
+
+    /**
+     * @return número máximo de rechazos detallados
+     */
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+
+    /**
+     * @param maxReportedErrorsParam número máximo de rechazos detallados
+     */
+    public void setMaxReportedErrors(final int maxReportedErrorsParam) {
+        this.maxReportedErrors = maxReportedErrorsParam;
+    }
+
+    /**
+     * @return directorio de los ficheros importables por HTTP, o
+     * {@code null} si no se ha configurado
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @param directoryParam directorio de los ficheros importables por HTTP
+     */
+    public void setDirectory(final Path directoryParam) {
+        this.directory = directoryParam;
+    }
+}
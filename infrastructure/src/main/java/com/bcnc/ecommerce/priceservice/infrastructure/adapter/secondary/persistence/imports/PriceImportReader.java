@@ -0,0 +1,272 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Lector en streaming de un fichero de importación de tarifas.
+ * <p>
+ * Lee una línea cada vez, de modo que la memoria no depende del tamaño
+ * del fichero, y convierte cada fila en un {@link Price} con
+ * {@link Price.Builder}: una fila es válida si y solo si el builder la
+ * acepta. Las filas mal formadas o que incumplen sus reglas se devuelven
+ * rechazadas con el motivo, sin interrumpir la lectura.
+ * </p>
+ * <p>
+ * Las fechas se escriben en ISO-8601 ({@code 2020-06-14T00:00:00}) o con
+ * un espacio en lugar de la {@code T}, con precisión de segundos: una
+ * fecha con fracciones de segundo rechaza la fila, porque el almacén en
+ * columnas y la instantánea no pueden representarla. El importe se indica en unidades
+ * mayores ({@code PRICE}/{@code price}, p. ej. {@code 35.50}) o en
+ * unidades menores ({@code PRICE_MINOR}/{@code priceMinor}, p. ej.
+ * {@code 3550}).
+ * </p>
+ */
+public final class PriceImportReader implements Closeable {
+
+    /** Lector JSON de las líneas JSONL. */
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    /** Campos de una tarifa en el fichero. */
+    enum Field {
+        /** Cadena. */
+        BRAND_ID("brandId"),
+        /** Inicio de vigencia. */
+        START_DATE("startDate"),
+        /** Fin de vigencia. */
+        END_DATE("endDate"),
+        /** Tarifa. */
+        PRICE_LIST("priceList"),
+        /** Producto. */
+        PRODUCT_ID("productId"),
+        /** Prioridad. */
+        PRIORITY("priority"),
+        /** Importe en unidades mayores. */
+        PRICE("price"),
+        /** Importe en unidades menores. */
+        PRICE_MINOR("priceMinor"),
+        /** Moneda. */
+        CURR("curr");
+
+        /** Nombre del campo en JSONL. */
+        private final String jsonName;
+
+        Field(final String name) {
+            this.jsonName = name;
+        }
+    }
+
+    /** Fichero de origen. */
+    private final BufferedReader reader;
+
+    /** Formato del fichero. */
+    private final PriceImportFormat format;
+
+    /** Posición de cada campo en las filas CSV. */
+    private final Map<Field, Integer> csvColumns = new EnumMap<>(Field.class);
+
+    /** Número de columnas de la cabecera CSV. */
+    private int csvWidth;
+
+    /** Número de la última línea leída. */
+    private long lineNumber;
+
+    /**
+     * Crea un lector sobre un fichero ya abierto. En CSV lee la cabecera.
+     *
+     * @param source fichero de origen; se cierra con el lector
+     * @param fileFormat formato del fichero
+     * @throws IOException si falla la lectura de la cabecera
+     * @throws IllegalArgumentException si la cabecera CSV no tiene las
+     *                                  columnas obligatorias
+     */
+    public PriceImportReader(final BufferedReader source,
+                             final PriceImportFormat fileFormat)
+            throws IOException {
+        this.reader = source;
+        this.format = fileFormat;
+        if (fileFormat == PriceImportFormat.CSV) {
+            readCsvHeader();
+        }
+    }
+
+    /**
+     * Lee la siguiente fila no vacía.
+     *
+     * @return fila leída, válida o rechazada; {@code null} al final del
+     *         fichero
+     * @throws IOException si falla la lectura
+     */
+    public PriceImportRow next() throws IOException {
+        String line = nextLine();
+        if (line == null) {
+            return null;
+        }
+        try {
+            Price price = format == PriceImportFormat.CSV
+                    ? parseCsv(line)
+                    : parseJson(line);
+            return new PriceImportRow(lineNumber, price, null);
+        } catch (RuntimeException | JsonProcessingException ex) {
+            String message = ex.getMessage() != null
+                    ? ex.getMessage()
+                    : ex.getClass().getSimpleName();
+            return new PriceImportRow(lineNumber, null, message);
+        }
+    }
+
+    /**
+     * Cierra el fichero de origen.
+     *
+     * @throws IOException si falla el cierre
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+        } while (line != null && line.isBlank());
+        return line;
+    }
+
+    private void readCsvHeader() throws IOException {
+        String header = nextLine();
+        if (header == null) {
+            return;
+        }
+        String[] names = header.split(",", -1);
+        csvWidth = names.length;
+        for (int i = 0; i < names.length; i++) {
+            String name = unquote(names[i]).toUpperCase(Locale.ROOT);
+            for (Field field : Field.values()) {
+                if (field.name().equals(name)) {
+                    csvColumns.put(field, i);
+                }
+            }
+        }
+        for (Field field : Field.values()) {
+            if (!csvColumns.containsKey(field) && field != Field.PRICE
+                    && field != Field.PRICE_MINOR) {
+                throw new IllegalArgumentException(
+                        "Falta la columna " + field + " en la cabecera");
+            }
+        }
+        if (!csvColumns.containsKey(Field.PRICE)
+                && !csvColumns.containsKey(Field.PRICE_MINOR)) {
+            throw new IllegalArgumentException(
+                    "Falta la columna PRICE o PRICE_MINOR en la cabecera");
+        }
+    }
+
+    private Price parseCsv(final String line) {
+        String[] values = line.split(",", -1);
+        if (values.length != csvWidth) {
+            throw new IllegalArgumentException("Se esperaban " + csvWidth
+                    + " columnas y hay " + values.length);
+        }
+        return toPrice(field -> {
+            Integer column = csvColumns.get(field);
+            if (column == null) {
+                return null;
+            }
+            String value = unquote(values[column]);
+            return value.isEmpty() ? null : value;
+        });
+    }
+
+    private Price parseJson(final String line)
+            throws JsonProcessingException {
+        JsonNode node = JSON.readTree(line);
+        if (!node.isObject()) {
+            throw new IllegalArgumentException(
+                    "Se esperaba un objeto JSON por línea");
+        }
+        return toPrice(field -> {
+            JsonNode value = node.get(field.jsonName);
+            return value == null || value.isNull() ? null : value.asText();
+        });
+    }
+
+    private static Price toPrice(final Function<Field, String> values) {
+        Price.Builder builder = Price.builder()
+                .brandId(toLong(Field.BRAND_ID, values))
+                .startDate(toDate(Field.START_DATE, values))
+                .endDate(toDate(Field.END_DATE, values))
+                .priceList(toInteger(Field.PRICE_LIST, values))
+                .productId(toLong(Field.PRODUCT_ID, values))
+                .priority(toInteger(Field.PRIORITY, values))
+                .curr(values.apply(Field.CURR));
+        Long priceMinor = toLong(Field.PRICE_MINOR, values);
+        if (priceMinor != null) {
+            builder.priceMinor(priceMinor);
+        } else {
+            String price = values.apply(Field.PRICE);
+            builder.price(price == null ? null : parse(Field.PRICE, price,
+                    BigDecimal::new));
+        }
+        return builder.build();
+    }
+
+    private static Long toLong(final Field field,
+                               final Function<Field, String> values) {
+        String value = values.apply(field);
+        return value == null ? null : parse(field, value, Long::valueOf);
+    }
+
+    private static Integer toInteger(final Field field,
+                                     final Function<Field, String> values) {
+        String value = values.apply(field);
+        return value == null ? null : parse(field, value, Integer::valueOf);
+    }
+
+    private static LocalDateTime toDate(final Field field,
+                                        final Function<Field, String> values) {
+        String value = values.apply(field);
+        if (value == null) {
+            return null;
+        }
+        LocalDateTime date = parse(field, value,
+                text -> LocalDateTime.parse(text.replace(' ', 'T')));
+        if (date.getNano() != 0) {
+            throw new IllegalArgumentException("Valor no válido en " + field
+                    + ": '" + value + "' (sin fracciones de segundo)");
+        }
+        return date;
+    }
+
+    private static <T> T parse(final Field field, final String value,
+                               final Function<String, T> parser) {
+        try {
+            return parser.apply(value.trim());
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException(
+                    "Valor no válido en " + field + ": '" + value + "'", ex);
+        }
+    }
+
+    private static String unquote(final String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"")
+                && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1).trim();
+        }
+        return trimmed;
+    }
+}
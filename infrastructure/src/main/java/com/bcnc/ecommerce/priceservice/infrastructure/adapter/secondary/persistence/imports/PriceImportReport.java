@@ -0,0 +1,25 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
+
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva.
+ *
+ * @param source        fichero importado
+ * @param read          filas leídas (sin contar cabecera ni líneas
+ *                      vacías)
+ * @param imported      filas insertadas
+ * @param rejected      filas rechazadas
+ * @param elapsedMillis duración total en milisegundos
+ * @param rowsPerSecond filas leídas por segundo
+ * @param errors        primeras filas rechazadas, hasta
+ *                      {@code price.import.max-reported-errors}
+ */
+public record PriceImportReport(String source,
+                                long read,
+                                long imported,
+                                long rejected,
+                                long elapsedMillis,
+                                long rowsPerSecond,
+                                List<PriceImportError> errors) {
+}
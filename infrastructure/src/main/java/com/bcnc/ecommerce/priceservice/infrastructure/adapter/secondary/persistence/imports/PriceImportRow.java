@@ -0,0 +1,21 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+
+/**
+ * Fila leída de un fichero de importación: la tarifa si es válida o el
+ * motivo del rechazo si no lo es.
+ *
+ * @param line  número de línea en el fichero (desde 1)
+ * @param price tarifa validada; {@code null} si la fila se rechaza
+ * @param error motivo del rechazo; {@code null} si la fila es válida
+ */
+public record PriceImportRow(long line, Price price, String error) {
+
+    /**
+     * @return si la fila contiene una tarifa válida
+     */
+    public boolean isValid() {
+        return price != null;
+    }
+}
@@ -0,0 +1,259 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importación masiva de tarifas en la tabla PRICES.
+ * <p>
+ * Lee el fichero en streaming con {@link PriceImportReader} y agrupa las
+ * filas válidas en lotes de {@code price.import.chunk-size}; cada lote se
+ * inserta dentro de su propia transacción, de modo que ni la memoria ni
+ * el tamaño de la transacción dependen del tamaño del fichero. Cada
+ * sentencia {@code INSERT} lleva hasta {@value #ROWS_PER_STATEMENT} filas:
+ * el trigger de PRICE_SEGMENTS recalcula cada clave una vez por sentencia,
+ * y con una fila por sentencia el coste crecería con el cuadrado de las
+ * tarifas importadas de una misma clave. Las filas que no pasan la validación
+ * de {@code Price.Builder} se rechazan sin detener la importación; si la
+ * base de datos rechaza un lote, este se deshace y se reintenta fila a
+ * fila para aislar las filas culpables y conservar el resto.
+ * </p>
+ * <p>
+ * Los lotes confirmados no se deshacen si una importación se interrumpe:
+ * el informe indica cuántas filas se han insertado.
+ * </p>
+ */
+@Component
+public class PriceImporter {
+
+    /** Logger. */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(PriceImporter.class);
+
+    /** Inserción de una tarifa. */
+    static final String SQL_INSERT = "INSERT INTO PRICES (BRAND_ID,"
+            + " START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY,"
+            + " PRICE_MINOR, CURR) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /** Filas por sentencia {@code INSERT} de un lote. */
+    static final int ROWS_PER_STATEMENT = 500;
+
+    /** Columnas de cada fila de {@link #SQL_INSERT}. */
+    private static final int COLUMNS = 8;
+
+    /** Inserción de {@link #ROWS_PER_STATEMENT} tarifas. */
+    private static final String SQL_INSERT_FULL =
+            insertSql(ROWS_PER_STATEMENT);
+
+    /** Plantilla JDBC sobre el {@code DataSource} de la aplicación. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Transacción de cada lote. */
+    private final TransactionTemplate transactionTemplate;
+
+    /** Tamaño de lote y límite de rechazos detallados. */
+    private final PriceImportProperties properties;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param template           plantilla JDBC.
+     * @param transactionManager gestor de transacciones de los lotes.
+     * @param importProperties   propiedades de la importación.
+     */
+    public PriceImporter(final JdbcTemplate template,
+                         final PlatformTransactionManager transactionManager,
+                         final PriceImportProperties importProperties) {
+        if (importProperties.getChunkSize() <= 0) {
+            throw new IllegalArgumentException(
+                    "price.import.chunk-size debe ser mayor que cero");
+        }
+        this.jdbcTemplate = template;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = importProperties;
+    }
+
+    /**
+     * Importa un fichero CSV o JSONL, según su extensión.
+     *
+     * @param file fichero a importar
+     * @return informe de la importación
+     * @throws IOException si falla la lectura del fichero
+     * @throws IllegalArgumentException si el formato no se reconoce o la
+     *                                  cabecera CSV no es válida
+     */
+    public PriceImportReport importFile(final Path file) throws IOException {
+        PriceImportFormat format = PriceImportFormat.of(file);
+        try (BufferedReader source =
+                     Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importFrom(new PriceImportReader(source, format),
+                    file.toString());
+        }
+    }
+
+    /**
+     * Importa las filas de un lector ya abierto.
+     *
+     * @param reader lector de filas
+     * @param source nombre del origen para el informe
+     * @return informe de la importación
+     * @throws IOException si falla la lectura
+     */
+    public PriceImportReport importFrom(final PriceImportReader reader,
+                                        final String source)
+            throws IOException {
+        long started = System.nanoTime();
+        Progress progress = new Progress(properties.getMaxReportedErrors());
+        List<PriceImportRow> chunk =
+                new ArrayList<>(properties.getChunkSize());
+        for (PriceImportRow row = reader.next(); row != null;
+                row = reader.next()) {
+            progress.read++;
+            if (!row.isValid()) {
+                progress.reject(row.line(), row.error());
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == properties.getChunkSize()) {
+                insert(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insert(chunk, progress);
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        long rowsPerSecond = elapsedNanos == 0 ? progress.read
+                : progress.read * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        PriceImportReport report = new PriceImportReport(source,
+                progress.read, progress.imported, progress.rejected,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond,
+                List.copyOf(progress.errors));
+        LOGGER.info("Importación de precios de {}: {} filas leídas, {}"
+                + " insertadas, {} rechazadas en {} ms ({} filas/s)",
+                source, report.read(), report.imported(), report.rejected(),
+                report.elapsedMillis(), report.rowsPerSecond());
+        return report;
+    }
+
+    private void insert(final List<PriceImportRow> chunk,
+                        final Progress progress) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < chunk.size();
+                        from += ROWS_PER_STATEMENT) {
+                    insertRows(chunk.subList(from, Math.min(chunk.size(),
+                            from + ROWS_PER_STATEMENT)));
+                }
+            });
+            progress.imported += chunk.size();
+            LOGGER.debug("Lote de {} tarifas insertado (líneas {}-{})",
+                    chunk.size(), chunk.get(0).line(),
+                    chunk.get(chunk.size() - 1).line());
+        } catch (DataAccessException ex) {
+            LOGGER.warn("Lote rechazado por la base de datos (líneas {}-{}),"
+                    + " se reintenta fila a fila: {}", chunk.get(0).line(),
+                    chunk.get(chunk.size() - 1).line(),
+                    NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+            for (PriceImportRow row : chunk) {
+                insertOne(row, progress);
+            }
+        }
+    }
+
+    private void insertRows(final List<PriceImportRow> rows) {
+        String sql = rows.size() == ROWS_PER_STATEMENT ? SQL_INSERT_FULL
+                : insertSql(rows.size());
+        jdbcTemplate.update(sql, ps -> {
+            for (int i = 0; i < rows.size(); i++) {
+                bind(ps, i * COLUMNS, rows.get(i));
+            }
+        });
+    }
+
+    /**
+     * Asigna los parámetros de una fila válida a partir de la posición
+     * {@code offset} + 1.
+     */
+    private static void bind(final PreparedStatement ps, final int offset,
+                             final PriceImportRow row) throws SQLException {
+        Price price = row.price();
+        ps.setLong(offset + 1, price.getBrandId());
+        ps.setTimestamp(offset + 2, Timestamp.valueOf(price.getStartDate()));
+        ps.setTimestamp(offset + 3, Timestamp.valueOf(price.getEndDate()));
+        ps.setInt(offset + 4, price.getPriceList());
+        ps.setLong(offset + 5, price.getProductId());
+        ps.setInt(offset + 6, price.getPriority());
+        ps.setLong(offset + 7, price.getPriceMinor());
+        ps.setString(offset + 8, price.getCurr());
+    }
+
+    private static String insertSql(final int rows) {
+        StringBuilder sql = new StringBuilder(SQL_INSERT);
+        for (int i = 1; i < rows; i++) {
+            sql.append(", (?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+        return sql.toString();
+    }
+
+    private void insertOne(final PriceImportRow row,
+                           final Progress progress) {
+        try {
+            jdbcTemplate.update(SQL_INSERT, ps -> bind(ps, 0, row));
+            progress.imported++;
+        } catch (DataAccessException ex) {
+            progress.reject(row.line(),
+                    NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+        }
+    }
+
+    /** Contadores de una importación en curso. */
+    private static final class Progress {
+
+        /** Número máximo de rechazos detallados. */
+        private final int maxErrors;
+
+        /** Primeros rechazos. */
+        private final List<PriceImportError> errors = new ArrayList<>();
+
+        /** Filas leídas. */
+        private long read;
+
+        /** Filas insertadas. */
+        private long imported;
+
+        /** Filas rechazadas. */
+        private long rejected;
+
+        Progress(final int maxReportedErrors) {
+            this.maxErrors = maxReportedErrors;
+        }
+
+        void reject(final long line, final String message) {
+            rejected++;
+            if (errors.size() < maxErrors) {
+                errors.add(new PriceImportError(line, message));
+            }
+        }
+    }
+}
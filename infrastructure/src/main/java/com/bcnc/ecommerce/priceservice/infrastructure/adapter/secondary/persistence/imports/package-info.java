@@ -0,0 +1,7 @@
+/**
+ * Contiene la importación masiva de tarifas desde ficheros CSV o JSONL:
+ * lectura en streaming, validación de cada fila con las reglas de
+ * {@code Price.Builder} e inserción por lotes JDBC en transacciones
+ * acotadas.
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
@@ -0,0 +1,599 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.index;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Almacén de tarifas inmutable en columnas de tipos primitivos.
+ * <p>
+ * Cada tarifa ocupa una fila repartida en arrays paralelos (inicio y fin en
+ * segundos, prioridad, tarifa, importe en unidades menores e índice de
+ * moneda), 34 bytes por fila más 20 por clave: unos 39 bytes por tarifa
+ * con cuatro tarifas por clave, frente a los unos 290 de un {@link Price}
+ * con sus fechas, números en caja e importe. Las filas se
+ * ordenan por (productId, brandId, fecha de inicio) y cada clave es un
+ * rango contiguo de filas, localizado por búsqueda binaria sobre las claves
+ * sin mapas ni objetos {@code PriceKey}.
+ * </p>
+ * <p>
+ * Las búsquedas devuelven la posición de la fila como vista ligera: sus
+ * columnas se leen con los accesores por fila y solo se construye un
+ * {@link Price} completo, con {@link #toPrice(int)}, para el resultado
+ * final.
+ * </p>
+ * <p>
+ * Las fechas se guardan como segundos de la hora local (sin zona, igual que
+ * en la tabla PRICES), por lo que las tarifas deben tener precisión de
+ * segundos; las fechas de consulta pueden tener cualquier precisión. Las
+ * instancias son inmutables y seguras para su uso concurrente.
+ * </p>
+ */
+public final class ColumnarPriceStore {
+
+    /** Posición devuelta cuando ninguna fila cumple la búsqueda. */
+    public static final int NOT_FOUND = -1;
+
+    /** Cabecera aproximada de un array en la JVM de 64 bits. */
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    /** Almacén vacío, sin tarifas. */
+    private static final ColumnarPriceStore EMPTY = builder().build();
+
+    /** productId de cada clave, ordenadas por (productId, brandId). */
+    private final long[] keyProductIds;
+
+    /** brandId de cada clave. */
+    private final long[] keyBrandIds;
+
+    /**
+     * Primera fila de cada clave; la última posición es el total de filas.
+     */
+    private final int[] keyOffsets;
+
+    /** Inicio de validez de cada fila, en segundos. */
+    private final long[] startSeconds;
+
+    /** Fin de validez de cada fila, en segundos. */
+    private final long[] endSeconds;
+
+    /** Prioridad de cada fila. */
+    private final int[] priorities;
+
+    /** Identificador de tarifa de cada fila. */
+    private final int[] priceLists;
+
+    /** Importe de cada fila en unidades menores de su moneda. */
+    private final long[] priceMinors;
+
+    /** Índice en {@link #currencies} de la moneda de cada fila. */
+    private final short[] currencyIndexes;
+
+    /** Diccionario de códigos de moneda. */
+    private final String[] currencies;
+
+    private ColumnarPriceStore(final Builder builder, final int[] order) {
+        int size = builder.size;
+        this.startSeconds = new long[size];
+        this.endSeconds = new long[size];
+        this.priorities = new int[size];
+        this.priceLists = new int[size];
+        this.priceMinors = new long[size];
+        this.currencyIndexes = new short[size];
+        this.currencies = builder.currencies.toArray(new String[0]);
+
+        int keys = 0;
+        for (int row = 0; row < size; row++) {
+            int source = order[row];
+            if (row == 0 || builder.compareKey(order[row - 1], source) != 0) {
+                keys++;
+            }
+            startSeconds[row] = builder.starts[source];
+            endSeconds[row] = builder.ends[source];
+            priorities[row] = builder.priorities[source];
+            priceLists[row] = builder.priceLists[source];
+            priceMinors[row] = builder.priceMinors[source];
+            currencyIndexes[row] = builder.currencyIndexes[source];
+        }
+
+        this.keyProductIds = new long[keys];
+        this.keyBrandIds = new long[keys];
+        this.keyOffsets = new int[keys + 1];
+        int key = -1;
+        for (int row = 0; row < size; row++) {
+            int source = order[row];
+            if (row == 0 || builder.compareKey(order[row - 1], source) != 0) {
+                key++;
+                keyProductIds[key] = builder.productIds[source];
+                keyBrandIds[key] = builder.brandIds[source];
+                keyOffsets[key] = row;
+            }
+        }
+        keyOffsets[keys] = size;
+    }
+
+    /**
+     * Devuelve un almacén vacío.
+     *
+     * @return almacén sin tarifas
+     */
+    public static ColumnarPriceStore empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Construye el almacén a partir de un conjunto de tarifas.
+     *
+     * @param prices tarifas a almacenar
+     * @return almacén inmutable
+     */
+    public static ColumnarPriceStore of(final Collection<Price> prices) {
+        Builder builder = builder();
+        for (Price price : prices) {
+            builder.add(price);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Crea un constructor incremental, para cargar las tarifas sin
+     * mantenerlas todas en memoria como {@link Price}.
+     *
+     * @return constructor vacío
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Construye un almacén nuevo con las tarifas de algunas claves
+     * sustituidas. Las filas del resto de claves se copian columna a
+     * columna, sin pasar por {@link Price}; este almacén no se modifica.
+     *
+     * @param replacements tarifas actuales de cada clave cambiada (lista
+     *                     vacía si la clave ya no tiene tarifas)
+     * @return almacén inmutable actualizado
+     */
+    public ColumnarPriceStore withKeys(
+            final Map<PriceKey, List<Price>> replacements) {
+        Builder builder = builder();
+        for (int key = 0; key < keyCount(); key++) {
+            if (replacements.containsKey(new PriceKey(
+                    keyProductIds[key], keyBrandIds[key]))) {
+                continue;
+            }
+            for (int row = keyOffsets[key]; row < keyOffsets[key + 1];
+                 row++) {
+                builder.addRow(this, key, row);
+            }
+        }
+        replacements.values().forEach(prices -> prices.forEach(builder::add));
+        return builder.build();
+    }
+
+    /**
+     * Busca la tarifa aplicable de mayor prioridad de un producto y cadena
+     * en una fecha (ambos extremos de validez incluidos). A igual
+     * prioridad gana la de fecha de inicio más temprana, como en la lista
+     * de {@link #findAll(long, long)} (véase {@code PriceSelectionService}).
+     * No crea objetos.
+     *
+     * @param productId identificador del producto
+     * @param brandId   identificador de la cadena
+     * @param date      fecha de aplicación
+     * @return fila ganadora, o {@link #NOT_FOUND}
+     */
+    public int findApplicable(final long productId, final long brandId,
+                              final LocalDateTime date) {
+        int key = keyIndex(productId, brandId);
+        if (key < 0) {
+            return NOT_FOUND;
+        }
+        long second = toSeconds(date);
+        boolean exactSecond = date.getNano() == 0;
+        int best = NOT_FOUND;
+        for (int row = keyOffsets[key]; row < keyOffsets[key + 1]; row++) {
+            // Filas ordenadas por inicio: las siguientes empiezan después.
+            if (startSeconds[row] > second) {
+                break;
+            }
+            long end = endSeconds[row];
+            boolean notEnded = end > second || (end == second && exactSecond);
+            if (notEnded
+                    && (best == NOT_FOUND || priorities[row] > priorities[best])) {
+                best = row;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Construye las tarifas de un producto y cadena.
+     *
+     * @param productId identificador del producto
+     * @param brandId   identificador de la cadena
+     * @return tarifas de la clave, ordenadas por fecha de inicio
+     */
+    public List<Price> findAll(final long productId, final long brandId) {
+        int key = keyIndex(productId, brandId);
+        if (key < 0) {
+            return List.of();
+        }
+        List<Price> prices = new ArrayList<>(
+                keyOffsets[key + 1] - keyOffsets[key]);
+        for (int row = keyOffsets[key]; row < keyOffsets[key + 1]; row++) {
+            prices.add(toPrice(key, row));
+        }
+        return prices;
+    }
+
+    /**
+     * Construye el {@link Price} completo de una fila.
+     *
+     * @param row fila devuelta por una búsqueda
+     * @return tarifa de dominio
+     */
+    public Price toPrice(final int row) {
+        return toPrice(keyOfRow(row), row);
+    }
+
+    /**
+     * @param row fila
+     * @return inicio de validez de la fila, en segundos de la hora local
+     */
+    public long startSecond(final int row) {
+        return startSeconds[row];
+    }
+
+    /**
+     * @param row fila
+     * @return fin de validez de la fila, en segundos de la hora local
+     */
+    public long endSecond(final int row) {
+        return endSeconds[row];
+    }
+
+    /**
+     * @param row fila
+     * @return prioridad de la fila
+     */
+    public int priority(final int row) {
+        return priorities[row];
+    }
+
+    /**
+     * @param row fila
+     * @return identificador de tarifa de la fila
+     */
+    public int priceList(final int row) {
+        return priceLists[row];
+    }
+
+    /**
+     * @param row fila
+     * @return importe de la fila en unidades menores de su moneda
+     */
+    public long priceMinor(final int row) {
+        return priceMinors[row];
+    }
+
+    /**
+     * @param row fila
+     * @return código de moneda de la fila
+     */
+    public String currency(final int row) {
+        return currencies[currencyIndexes[row]];
+    }
+
+    /**
+     * @param key posición de la clave, entre 0 y {@link #keyCount()}
+     * @return productId de la clave
+     */
+    public long keyProductId(final int key) {
+        return keyProductIds[key];
+    }
+
+    /**
+     * @param key posición de la clave
+     * @return brandId de la clave
+     */
+    public long keyBrandId(final int key) {
+        return keyBrandIds[key];
+    }
+
+    /**
+     * @param key posición de la clave
+     * @return primera fila de la clave; sus filas son contiguas
+     */
+    public int keyFirstRow(final int key) {
+        return keyOffsets[key];
+    }
+
+    /**
+     * @return número total de tarifas
+     */
+    public int size() {
+        return startSeconds.length;
+    }
+
+    /**
+     * @return número de claves (productId, brandId) distintas
+     */
+    public int keyCount() {
+        return keyProductIds.length;
+    }
+
+    /**
+     * Estima la memoria ocupada por los arrays del almacén (sin contar los
+     * códigos de moneda, compartidos).
+     *
+     * @return bytes aproximados
+     */
+    public long estimatedBytes() {
+        long rows = (long) size()
+                * (Long.BYTES * 3 + Integer.BYTES * 2 + Short.BYTES);
+        long keys = (long) keyCount() * (Long.BYTES * 2 + Integer.BYTES)
+                + Integer.BYTES;
+        long references = (long) currencies.length * Integer.BYTES;
+        return rows + keys + references + 10L * ARRAY_HEADER_BYTES;
+    }
+
+    /**
+     * @return bytes aproximados por tarifa, o 0 si está vacío
+     */
+    public double bytesPerPrice() {
+        return size() == 0 ? 0 : (double) estimatedBytes() / size();
+    }
+
+    private Price toPrice(final int key, final int row) {
+        return Price.builder()
+                .brandId(keyBrandIds[key])
+                .startDate(toDate(startSeconds[row]))
+                .endDate(toDate(endSeconds[row]))
+                .priceList(priceLists[row])
+                .productId(keyProductIds[key])
+                .priority(priorities[row])
+                .priceMinor(priceMinors[row])
+                .curr(currency(row))
+                .build();
+    }
+
+    /**
+     * Busca la clave por búsqueda binaria.
+     *
+     * @param productId identificador del producto
+     * @param brandId   identificador de la cadena
+     * @return posición de la clave, o negativa si no existe
+     */
+    private int keyIndex(final long productId, final long brandId) {
+        int lo = 0;
+        int hi = keyProductIds.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = Long.compare(keyProductIds[mid], productId);
+            if (cmp == 0) {
+                cmp = Long.compare(keyBrandIds[mid], brandId);
+            }
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * @param row fila
+     * @return clave a la que pertenece la fila
+     */
+    private int keyOfRow(final int row) {
+        if (row < 0 || row >= size()) {
+            throw new IndexOutOfBoundsException(row);
+        }
+        int key = Arrays.binarySearch(keyOffsets, row);
+        if (key >= 0) {
+            // Las claves no tienen filas vacías: el offset es único.
+            return key;
+        }
+        return -key - 2;
+    }
+
+    private static long toSeconds(final LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDate(final long seconds) {
+        return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Constructor incremental de {@link ColumnarPriceStore}. Acumula las
+     * tarifas en arrays primitivos que crecen al doble y las ordena al
+     * construir. No es seguro para uso concurrente.
+     */
+    public static final class Builder {
+
+        /** Capacidad inicial de los arrays. */
+        private static final int INITIAL_CAPACITY = 64;
+
+        /** productId de cada tarifa añadida. */
+        private long[] productIds = new long[INITIAL_CAPACITY];
+
+        /** brandId de cada tarifa añadida. */
+        private long[] brandIds = new long[INITIAL_CAPACITY];
+
+        /** Inicio de cada tarifa añadida, en segundos. */
+        private long[] starts = new long[INITIAL_CAPACITY];
+
+        /** Fin de cada tarifa añadida, en segundos. */
+        private long[] ends = new long[INITIAL_CAPACITY];
+
+        /** Prioridad de cada tarifa añadida. */
+        private int[] priorities = new int[INITIAL_CAPACITY];
+
+        /** Identificador de tarifa de cada tarifa añadida. */
+        private int[] priceLists = new int[INITIAL_CAPACITY];
+
+        /** Importe en unidades menores de cada tarifa añadida. */
+        private long[] priceMinors = new long[INITIAL_CAPACITY];
+
+        /** Índice de moneda de cada tarifa añadida. */
+        private short[] currencyIndexes = new short[INITIAL_CAPACITY];
+
+        /** Monedas vistas, en orden de aparición. */
+        private final List<String> currencies = new ArrayList<>();
+
+        /** Índice de cada moneda en {@link #currencies}. */
+        private final Map<String, Short> currencyIndex = new HashMap<>();
+
+        /** Número de tarifas añadidas. */
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * Añade una tarifa.
+         *
+         * @param price tarifa
+         * @return el builder actualizado
+         * @throws IllegalArgumentException si alguna fecha tiene fracciones
+         *                                  de segundo
+         */
+        public Builder add(final Price price) {
+            if (price.getStartDate().getNano() != 0
+                    || price.getEndDate().getNano() != 0) {
+                throw new IllegalArgumentException(
+                        "Las fechas de la tarifa deben tener precisión de"
+                                + " segundos: " + price);
+            }
+            if (size == productIds.length) {
+                grow();
+            }
+            productIds[size] = price.getProductId();
+            brandIds[size] = price.getBrandId();
+            starts[size] = toSeconds(price.getStartDate());
+            ends[size] = toSeconds(price.getEndDate());
+            priorities[size] = price.getPriority();
+            priceLists[size] = price.getPriceList();
+            priceMinors[size] = price.getPriceMinor();
+            currencyIndexes[size] = currencyIndex(price.getCurr());
+            size++;
+            return this;
+        }
+
+        private void addRow(final ColumnarPriceStore store, final int key,
+                            final int row) {
+            if (size == productIds.length) {
+                grow();
+            }
+            productIds[size] = store.keyProductIds[key];
+            brandIds[size] = store.keyBrandIds[key];
+            starts[size] = store.startSeconds[row];
+            ends[size] = store.endSeconds[row];
+            priorities[size] = store.priorities[row];
+            priceLists[size] = store.priceLists[row];
+            priceMinors[size] = store.priceMinors[row];
+            currencyIndexes[size] = currencyIndex(
+                    store.currencies[store.currencyIndexes[row]]);
+            size++;
+        }
+
+        /**
+         * Ordena las tarifas añadidas y construye el almacén.
+         *
+         * @return almacén inmutable
+         */
+        public ColumnarPriceStore build() {
+            return new ColumnarPriceStore(this, sortedOrder());
+        }
+
+        private short currencyIndex(final String currency) {
+            Short index = currencyIndex.get(currency);
+            if (index != null) {
+                return index;
+            }
+            if (currencies.size() > Short.MAX_VALUE) {
+                throw new IllegalStateException(
+                        "Demasiadas monedas distintas");
+            }
+            short created = (short) currencies.size();
+            currencies.add(currency);
+            currencyIndex.put(currency, created);
+            return created;
+        }
+
+        private void grow() {
+            int capacity = productIds.length * 2;
+            productIds = Arrays.copyOf(productIds, capacity);
+            brandIds = Arrays.copyOf(brandIds, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            priceLists = Arrays.copyOf(priceLists, capacity);
+            priceMinors = Arrays.copyOf(priceMinors, capacity);
+            currencyIndexes = Arrays.copyOf(currencyIndexes, capacity);
+        }
+
+        /**
+         * Ordena las posiciones de las tarifas por (productId, brandId,
+         * inicio) con una ordenación por mezcla estable sobre
+         * {@code int[]}, sin crear un objeto por tarifa.
+         *
+         * @return posiciones ordenadas
+         */
+        private int[] sortedOrder() {
+            int[] source = new int[size];
+            for (int i = 0; i < size; i++) {
+                source[i] = i;
+            }
+            int[] target = new int[size];
+            for (int width = 1; width < size; width *= 2) {
+                for (int lo = 0; lo < size; lo += 2 * width) {
+                    int mid = Math.min(lo + width, size);
+                    int hi = Math.min(lo + 2 * width, size);
+                    merge(source, target, lo, mid, hi);
+                }
+                int[] swap = source;
+                source = target;
+                target = swap;
+            }
+            return source;
+        }
+
+        private void merge(final int[] source, final int[] target,
+                           final int lo, final int mid, final int hi) {
+            int left = lo;
+            int right = mid;
+            for (int i = lo; i < hi; i++) {
+                if (left < mid && (right >= hi
+                        || compare(source[left], source[right]) <= 0)) {
+                    target[i] = source[left++];
+                } else {
+                    target[i] = source[right++];
+                }
+            }
+        }
+
+        private int compare(final int a, final int b) {
+            int cmp = compareKey(a, b);
+            return cmp != 0 ? cmp : Long.compare(starts[a], starts[b]);
+        }
+
+        private int compareKey(final int a, final int b) {
+            int cmp = Long.compare(productIds[a], productIds[b]);
+            return cmp != 0 ? cmp : Long.compare(brandIds[a], brandIds[b]);
+        }
+    }
+}
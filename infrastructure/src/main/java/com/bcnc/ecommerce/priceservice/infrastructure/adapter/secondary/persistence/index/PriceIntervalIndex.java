@@ -0,0 +1,218 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.index;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice de intervalos inmutable en memoria sobre las tarifas de precios.
+ * <p>
+ * Agrupa las tarifas por {@link PriceKey} (productId, brandId) y, para cada
+ * clave, las ordena por fecha de inicio formando un árbol de intervalos
+ * implícito sobre el array ordenado: cada nodo guarda la mayor fecha de fin
+ * de su subárbol. Así, la pregunta "qué intervalos contienen la fecha D" se
+ * responde en O(log n + k), siendo k el número de tarifas devueltas, sin
+ * consultas SQL ni hidratación de entidades.
+ * </p>
+ * <p>
+ * Las instancias son inmutables y seguras para su uso concurrente.
+ * </p>
+ */
+public final class PriceIntervalIndex {
+
+    /** Índice vacío, sin tarifas. */
+    private static final PriceIntervalIndex EMPTY =
+            new PriceIntervalIndex(Map.of(), 0);
+
+    /** Intervalos de cada clave (productId, brandId). */
+    private final Map<PriceKey, Intervals> intervalsByKey;
+
+    /** Número total de tarifas indexadas. */
+    private final int size;
+
+    private PriceIntervalIndex(final Map<PriceKey, Intervals> intervals,
+                               final int totalPrices) {
+        this.intervalsByKey = intervals;
+        this.size = totalPrices;
+    }
+
+    /**
+     * Devuelve un índice vacío.
+     *
+     * @return índice sin tarifas
+     */
+    public static PriceIntervalIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Construye el índice a partir de un conjunto de tarifas.
+     *
+     * @param prices tarifas a indexar
+     * @return índice inmutable
+     */
+    public static PriceIntervalIndex of(final Collection<Price> prices) {
+        Map<PriceKey, List<Price>> grouped = new HashMap<>();
+        for (Price price : prices) {
+            grouped.computeIfAbsent(PriceKey.of(price),
+                    key -> new ArrayList<>()).add(price);
+        }
+
+        Map<PriceKey, Intervals> intervals = new HashMap<>(
+                Math.max(16, grouped.size() * 4 / 3 + 1));
+        grouped.forEach((key, keyPrices) ->
+                intervals.put(key, new Intervals(keyPrices)));
+        return new PriceIntervalIndex(intervals, prices.size());
+    }
+
+    /**
+     * Construye un índice nuevo con las tarifas de algunas claves
+     * sustituidas; el resto de claves comparte sus intervalos con este
+     * índice, que no se modifica.
+     *
+     * @param replacements tarifas actuales de cada clave cambiada (lista
+     *                     vacía si la clave ya no tiene tarifas)
+     * @return índice inmutable actualizado
+     */
+    public PriceIntervalIndex withKeys(
+            final Map<PriceKey, List<Price>> replacements) {
+        Map<PriceKey, Intervals> intervals = new HashMap<>(intervalsByKey);
+        int total = size;
+        for (Map.Entry<PriceKey, List<Price>> entry
+                : replacements.entrySet()) {
+            Intervals previous = entry.getValue().isEmpty()
+                    ? intervals.remove(entry.getKey())
+                    : intervals.put(entry.getKey(),
+                            new Intervals(entry.getValue()));
+            total += entry.getValue().size()
+                    - (previous == null ? 0 : previous.byStart.length);
+        }
+        return new PriceIntervalIndex(intervals, total);
+    }
+
+    /**
+     * Recupera las tarifas de un producto y cadena cuyo intervalo de
+     * validez contiene la fecha indicada (ambos extremos incluidos).
+     *
+     * @param productId identificador del producto
+     * @param brandId   identificador de la cadena
+     * @param date      fecha de aplicación
+     * @return tarifas aplicables, ordenadas por fecha de inicio
+     */
+    public List<Price> findContaining(final long productId,
+                                      final long brandId,
+                                      final LocalDateTime date) {
+        Intervals intervals = intervalsByKey.get(
+                new PriceKey(productId, brandId));
+        if (intervals == null) {
+            return List.of();
+        }
+        List<Price> result = new ArrayList<>(2);
+        intervals.collect(0, intervals.byStart.length, date, result);
+        return result;
+    }
+
+    /**
+     * Recupera todas las tarifas indexadas de un producto y cadena.
+     *
+     * @param productId identificador del producto
+     * @param brandId   identificador de la cadena
+     * @return tarifas de la clave, ordenadas por fecha de inicio
+     */
+    public List<Price> findAll(final long productId, final long brandId) {
+        Intervals intervals = intervalsByKey.get(
+                new PriceKey(productId, brandId));
+        if (intervals == null) {
+            return List.of();
+        }
+        return List.of(intervals.byStart);
+    }
+
+    /**
+     * @return número total de tarifas indexadas
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return número de claves (productId, brandId) distintas
+     */
+    public int keyCount() {
+        return intervalsByKey.size();
+    }
+
+    /**
+     * Tarifas de una misma clave ordenadas por fecha de inicio, con el
+     * aumento de "fecha de fin máxima" propio de un árbol de intervalos.
+     * <p>
+     * El árbol es implícito: el nodo raíz del rango [lo, hi) es el elemento
+     * central, y sus subárboles los rangos [lo, mid) y [mid + 1, hi).
+     * </p>
+     */
+    private static final class Intervals {
+
+        /** Tarifas ordenadas por fecha de inicio. */
+        private final Price[] byStart;
+
+        /** Mayor fecha de fin del subárbol cuya raíz es cada posición. */
+        private final LocalDateTime[] maxEnd;
+
+        Intervals(final List<Price> prices) {
+            this.byStart = prices.toArray(new Price[0]);
+            // Ordenación estable: a igual inicio se conserva el orden
+            // de entrada.
+            Arrays.sort(byStart, Comparator.comparing(Price::getStartDate));
+            this.maxEnd = new LocalDateTime[byStart.length];
+            augment(0, byStart.length);
+        }
+
+        private LocalDateTime augment(final int lo, final int hi) {
+            if (lo >= hi) {
+                return null;
+            }
+            int mid = (lo + hi) >>> 1;
+            LocalDateTime max = byStart[mid].getEndDate();
+            LocalDateTime left = augment(lo, mid);
+            if (left != null && left.isAfter(max)) {
+                max = left;
+            }
+            LocalDateTime right = augment(mid + 1, hi);
+            if (right != null && right.isAfter(max)) {
+                max = right;
+            }
+            maxEnd[mid] = max;
+            return max;
+        }
+
+        void collect(final int lo, final int hi, final LocalDateTime date,
+                     final List<Price> out) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            // Ningún intervalo de este subárbol llega hasta la fecha.
+            if (maxEnd[mid].isBefore(date)) {
+                return;
+            }
+            collect(lo, mid, date, out);
+            Price candidate = byStart[mid];
+            // El nodo y todo su subárbol derecho empiezan después.
+            if (candidate.getStartDate().isAfter(date)) {
+                return;
+            }
+            if (!candidate.getEndDate().isBefore(date)) {
+                out.add(candidate);
+            }
+            collect(mid + 1, hi, date, out);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Estructuras de búsqueda en memoria sobre las tarifas de precios, usadas
+ * por los adaptadores que evitan consultar la base de datos en cada
+ * petición.
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.index;
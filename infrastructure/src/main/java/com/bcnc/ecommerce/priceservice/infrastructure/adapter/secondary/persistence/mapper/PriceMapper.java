@@ -31,7 +31,7 @@ public class PriceMapper {
                 .priceList(entity.getPriceList())
                 .productId(entity.getProductId())
                 .priority(entity.getPriority())
-                .price(entity.getPrice())
+                .priceMinor(entity.getPriceMinor())
                 .curr(entity.getCurr())
                 .build();
     }
@@ -55,7 +55,7 @@ public class PriceMapper {
                 .priceList(price.getPriceList())
                 .productId(price.getProductId())
                 .priority(price.getPriority())
-                .price(price.getPrice())
+                .priceMinor(price.getPriceMinor())
                 .curr(price.getCurr())
                 .build();
     }
@@ -0,0 +1,16 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload;
+
+/**
+ * Índice recién construido, pendiente de validar y publicar.
+ *
+ * @param index          estructura inmutable de búsqueda
+ * @param prices         número de tarifas que contiene
+ * @param estimatedBytes memoria estimada que ocupa
+ * @param description    descripción legible para el log y el estado
+ * @param <I>            tipo de la estructura de búsqueda
+ */
+public record LoadedPriceIndex<I>(I index,
+                                  int prices,
+                                  long estimatedBytes,
+                                  String description) {
+}
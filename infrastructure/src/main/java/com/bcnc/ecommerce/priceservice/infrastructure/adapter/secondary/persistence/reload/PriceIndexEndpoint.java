@@ -0,0 +1,91 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload;
+
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter.PriceStorage;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Endpoint de Actuator {@code /actuator/priceindex} del índice de precios
+ * del adaptador de almacenamiento activo.
+ * <ul>
+ *   <li>{@code GET}: versión publicada, instante de carga, duración de la
+ *       construcción, número de tarifas y memoria estimada.</li>
+ *   <li>{@code POST}: construye una nueva versión en segundo plano, espera
+ *       a que se publique y devuelve su estado; si no es válida se
+ *       mantiene la anterior y se devuelve el motivo.</li>
+ * </ul>
+ * <p>
+ * Con adaptadores sin índice propio ({@code jpa}, {@code jdbc}) solo
+ * informa de que el almacenamiento no es recargable.
+ * </p>
+ */
+@Component
+@Endpoint(id = "priceindex")
+public class PriceIndexEndpoint {
+
+    /** Adaptador de almacenamiento activo. */
+    private final PriceRepository storage;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param priceStorage adaptador de almacenamiento activo.
+     */
+    public PriceIndexEndpoint(@PriceStorage final PriceRepository priceStorage) {
+        this.storage = priceStorage;
+    }
+
+    /**
+     * @return estado de la versión publicada del índice
+     */
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> body = header();
+        if (storage instanceof ReloadablePriceStorage reloadable) {
+            body.put("index", reloadable.indexStatus());
+        }
+        return body;
+    }
+
+    /**
+     * Recarga el índice y espera a que se publique la nueva versión.
+     *
+     * @return estado de la nueva versión, o motivo del rechazo junto al
+     *         estado de la versión que se mantiene
+     */
+    @WriteOperation
+    public Map<String, Object> reload() {
+        Map<String, Object> body = header();
+        if (!(storage instanceof ReloadablePriceStorage reloadable)) {
+            body.put("reloaded", false);
+            return body;
+        }
+        try {
+            PriceIndexStatus status = reloadable.reload().join();
+            body.put("reloaded", true);
+            body.put("index", status);
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            body.put("reloaded", false);
+            body.put("error", cause.getMessage());
+            body.put("index", reloadable.indexStatus());
+        }
+        return body;
+    }
+
+    private Map<String, Object> header() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("storage",
+                ClassUtils.getUserClass(storage).getSimpleName());
+        body.put("reloadable", storage instanceof ReloadablePriceStorage);
+        return body;
+    }
+}
@@ -0,0 +1,252 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Contenedor de la versión publicada de un índice de precios inmutable,
+ * con recarga en caliente al estilo RCU (<em>read-copy-update</em>).
+ * <p>
+ * Las consultas leen la versión actual con una sola lectura de una
+ * {@link AtomicReference} y trabajan con ella hasta terminar, sin
+ * bloqueos. Una recarga construye una versión completamente nueva en un
+ * hilo propio, la valida y la publica con un único intercambio atómico:
+ * las consultas en curso terminan con la versión anterior, las siguientes
+ * ven la nueva, y nadie ve nunca un índice a medio construir. La versión
+ * sustituida se entrega a {@code retire} y el recolector la libera cuando
+ * la última consulta deja de usarla.
+ * </p>
+ * <p>
+ * Las cargas se serializan entre sí, y las recargas pedidas mientras otra
+ * está en curso comparten su resultado.
+ * </p>
+ *
+ * @param <I> tipo de la estructura de búsqueda
+ */
+public final class PriceIndexHolder<I> implements AutoCloseable {
+
+    /** Logger. */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(PriceIndexHolder.class);
+
+    /** Nombre del índice en el log y en el hilo de recarga. */
+    private final String name;
+
+    /** Construcción de una nueva versión. */
+    private final Supplier<LoadedPriceIndex<I>> loader;
+
+    /** Liberación de los recursos de una versión sustituida. */
+    private final Consumer<I> retire;
+
+    /** Versión publicada. */
+    private final AtomicReference<Version<I>> current;
+
+    /** Recarga en curso, o {@code null}. */
+    private final AtomicReference<CompletableFuture<PriceIndexStatus>>
+            pending = new AtomicReference<>();
+
+    /** Acciones a ejecutar tras cada publicación. */
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    /** Hilo de las recargas en segundo plano (se crea con la primera). */
+    private final ExecutorService executor;
+
+    /**
+     * Crea el contenedor con una versión 0 vacía.
+     *
+     * @param indexName  nombre del índice
+     * @param emptyIndex estructura vacía publicada hasta la primera carga
+     * @param indexLoader construcción de una nueva versión; lanza una
+     *                   excepción si la versión no es válida
+     * @param retired    liberación de una versión sustituida (por
+     *                   ejemplo, cerrar un fichero); no debe invalidar las
+     *                   consultas que aún la estén usando
+     */
+    public PriceIndexHolder(final String indexName,
+                            final I emptyIndex,
+                            final Supplier<LoadedPriceIndex<I>> indexLoader,
+                            final Consumer<I> retired) {
+        this.name = Objects.requireNonNull(indexName,
+                "indexName no puede ser nulo");
+        this.loader = Objects.requireNonNull(indexLoader,
+                "indexLoader no puede ser nulo");
+        this.retire = Objects.requireNonNull(retired,
+                "retired no puede ser nulo");
+        this.current = new AtomicReference<>(
+                new Version<>(emptyIndex, PriceIndexStatus.initial()));
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, indexName + "-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return estructura publicada actualmente
+     */
+    public I index() {
+        return current.get().index();
+    }
+
+    /**
+     * @return estado de la versión publicada
+     */
+    public PriceIndexStatus status() {
+        return current.get().status();
+    }
+
+    /**
+     * Construye, valida y publica una nueva versión en el hilo actual.
+     * <p>
+     * Además de la validación propia de {@code indexLoader}, se rechaza
+     * una versión sin tarifas cuando la publicada sí las tiene, para no
+     * vaciar el índice por una lectura parcial o un fichero equivocado.
+     * </p>
+     *
+     * @return estado de la versión publicada
+     * @throws IllegalStateException si la nueva versión no es válida; la
+     *                               versión anterior se mantiene
+     */
+    public synchronized PriceIndexStatus load() {
+        long started = System.nanoTime();
+        LoadedPriceIndex<I> loaded = loader.get();
+        Version<I> previous = current.get();
+        if (loaded.prices() == 0 && previous.status().prices() > 0) {
+            retire.accept(loaded.index());
+            throw new IllegalStateException("La nueva versión de " + name
+                    + " no tiene tarifas; se mantiene la versión "
+                    + previous.status().version());
+        }
+        PriceIndexStatus status = publish(loaded, started);
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Fallo al notificar la recarga de {}", name, ex);
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Construye una nueva versión a partir de la publicada, por ejemplo
+     * aplicando los cambios de algunas claves, y la publica en el hilo
+     * actual. Se serializa con las cargas completas, de modo que nunca
+     * se aplica sobre una versión que otra carga esté sustituyendo.
+     * <p>
+     * No avisa a las acciones de {@link #addListener}: quien aplica el
+     * cambio conoce las claves afectadas.
+     * </p>
+     *
+     * @param change construcción de la nueva versión desde la publicada
+     * @return estado de la versión publicada
+     */
+    public synchronized PriceIndexStatus update(
+            final Function<I, LoadedPriceIndex<I>> change) {
+        long started = System.nanoTime();
+        return publish(change.apply(current.get().index()), started);
+    }
+
+    /**
+     * Lanza {@link #load()} en el hilo de recarga. Si ya hay una recarga
+     * en curso, devuelve la misma.
+     *
+     * @return estado de la nueva versión, o fallo si no se pudo publicar
+     */
+    public CompletableFuture<PriceIndexStatus> reloadAsync() {
+        CompletableFuture<PriceIndexStatus> created =
+                new CompletableFuture<>();
+        CompletableFuture<PriceIndexStatus> running =
+                pending.compareAndExchange(null, created);
+        if (running != null) {
+            return running;
+        }
+        try {
+            executor.execute(() -> runReload(created));
+        } catch (RejectedExecutionException ex) {
+            pending.compareAndSet(created, null);
+            created.completeExceptionally(ex);
+        }
+        return created;
+    }
+
+    /**
+     * Registra una acción a ejecutar tras publicar cada nueva versión.
+     *
+     * @param listener acción a ejecutar
+     */
+    public void addListener(final Runnable listener) {
+        listeners.add(Objects.requireNonNull(listener,
+                "listener no puede ser nulo"));
+    }
+
+    /**
+     * Detiene el hilo de recarga; las recargas en curso se interrumpen.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private PriceIndexStatus publish(final LoadedPriceIndex<I> loaded,
+                                     final long started) {
+        Version<I> previous = current.get();
+        PriceIndexStatus status = new PriceIndexStatus(
+                previous.status().version() + 1,
+                Instant.now(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                loaded.prices(),
+                loaded.estimatedBytes(),
+                loaded.description());
+        Version<I> replaced = current.getAndSet(
+                new Version<>(loaded.index(), status));
+        retire.accept(replaced.index());
+        LOGGER.info("{} versión {} publicada en {} ms: {} tarifas, {}",
+                name, status.version(), status.buildMillis(),
+                status.prices(), status.description());
+        return status;
+    }
+
+    private void runReload(final CompletableFuture<PriceIndexStatus> future) {
+        PriceIndexStatus status = null;
+        RuntimeException failure = null;
+        try {
+            status = load();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Recarga de {} rechazada: {}", name, ex.getMessage());
+            failure = ex;
+        }
+        // Se libera antes de completar para que una petición posterior
+        // al resultado lance una recarga nueva.
+        pending.compareAndSet(future, null);
+        if (failure != null) {
+            future.completeExceptionally(failure);
+        } else {
+            future.complete(status);
+        }
+    }
+
+    /**
+     * Versión publicada: estructura y estado se sustituyen juntos.
+     *
+     * @param index  estructura de búsqueda
+     * @param status estado de la versión
+     * @param <I>    tipo de la estructura de búsqueda
+     */
+    private record Version<I>(I index, PriceIndexStatus status) {
+    }
+}
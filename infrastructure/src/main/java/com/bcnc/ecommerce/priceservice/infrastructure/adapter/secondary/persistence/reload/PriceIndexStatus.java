@@ -0,0 +1,31 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload;
+
+import java.time.Instant;
+
+/**
+ * Estado de la versión publicada de un índice de precios.
+ *
+ * @param version        número de versión; 0 antes de la primera carga
+ * @param loadedAt       instante de publicación, o {@code null} en la
+ *                       versión 0
+ * @param buildMillis    tiempo de construcción y validación en
+ *                       milisegundos
+ * @param prices         número de tarifas del índice
+ * @param estimatedBytes memoria estimada que ocupa el índice (mapeada
+ *                       fuera del heap en la instantánea)
+ * @param description    descripción legible de la estructura
+ */
+public record PriceIndexStatus(long version,
+                               Instant loadedAt,
+                               long buildMillis,
+                               int prices,
+                               long estimatedBytes,
+                               String description) {
+
+    /**
+     * @return estado de la versión 0, vacía, anterior a la primera carga
+     */
+    public static PriceIndexStatus initial() {
+        return new PriceIndexStatus(0, null, 0, 0, 0, "sin cargar");
+    }
+}
@@ -0,0 +1,33 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Adaptador de almacenamiento de precios cuyo índice se puede recargar en
+ * caliente, sin reiniciar ni bloquear las consultas en curso.
+ */
+public interface ReloadablePriceStorage {
+
+    /**
+     * @return estado de la versión publicada del índice
+     */
+    PriceIndexStatus indexStatus();
+
+    /**
+     * Construye una nueva versión del índice en segundo plano y la publica
+     * si es válida. Las peticiones que llegan mientras hay una recarga en
+     * curso reciben el resultado de esa misma recarga.
+     *
+     * @return estado de la nueva versión, o fallo si no se pudo construir
+     *         o validar (se mantiene la versión anterior)
+     */
+    CompletableFuture<PriceIndexStatus> reload();
+
+    /**
+     * Registra una acción a ejecutar tras publicar cada nueva versión,
+     * por ejemplo vaciar las cachés que decoran el almacenamiento.
+     *
+     * @param listener acción a ejecutar
+     */
+    void addReloadListener(Runnable listener);
+}
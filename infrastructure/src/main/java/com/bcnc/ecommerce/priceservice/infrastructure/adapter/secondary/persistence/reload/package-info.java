@@ -0,0 +1,6 @@
+/**
+ * Contiene la recarga en caliente de los índices de precios en memoria o
+ * mapeados: publicación de versiones inmutables con un único intercambio
+ * atómico y endpoint de Actuator para lanzarla y consultarla.
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload;
@@ -20,7 +20,8 @@ import java.util.List;
  * de dominio.</p>
  */
 @Repository
-public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
+public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long>,
+        PriceJpaRepositoryCustom {
     /**
      * Busca las tarifas que aplican a un producto y cadena en una fecha
      * específica.
@@ -44,4 +45,13 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
             @Param("productId") Long productId,
             @Param("brandId") Long brandId,
             Pageable pageable);
+
+    /**
+     * Busca todas las tarifas de un producto y cadena.
+     *
+     * @param productId identificador del producto.
+     * @param brandId   identificador de la cadena.
+     * @return tarifas del producto y cadena.
+     */
+    List<PriceEntity> findByProductIdAndBrandId(Long productId, Long brandId);
 }
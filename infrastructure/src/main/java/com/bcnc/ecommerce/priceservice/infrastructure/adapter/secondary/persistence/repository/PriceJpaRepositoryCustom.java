@@ -0,0 +1,44 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.entity.PriceEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Consultas de {@link PriceJpaRepository} que dependen del número de
+ * claves pedidas y no pueden declararse con {@code @Query}.
+ */
+public interface PriceJpaRepositoryCustom {
+
+    /**
+     * Busca en una sola consulta las tarifas que pueden aplicar a un lote
+     * de búsquedas: las de las claves (productId, brandId) indicadas cuya
+     * vigencia se solapa con el rango de fechas del lote.
+     * <p>
+     * Las claves se comparan como pares, de modo que no se leen las
+     * tarifas de combinaciones de producto y cadena que nadie pidió. El
+     * resultado sigue siendo un superconjunto por fecha; el filtrado
+     * exacto por consulta se realiza en el adaptador.
+     * </p>
+     *
+     * @param keys    claves del lote, no vacío.
+     * @param minDate fecha de aplicación más temprana del lote.
+     * @param maxDate fecha de aplicación más tardía del lote.
+     * @return tarifas candidatas.
+     */
+    List<PriceEntity> findCandidatePrices(Collection<PriceKey> keys,
+                                          LocalDateTime minDate,
+                                          LocalDateTime maxDate);
+
+    /**
+     * Busca en una sola consulta todas las tarifas de las claves
+     * (productId, brandId) indicadas, comparadas como pares.
+     *
+     * @param keys claves a recuperar, no vacío.
+     * @return tarifas de las claves.
+     */
+    List<PriceEntity> findByKeys(Collection<PriceKey> keys);
+}
@@ -0,0 +1,75 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.entity.PriceEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementación de {@link PriceJpaRepositoryCustom} con JPQL generado
+ * según el número de claves.
+ * <p>
+ * Las claves se expresan como lista de valores de fila
+ * {@code (p.productId, p.brandId) IN ((?, ?), ...)}, que H2 resuelve con
+ * el índice por producto y cadena.
+ * </p>
+ */
+public class PriceJpaRepositoryCustomImpl implements PriceJpaRepositoryCustom {
+
+    /** Gestor de entidades de la unidad de persistencia. */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PriceEntity> findCandidatePrices(
+            final Collection<PriceKey> keys,
+            final LocalDateTime minDate,
+            final LocalDateTime maxDate) {
+        TypedQuery<PriceEntity> query = entityManager.createQuery(
+                "SELECT p FROM PriceEntity p WHERE " + keysIn(keys.size())
+                        + " AND p.startDate <= :maxDate"
+                        + " AND p.endDate >= :minDate",
+                PriceEntity.class);
+        bindKeys(query, keys);
+        return query.setParameter("minDate", minDate)
+                .setParameter("maxDate", maxDate)
+                .getResultList();
+    }
+
+    @Override
+    public List<PriceEntity> findByKeys(final Collection<PriceKey> keys) {
+        TypedQuery<PriceEntity> query = entityManager.createQuery(
+                "SELECT p FROM PriceEntity p WHERE " + keysIn(keys.size()),
+                PriceEntity.class);
+        bindKeys(query, keys);
+        return query.getResultList();
+    }
+
+    private static String keysIn(final int keys) {
+        StringBuilder in = new StringBuilder(
+                "(p.productId, p.brandId) IN (");
+        for (int i = 0; i < keys; i++) {
+            if (i > 0) {
+                in.append(", ");
+            }
+            in.append("(:productId").append(i)
+                    .append(", :brandId").append(i).append(')');
+        }
+        return in.append(')').toString();
+    }
+
+    private static void bindKeys(final TypedQuery<PriceEntity> query,
+                                 final Collection<PriceKey> keys) {
+        int i = 0;
+        for (PriceKey key : keys) {
+            query.setParameter("productId" + i, key.productId());
+            query.setParameter("brandId" + i, key.brandId());
+            i++;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.segments;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceSegment;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceTimeline;
+import org.h2.api.Trigger;
+import org.h2.engine.Session;
+import org.h2.jdbc.JdbcConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Trigger de H2 que mantiene PRICE_SEGMENTS, la tabla materializada de
+ * tramos efectivos de PRICES.
+ * <p>
+ * Se registra dos veces sobre PRICES: por fila, para anotar la clave
+ * (PRODUCT_ID, BRAND_ID) de cada fila insertada, modificada o borrada, y
+ * por sentencia, para recalcular al terminar la sentencia los tramos de
+ * cada clave anotada una sola vez, dentro de la misma transacción que el
+ * cambio: lee las tarifas de la clave, las aplana con
+ * {@link PriceTimeline} (mismo criterio de prioridad que
+ * {@code PriceSelectionService}; a igual prioridad gana la de menor ID) y
+ * sustituye sus tramos. Solo se tocan las claves cambiadas, y la tabla
+ * nunca queda desfasada respecto a PRICES.
+ * </p>
+ * <p>
+ * Se registra en {@code schema.sql}:
+ * </p>
+ * <pre>
+ * CREATE TRIGGER PRICE_SEGMENTS_KEYS AFTER INSERT, UPDATE, DELETE
+ *     ON PRICES FOR EACH ROW CALL '...PriceSegmentTrigger';
+ * CREATE TRIGGER PRICE_SEGMENTS_MAINTENANCE AFTER INSERT, UPDATE, DELETE
+ *     ON PRICES CALL '...PriceSegmentTrigger';
+ * </pre>
+ * <p>
+ * Recalcular una clave cuesta leer todas sus tarifas, así que una
+ * sentencia que cambia {@code n} filas de una clave la recalcula una vez
+ * y no {@code n}: el traslado al archivo o un {@code UPDATE} masivo son
+ * lineales. Un {@code batchUpdate} JDBC, en cambio, ejecuta una
+ * sentencia por fila y recalcula la clave de cada fila insertada; por eso
+ * la importación inserta con sentencias {@code INSERT} de varias filas.
+ * Las claves anotadas se guardan por hilo: H2 ejecuta cada sentencia
+ * entera en el hilo que la lanza. Si una sentencia falla antes del
+ * recálculo, sus claves se recalculan con la siguiente, sin más coste que
+ * releerlas.
+ * </p>
+ * <p>
+ * Una modificación que cambia la clave de la fila anota las dos claves.
+ * Las posiciones de las columnas se resuelven al crear el trigger, de
+ * modo que no dependen del orden de la tabla. {@link #rebuildAll}
+ * recalcula la tabla completa sin modificar PRICES.
+ * </p>
+ */
+public class PriceSegmentTrigger implements Trigger {
+
+    /** Tarifas de una clave, en orden de alta. */
+    private static final String SQL_PRICES = "SELECT BRAND_ID, START_DATE,"
+            + " END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE_MINOR, CURR"
+            + " FROM PRICES WHERE PRODUCT_ID = ? AND BRAND_ID = ?"
+            + " ORDER BY ID";
+
+    /** Baja de los tramos de una clave. */
+    private static final String SQL_DELETE = "DELETE FROM PRICE_SEGMENTS"
+            + " WHERE PRODUCT_ID = ? AND BRAND_ID = ?";
+
+    /** Todas las tarifas, agrupadas por clave. */
+    private static final String SQL_ALL_PRICES = "SELECT BRAND_ID,"
+            + " START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY,"
+            + " PRICE_MINOR, CURR FROM PRICES"
+            + " ORDER BY PRODUCT_ID, BRAND_ID, ID";
+
+    /** Baja de todos los tramos. */
+    private static final String SQL_DELETE_ALL =
+            "DELETE FROM PRICE_SEGMENTS";
+
+    /** Alta de un tramo. */
+    private static final String SQL_INSERT = "INSERT INTO PRICE_SEGMENTS"
+            + " (PRODUCT_ID, BRAND_ID, SEGMENT_START, SEGMENT_END,"
+            + " START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE_MINOR,"
+            + " CURR) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /** Claves cambiadas por la sentencia en curso de cada hilo. */
+    private static final ThreadLocal<Set<PriceKey>> PENDING =
+            ThreadLocal.withInitial(LinkedHashSet::new);
+
+    /** Posición de PRODUCT_ID en las filas de PRICES. */
+    private int productIdColumn = -1;
+
+    /** Posición de BRAND_ID en las filas de PRICES. */
+    private int brandIdColumn = -1;
+
+    /**
+     * Resuelve la posición de las columnas de la clave.
+     *
+     * @param conn        conexión de la sesión que crea el trigger
+     * @param schemaName  esquema de la tabla
+     * @param triggerName nombre del trigger
+     * @param tableName   tabla vigilada
+     * @param before      si se ejecuta antes del cambio
+     * @param type        operaciones vigiladas
+     * @throws SQLException si la tabla no tiene las columnas de la clave
+     */
+    @Override
+    public void init(final Connection conn, final String schemaName,
+                     final String triggerName, final String tableName,
+                     final boolean before, final int type)
+            throws SQLException {
+        try (ResultSet columns = conn.getMetaData().getColumns(
+                null, schemaName, tableName, null)) {
+            while (columns.next()) {
+                int position = columns.getInt("ORDINAL_POSITION") - 1;
+                switch (columns.getString("COLUMN_NAME")) {
+                    case "PRODUCT_ID" -> productIdColumn = position;
+                    case "BRAND_ID" -> brandIdColumn = position;
+                    default -> { }
+                }
+            }
+        }
+        if (productIdColumn < 0 || brandIdColumn < 0) {
+            throw new SQLException("La tabla " + tableName
+                    + " no tiene PRODUCT_ID y BRAND_ID");
+        }
+    }
+
+    /**
+     * Por fila, anota la clave de la fila anterior y de la nueva; por
+     * sentencia, recalcula las claves anotadas.
+     *
+     * @param conn   conexión de la transacción del cambio
+     * @param oldRow fila anterior, o {@code null} en inserciones y en la
+     *               llamada por sentencia
+     * @param newRow fila nueva, o {@code null} en borrados y en la llamada
+     *               por sentencia
+     * @throws SQLException si falla el recálculo (se deshace el cambio)
+     */
+    @Override
+    public void fire(final Connection conn, final Object[] oldRow,
+                     final Object[] newRow) throws SQLException {
+        Set<PriceKey> pending = PENDING.get();
+        if (oldRow == null && newRow == null) {
+            // H2 solo desactiva el autocommit al disparar triggers por fila;
+            // aquí se hace lo mismo para que las consultas del recálculo no
+            // intenten confirmar la sentencia en curso.
+            Session session = ((JdbcConnection) conn).getSession();
+            boolean autoCommit = session.getAutoCommit();
+            session.setAutoCommit(false);
+            try {
+                for (PriceKey key : pending) {
+                    rebuild(conn, key.productId(), key.brandId());
+                }
+            } finally {
+                pending.clear();
+                session.setAutoCommit(autoCommit);
+            }
+            return;
+        }
+        if (oldRow != null) {
+            pending.add(keyOf(oldRow));
+        }
+        if (newRow != null) {
+            pending.add(keyOf(newRow));
+        }
+    }
+
+    /**
+     * Recalcula todos los tramos de PRICE_SEGMENTS con un solo recorrido
+     * de PRICES, sin modificarla (y sin anotar cambios en
+     * PRICES_CHANGELOG). Lo usa la migración {@code V4} como alias de H2.
+     *
+     * @param conn conexión de la sesión
+     * @throws SQLException si falla la lectura o la escritura
+     */
+    public static void rebuildAll(final Connection conn)
+            throws SQLException {
+        try (PreparedStatement delete =
+                     conn.prepareStatement(SQL_DELETE_ALL)) {
+            delete.executeUpdate();
+        }
+        List<Price> prices = new ArrayList<>();
+        try (PreparedStatement select = conn.prepareStatement(SQL_ALL_PRICES);
+             ResultSet rs = select.executeQuery();
+             PreparedStatement insert = conn.prepareStatement(SQL_INSERT)) {
+            while (rs.next()) {
+                Price price = mapRow(rs);
+                if (!prices.isEmpty() && !PriceKey.of(price)
+                        .equals(PriceKey.of(prices.get(0)))) {
+                    addSegments(insert, prices);
+                    insert.executeBatch();
+                    prices.clear();
+                }
+                prices.add(price);
+            }
+            addSegments(insert, prices);
+            insert.executeBatch();
+        }
+    }
+
+    private static void rebuild(final Connection conn, final long productId,
+                                final long brandId) throws SQLException {
+        List<Price> prices = new ArrayList<>();
+        try (PreparedStatement select = conn.prepareStatement(SQL_PRICES)) {
+            select.setLong(1, productId);
+            select.setLong(2, brandId);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    prices.add(mapRow(rs));
+                }
+            }
+        }
+
+        try (PreparedStatement delete = conn.prepareStatement(SQL_DELETE)) {
+            delete.setLong(1, productId);
+            delete.setLong(2, brandId);
+            delete.executeUpdate();
+        }
+
+        if (prices.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement insert = conn.prepareStatement(SQL_INSERT)) {
+            addSegments(insert, prices);
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * Añade al lote de {@code insert} los tramos de las tarifas de una
+     * clave.
+     */
+    private static void addSegments(final PreparedStatement insert,
+                                    final List<Price> prices)
+            throws SQLException {
+        if (prices.isEmpty()) {
+            return;
+        }
+        long productId = prices.get(0).getProductId();
+        long brandId = prices.get(0).getBrandId();
+        for (PriceSegment segment : PriceTimeline.of(prices).segments()) {
+            Price price = segment.price();
+            insert.setLong(1, productId);
+            insert.setLong(2, brandId);
+            insert.setObject(3, segment.from());
+            insert.setObject(4, segment.until());
+            insert.setObject(5, price.getStartDate());
+            insert.setObject(6, price.getEndDate());
+            insert.setInt(7, price.getPriceList());
+            insert.setInt(8, price.getPriority());
+            insert.setLong(9, price.getPriceMinor());
+            insert.setString(10, price.getCurr());
+            insert.addBatch();
+        }
+    }
+
+    private static Price mapRow(final ResultSet rs) throws SQLException {
+        return Price.builder()
+                .brandId(rs.getLong(1))
+                .startDate(rs.getObject(2, LocalDateTime.class))
+                .endDate(rs.getObject(3, LocalDateTime.class))
+                .priceList(rs.getInt(4))
+                .productId(rs.getLong(5))
+                .priority(rs.getInt(6))
+                .priceMinor(rs.getLong(7))
+                .curr(rs.getString(8))
+                .build();
+    }
+
+    private PriceKey keyOf(final Object[] row) {
+        return new PriceKey(((Number) row[productIdColumn]).longValue(),
+                ((Number) row[brandIdColumn]).longValue());
+    }
+}
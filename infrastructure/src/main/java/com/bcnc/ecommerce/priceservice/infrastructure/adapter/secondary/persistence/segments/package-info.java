@@ -0,0 +1,6 @@
+/**
+ * Contiene la tabla materializada de tramos efectivos PRICE_SEGMENTS: el
+ * trigger que la recalcula, clave a clave, en la misma transacción que
+ * cada cambio de PRICES.
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.segments;
@@ -0,0 +1,100 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Región de un fichero con registros de tamaño fijo, mapeada en memoria en
+ * trozos de como mucho 2 GB (el límite de un {@link ByteBuffer}).
+ * <p>
+ * Cada trozo contiene una potencia de dos de registros, de modo que el
+ * trozo y la posición de un registro se calculan con desplazamientos y
+ * máscaras. Las lecturas son absolutas y no modifican el estado de los
+ * buffers, por lo que son seguras para uso concurrente.
+ * </p>
+ */
+final class MappedRecords {
+
+    /** Trozos mapeados. */
+    private final ByteBuffer[] chunks;
+
+    /** Tamaño de cada registro en bytes. */
+    private final int recordBytes;
+
+    /** log2 del número de registros por trozo. */
+    private final int shift;
+
+    /** Máscara de la posición de un registro dentro de su trozo. */
+    private final int mask;
+
+    private MappedRecords(final ByteBuffer[] mapped, final int recordSize,
+                          final int chunkShift) {
+        this.chunks = mapped;
+        this.recordBytes = recordSize;
+        this.shift = chunkShift;
+        this.mask = (1 << chunkShift) - 1;
+    }
+
+    /**
+     * Mapea {@code count} registros a partir de {@code offset}, con los
+     * trozos más grandes posibles.
+     *
+     * @param channel    fichero abierto para lectura
+     * @param offset     posición del primer registro
+     * @param count      número de registros
+     * @param recordSize tamaño de cada registro
+     * @return región mapeada
+     * @throws IOException si falla el mapeo
+     */
+    static MappedRecords map(final FileChannel channel, final long offset,
+                             final int count, final int recordSize)
+            throws IOException {
+        int maxShift = 31 - Integer.numberOfLeadingZeros(
+                Integer.MAX_VALUE / recordSize);
+        return map(channel, offset, count, recordSize, maxShift);
+    }
+
+    /**
+     * Mapea {@code count} registros con trozos de {@code 2^chunkShift}
+     * registros.
+     *
+     * @param channel    fichero abierto para lectura
+     * @param offset     posición del primer registro
+     * @param count      número de registros
+     * @param recordSize tamaño de cada registro
+     * @param chunkShift log2 de los registros por trozo
+     * @return región mapeada
+     * @throws IOException si falla el mapeo
+     */
+    static MappedRecords map(final FileChannel channel, final long offset,
+                             final int count, final int recordSize,
+                             final int chunkShift) throws IOException {
+        int perChunk = 1 << chunkShift;
+        int chunkCount = (int) (((long) count + perChunk - 1) / perChunk);
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            int records = Math.min(perChunk, count - i * perChunk);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                    offset + (long) i * perChunk * recordSize,
+                    (long) records * recordSize);
+        }
+        return new MappedRecords(chunks, recordSize, chunkShift);
+    }
+
+    long getLong(final int record, final int field) {
+        return chunks[record >>> shift].getLong(position(record, field));
+    }
+
+    int getInt(final int record, final int field) {
+        return chunks[record >>> shift].getInt(position(record, field));
+    }
+
+    short getShort(final int record, final int field) {
+        return chunks[record >>> shift].getShort(position(record, field));
+    }
+
+    private int position(final int record, final int field) {
+        return (record & mask) * recordBytes + field;
+    }
+}
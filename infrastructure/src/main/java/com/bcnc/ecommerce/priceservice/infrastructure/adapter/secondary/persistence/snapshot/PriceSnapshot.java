@@ -0,0 +1,369 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.snapshot;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Instantánea de precios de solo lectura sobre un fichero mapeado en
+ * memoria ({@link PriceSnapshotFormat}).
+ * <p>
+ * Abrir la instantánea solo lee la cabecera y la tabla de monedas y mapea
+ * el directorio de claves y las filas con {@link FileChannel#map}: no se
+ * copian datos al heap ni hay que recalcular índices, y las páginas del
+ * fichero viven en la caché del sistema operativo, compartida entre los
+ * procesos del mismo equipo que abran el mismo fichero.
+ * </p>
+ * <p>
+ * Las búsquedas siguen el mismo esquema que
+ * {@code ColumnarPriceStore}: búsqueda binaria en el directorio de claves,
+ * recorrido de las filas de la clave devolviendo la posición de la fila
+ * ganadora, y construcción del {@link Price} solo para el resultado. Es
+ * segura para uso concurrente.
+ * </p>
+ */
+public final class PriceSnapshot implements AutoCloseable {
+
+    /** Posición devuelta cuando ninguna fila cumple la búsqueda. */
+    public static final int NOT_FOUND = -1;
+
+    /** Fichero de la instantánea. */
+    private final Path path;
+
+    /** Canal del fichero; se mantiene abierto mientras se usa. */
+    private final FileChannel channel;
+
+    /** Número de claves. */
+    private final int keyCount;
+
+    /** Número de filas. */
+    private final int rowCount;
+
+    /** Tamaño del fichero en bytes. */
+    private final long fileSize;
+
+    /** Códigos de moneda. */
+    private final String[] currencies;
+
+    /** Directorio de claves mapeado. */
+    private final MappedRecords keys;
+
+    /** Filas mapeadas. */
+    private final MappedRecords rows;
+
+    private PriceSnapshot(final Path file, final FileChannel fileChannel,
+                          final int rowChunkShift) throws IOException {
+        this.path = file;
+        this.channel = fileChannel;
+
+        ByteBuffer header = ByteBuffer.allocate(
+                PriceSnapshotFormat.HEADER_BYTES);
+        readFully(header, 0);
+        if (header.getInt(0) != PriceSnapshotFormat.MAGIC) {
+            throw new IOException("No es una instantánea de precios: "
+                    + file);
+        }
+        int version = header.getInt(4);
+        if (version != PriceSnapshotFormat.VERSION) {
+            throw new IOException("Versión de instantánea no soportada: "
+                    + version);
+        }
+        this.keyCount = header.getInt(PriceSnapshotFormat.HEADER_KEY_COUNT);
+        this.rowCount = header.getInt(PriceSnapshotFormat.HEADER_ROW_COUNT);
+        int currencyCount = header.getInt(
+                PriceSnapshotFormat.HEADER_CURRENCY_COUNT);
+        long currenciesOffset = header.getLong(
+                PriceSnapshotFormat.HEADER_CURRENCIES_OFFSET);
+        long keysOffset = header.getLong(
+                PriceSnapshotFormat.HEADER_KEYS_OFFSET);
+        long rowsOffset = header.getLong(
+                PriceSnapshotFormat.HEADER_ROWS_OFFSET);
+
+        long expectedSize = rowsOffset
+                + (long) rowCount * PriceSnapshotFormat.ROW_BYTES;
+        if (channel.size() != expectedSize) {
+            throw new IOException("Instantánea truncada o corrupta: " + file
+                    + " (" + channel.size() + " bytes, se esperaban "
+                    + expectedSize + ")");
+        }
+        this.fileSize = expectedSize;
+
+        this.currencies = readCurrencies(currenciesOffset, currencyCount,
+                (int) (keysOffset - currenciesOffset));
+        this.keys = MappedRecords.map(channel, keysOffset, keyCount,
+                PriceSnapshotFormat.KEY_BYTES);
+        this.rows = rowChunkShift > 0
+                ? MappedRecords.map(channel, rowsOffset, rowCount,
+                        PriceSnapshotFormat.ROW_BYTES, rowChunkShift)
+                : MappedRecords.map(channel, rowsOffset, rowCount,
+                        PriceSnapshotFormat.ROW_BYTES);
+    }
+
+    /**
+     * Abre y mapea una instantánea.
+     *
+     * @param file fichero de la instantánea
+     * @return instantánea abierta; debe cerrarse al dejar de usarla
+     * @throws IOException si el fichero no existe o no es válido
+     */
+    public static PriceSnapshot open(final Path file) throws IOException {
+        return open(file, 0);
+    }
+
+    /**
+     * Abre una instantánea mapeando las filas en trozos de
+     * {@code 2^rowChunkShift} filas (0 para el máximo), para probar
+     * ficheros de varios trozos sin generar gigabytes de datos.
+     *
+     * @param file          fichero de la instantánea
+     * @param rowChunkShift log2 de las filas por trozo, o 0
+     * @return instantánea abierta
+     * @throws IOException si el fichero no existe o no es válido
+     */
+    static PriceSnapshot open(final Path file, final int rowChunkShift)
+            throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ);
+        try {
+            return new PriceSnapshot(file, channel, rowChunkShift);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Busca la tarifa aplicable de mayor prioridad de un producto y cadena
+     * en una fecha (ambos extremos de validez incluidos). A igual
+     * prioridad gana la de fecha de inicio más temprana. No crea objetos.
+     *
+     * @param productId identificador del producto
+     * @param brandId   identificador de la cadena
+     * @param date      fecha de aplicación
+     * @return fila ganadora, o {@link #NOT_FOUND}
+     */
+    public int findApplicable(final long productId, final long brandId,
+                              final LocalDateTime date) {
+        int key = keyIndex(productId, brandId);
+        if (key < 0) {
+            return NOT_FOUND;
+        }
+        long second = date.toEpochSecond(ZoneOffset.UTC);
+        boolean exactSecond = date.getNano() == 0;
+        int best = NOT_FOUND;
+        int bestPriority = 0;
+        int end = lastRowExclusive(key);
+        for (int row = firstRow(key); row < end; row++) {
+            // Filas ordenadas por inicio: las siguientes empiezan después.
+            if (rows.getLong(row, PriceSnapshotFormat.ROW_START) > second) {
+                break;
+            }
+            long rowEnd = rows.getLong(row, PriceSnapshotFormat.ROW_END);
+            if (rowEnd < second || (rowEnd == second && !exactSecond)) {
+                continue;
+            }
+            int priority = priority(row);
+            if (best == NOT_FOUND || priority > bestPriority) {
+                best = row;
+                bestPriority = priority;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Construye las tarifas de un producto y cadena.
+     *
+     * @param productId identificador del producto
+     * @param brandId   identificador de la cadena
+     * @return tarifas de la clave, ordenadas por fecha de inicio
+     */
+    public List<Price> findAll(final long productId, final long brandId) {
+        int key = keyIndex(productId, brandId);
+        if (key < 0) {
+            return List.of();
+        }
+        int end = lastRowExclusive(key);
+        List<Price> prices = new ArrayList<>(end - firstRow(key));
+        for (int row = firstRow(key); row < end; row++) {
+            prices.add(toPrice(key, row));
+        }
+        return prices;
+    }
+
+    /**
+     * Construye el {@link Price} completo de una fila.
+     *
+     * @param row fila devuelta por una búsqueda
+     * @return tarifa de dominio
+     */
+    public Price toPrice(final int row) {
+        return toPrice(keyOfRow(row), row);
+    }
+
+    /**
+     * @param row fila
+     * @return prioridad de la fila
+     */
+    public int priority(final int row) {
+        return rows.getInt(row, PriceSnapshotFormat.ROW_PRIORITY);
+    }
+
+    /**
+     * @param row fila
+     * @return importe de la fila en unidades menores de su moneda
+     */
+    public long priceMinor(final int row) {
+        return rows.getLong(row, PriceSnapshotFormat.ROW_PRICE_MINOR);
+    }
+
+    /**
+     * @return número total de tarifas
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * @return número de claves (productId, brandId) distintas
+     */
+    public int keyCount() {
+        return keyCount;
+    }
+
+    /**
+     * @return tamaño del fichero en bytes (memoria mapeada fuera del heap)
+     */
+    public long fileSize() {
+        return fileSize;
+    }
+
+    /**
+     * @return fichero de la instantánea
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Cierra el fichero. Las regiones mapeadas se liberan cuando el
+     * recolector descarta la instantánea; no debe usarse después de
+     * cerrarla.
+     *
+     * @throws IOException si falla el cierre
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private Price toPrice(final int key, final int row) {
+        return Price.builder()
+                .brandId(keys.getLong(key, PriceSnapshotFormat.KEY_BRAND_ID))
+                .startDate(toDate(rows.getLong(row,
+                        PriceSnapshotFormat.ROW_START)))
+                .endDate(toDate(rows.getLong(row,
+                        PriceSnapshotFormat.ROW_END)))
+                .priceList(rows.getInt(row,
+                        PriceSnapshotFormat.ROW_PRICE_LIST))
+                .productId(keys.getLong(key,
+                        PriceSnapshotFormat.KEY_PRODUCT_ID))
+                .priority(priority(row))
+                .priceMinor(priceMinor(row))
+                .curr(currencies[rows.getShort(row,
+                        PriceSnapshotFormat.ROW_CURRENCY)])
+                .build();
+    }
+
+    private int keyIndex(final long productId, final long brandId) {
+        int lo = 0;
+        int hi = keyCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = Long.compare(
+                    keys.getLong(mid, PriceSnapshotFormat.KEY_PRODUCT_ID),
+                    productId);
+            if (cmp == 0) {
+                cmp = Long.compare(
+                        keys.getLong(mid, PriceSnapshotFormat.KEY_BRAND_ID),
+                        brandId);
+            }
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * @param row fila
+     * @return última clave cuya primera fila es anterior o igual a la fila
+     */
+    private int keyOfRow(final int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException(row);
+        }
+        int lo = 0;
+        int hi = keyCount - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (firstRow(mid) <= row) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    private int firstRow(final int key) {
+        return keys.getInt(key, PriceSnapshotFormat.KEY_FIRST_ROW);
+    }
+
+    private int lastRowExclusive(final int key) {
+        return key + 1 < keyCount ? firstRow(key + 1) : rowCount;
+    }
+
+    private String[] readCurrencies(final long offset, final int count,
+                                    final int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        readFully(buffer, offset);
+        buffer.flip();
+        String[] codes = new String[count];
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[buffer.getShort()];
+            buffer.get(bytes);
+            codes[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return codes;
+    }
+
+    private void readFully(final ByteBuffer buffer, final long offset)
+            throws IOException {
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Instantánea truncada: " + path);
+            }
+            position += read;
+        }
+    }
+
+    private static LocalDateTime toDate(final long seconds) {
+        return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+    }
+}
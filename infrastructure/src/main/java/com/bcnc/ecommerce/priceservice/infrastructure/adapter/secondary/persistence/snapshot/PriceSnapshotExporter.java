@@ -0,0 +1,96 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.snapshot;
+
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.entity.PriceEntity;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.index.ColumnarPriceStore;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository.PriceJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Comando de exportación de la tabla PRICES a un fichero de instantánea.
+ * <p>
+ * Se activa al arrancar con {@code price.snapshot.export-path}: lee todas
+ * las tarifas de la base de datos, las ordena en un
+ * {@link ColumnarPriceStore} y las vuelca con {@link PriceSnapshotWriter}.
+ * Para usarlo como comando de una sola ejecución se arranca sin servidor
+ * web, y la aplicación termina al acabar la exportación:
+ * </p>
+ * <pre>
+ * java -jar bootstrap.jar --spring.main.web-application-type=none \
+ *      --price.snapshot.export-path=/var/lib/prices/prices.snapshot
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(prefix = "price.snapshot", name = "export-path")
+public class PriceSnapshotExporter implements ApplicationRunner {
+
+    /** Logger. */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(PriceSnapshotExporter.class);
+
+    /** Repositorio JPA del que se leen las tarifas. */
+    private final PriceJpaRepository priceJpaRepository;
+
+    /** Mapeador entre entidad persistente y modelo de dominio. */
+    private final PriceMapper priceMapper;
+
+    /** Fichero destino. */
+    private final Path exportPath;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jpaRepository repositorio JPA del que se leen las tarifas.
+     * @param mapper        componente de mapeo entre entidad y
+     *                      modelo de dominio.
+     * @param path          fichero destino de la instantánea.
+     */
+    public PriceSnapshotExporter(
+            final PriceJpaRepository jpaRepository,
+            final PriceMapper mapper,
+            @Value("${price.snapshot.export-path}") final String path) {
+        this.priceJpaRepository = jpaRepository;
+        this.priceMapper = mapper;
+        this.exportPath = Path.of(path);
+    }
+
+    /**
+     * Exporta la instantánea al arrancar.
+     *
+     * @param args argumentos de la aplicación (no se usan)
+     * @throws IOException si falla la escritura
+     */
+    @Override
+    public void run(final ApplicationArguments args) throws IOException {
+        export(exportPath);
+    }
+
+    /**
+     * Lee todas las tarifas y escribe la instantánea.
+     *
+     * @param target fichero destino
+     * @return tamaño del fichero escrito en bytes
+     * @throws IOException si falla la escritura
+     */
+    public long export(final Path target) throws IOException {
+        ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder();
+        for (PriceEntity entity : priceJpaRepository.findAll()) {
+            builder.add(priceMapper.toDomain(entity));
+        }
+        ColumnarPriceStore store = builder.build();
+        long bytes = PriceSnapshotWriter.write(store, target);
+        LOGGER.info("Instantánea de precios exportada a {}: {} tarifas, {}"
+                + " claves, {} bytes", target.toAbsolutePath(), store.size(),
+                store.keyCount(), bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,89 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.snapshot;
+
+/**
+ * Disposición del fichero de instantánea de precios (versión
+ * {@value #VERSION}, enteros en orden de bytes big-endian).
+ *
+ * <pre>
+ * cabecera (64 bytes)
+ *   0  int  magic ("PRSN")
+ *   4  int  versión
+ *   8  int  número de claves
+ *  12  int  número de filas
+ *  16  int  número de monedas
+ *  24  long posición de la tabla de monedas
+ *  32  long posición del directorio de claves
+ *  40  long posición de las filas
+ * tabla de monedas: por cada una, short longitud + bytes UTF-8
+ * directorio de claves (20 bytes por clave, ordenado por productId, brandId)
+ *   long productId, long brandId, int primera fila
+ * filas (34 bytes por fila, ordenadas por clave e inicio)
+ *   long inicio, long fin (segundos de la hora local), int prioridad,
+ *   int tarifa, long importe en unidades menores, short índice de moneda
+ * </pre>
+ */
+final class PriceSnapshotFormat {
+
+    /** Marca de fichero: "PRSN" en ASCII. */
+    static final int MAGIC = 0x5052534E;
+
+    /** Versión del formato. */
+    static final int VERSION = 1;
+
+    /** Tamaño de la cabecera. */
+    static final int HEADER_BYTES = 64;
+
+    /** Posición del número de claves en la cabecera. */
+    static final int HEADER_KEY_COUNT = 8;
+
+    /** Posición del número de filas en la cabecera. */
+    static final int HEADER_ROW_COUNT = 12;
+
+    /** Posición del número de monedas en la cabecera. */
+    static final int HEADER_CURRENCY_COUNT = 16;
+
+    /** Posición del inicio de la tabla de monedas en la cabecera. */
+    static final int HEADER_CURRENCIES_OFFSET = 24;
+
+    /** Posición del inicio del directorio de claves en la cabecera. */
+    static final int HEADER_KEYS_OFFSET = 32;
+
+    /** Posición del inicio de las filas en la cabecera. */
+    static final int HEADER_ROWS_OFFSET = 40;
+
+    /** Tamaño de una entrada del directorio de claves. */
+    static final int KEY_BYTES = 20;
+
+    /** Campo productId de una clave. */
+    static final int KEY_PRODUCT_ID = 0;
+
+    /** Campo brandId de una clave. */
+    static final int KEY_BRAND_ID = 8;
+
+    /** Campo primera fila de una clave. */
+    static final int KEY_FIRST_ROW = 16;
+
+    /** Tamaño de una fila. */
+    static final int ROW_BYTES = 34;
+
+    /** Campo inicio de una fila. */
+    static final int ROW_START = 0;
+
+    /** Campo fin de una fila. */
+    static final int ROW_END = 8;
+
+    /** Campo prioridad de una fila. */
+    static final int ROW_PRIORITY = 16;
+
+    /** Campo tarifa de una fila. */
+    static final int ROW_PRICE_LIST = 20;
+
+    /** Campo importe de una fila. */
+    static final int ROW_PRICE_MINOR = 24;
+
+    /** Campo índice de moneda de una fila. */
+    static final int ROW_CURRENCY = 32;
+
+    private PriceSnapshotFormat() {
+    }
+}
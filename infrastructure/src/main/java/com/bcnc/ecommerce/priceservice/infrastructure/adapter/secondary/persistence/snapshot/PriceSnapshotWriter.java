@@ -0,0 +1,131 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.snapshot;
+
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.index.ColumnarPriceStore;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Escribe un {@link ColumnarPriceStore} como fichero de instantánea
+ * ({@link PriceSnapshotFormat}).
+ * <p>
+ * El almacén ya tiene las filas ordenadas por (productId, brandId, inicio)
+ * y agrupadas por clave, así que la escritura es un volcado secuencial. El
+ * fichero se escribe primero con un nombre temporal en el mismo directorio
+ * y después se renombra, de modo que los procesos que tengan mapeada una
+ * versión anterior la siguen viendo completa.
+ * </p>
+ */
+public final class PriceSnapshotWriter {
+
+    /** Tamaño del búfer de escritura. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private PriceSnapshotWriter() {
+    }
+
+    /**
+     * Escribe la instantánea del almacén en {@code target}, sustituyendo
+     * el fichero si existe.
+     *
+     * @param store  tarifas a volcar
+     * @param target fichero destino
+     * @return tamaño del fichero escrito en bytes
+     * @throws IOException si falla la escritura
+     */
+    public static long write(final ColumnarPriceStore store,
+                             final Path target) throws IOException {
+        Path absolute = target.toAbsolutePath();
+        Path directory = absolute.getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory,
+                absolute.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(
+                            Files.newOutputStream(temporary), BUFFER_SIZE))) {
+                writeTo(store, out);
+            }
+            move(temporary, absolute);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        return Files.size(absolute);
+    }
+
+    private static void writeTo(final ColumnarPriceStore store,
+                                final DataOutputStream out)
+            throws IOException {
+        List<byte[]> currencies = new ArrayList<>();
+        Map<String, Short> currencyIndex = new HashMap<>();
+        short[] rowCurrencies = new short[store.size()];
+        long currencyBytes = 0;
+        for (int row = 0; row < store.size(); row++) {
+            String currency = store.currency(row);
+            Short index = currencyIndex.get(currency);
+            if (index == null) {
+                byte[] bytes = currency.getBytes(StandardCharsets.UTF_8);
+                index = (short) currencies.size();
+                currencies.add(bytes);
+                currencyIndex.put(currency, index);
+                currencyBytes += Short.BYTES + bytes.length;
+            }
+            rowCurrencies[row] = index;
+        }
+
+        long currenciesOffset = PriceSnapshotFormat.HEADER_BYTES;
+        long keysOffset = currenciesOffset + currencyBytes;
+        long rowsOffset = keysOffset
+                + (long) store.keyCount() * PriceSnapshotFormat.KEY_BYTES;
+
+        out.writeInt(PriceSnapshotFormat.MAGIC);
+        out.writeInt(PriceSnapshotFormat.VERSION);
+        out.writeInt(store.keyCount());
+        out.writeInt(store.size());
+        out.writeInt(currencies.size());
+        out.writeInt(0);
+        out.writeLong(currenciesOffset);
+        out.writeLong(keysOffset);
+        out.writeLong(rowsOffset);
+        // Resto de la cabecera reservado.
+        out.write(new byte[PriceSnapshotFormat.HEADER_BYTES - out.size()]);
+
+        for (byte[] currency : currencies) {
+            out.writeShort(currency.length);
+            out.write(currency);
+        }
+        for (int key = 0; key < store.keyCount(); key++) {
+            out.writeLong(store.keyProductId(key));
+            out.writeLong(store.keyBrandId(key));
+            out.writeInt(store.keyFirstRow(key));
+        }
+        for (int row = 0; row < store.size(); row++) {
+            out.writeLong(store.startSecond(row));
+            out.writeLong(store.endSecond(row));
+            out.writeInt(store.priority(row));
+            out.writeInt(store.priceList(row));
+            out.writeLong(store.priceMinor(row));
+            out.writeShort(rowCurrencies[row]);
+        }
+    }
+
+    private static void move(final Path source, final Path target)
+            throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
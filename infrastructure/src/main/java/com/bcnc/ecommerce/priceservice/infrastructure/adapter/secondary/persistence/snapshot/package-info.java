@@ -0,0 +1,5 @@
+/**
+ * Fichero binario de instantánea de la tabla PRICES: escritura, lectura
+ * mediante ficheros mapeados en memoria y exportación al arrancar.
+ */
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.snapshot;
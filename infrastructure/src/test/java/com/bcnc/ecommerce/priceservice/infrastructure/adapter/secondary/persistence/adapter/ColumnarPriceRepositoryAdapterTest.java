@@ -0,0 +1,132 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.entity.PriceEntity;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload.PriceIndexStatus;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+class ColumnarPriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    private PriceJpaRepository priceJpaRepository;
+    private ColumnarPriceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        priceJpaRepository = mock(PriceJpaRepository.class);
+        adapter = new ColumnarPriceRepositoryAdapter(priceJpaRepository, new PriceMapper());
+    }
+
+    @Test
+    @DisplayName("Responde desde las columnas con la tarifa ganadora, sin volver a la base de datos")
+    void shouldAnswerWinnerFromColumns() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        when(priceJpaRepository.findAll()).thenReturn(List.of(
+                createPriceEntity(start, start.plusDays(1), 1, 0, 3550L),
+                createPriceEntity(start.plusHours(15), start.plusHours(18), 2, 1, 2545L)));
+
+        adapter.afterSingletonsInstantiated();
+
+        List<Price> morning = adapter.findApplicablePrices(start.plusHours(10), PRODUCT_ID, BRAND_ID);
+        List<Price> afternoon = adapter.findApplicablePrices(start.plusHours(16), PRODUCT_ID, BRAND_ID);
+        List<Price> outside = adapter.findApplicablePrices(start.plusDays(2), PRODUCT_ID, BRAND_ID);
+
+        assertEquals(1, morning.size());
+        assertEquals(new BigDecimal("35.50"), morning.get(0).getPrice());
+        assertEquals(1, afternoon.size());
+        assertEquals(2, afternoon.get(0).getPriceList());
+        assertTrue(outside.isEmpty());
+        assertEquals(2, adapter.findAllPrices(PRODUCT_ID, BRAND_ID).size());
+        verify(priceJpaRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Recarga en segundo plano y publica la nueva versión con su tamaño")
+    void shouldReloadNewVersion() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        when(priceJpaRepository.findAll())
+                .thenReturn(List.of(createPriceEntity(start, start.plusDays(1), 1, 0, 3550L)))
+                .thenReturn(List.of(createPriceEntity(start, start.plusDays(1), 1, 0, 3550L),
+                        createPriceEntity(start.plusHours(15), start.plusHours(18), 2, 1, 2545L)));
+        adapter.afterSingletonsInstantiated();
+
+        PriceIndexStatus status = adapter.reload().get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, status.version());
+        assertEquals(2, status.prices());
+        assertTrue(status.estimatedBytes() > 0);
+        assertEquals(status, adapter.indexStatus());
+        assertEquals(2, adapter.findApplicablePrices(start.plusHours(16), PRODUCT_ID, BRAND_ID)
+                .get(0).getPriceList());
+        adapter.destroy();
+    }
+
+    @Test
+    @DisplayName("Aplica los cambios de una clave leyendo solo esa clave")
+    void shouldApplyKeyChanges() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        when(priceJpaRepository.findAll()).thenReturn(List.of(
+                createPriceEntity(start, start.plusDays(1), 1, 0, 3550L)));
+        adapter.afterSingletonsInstantiated();
+        PriceKey key = new PriceKey(PRODUCT_ID, BRAND_ID);
+        Price changed = new PriceMapper().toDomain(
+                createPriceEntity(start, start.plusDays(1), 7, 0, 1999L));
+        PriceRepository source = mock(PriceRepository.class);
+        when(source.findAllPrices(Set.of(key))).thenReturn(Map.of(key, List.of(changed)));
+
+        adapter.onPricesChanged(Set.of(key), source);
+
+        assertEquals(2, adapter.indexStatus().version());
+        assertEquals(List.of(changed),
+                adapter.findApplicablePrices(start.plusHours(1), PRODUCT_ID, BRAND_ID));
+        verify(priceJpaRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Devuelve lista vacía antes de la carga")
+    void shouldReturnEmptyBeforeLoad() {
+        assertTrue(adapter.findApplicablePrices(LocalDateTime.now(), PRODUCT_ID, BRAND_ID).isEmpty());
+        assertTrue(adapter.findAllPrices(PRODUCT_ID, BRAND_ID).isEmpty());
+    }
+
+    private PriceEntity createPriceEntity(
+            final LocalDateTime start,
+            final LocalDateTime end,
+            final Integer priceList,
+            final Integer priority,
+            final Long priceMinor
+    ) {
+        return PriceEntity.builder()
+                .brandId(BRAND_ID)
+                .startDate(start)
+                .endDate(end)
+                .priceList(priceList)
+                .productId(PRODUCT_ID)
+                .priority(priority)
+                .priceMinor(priceMinor)
+                .curr("EUR")
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.entity.PriceEntity;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class InMemoryPriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    private PriceJpaRepository priceJpaRepository;
+    private InMemoryPriceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        priceJpaRepository = mock(PriceJpaRepository.class);
+        adapter = new InMemoryPriceRepositoryAdapter(priceJpaRepository, new PriceMapper());
+    }
+
+    @Test
+    @DisplayName("Responde desde memoria sin volver a consultar la base de datos")
+    void shouldAnswerFromMemoryAfterLoad() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        PriceEntity entity = PriceEntity.builder()
+                .brandId(BRAND_ID)
+                .startDate(start)
+                .endDate(start.plusDays(1))
+                .priceList(1)
+                .productId(PRODUCT_ID)
+                .priority(0)
+                .priceMinor(3550L)
+                .curr("EUR")
+                .build();
+        when(priceJpaRepository.findAll()).thenReturn(List.of(entity));
+
+        adapter.afterSingletonsInstantiated();
+
+        List<Price> result = adapter.findApplicablePrices(start.plusHours(10), PRODUCT_ID, BRAND_ID);
+        List<Price> outside = adapter.findApplicablePrices(start.plusDays(2), PRODUCT_ID, BRAND_ID);
+
+        assertEquals(1, result.size());
+        assertEquals(new BigDecimal("35.50"), result.get(0).getPrice());
+        assertTrue(outside.isEmpty());
+        verify(priceJpaRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Devuelve lista vacía antes de la carga")
+    void shouldReturnEmptyBeforeLoad() {
+        assertTrue(adapter.findApplicablePrices(LocalDateTime.now(), PRODUCT_ID, BRAND_ID).isEmpty());
+    }
+}
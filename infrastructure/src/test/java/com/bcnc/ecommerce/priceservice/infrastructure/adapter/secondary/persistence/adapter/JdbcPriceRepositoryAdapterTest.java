@@ -0,0 +1,137 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+class JdbcPriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    private EmbeddedDatabase database;
+    private JdbcPriceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE PRICES (
+                    ID INT AUTO_INCREMENT PRIMARY KEY,
+                    BRAND_ID INT NOT NULL,
+                    START_DATE TIMESTAMP NOT NULL,
+                    END_DATE TIMESTAMP NOT NULL,
+                    PRICE_LIST INT NOT NULL,
+                    PRODUCT_ID INT NOT NULL,
+                    PRIORITY INT NOT NULL,
+                    PRICE_MINOR BIGINT NOT NULL,
+                    CURR VARCHAR(3) NOT NULL)""");
+        jdbcTemplate.execute("""
+                INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID,
+                                    PRIORITY, PRICE_MINOR, CURR) VALUES
+                (1, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 1, 35455, 0, 3550, 'EUR'),
+                (1, '2020-06-14 15:00:00', '2020-06-14 18:30:00', 2, 35455, 1, 2545, 'EUR'),
+                (1, '2020-06-15 00:00:00', '2020-06-15 11:00:00', 3, 35455, 1, 3050, 'EUR'),
+                (1, '2020-06-15 16:00:00', '2020-12-31 23:59:59', 4, 35455, 1, 3895, 'EUR'),
+                (2, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 5, 35455, 0, 1000, 'USD')""");
+        adapter = new JdbcPriceRepositoryAdapter(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Devuelve solo la tarifa aplicable de mayor prioridad mapeada a Price")
+    void shouldReturnHighestPriorityPrice() {
+        List<Price> result = adapter.findApplicablePrices(
+                LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID);
+
+        assertEquals(1, result.size());
+        Price price = result.get(0);
+        assertAll(
+                () -> assertEquals(2, price.getPriceList()),
+                () -> assertEquals(1, price.getPriority()),
+                () -> assertEquals(0, new BigDecimal("25.45").compareTo(price.getPrice())),
+                () -> assertEquals("EUR", price.getCurr()),
+                () -> assertEquals(LocalDateTime.of(2020, 6, 14, 15, 0), price.getStartDate()),
+                () -> assertEquals(LocalDateTime.of(2020, 6, 14, 18, 30), price.getEndDate())
+        );
+    }
+
+    @Test
+    @DisplayName("Incluye ambos extremos del intervalo y devuelve vacío fuera de él")
+    void shouldRespectInclusiveBounds() {
+        assertAll(
+                () -> assertEquals(2, adapter.findApplicablePrices(
+                        LocalDateTime.of(2020, 6, 14, 18, 30), PRODUCT_ID, BRAND_ID)
+                        .get(0).getPriceList()),
+                () -> assertEquals(1, adapter.findApplicablePrices(
+                        LocalDateTime.of(2020, 6, 14, 18, 30, 1), PRODUCT_ID, BRAND_ID)
+                        .get(0).getPriceList()),
+                () -> assertTrue(adapter.findApplicablePrices(
+                        LocalDateTime.of(2020, 6, 13, 23, 59), PRODUCT_ID, BRAND_ID).isEmpty()),
+                () -> assertTrue(adapter.findApplicablePrices(
+                        LocalDateTime.of(2020, 6, 14, 10, 0), 99999L, BRAND_ID).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Resuelve un lote filtrando los candidatos de cada consulta")
+    void shouldResolveBatch() {
+        PriceQuery morning = new PriceQuery(LocalDateTime.of(2020, 6, 14, 10, 0), PRODUCT_ID, BRAND_ID);
+        PriceQuery afternoon = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID);
+        PriceQuery otherBrand = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, 2L);
+
+        Map<PriceQuery, List<Price>> result = adapter.findApplicablePrices(
+                List.of(morning, afternoon, otherBrand));
+
+        assertAll(
+                () -> assertEquals(List.of(1), priceLists(result.get(morning))),
+                () -> assertEquals(List.of(1, 2), priceLists(result.get(afternoon))),
+                () -> assertEquals(List.of(5), priceLists(result.get(otherBrand)))
+        );
+    }
+
+    @Test
+    @DisplayName("Recupera todas las tarifas de una o varias claves")
+    void shouldFindAllPrices() {
+        PriceKey key = new PriceKey(PRODUCT_ID, BRAND_ID);
+        PriceKey missing = new PriceKey(99999L, BRAND_ID);
+
+        Map<PriceKey, List<Price>> result = adapter.findAllPrices(List.of(key, missing));
+
+        assertAll(
+                () -> assertEquals(4, adapter.findAllPrices(PRODUCT_ID, BRAND_ID).size()),
+                () -> assertEquals(4, result.get(key).size()),
+                () -> assertTrue(result.get(missing).isEmpty()),
+                () -> assertTrue(adapter.findAllPrices(List.of()).isEmpty())
+        );
+    }
+
+    private static List<Integer> priceLists(final List<Price> prices) {
+        return prices.stream().map(Price::getPriceList).sorted().toList();
+    }
+}
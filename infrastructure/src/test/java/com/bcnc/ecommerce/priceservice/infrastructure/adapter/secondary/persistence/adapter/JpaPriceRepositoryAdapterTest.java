@@ -13,6 +13,8 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
 
 import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
 import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.entity.PriceEntity;
 import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
 import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository.PriceJpaRepository;
@@ -25,6 +27,8 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 class JpaPriceRepositoryAdapterTest
 {
@@ -99,6 +103,26 @@ class JpaPriceRepositoryAdapterTest
         );
     }
 
+    @Test
+    @DisplayName("Recupera todas las tarifas de varias claves con una única consulta")
+    void testFindAllPricesForKeys() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        PriceEntity entity = createPriceEntity(start, start.plusDays(1), 1, 0,
+                new BigDecimal("35.50"));
+        Price price = createPrice(start, start.plusDays(1), 1, 0, new BigDecimal("35.50"));
+        PriceKey key = new PriceKey(PRODUCT_ID, BRAND_ID);
+        PriceKey missing = new PriceKey(99999L, BRAND_ID);
+
+        when(priceJpaRepository.findByKeys(List.of(key, missing))).thenReturn(List.of(entity));
+        when(priceMapper.toDomain(entity)).thenReturn(price);
+
+        Map<PriceKey, List<Price>> result = adapter.findAllPrices(List.of(key, missing));
+
+        assertEquals(List.of(price), result.get(key));
+        assertTrue(result.get(missing).isEmpty());
+        verify(priceJpaRepository, times(1)).findByKeys(any());
+    }
+
     private Price createPrice(
             final LocalDateTime start,
             final LocalDateTime end,
@@ -132,8 +156,54 @@ class JpaPriceRepositoryAdapterTest
                 .priceList(priceList)
                 .productId(PRODUCT_ID)
                 .priority(priority)
-                .price(price)
+                .priceMinor(price.movePointRight(2).longValueExact())
                 .curr("EUR")
                 .build();
     }
+
+    @Test
+    @DisplayName("Resuelve un lote con una única consulta y filtra por fecha de cada elemento")
+    void testFindApplicablePricesInBatch() {
+        LocalDateTime morning = LocalDateTime.of(2020, 6, 14, 10, 0);
+        LocalDateTime afternoon = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        PriceEntity baseEntity = createPriceEntity(morning.minusHours(10),
+                morning.plusDays(200), 1, 0, new BigDecimal("35.50"));
+        PriceEntity promoEntity = createPriceEntity(afternoon.minusHours(1),
+                afternoon.plusHours(2), 2, 1, new BigDecimal("25.45"));
+        Price base = createPrice(morning.minusHours(10), morning.plusDays(200), 1, 0,
+                new BigDecimal("35.50"));
+        Price promo = createPrice(afternoon.minusHours(1), afternoon.plusHours(2), 2, 1,
+                new BigDecimal("25.45"));
+
+        PriceQuery morningQuery = new PriceQuery(morning, PRODUCT_ID, BRAND_ID);
+        PriceQuery afternoonQuery = new PriceQuery(afternoon, PRODUCT_ID, BRAND_ID);
+        PriceQuery otherProduct = new PriceQuery(morning, 99999L, BRAND_ID);
+
+        when(priceJpaRepository.findCandidatePrices(
+                Set.of(new PriceKey(PRODUCT_ID, BRAND_ID), new PriceKey(99999L, BRAND_ID)),
+                morning, afternoon))
+                .thenReturn(List.of(baseEntity, promoEntity));
+        when(priceMapper.toDomain(baseEntity)).thenReturn(base);
+        when(priceMapper.toDomain(promoEntity)).thenReturn(promo);
+
+        Map<PriceQuery, List<Price>> result = adapter.findApplicablePrices(
+                List.of(morningQuery, afternoonQuery, otherProduct));
+
+        assertEquals(List.of(base), result.get(morningQuery));
+        assertEquals(List.of(base, promo), result.get(afternoonQuery));
+        assertTrue(result.get(otherProduct).isEmpty());
+
+        verify(priceJpaRepository, times(1)).findCandidatePrices(any(), any(), any());
+        verify(priceJpaRepository, never()).findApplicablePrices(any(), any(), any(),
+                any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Un lote vacío no accede a la base de datos")
+    void testFindApplicablePricesWithEmptyBatch() {
+        assertTrue(adapter.findApplicablePrices(List.<PriceQuery>of()).isEmpty());
+
+        verify(priceJpaRepository, never()).findCandidatePrices(any(), any(), any());
+    }
 }
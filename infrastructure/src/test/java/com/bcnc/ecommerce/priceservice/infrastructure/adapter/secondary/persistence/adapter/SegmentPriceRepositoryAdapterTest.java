@@ -0,0 +1,197 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.segments.PriceSegmentTrigger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class SegmentPriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime DAY = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private SegmentPriceRepositoryAdapter adapter;
+    private JdbcPriceRepositoryAdapter prices;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE PRICES (
+                    ID INT AUTO_INCREMENT PRIMARY KEY,
+                    BRAND_ID INT NOT NULL,
+                    START_DATE TIMESTAMP NOT NULL,
+                    END_DATE TIMESTAMP NOT NULL,
+                    PRICE_LIST INT NOT NULL,
+                    PRODUCT_ID INT NOT NULL,
+                    PRIORITY INT NOT NULL,
+                    PRICE_MINOR BIGINT NOT NULL,
+                    CURR VARCHAR(3) NOT NULL)""");
+        jdbcTemplate.execute("""
+                CREATE TABLE PRICE_SEGMENTS (
+                    PRODUCT_ID INT NOT NULL,
+                    BRAND_ID INT NOT NULL,
+                    SEGMENT_START TIMESTAMP(9) NOT NULL,
+                    SEGMENT_END TIMESTAMP(9) NOT NULL,
+                    START_DATE TIMESTAMP NOT NULL,
+                    END_DATE TIMESTAMP NOT NULL,
+                    PRICE_LIST INT NOT NULL,
+                    PRIORITY INT NOT NULL,
+                    PRICE_MINOR BIGINT NOT NULL,
+                    CURR VARCHAR(3) NOT NULL,
+                    PRIMARY KEY (PRODUCT_ID, BRAND_ID, SEGMENT_END))""");
+        jdbcTemplate.execute("CREATE TRIGGER PRICE_SEGMENTS_KEYS AFTER INSERT, UPDATE, DELETE"
+                + " ON PRICES FOR EACH ROW CALL '" + PriceSegmentTrigger.class.getName() + "'");
+        jdbcTemplate.execute("CREATE TRIGGER PRICE_SEGMENTS_MAINTENANCE AFTER INSERT, UPDATE, DELETE"
+                + " ON PRICES CALL '" + PriceSegmentTrigger.class.getName() + "'");
+        // Hueco el 15 por la tarde; la tarifa 5 empata con la 4 y no gana ningún tramo.
+        jdbcTemplate.execute("""
+                INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID,
+                                    PRIORITY, PRICE_MINOR, CURR) VALUES
+                (1, '2020-06-14 00:00:00', '2020-06-15 11:00:00', 1, 35455, 0, 3550, 'EUR'),
+                (1, '2020-06-14 15:00:00', '2020-06-14 18:30:00', 2, 35455, 1, 2545, 'EUR'),
+                (1, '2020-06-15 00:00:00', '2020-06-15 11:00:00', 3, 35455, 1, 3050, 'EUR'),
+                (1, '2020-06-16 00:00:00', '2020-06-17 23:59:59', 4, 35455, 1, 3895, 'EUR'),
+                (1, '2020-06-16 10:00:00', '2020-06-16 12:00:00', 5, 35455, 1, 1000, 'EUR'),
+                (2, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 6, 35455, 0, 1000, 'USD')""");
+        adapter = new SegmentPriceRepositoryAdapter(jdbcTemplate);
+        prices = new JdbcPriceRepositoryAdapter(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Devuelve la misma tarifa que la consulta sobre PRICES en cada fecha, incluidos bordes y huecos")
+    void shouldMatchQueryOverPrices() {
+        for (LocalDateTime date : probeDates()) {
+            assertEquals(prices.findApplicablePrices(date, PRODUCT_ID, BRAND_ID),
+                    adapter.findApplicablePrices(date, PRODUCT_ID, BRAND_ID), date.toString());
+        }
+        assertEquals(List.of(), adapter.findApplicablePrices(DAY.plusHours(16).plusDays(1), PRODUCT_ID, BRAND_ID));
+        assertEquals(List.of(), adapter.findApplicablePrices(DAY, 99999L, BRAND_ID));
+        assertEquals(1000L, adapter.findApplicablePrices(DAY, PRODUCT_ID, 2L).get(0).getPriceMinor());
+    }
+
+    @Test
+    @DisplayName("Resuelve un lote con una sentencia y el mismo resultado que las consultas individuales")
+    void shouldResolveBatch() {
+        List<PriceQuery> queries = new ArrayList<>();
+        for (LocalDateTime date : probeDates()) {
+            queries.add(new PriceQuery(date, PRODUCT_ID, BRAND_ID));
+        }
+        queries.add(new PriceQuery(DAY, 99999L, BRAND_ID));
+
+        Map<PriceQuery, List<Price>> result = adapter.findApplicablePrices(queries);
+
+        assertEquals(queries.size(), result.size());
+        for (PriceQuery query : queries) {
+            assertEquals(adapter.findApplicablePrices(query.applicationDate(), query.productId(),
+                    query.brandId()), result.get(query), query.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("El trigger recalcula solo los tramos de las claves cambiadas")
+    void shouldMaintainSegmentsOnChanges() {
+        assertEquals(5, segmentCount(PRODUCT_ID, BRAND_ID));
+        assertEquals(1, segmentCount(PRODUCT_ID, 2L));
+
+        // Alta de una tarifa prioritaria que tapa el hueco del 15.
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID,"
+                + " PRIORITY, PRICE_MINOR, CURR) VALUES (1, ?, ?, 7, 35455, 2, 500, 'EUR')",
+                DAY.plusDays(1), DAY.plusDays(1).plusHours(23));
+        assertEquals(7, adapter.findApplicablePrices(DAY.plusDays(1).plusHours(16), PRODUCT_ID, BRAND_ID)
+                .get(0).getPriceList());
+
+        // Cambio de clave: la tarifa 2 pasa a la cadena 2.
+        jdbcTemplate.update("UPDATE PRICES SET BRAND_ID = 2 WHERE PRICE_LIST = 2");
+        assertEquals(1, adapter.findApplicablePrices(DAY.plusHours(16), PRODUCT_ID, BRAND_ID)
+                .get(0).getPriceList());
+        assertEquals(2, adapter.findApplicablePrices(DAY.plusHours(16), PRODUCT_ID, 2L)
+                .get(0).getPriceList());
+
+        jdbcTemplate.update("DELETE FROM PRICES WHERE BRAND_ID = 1");
+        assertEquals(0, segmentCount(PRODUCT_ID, BRAND_ID));
+        assertEquals(3, segmentCount(PRODUCT_ID, 2L));
+        for (LocalDateTime date : probeDates()) {
+            assertEquals(prices.findApplicablePrices(date, PRODUCT_ID, 2L),
+                    adapter.findApplicablePrices(date, PRODUCT_ID, 2L), date.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Un fallo al recalcular los tramos deshace el cambio en PRICES")
+    void shouldRollBackChangeWhenRebuildFails() {
+        jdbcTemplate.execute("DROP TABLE PRICE_SEGMENTS");
+
+        assertThrows(DataAccessException.class, () -> jdbcTemplate.update(
+                "DELETE FROM PRICES WHERE PRICE_LIST = 1"));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM PRICES WHERE PRICE_LIST = 1", Integer.class));
+    }
+
+    @Test
+    @DisplayName("La búsqueda es un acceso por rango a la clave primaria de PRICE_SEGMENTS")
+    void shouldSeekOnPrimaryKey() {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + SegmentPriceRepositoryAdapter.SQL_SEGMENT
+                .replaceFirst("\\?", "35455").replaceFirst("\\?", "1")
+                .replaceFirst("\\?", "TIMESTAMP '2020-06-14 16:00:00'"), String.class);
+
+        assertTrue(plan.contains("PRIMARY_KEY"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    @DisplayName("findAllPrices devuelve todas las tarifas de PRICES, también las que no ganan ningún tramo")
+    void shouldReadAllPricesFromPrices() {
+        assertEquals(5, adapter.findAllPrices(PRODUCT_ID, BRAND_ID).size());
+        assertEquals(Map.of(new PriceKey(PRODUCT_ID, 2L), prices.findAllPrices(PRODUCT_ID, 2L)),
+                adapter.findAllPrices(List.of(new PriceKey(PRODUCT_ID, 2L))));
+    }
+
+    private int segmentCount(final Long productId, final Long brandId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PRICE_SEGMENTS"
+                + " WHERE PRODUCT_ID = ? AND BRAND_ID = ?", Integer.class, productId, brandId);
+    }
+
+    /** Cada media hora del 13 al 18, más los bordes exactos de las tarifas. */
+    private static List<LocalDateTime> probeDates() {
+        List<LocalDateTime> dates = new ArrayList<>();
+        for (LocalDateTime date = DAY.minusDays(1); date.isBefore(DAY.plusDays(5)); date = date.plusMinutes(30)) {
+            dates.add(date);
+        }
+        dates.add(DAY.plusHours(18).plusMinutes(30).plusNanos(1));
+        dates.add(DAY.plusDays(1).plusHours(11).plusNanos(1));
+        dates.add(DAY.plusDays(3).minusSeconds(1));
+        dates.add(DAY.plusDays(3).minusNanos(1));
+        return dates;
+    }
+}
@@ -0,0 +1,102 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.index.ColumnarPriceStore;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload.PriceIndexStatus;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.snapshot.PriceSnapshotWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class SnapshotPriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    @TempDir
+    Path tempDir;
+
+    private Price createPrice(final int priceList, final int priority, final long priceMinor,
+                              final LocalDateTime start, final LocalDateTime end) {
+        return Price.builder()
+                .brandId(BRAND_ID)
+                .startDate(start)
+                .endDate(end)
+                .priceList(priceList)
+                .productId(PRODUCT_ID)
+                .priority(priority)
+                .priceMinor(priceMinor)
+                .curr("EUR")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Responde desde el fichero mapeado y recoge la instantánea regenerada al recargar")
+    void shouldAnswerFromSnapshotAndReload() throws Exception {
+        Path file = tempDir.resolve("prices.snapshot");
+        PriceSnapshotWriter.write(ColumnarPriceStore.of(List.of(
+                createPrice(1, 0, 3550L, START, START.plusDays(1)))), file);
+        SnapshotPriceRepositoryAdapter adapter = new SnapshotPriceRepositoryAdapter(file.toString());
+
+        List<Price> before = adapter.findApplicablePrices(START.plusHours(16), PRODUCT_ID, BRAND_ID);
+
+        PriceSnapshotWriter.write(ColumnarPriceStore.of(List.of(
+                createPrice(1, 0, 3550L, START, START.plusDays(1)),
+                createPrice(2, 1, 2545L, START.plusHours(15), START.plusHours(18)))), file);
+        PriceIndexStatus status = adapter.reload().get(5, TimeUnit.SECONDS);
+
+        assertEquals(new BigDecimal("35.50"), before.get(0).getPrice());
+        assertEquals(2, status.version());
+        assertEquals(2, status.prices());
+        assertEquals(Files.size(file), status.estimatedBytes());
+        assertEquals(new BigDecimal("25.45"), adapter.findApplicablePrices(
+                START.plusHours(16), PRODUCT_ID, BRAND_ID).get(0).getPrice());
+        assertEquals(2, adapter.findAllPrices(PRODUCT_ID, BRAND_ID).size());
+        assertTrue(adapter.findApplicablePrices(START.plusDays(2), PRODUCT_ID, BRAND_ID).isEmpty());
+        adapter.destroy();
+    }
+
+    @Test
+    @DisplayName("Mantiene la instantánea publicada si la nueva no es válida")
+    void shouldKeepSnapshotWhenReloadFails() throws IOException {
+        Path file = tempDir.resolve("prices.snapshot");
+        PriceSnapshotWriter.write(ColumnarPriceStore.of(List.of(
+                createPrice(1, 0, 3550L, START, START.plusDays(1)))), file);
+        SnapshotPriceRepositoryAdapter adapter = new SnapshotPriceRepositoryAdapter(file.toString());
+        // Se sustituye con un renombrado, como el exportador: sobrescribir
+        // en el sitio un fichero mapeado invalidaría las páginas en uso.
+        Path invalid = Files.writeString(tempDir.resolve("invalid"), "no es una instantánea");
+        Files.move(invalid, file, StandardCopyOption.REPLACE_EXISTING);
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> adapter.reload().get(5, TimeUnit.SECONDS));
+
+        assertTrue(ex.getCause() instanceof UncheckedIOException);
+        assertEquals(1, adapter.indexStatus().version());
+        assertEquals(1, adapter.findAllPrices(PRODUCT_ID, BRAND_ID).size());
+        adapter.destroy();
+    }
+
+    @Test
+    @DisplayName("No arranca si el fichero no existe")
+    void shouldFailWhenFileIsMissing() {
+        assertThrows(UncheckedIOException.class, () -> new SnapshotPriceRepositoryAdapter(
+                tempDir.resolve("missing.snapshot").toString()));
+    }
+}
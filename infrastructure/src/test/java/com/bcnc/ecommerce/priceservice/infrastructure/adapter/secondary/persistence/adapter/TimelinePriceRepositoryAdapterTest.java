@@ -0,0 +1,88 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.entity.PriceEntity;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class TimelinePriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    private PriceJpaRepository priceJpaRepository;
+    private TimelinePriceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        priceJpaRepository = mock(PriceJpaRepository.class);
+        adapter = new TimelinePriceRepositoryAdapter(priceJpaRepository, new PriceMapper());
+    }
+
+    @Test
+    @DisplayName("Devuelve únicamente el precio ganador del tramo")
+    void shouldReturnOnlyTheWinner() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        when(priceJpaRepository.findAll()).thenReturn(List.of(
+                createPriceEntity(start, start.plusDays(1), 1, 0, "35.50"),
+                createPriceEntity(start.plusHours(15), start.plusHours(18), 2, 1, "25.45")));
+
+        adapter.afterSingletonsInstantiated();
+
+        List<Price> result = adapter.findApplicablePrices(start.plusHours(16), PRODUCT_ID, BRAND_ID);
+
+        assertEquals(1, result.size());
+        assertEquals(2, result.get(0).getPriceList());
+        assertTrue(adapter.findApplicablePrices(start.minusDays(1), PRODUCT_ID, BRAND_ID).isEmpty());
+        assertTrue(adapter.findApplicablePrices(start, PRODUCT_ID + 1, BRAND_ID).isEmpty());
+    }
+
+    @Test
+    @DisplayName("findAllPrices devuelve todas las tarifas de la clave en el orden de carga")
+    void shouldReturnAllPricesOfKeyInLoadOrder() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        when(priceJpaRepository.findAll()).thenReturn(List.of(
+                createPriceEntity(start, start.plusDays(1), 1, 0, "35.50"),
+                createPriceEntity(start.plusHours(15), start.plusHours(18), 2, 1, "25.45"),
+                createPriceEntity(start.plusHours(16), start.plusHours(17), 3, 0, "99.99"),
+                createPriceEntity(start.plusHours(2), start.plusHours(3), 4, 1, "30.00")));
+
+        adapter.afterSingletonsInstantiated();
+
+        List<Price> result = adapter.findAllPrices(PRODUCT_ID, BRAND_ID);
+
+        assertEquals(List.of(1, 2, 3, 4), result.stream().map(Price::getPriceList).toList());
+        assertTrue(adapter.findAllPrices(PRODUCT_ID + 1, BRAND_ID).isEmpty());
+    }
+
+    private PriceEntity createPriceEntity(
+            final LocalDateTime start,
+            final LocalDateTime end,
+            final Integer priceList,
+            final Integer priority,
+            final String price
+    ) {
+        return PriceEntity.builder()
+                .brandId(BRAND_ID)
+                .startDate(start)
+                .endDate(end)
+                .priceList(priceList)
+                .productId(PRODUCT_ID)
+                .priority(priority)
+                .priceMinor(new BigDecimal(price).movePointRight(2).longValueExact())
+                .curr("EUR")
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+class PriceArchiverTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2020, 7, 1, 12, 0);
+    private static final String COLUMNS = " (ID INT %s PRIMARY KEY, BRAND_ID INT NOT NULL,"
+            + " START_DATE TIMESTAMP NOT NULL, END_DATE TIMESTAMP NOT NULL, PRICE_LIST INT NOT NULL,"
+            + " PRODUCT_ID INT NOT NULL, PRIORITY INT NOT NULL, PRICE_MINOR BIGINT NOT NULL,"
+            + " CURR VARCHAR(3) NOT NULL)";
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private PriceArchiveProperties properties;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE PRICES" + COLUMNS.formatted("AUTO_INCREMENT"));
+        jdbcTemplate.execute("CREATE TABLE PRICES_ARCHIVE" + COLUMNS.formatted(""));
+        properties = new PriceArchiveProperties();
+        properties.setRetention(Duration.ofDays(1));
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Traslada las tarifas caducadas hace más de la retención con su mismo ID")
+    void shouldMoveExpiredPrices() {
+        insert(NOW.minusDays(10), NOW.minusDays(5));
+        insert(NOW.minusDays(3), NOW.minusDays(1).minusSeconds(1));
+        // Caducada hace menos de la retención, vigente y futura: se quedan.
+        insert(NOW.minusDays(2), NOW.minusHours(1));
+        insert(NOW.minusDays(1), NOW.plusDays(1));
+        insert(NOW.plusDays(1), NOW.plusDays(2));
+        PriceArchiver archiver = archiver();
+
+        assertEquals(LocalDateTime.MIN, archiver.archivedUntil());
+        assertEquals(2, archiver.archive());
+
+        assertEquals(List.of(3, 4, 5), ids("PRICES"));
+        assertEquals(List.of(1, 2), ids("PRICES_ARCHIVE"));
+        assertEquals(NOW.minusDays(1).minusSeconds(1).plusNanos(1), archiver.archivedUntil());
+        assertEquals(0, archiver.archive());
+        assertEquals(2.0, registry.get(PriceArchiver.METRIC_MOVED).counter().count());
+    }
+
+    @Test
+    @DisplayName("Avisa del nuevo límite antes de trasladar nada")
+    void shouldNotifyTheLimitBeforeMoving() {
+        insert(NOW.minusDays(10), NOW.minusDays(5));
+        PriceArchiver archiver = archiver();
+        List<Integer> archivedWhenNotified = new ArrayList<>();
+        List<LocalDateTime> limits = new ArrayList<>();
+        archiver.addListener(limit -> {
+            limits.add(limit);
+            archivedWhenNotified.add(ids("PRICES_ARCHIVE").size());
+        });
+
+        archiver.archive();
+
+        assertEquals(List.of(NOW.minusDays(1)), limits);
+        assertEquals(List.of(0), archivedWhenNotified);
+    }
+
+    @Test
+    @DisplayName("Traslada en lotes hasta vaciar las tarifas caducadas")
+    void shouldMoveInBatches() {
+        for (int i = 0; i < 7; i++) {
+            insert(NOW.minusDays(10 + i), NOW.minusDays(5 + i));
+        }
+        properties.setBatchSize(3);
+
+        assertEquals(7, archiver().archive());
+
+        assertEquals(List.of(), ids("PRICES"));
+        assertEquals(7, ids("PRICES_ARCHIVE").size());
+    }
+
+    @Test
+    @DisplayName("Rechaza un tamaño de lote no positivo")
+    void shouldRejectNonPositiveBatchSize() {
+        properties.setBatchSize(0);
+
+        assertThrows(IllegalArgumentException.class, this::archiver);
+    }
+
+    private PriceArchiver archiver() {
+        return new PriceArchiver(jdbcTemplate, new DataSourceTransactionManager(database), properties,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC), registry);
+    }
+
+    private void insert(final LocalDateTime start, final LocalDateTime end) {
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID,"
+                        + " PRIORITY, PRICE_MINOR, CURR) VALUES (1, ?, ?, 1, 35455, 0, 3550, 'EUR')",
+                Timestamp.valueOf(start), Timestamp.valueOf(end));
+    }
+
+    private List<Integer> ids(final String table) {
+        return jdbcTemplate.queryForList("SELECT ID FROM " + table + " ORDER BY ID", Integer.class);
+    }
+}
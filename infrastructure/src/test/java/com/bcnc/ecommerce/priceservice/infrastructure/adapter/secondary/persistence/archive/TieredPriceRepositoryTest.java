@@ -0,0 +1,121 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class TieredPriceRepositoryTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final PriceKey KEY = new PriceKey(PRODUCT_ID, BRAND_ID);
+    private static final LocalDateTime COLD_UNTIL = LocalDateTime.of(2020, 7, 1, 0, 0);
+
+    /** Tarifa archivada, de junio. */
+    private final Price archived = price(1, COLD_UNTIL.minusDays(30), COLD_UNTIL.minusSeconds(1));
+
+    /** Tarifa larga aún en PRICES que empezó antes del límite. */
+    private final Price longRunning = price(2, COLD_UNTIL.minusDays(10), COLD_UNTIL.plusYears(1));
+
+    private PriceRepository hot;
+    private PriceRepository cold;
+    private SimpleMeterRegistry registry;
+    private TieredPriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        hot = mock(PriceRepository.class);
+        cold = mock(PriceRepository.class);
+        registry = new SimpleMeterRegistry();
+        repository = new TieredPriceRepository(hot, cold, COLD_UNTIL, registry);
+    }
+
+    @Test
+    @DisplayName("Las fechas posteriores al límite solo consultan el nivel caliente")
+    void shouldReadOnlyTheHotTierFromTheLimitOn() {
+        when(hot.findApplicablePrices(COLD_UNTIL, PRODUCT_ID, BRAND_ID)).thenReturn(List.of(longRunning));
+
+        assertEquals(List.of(longRunning), repository.findApplicablePrices(COLD_UNTIL, PRODUCT_ID, BRAND_ID));
+
+        verify(cold, never()).findApplicablePrices(any(LocalDateTime.class), any(), any());
+        assertEquals(1.0, lookups("hot"));
+    }
+
+    @Test
+    @DisplayName("Las fechas anteriores al límite unen los dos niveles sin duplicados")
+    void shouldMergeBothTiersBeforeTheLimit() {
+        LocalDateTime date = COLD_UNTIL.minusDays(5);
+        when(hot.findApplicablePrices(date, PRODUCT_ID, BRAND_ID)).thenReturn(List.of(longRunning));
+        // La tarifa larga aparece también en el frío: trasladada entre las dos lecturas.
+        when(cold.findApplicablePrices(date, PRODUCT_ID, BRAND_ID)).thenReturn(List.of(archived, longRunning));
+
+        assertEquals(List.of(longRunning, archived), repository.findApplicablePrices(date, PRODUCT_ID, BRAND_ID));
+        assertEquals(1.0, lookups("cold"));
+    }
+
+    @Test
+    @DisplayName("Un lote solo lleva al nivel frío las consultas anteriores al límite")
+    void shouldSplitBatchesByTheLimit() {
+        PriceQuery recent = new PriceQuery(COLD_UNTIL.plusDays(1), PRODUCT_ID, BRAND_ID);
+        PriceQuery old = new PriceQuery(COLD_UNTIL.minusDays(20), PRODUCT_ID, BRAND_ID);
+        when(hot.findApplicablePrices(List.of(recent, old))).thenReturn(Map.of(recent, List.of(longRunning)));
+        when(cold.findApplicablePrices(List.of(old))).thenReturn(Map.of(old, List.of(archived)));
+
+        assertEquals(Map.of(recent, List.of(longRunning), old, List.of(archived)),
+                repository.findApplicablePrices(List.of(recent, old)));
+        verify(cold).findApplicablePrices(List.of(old));
+        assertEquals(1.0, lookups("hot"));
+        assertEquals(1.0, lookups("cold"));
+    }
+
+    @Test
+    @DisplayName("Las tarifas de una clave incluyen siempre las archivadas")
+    void shouldReadBothTiersForAllPrices() {
+        when(hot.findAllPrices(PRODUCT_ID, BRAND_ID)).thenReturn(List.of(longRunning));
+        when(cold.findAllPrices(PRODUCT_ID, BRAND_ID)).thenReturn(List.of(archived));
+        when(hot.findAllPrices(Set.of(KEY))).thenReturn(Map.of());
+        when(cold.findAllPrices(Set.of(KEY))).thenReturn(Map.of(KEY, List.of(archived)));
+
+        assertEquals(List.of(longRunning, archived), repository.findAllPrices(PRODUCT_ID, BRAND_ID));
+        assertEquals(Map.of(KEY, List.of(archived)), repository.findAllPrices(Set.of(KEY)));
+    }
+
+    @Test
+    @DisplayName("El límite del nivel frío solo avanza")
+    void shouldOnlyExtendTheColdLimit() {
+        repository.extendColdUntil(COLD_UNTIL.minusDays(1));
+        assertEquals(COLD_UNTIL, repository.coldUntil());
+
+        repository.extendColdUntil(COLD_UNTIL.plusDays(1));
+        assertEquals(COLD_UNTIL.plusDays(1), repository.coldUntil());
+    }
+
+    private double lookups(final String tier) {
+        return registry.get(TieredPriceRepository.METRIC_LOOKUPS).tag("tier", tier).counter().count();
+    }
+
+    private static Price price(final int priceList, final LocalDateTime start, final LocalDateTime end) {
+        return Price.builder()
+                .brandId(BRAND_ID).productId(PRODUCT_ID).priceList(priceList).priority(0)
+                .startDate(start).endDate(end)
+                .price(new BigDecimal("35.50")).curr("EUR").build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.batching;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class BatchingPriceRepositoryTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+    private PriceRepository storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = mock(PriceRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Las búsquedas concurrentes de precio aplicable se resuelven con una consulta multi-clave")
+    void shouldGatherConcurrentLookupsIntoOneQuery() throws Exception {
+        Price first = createPrice(1L);
+        Price second = createPrice(2L);
+        PriceQuery q1 = new PriceQuery(DATE, 1L, 1L);
+        PriceQuery q2 = new PriceQuery(DATE, 2L, 1L);
+        PriceQuery q3 = new PriceQuery(DATE, 3L, 1L);
+        when(storage.findApplicablePrices(Set.of(q1, q2, q3)))
+                .thenReturn(Map.of(q1, List.of(first), q2, List.of(second)));
+        BatchingPriceRepository repository = new BatchingPriceRepository(storage,
+                Duration.ofSeconds(30), 3, new SimpleMeterRegistry());
+
+        List<Future<List<Price>>> calls = new ArrayList<>();
+        for (long productId = 1; productId <= 3; productId++) {
+            long id = productId;
+            calls.add(executor.submit(() -> repository.findApplicablePrices(DATE, id, 1L)));
+        }
+
+        assertAll(
+                () -> assertEquals(List.of(first), calls.get(0).get(5, TimeUnit.SECONDS)),
+                () -> assertEquals(List.of(second), calls.get(1).get(5, TimeUnit.SECONDS)),
+                () -> assertTrue(calls.get(2).get(5, TimeUnit.SECONDS).isEmpty())
+        );
+        verify(storage, times(1)).findApplicablePrices(Set.of(q1, q2, q3));
+        verify(storage, never()).findApplicablePrices(any(LocalDateTime.class), anyLong(),
+                anyLong());
+    }
+
+    @Test
+    @DisplayName("Las búsquedas de todas las tarifas de una clave también se agrupan")
+    void shouldGatherAllPricesLookups() {
+        Price price = createPrice(1L);
+        PriceKey key = new PriceKey(1L, 1L);
+        when(storage.findAllPrices(Set.of(key))).thenReturn(Map.of(key, List.of(price)));
+        BatchingPriceRepository repository = new BatchingPriceRepository(storage,
+                Duration.ZERO, 64, new SimpleMeterRegistry());
+
+        assertEquals(List.of(price), repository.findAllPrices(1L, 1L));
+        verify(storage, never()).findAllPrices(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Las búsquedas que ya son en bloque se delegan sin esperar")
+    void shouldDelegateBulkLookups() {
+        PriceQuery query = new PriceQuery(DATE, 1L, 1L);
+        PriceKey key = query.key();
+        BatchingPriceRepository repository = new BatchingPriceRepository(storage,
+                Duration.ofSeconds(30), 64, new SimpleMeterRegistry());
+
+        repository.findApplicablePrices(List.of(query));
+        repository.findAllPrices(List.of(key));
+
+        verify(storage).findApplicablePrices(List.of(query));
+        verify(storage).findAllPrices(List.of(key));
+    }
+
+    private Price createPrice(final Long productId) {
+        return Price.builder()
+                .brandId(1L)
+                .startDate(DATE.minusHours(1))
+                .endDate(DATE.plusHours(1))
+                .priceList(1)
+                .productId(productId)
+                .priority(0)
+                .price(new BigDecimal("35.50"))
+                .curr("EUR")
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.batching;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+class MicroBatcherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Set<Integer>> bulkCalls = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Las búsquedas concurrentes se resuelven con una única carga al llenar el lote")
+    void shouldLoadConcurrentKeysInOneBulkCallWhenBatchIsFull() throws Exception {
+        MicroBatcher<Integer, String> batcher = batcher(squares(), Duration.ofSeconds(30), 4);
+
+        List<Future<String>> calls = new ArrayList<>();
+        for (int key = 1; key <= 4; key++) {
+            int k = key;
+            calls.add(executor.submit(() -> batcher.load(k)));
+        }
+
+        for (int key = 1; key <= 4; key++) {
+            assertEquals(String.valueOf(key * key), calls.get(key - 1).get(5, TimeUnit.SECONDS));
+        }
+        DistributionSummary size = registry.get(MicroBatcher.METRIC_SIZE).summary();
+        assertAll(
+                () -> assertEquals(List.of(Set.of(1, 2, 3, 4)), bulkCalls),
+                () -> assertEquals(1, size.count()),
+                () -> assertEquals(4.0, size.totalAmount()),
+                () -> assertEquals(4, registry.get(MicroBatcher.METRIC_DELAY).timer().count())
+        );
+    }
+
+    @Test
+    @DisplayName("Una búsqueda sola se resuelve al agotar la ventana")
+    void shouldLoadSingleKeyAfterWindow() {
+        MicroBatcher<Integer, String> batcher = batcher(squares(), Duration.ofMillis(5), 64);
+
+        long start = System.nanoTime();
+        String result = batcher.load(3);
+
+        assertAll(
+                () -> assertEquals("9", result),
+                () -> assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(5)),
+                () -> assertEquals(List.of(Set.of(3)), bulkCalls)
+        );
+    }
+
+    @Test
+    @DisplayName("Las claves repetidas en un lote comparten resultado")
+    void shouldShareResultForDuplicateKeys() throws Exception {
+        MicroBatcher<Integer, String> batcher = batcher(squares(), Duration.ofMillis(300), 64);
+
+        Future<String> first = executor.submit(() -> batcher.load(7));
+        Future<String> second = executor.submit(() -> batcher.load(7));
+
+        assertEquals("49", first.get(5, TimeUnit.SECONDS));
+        assertEquals("49", second.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(Set.of(7)), bulkCalls);
+    }
+
+    @Test
+    @DisplayName("Las claves que la carga no devuelve reciben el valor por defecto")
+    void shouldReturnMissingValueForAbsentKeys() {
+        MicroBatcher<Integer, String> batcher = batcher(keys -> {
+            bulkCalls.add(Set.copyOf(keys));
+            return Map.of();
+        }, Duration.ZERO, 64);
+
+        assertEquals("none", batcher.load(1));
+    }
+
+    @Test
+    @DisplayName("Un fallo de la carga se propaga a todas las búsquedas del lote")
+    void shouldPropagateBulkFailureToEveryCaller() throws Exception {
+        IllegalStateException failure = new IllegalStateException("db down");
+        MicroBatcher<Integer, String> batcher = batcher(keys -> {
+            throw failure;
+        }, Duration.ofSeconds(30), 2);
+
+        Future<String> first = executor.submit(() -> batcher.load(1));
+        Future<String> second = executor.submit(() -> batcher.load(2));
+
+        for (Future<String> call : List.of(first, second)) {
+            ExecutionException ex = assertThrows(ExecutionException.class,
+                    () -> call.get(5, TimeUnit.SECONDS));
+            assertSame(failure, ex.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("Rechaza ventanas negativas y tamaños no positivos")
+    void shouldRejectInvalidLimits() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> batcher(squares(), Duration.ofMillis(-1), 4)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> batcher(squares(), Duration.ofMillis(1), 0))
+        );
+    }
+
+    private MicroBatcher<Integer, String> batcher(
+            final Function<Set<Integer>, Map<Integer, String>> loader,
+            final Duration window, final int maxSize) {
+        return new MicroBatcher<>("test", loader, "none", window, maxSize, registry);
+    }
+
+    private Function<Set<Integer>, Map<Integer, String>> squares() {
+        return keys -> {
+            bulkCalls.add(Set.copyOf(keys));
+            Map<Integer, String> result = new HashMap<>();
+            keys.forEach(key -> result.put(key, String.valueOf(key * key)));
+            return result;
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class CachingPriceRepositoryTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    private final Price base = createPrice(PRODUCT_ID, START, START.plusDays(200), 1, 0, "35.50");
+    private final Price promo = createPrice(PRODUCT_ID, START.plusHours(15),
+            START.plusHours(18).plusMinutes(30), 2, 1, "25.45");
+
+    private PriceRepository storage;
+    private SimpleMeterRegistry registry;
+    private CachingPriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        storage = mock(PriceRepository.class);
+        registry = new SimpleMeterRegistry();
+        repository = new CachingPriceRepository(storage, 1_000, Duration.ofMinutes(10), registry);
+        when(storage.findAllPrices(PRODUCT_ID, BRAND_ID)).thenReturn(List.of(base, promo));
+    }
+
+    @Test
+    @DisplayName("Cualquier fecha de la clave se resuelve con una única carga del almacenamiento")
+    void shouldServeEveryDateOfTheKeyFromOneLoad() {
+        assertAll(
+                () -> assertEquals(List.of(base),
+                        repository.findApplicablePrices(START.plusHours(10), PRODUCT_ID, BRAND_ID)),
+                () -> assertEquals(List.of(promo),
+                        repository.findApplicablePrices(START.plusHours(16), PRODUCT_ID, BRAND_ID)),
+                () -> assertEquals(List.of(promo),
+                        repository.findApplicablePrices(START.plusHours(18).plusMinutes(30),
+                                PRODUCT_ID, BRAND_ID)),
+                () -> assertEquals(List.of(base),
+                        repository.findApplicablePrices(START.plusHours(18).plusMinutes(31),
+                                PRODUCT_ID, BRAND_ID)),
+                () -> assertTrue(repository.findApplicablePrices(START.minusDays(1),
+                        PRODUCT_ID, BRAND_ID).isEmpty())
+        );
+
+        verify(storage, times(1)).findAllPrices(PRODUCT_ID, BRAND_ID);
+        verify(storage, never()).findApplicablePrices(any(LocalDateTime.class), anyLong(),
+                anyLong());
+        assertEquals(4.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Las claves sin tarifas también se cachean")
+    void shouldCacheKeysWithoutPrices() {
+        when(storage.findAllPrices(99999L, BRAND_ID)).thenReturn(List.of());
+
+        repository.findApplicablePrices(START, 99999L, BRAND_ID);
+        List<Price> result = repository.findApplicablePrices(START.plusDays(3), 99999L, BRAND_ID);
+
+        assertTrue(result.isEmpty());
+        verify(storage, times(1)).findAllPrices(99999L, BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("El lote carga juntas solo las claves que no están en caché")
+    void shouldLoadMissingKeysOfBatchTogether() {
+        PriceKey cached = new PriceKey(PRODUCT_ID, BRAND_ID);
+        PriceKey missing = new PriceKey(99999L, BRAND_ID);
+        Price other = createPrice(99999L, START, START.plusDays(1), 3, 0, "10.00");
+        when(storage.findAllPrices(Set.of(missing))).thenReturn(Map.of(missing, List.of(other)));
+
+        repository.findApplicablePrices(START.plusHours(1), PRODUCT_ID, BRAND_ID);
+
+        PriceQuery first = new PriceQuery(START.plusHours(16), PRODUCT_ID, BRAND_ID);
+        PriceQuery second = new PriceQuery(START.plusHours(2), 99999L, BRAND_ID);
+        PriceQuery third = new PriceQuery(START.plusDays(5), 99999L, BRAND_ID);
+        Map<PriceQuery, List<Price>> result = repository.findApplicablePrices(
+                List.of(first, second, third));
+
+        assertAll(
+                () -> assertEquals(List.of(promo), result.get(first)),
+                () -> assertEquals(List.of(other), result.get(second)),
+                () -> assertTrue(result.get(third).isEmpty())
+        );
+        verify(storage, times(1)).findAllPrices(anyCollection());
+        verify(storage, times(1)).findAllPrices(cached.productId(), cached.brandId());
+    }
+
+    @Test
+    @DisplayName("Expulsa entradas al superar el número máximo de tramos")
+    void shouldEvictWhenMaximumSegmentsIsExceeded() {
+        SimpleMeterRegistry smallRegistry = new SimpleMeterRegistry();
+        CachingPriceRepository small = new CachingPriceRepository(storage, 10,
+                Duration.ofMinutes(10), smallRegistry);
+        for (long productId = 1; productId <= 50; productId++) {
+            when(storage.findAllPrices(productId, BRAND_ID)).thenReturn(List.of(
+                    createPrice(productId, START, START.plusDays(1), 1, 0, "1.00")));
+            small.findApplicablePrices(START, productId, BRAND_ID);
+        }
+
+        assertTrue(small.estimatedSize() <= 10);
+        assertTrue(smallRegistry.get("cache.evictions").functionCounter().count() > 0);
+    }
+
+    @Test
+    @DisplayName("invalidate obliga a recargar la clave")
+    void shouldReloadAfterInvalidate() {
+        repository.findApplicablePrices(START, PRODUCT_ID, BRAND_ID);
+        repository.invalidate(new PriceKey(PRODUCT_ID, BRAND_ID));
+        repository.findApplicablePrices(START, PRODUCT_ID, BRAND_ID);
+
+        verify(storage, times(2)).findAllPrices(PRODUCT_ID, BRAND_ID);
+    }
+
+    private static Price createPrice(
+            final Long productId,
+            final LocalDateTime start,
+            final LocalDateTime end,
+            final Integer priceList,
+            final Integer priority,
+            final String price
+    ) {
+        return Price.builder()
+                .brandId(BRAND_ID)
+                .startDate(start)
+                .endDate(end)
+                .priceList(priceList)
+                .productId(productId)
+                .priority(priority)
+                .price(new BigDecimal(price))
+                .curr("EUR")
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+class PriceChangeLogTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private PriceChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        // Columnas en otro orden que schema.sql: el trigger las busca por nombre.
+        jdbcTemplate.execute("CREATE TABLE PRICES (ID INT AUTO_INCREMENT PRIMARY KEY,"
+                + " PRODUCT_ID INT NOT NULL, PRICE_MINOR BIGINT NOT NULL, BRAND_ID INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE PRICES_CHANGELOG (CHANGE_ID BIGINT AUTO_INCREMENT"
+                + " PRIMARY KEY, PRODUCT_ID INT NOT NULL, BRAND_ID INT NOT NULL,"
+                + " CHANGED_AT TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TRIGGER PRICES_CHANGE_CAPTURE AFTER INSERT, UPDATE, DELETE"
+                + " ON PRICES FOR EACH ROW CALL '" + PriceChangeTrigger.class.getName() + "'");
+        changeLog = new PriceChangeLog(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("El trigger registra la clave de cada alta, modificación y borrado")
+    void shouldCaptureEveryChange() {
+        jdbcTemplate.update("INSERT INTO PRICES (PRODUCT_ID, PRICE_MINOR, BRAND_ID) VALUES (1, 100, 1)");
+        jdbcTemplate.update("INSERT INTO PRICES (PRODUCT_ID, PRICE_MINOR, BRAND_ID) VALUES (2, 100, 1)");
+        long watermark = changeLog.readSince(0, 100).lastChangeId();
+
+        jdbcTemplate.update("UPDATE PRICES SET PRICE_MINOR = 200 WHERE PRODUCT_ID = 1");
+        jdbcTemplate.update("UPDATE PRICES SET PRODUCT_ID = 3 WHERE PRODUCT_ID = 2");
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = 3");
+        PriceChangeBatch batch = changeLog.readSince(watermark, 100);
+
+        assertEquals(2, watermark);
+        // Modificación (1), cambio de clave (2 y 3) y borrado (3).
+        assertEquals(4, batch.changes());
+        assertEquals(6, batch.lastChangeId());
+        assertEquals(List.of(new PriceKey(1L, 1L), new PriceKey(2L, 1L), new PriceKey(3L, 1L)),
+                List.copyOf(batch.keys()));
+    }
+
+    @Test
+    @DisplayName("Lee por lotes, informa de lo pendiente y purga lo antiguo")
+    void shouldPageReportAndPurge() {
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO PRICES (PRODUCT_ID, PRICE_MINOR, BRAND_ID) VALUES (?, 100, 1)", i);
+        }
+
+        PriceChangeBatch first = changeLog.readSince(0, 2);
+        PriceChangeLog.Pending pending = changeLog.pending(first.lastChangeId());
+        PriceChangeBatch empty = changeLog.readSince(5, 2);
+
+        assertEquals(Set.of(new PriceKey(0L, 1L), new PriceKey(1L, 1L)), first.keys());
+        assertEquals(3, pending.changes());
+        assertTrue(pending.lagMillis() >= 0);
+        assertEquals(0, changeLog.pending(5).changes());
+        assertEquals(0, changeLog.pending(5).lagMillis());
+        assertEquals(5, empty.lastChangeId());
+        assertTrue(empty.keys().isEmpty());
+        assertEquals(0, changeLog.lastChangeIdBefore(LocalDateTime.now().minusHours(1)));
+        assertEquals(5, changeLog.lastChangeIdBefore(LocalDateTime.now().plusHours(1)));
+        assertEquals(5, changeLog.purgeBefore(LocalDateTime.now().plusHours(1)));
+        assertEquals(0, changeLog.pending(0).changes());
+    }
+
+    @Test
+    @DisplayName("Un cambio confirmado después de otro posterior se entrega al volver a leer su hueco")
+    void shouldDeliverChangesCommittedOutOfOrder() throws Exception {
+        PriceChangePoller poller = new PriceChangePoller(changeLog, mock(PriceRepository.class),
+                new PriceChangeProperties(), new SimpleMeterRegistry(), LocalDateTime.now().minusHours(1));
+        List<Set<PriceKey>> delivered = new ArrayList<>();
+        poller.addListener((keys, source) -> delivered.add(Set.copyOf(keys)));
+        poller.poll();
+
+        try (Connection importer = database.getConnection()) {
+            // La transacción larga toma los CHANGE_ID 1 y 2 y sigue abierta.
+            importer.setAutoCommit(false);
+            try (Statement statement = importer.createStatement()) {
+                statement.executeUpdate("INSERT INTO PRICES (PRODUCT_ID, PRICE_MINOR, BRAND_ID)"
+                        + " VALUES (1, 100, 1), (2, 100, 1)");
+            }
+            // Una fila suelta toma el 3 y confirma antes.
+            jdbcTemplate.update("INSERT INTO PRICES (PRODUCT_ID, PRICE_MINOR, BRAND_ID) VALUES (3, 100, 1)");
+
+            assertEquals(1, poller.poll());
+            assertEquals(3, poller.watermark());
+            assertEquals(1, poller.pendingGaps());
+            assertEquals(List.of(Set.of(new PriceKey(3L, 1L))), delivered);
+
+            importer.commit();
+        }
+
+        assertEquals(2, poller.poll());
+        assertEquals(0, poller.pendingGaps());
+        assertEquals(Set.of(new PriceKey(1L, 1L), new PriceKey(2L, 1L)), delivered.get(1));
+    }
+
+    @Test
+    @DisplayName("readRange informa de los identificadores del rango que siguen sin aparecer")
+    void shouldReportGapsOfRange() {
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO PRICES (PRODUCT_ID, PRICE_MINOR, BRAND_ID) VALUES (?, 100, 1)", i);
+        }
+        jdbcTemplate.update("DELETE FROM PRICES_CHANGELOG WHERE CHANGE_ID IN (2, 5)");
+
+        PriceChangeBatch range = changeLog.readRange(1, 6);
+        PriceChangeBatch since = changeLog.readSince(0, 10);
+
+        assertEquals(3, range.changes());
+        assertEquals(List.of(new PriceChangeLog.Gap(2, 2), new PriceChangeLog.Gap(5, 6)), range.gaps());
+        assertEquals(4, since.lastChangeId());
+        assertEquals(List.of(new PriceChangeLog.Gap(2, 2)), since.gaps());
+    }
+}
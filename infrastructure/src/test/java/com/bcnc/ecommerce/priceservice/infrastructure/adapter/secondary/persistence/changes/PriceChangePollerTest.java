@@ -0,0 +1,126 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.changes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+class PriceChangePollerTest {
+
+    private static final LocalDateTime REPLAY_FROM = LocalDateTime.of(2020, 6, 14, 0, 0);
+    private static final Set<PriceKey> FIRST_KEYS = Set.of(new PriceKey(1L, 1L), new PriceKey(2L, 1L));
+    private static final Set<PriceKey> SECOND_KEYS = Set.of(new PriceKey(3L, 1L));
+
+    private PriceChangeLog changeLog;
+    private PriceRepository source;
+    private SimpleMeterRegistry registry;
+    private PriceChangePoller poller;
+
+    @BeforeEach
+    void setUp() {
+        changeLog = mock(PriceChangeLog.class);
+        source = mock(PriceRepository.class);
+        registry = new SimpleMeterRegistry();
+        PriceChangeProperties properties = new PriceChangeProperties();
+        properties.setBatchSize(2);
+        poller = new PriceChangePoller(changeLog, source, properties, registry, REPLAY_FROM);
+        when(changeLog.lastChangeIdBefore(REPLAY_FROM)).thenReturn(10L);
+        when(changeLog.pending(any(Long.class))).thenReturn(new PriceChangeLog.Pending(0, 0));
+    }
+
+    @Test
+    @DisplayName("Lee por lotes hasta ponerse al día y entrega las claves en orden de registro")
+    void shouldApplyBatchesInListenerOrder() {
+        when(changeLog.readSince(10L, 2)).thenReturn(new PriceChangeBatch(FIRST_KEYS, 12L, 2));
+        when(changeLog.readSince(12L, 2)).thenReturn(new PriceChangeBatch(SECOND_KEYS, 13L, 1));
+        PriceChangeListener index = mock(PriceChangeListener.class);
+        PriceChangeListener cache = mock(PriceChangeListener.class);
+        poller.addListener(index);
+        poller.addListener(cache);
+
+        int applied = poller.poll();
+
+        assertEquals(3, applied);
+        assertEquals(13L, poller.watermark());
+        InOrder order = inOrder(index, cache);
+        order.verify(index).onPricesChanged(FIRST_KEYS, source);
+        order.verify(cache).onPricesChanged(FIRST_KEYS, source);
+        order.verify(index).onPricesChanged(SECOND_KEYS, source);
+        order.verify(cache).onPricesChanged(SECOND_KEYS, source);
+        assertEquals(3, registry.get(PriceChangePoller.METRIC_APPLIED).counter().count());
+        assertEquals(13, registry.get(PriceChangePoller.METRIC_WATERMARK).gauge().value());
+        verify(changeLog).purgeBefore(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("No avanza la marca de agua si un destinatario falla")
+    void shouldRetryWhenListenerFails() {
+        when(changeLog.readSince(10L, 2)).thenReturn(new PriceChangeBatch(SECOND_KEYS, 11L, 1));
+        PriceChangeListener index = mock(PriceChangeListener.class);
+        doThrow(new IllegalStateException("fallo")).doNothing()
+                .when(index).onPricesChanged(SECOND_KEYS, source);
+        poller.addListener(index);
+
+        assertThrows(IllegalStateException.class, poller::poll);
+        assertEquals(10L, poller.watermark());
+
+        poller.poll();
+        assertEquals(11L, poller.watermark());
+    }
+
+    @Test
+    @DisplayName("Publica el retraso y los cambios pendientes, sin avisar si no hay cambios")
+    void shouldReportLag() {
+        when(changeLog.readSince(10L, 2)).thenReturn(new PriceChangeBatch(Set.of(), 10L, 0));
+        when(changeLog.pending(10L)).thenReturn(new PriceChangeLog.Pending(4, 1500));
+        PriceChangeListener index = mock(PriceChangeListener.class);
+        poller.addListener(index);
+
+        assertEquals(0, poller.poll());
+
+        verify(index, never()).onPricesChanged(any(), any());
+        assertEquals(4, registry.get(PriceChangePoller.METRIC_PENDING).gauge().value());
+        assertEquals(1500, registry.get(PriceChangePoller.METRIC_LAG).timeGauge()
+                .value(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Deja de volver a leer un hueco cuando caduca")
+    void shouldDropExpiredGaps() {
+        PriceChangeProperties properties = new PriceChangeProperties();
+        properties.setGapTimeout(Duration.ZERO);
+        PriceChangePoller expiring = new PriceChangePoller(changeLog, source, properties, registry, REPLAY_FROM);
+        when(changeLog.readSince(10L, 1000)).thenReturn(
+                new PriceChangeBatch(SECOND_KEYS, 13L, 1, List.of(new PriceChangeLog.Gap(11, 12))));
+        when(changeLog.readSince(13L, 1000)).thenReturn(new PriceChangeBatch(Set.of(), 13L, 0));
+        when(changeLog.readRange(11, 12)).thenReturn(
+                new PriceChangeBatch(Set.of(), 10L, 0, List.of(new PriceChangeLog.Gap(11, 12))));
+
+        expiring.poll();
+        assertEquals(1, expiring.pendingGaps());
+
+        expiring.poll();
+        assertEquals(0, expiring.pendingGaps());
+        verify(changeLog, times(1)).readRange(11, 12);
+    }
+}
@@ -0,0 +1,214 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.current;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceTimeline;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class CurrentPriceRepositoryTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long UNKNOWN_PRODUCT_ID = 99999L;
+    private static final Long BRAND_ID = 1L;
+    private static final PriceKey KEY = new PriceKey(PRODUCT_ID, BRAND_ID);
+    private static final LocalDateTime NOW = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    /** Tarifa base, todo el día 14. */
+    private final Price base = price(1, 0, NOW.minusHours(10), NOW.plusHours(13).minusSeconds(1), "35.50");
+
+    /** Promoción de 15:00 a 18:30, con más prioridad. */
+    private final Price promo = price(2, 1, NOW.plusHours(5), NOW.plusHours(8).plusMinutes(30), "25.45");
+
+    private PriceRepository storage;
+    private SimpleMeterRegistry registry;
+    private MutableClock clock;
+    private CurrentPriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        storage = mock(PriceRepository.class);
+        registry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW);
+        repository = new CurrentPriceRepository(storage,
+                () -> Map.of(KEY, PriceTimeline.of(List.of(base, promo))),
+                Duration.ofSeconds(5), Duration.ZERO, clock, registry, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Resuelve desde la tabla las consultas de ahora de las claves que contiene")
+    void shouldServeCurrentLookupsFromTheTable() {
+        assertEquals(List.of(base), repository.findApplicablePrices(NOW, PRODUCT_ID, BRAND_ID));
+        assertEquals(List.of(base), repository.findApplicablePrices(NOW.minusSeconds(5), PRODUCT_ID, BRAND_ID));
+
+        verify(storage, never()).findApplicablePrices(any(LocalDateTime.class), any(), any());
+        assertEquals(2.0, counter("served"));
+    }
+
+    @Test
+    @DisplayName("Delega las consultas de claves que no están en la tabla, que pueden ser nuevas")
+    void shouldDelegateUnknownKeys() {
+        Price added = price(3, 0, NOW.minusDays(1), NOW.plusDays(1), "10.00", UNKNOWN_PRODUCT_ID);
+        when(storage.findApplicablePrices(NOW, UNKNOWN_PRODUCT_ID, BRAND_ID)).thenReturn(List.of(added));
+
+        assertEquals(List.of(added), repository.findApplicablePrices(NOW, UNKNOWN_PRODUCT_ID, BRAND_ID));
+
+        verify(storage).findApplicablePrices(NOW, UNKNOWN_PRODUCT_ID, BRAND_ID);
+        assertEquals(1.0, counter("passed"));
+    }
+
+    @Test
+    @DisplayName("Delega las consultas cuya fecha se aleja del reloj más que el margen")
+    void shouldDelegateLookupsOutsideTheSkew() {
+        LocalDateTime past = NOW.minusDays(1);
+        when(storage.findApplicablePrices(past, PRODUCT_ID, BRAND_ID)).thenReturn(List.of());
+
+        assertEquals(List.of(), repository.findApplicablePrices(past, PRODUCT_ID, BRAND_ID));
+
+        verify(storage).findApplicablePrices(past, PRODUCT_ID, BRAND_ID);
+        assertEquals(1.0, counter("passed"));
+    }
+
+    @Test
+    @DisplayName("Los límites de tarifa actualizan el precio vigente al llegar el reloj")
+    void shouldAdvanceAtTariffBoundaries() {
+        clock.set(NOW.plusHours(5));
+        // Límite aún no aplicado: la ventana vigente ya no cubre la fecha y se delega.
+        when(storage.findApplicablePrices(NOW.plusHours(5), PRODUCT_ID, BRAND_ID)).thenReturn(List.of(promo));
+        assertEquals(List.of(promo), repository.findApplicablePrices(NOW.plusHours(5), PRODUCT_ID, BRAND_ID));
+
+        repository.applyDueBoundaries();
+        CurrentPrice current = repository.currentPrice(PRODUCT_ID, BRAND_ID);
+        assertEquals(promo, current.price());
+        assertEquals(NOW.plusHours(5), current.from());
+        assertEquals(NOW.plusHours(8).plusMinutes(30).plusNanos(1), current.until());
+
+        clock.set(NOW.plusHours(9));
+        repository.applyDueBoundaries();
+        assertEquals(base, repository.currentPrice(PRODUCT_ID, BRAND_ID).price());
+
+        clock.set(NOW.plusDays(1));
+        repository.applyDueBoundaries();
+        assertNull(repository.currentPrice(PRODUCT_ID, BRAND_ID).price());
+        assertEquals(List.of(), repository.findApplicablePrices(NOW.plusDays(1), PRODUCT_ID, BRAND_ID));
+        assertEquals(3.0, registry.get(CurrentPriceRepository.METRIC_BOUNDARIES).counter().count());
+    }
+
+    @Test
+    @DisplayName("Resuelve desde la tabla las consultas de ahora de un lote y delega las demás")
+    void shouldServeCurrentQueriesOfABatch() {
+        PriceQuery current = new PriceQuery(NOW, PRODUCT_ID, BRAND_ID);
+        PriceQuery unknown = new PriceQuery(NOW, UNKNOWN_PRODUCT_ID, BRAND_ID);
+        PriceQuery past = new PriceQuery(NOW.minusDays(1), PRODUCT_ID, BRAND_ID);
+        when(storage.findApplicablePrices(List.of(unknown, past))).thenReturn(Map.of());
+
+        assertEquals(Map.of(current, List.of(base)),
+                repository.findApplicablePrices(List.of(current, unknown, past)));
+        verify(storage).findApplicablePrices(List.of(unknown, past));
+    }
+
+    @Test
+    @DisplayName("Las claves cambiadas se recalculan con sus tarifas actuales")
+    void shouldRecomputeChangedKeys() {
+        PriceKey added = new PriceKey(UNKNOWN_PRODUCT_ID, BRAND_ID);
+        Price addedPrice = price(3, 0, NOW.minusDays(1), NOW.plusDays(1), "10.00", UNKNOWN_PRODUCT_ID);
+        when(storage.findAllPrices(Set.of(KEY, added))).thenReturn(Map.of(added, List.of(addedPrice)));
+
+        repository.onPricesChanged(Set.of(KEY, added), storage);
+
+        assertEquals(List.of(addedPrice), repository.findApplicablePrices(NOW, UNKNOWN_PRODUCT_ID, BRAND_ID));
+        assertEquals(1.0, registry.get(CurrentPriceRepository.METRIC_KEYS).gauge().value());
+        verify(storage, never()).findApplicablePrices(any(LocalDateTime.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("El precio vigente en un hueco entre tarifas dura hasta la siguiente")
+    void shouldComputeGapsBetweenTariffs() {
+        PriceTimeline timeline = PriceTimeline.of(List.of(promo));
+
+        CurrentPrice before = CurrentPrice.at(timeline, NOW);
+        assertNull(before.price());
+        assertEquals(LocalDateTime.MIN, before.from());
+        assertEquals(promo.getStartDate(), before.until());
+
+        CurrentPrice after = CurrentPrice.at(timeline, NOW.plusDays(1));
+        assertNull(after.price());
+        assertEquals(LocalDateTime.MAX, after.until());
+        assertEquals(true, after.covers(NOW.plusYears(10)));
+    }
+
+    private double counter(final String result) {
+        return registry.get(CurrentPriceRepository.METRIC_LOOKUPS).tag("result", result).counter().count();
+    }
+
+    private static Price price(final int priceList, final int priority, final LocalDateTime start,
+                               final LocalDateTime end, final String amount) {
+        return price(priceList, priority, start, end, amount, PRODUCT_ID);
+    }
+
+    private static Price price(final int priceList, final int priority, final LocalDateTime start,
+                               final LocalDateTime end, final String amount, final Long productId) {
+        return Price.builder()
+                .brandId(BRAND_ID).productId(productId).priceList(priceList).priority(priority)
+                .startDate(start).endDate(end)
+                .price(new BigDecimal(amount)).curr("EUR").build();
+    }
+
+    /** Reloj en UTC que el test mueve a mano. */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(final LocalDateTime now) {
+            set(now);
+        }
+
+        void set(final LocalDateTime now) {
+            instant = now.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
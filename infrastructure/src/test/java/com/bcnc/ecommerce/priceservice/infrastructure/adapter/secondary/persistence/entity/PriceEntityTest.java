@@ -27,7 +27,7 @@ class PriceEntityTest {
         assertEquals(2, entity.getPriceList());
         assertEquals(35455L, entity.getProductId());
         assertEquals(1, entity.getPriority());
-        assertEquals(new BigDecimal("20.50"), entity.getPrice());
+        assertEquals(2050L, entity.getPriceMinor());
         assertEquals("EUR", entity.getCurr());
     }
 
@@ -113,7 +113,7 @@ class PriceEntityTest {
                 .priceList(2)
                 .productId(35455L)
                 .priority(1)
-                .price(price)
+                .priceMinor(price.movePointRight(2).longValueExact())
                 .curr("EUR")
                 .build();
     }
@@ -0,0 +1,148 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.exports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports.PriceImportFormat;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports.PriceImportProperties;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports.PriceImportReport;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports.PriceImporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+class PriceExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE PRICES (ID INT AUTO_INCREMENT PRIMARY KEY,"
+                + " BRAND_ID INT NOT NULL, START_DATE TIMESTAMP NOT NULL, END_DATE TIMESTAMP NOT NULL,"
+                + " PRICE_LIST INT NOT NULL, PRODUCT_ID INT NOT NULL, PRIORITY INT NOT NULL,"
+                + " PRICE_MINOR BIGINT NOT NULL, CURR VARCHAR(3) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID,"
+                + " PRIORITY, PRICE_MINOR, CURR) VALUES"
+                + " (1, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 1, 35455, 0, 3550, 'EUR'),"
+                + " (2, '2020-06-14 15:00:00', '2020-06-14 18:30:00', 2, 35455, 1, 2545, 'USD'),"
+                + " (1, '2020-06-15 00:00:00', '2020-06-15 11:00:00', 3, 35456, 1, 3050, 'EUR')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Vuelca todas las tarifas en CSV, en orden de inserción")
+    void shouldExportCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        PriceExportReport report = exporter().export(out, PriceImportFormat.CSV, null, "memoria");
+
+        assertEquals(3, report.rows());
+        assertEquals(List.of(
+                        "BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE_MINOR,CURR",
+                        "1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,35455,0,3550,EUR",
+                        "2,2020-06-14T15:00:00,2020-06-14T18:30:00,2,35455,1,2545,USD",
+                        "1,2020-06-15T00:00:00,2020-06-15T11:00:00,3,35456,1,3050,EUR"),
+                out.toString(StandardCharsets.UTF_8).lines().toList());
+    }
+
+    @Test
+    @DisplayName("Vuelca en NDJSON solo las tarifas de una cadena")
+    void shouldExportBrandAsJsonLines() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        PriceExportReport report = exporter().export(out, PriceImportFormat.JSONL, 1L, "memoria");
+
+        assertEquals(2, report.rows());
+        assertEquals(1L, report.brandId());
+        assertEquals("{\"brandId\":1,\"startDate\":\"2020-06-14T00:00:00\",\"endDate\":\"2020-12-31T23:59:59\","
+                        + "\"priceList\":1,\"productId\":35455,\"priority\":0,\"priceMinor\":3550,\"curr\":\"EUR\"}\n"
+                        + "{\"brandId\":1,\"startDate\":\"2020-06-15T00:00:00\",\"endDate\":\"2020-06-15T11:00:00\","
+                        + "\"priceList\":3,\"productId\":35456,\"priority\":1,\"priceMinor\":3050,\"curr\":\"EUR\"}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Un volcado a fichero se puede volver a importar tal cual")
+    void shouldRoundTripThroughImport() throws IOException {
+        Path file = tempDir.resolve("precios.ndjson");
+
+        PriceExportReport exported = exporter().exportFile(file, null);
+        jdbcTemplate.update("DELETE FROM PRICES");
+        PriceImportReport imported = new PriceImporter(jdbcTemplate,
+                new DataSourceTransactionManager(database), new PriceImportProperties()).importFile(file);
+
+        assertEquals(3, exported.rows());
+        assertEquals(file.toAbsolutePath().toString(), exported.target());
+        assertEquals(List.of("precios.ndjson"), fileNames());
+        assertEquals(3, imported.imported());
+        assertEquals(0, imported.rejected());
+        assertEquals(List.of(3550L, 2545L, 3050L), jdbcTemplate.queryForList(
+                "SELECT PRICE_MINOR FROM PRICES ORDER BY ID", Long.class));
+    }
+
+    @Test
+    @DisplayName("No deja ficheros si el formato no se reconoce")
+    void shouldRejectUnknownFormat() throws IOException {
+        assertThrows(IllegalArgumentException.class,
+                () -> exporter().exportFile(tempDir.resolve("precios.xlsx"), null));
+
+        assertEquals(List.of(), fileNames());
+    }
+
+    @Test
+    @DisplayName("El temporal es un fichero nuevo: no escribe a través de un enlace con el nombre que tendría")
+    void shouldNotWriteThroughLinkedTempFile() throws IOException {
+        Path outside = Files.createTempFile("fuera", ".csv");
+        try {
+            Files.createSymbolicLink(tempDir.resolve("precios.csv.tmp"), outside);
+
+            exporter().exportFile(tempDir.resolve("precios.csv"), null);
+
+            assertEquals(0, Files.size(outside));
+            assertEquals(4, Files.readAllLines(tempDir.resolve("precios.csv")).size());
+            assertEquals(List.of("precios.csv", "precios.csv.tmp"), fileNames());
+        } finally {
+            Files.delete(outside);
+        }
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private PriceExporter exporter() {
+        PriceExportProperties properties = new PriceExportProperties();
+        properties.setFetchSize(2);
+        return new PriceExporter(jdbcTemplate, new DataSourceTransactionManager(database), properties);
+    }
+}
@@ -0,0 +1,109 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+class FilteringPriceRepositoryTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long UNKNOWN_PRODUCT_ID = 99999L;
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    private final Price price = Price.builder()
+            .brandId(BRAND_ID).productId(PRODUCT_ID).priceList(1).priority(0)
+            .startDate(DATE.minusDays(1)).endDate(DATE.plusDays(1))
+            .price(new BigDecimal("35.50")).curr("EUR").build();
+
+    private PriceRepository storage;
+    private SimpleMeterRegistry registry;
+    private AtomicReference<Set<PriceKey>> keys;
+    private FilteringPriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        storage = mock(PriceRepository.class);
+        registry = new SimpleMeterRegistry();
+        keys = new AtomicReference<>(Set.of(new PriceKey(PRODUCT_ID, BRAND_ID)));
+        repository = new FilteringPriceRepository(storage, () -> {
+            PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(100, 0.001);
+            keys.get().forEach(filter::add);
+            return filter;
+        }, Duration.ZERO, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Resuelve sin acceder al almacenamiento las claves sin tarifas")
+    void shouldShortCircuitUnknownKeys() {
+        when(storage.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID)).thenReturn(List.of(price));
+
+        assertEquals(List.of(), repository.findApplicablePrices(DATE, UNKNOWN_PRODUCT_ID, BRAND_ID));
+        assertEquals(List.of(), repository.findAllPrices(UNKNOWN_PRODUCT_ID, BRAND_ID));
+        assertEquals(List.of(price), repository.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID));
+
+        verify(storage, never()).findApplicablePrices(DATE, UNKNOWN_PRODUCT_ID, BRAND_ID);
+        verify(storage, never()).findAllPrices(UNKNOWN_PRODUCT_ID, BRAND_ID);
+        assertEquals(2.0, counter("rejected"));
+        assertEquals(1.0, counter("passed"));
+    }
+
+    @Test
+    @DisplayName("Solo delega las consultas y claves de un lote que pueden tener tarifas")
+    void shouldDelegateOnlyKnownKeysOfABatch() {
+        PriceQuery known = new PriceQuery(DATE, PRODUCT_ID, BRAND_ID);
+        PriceQuery unknown = new PriceQuery(DATE, UNKNOWN_PRODUCT_ID, BRAND_ID);
+        when(storage.findApplicablePrices(List.of(known))).thenReturn(Map.of(known, List.of(price)));
+
+        assertEquals(Map.of(known, List.of(price)), repository.findApplicablePrices(List.of(known, unknown)));
+        assertTrue(repository.findAllPrices(List.of(new PriceKey(UNKNOWN_PRODUCT_ID, BRAND_ID))).isEmpty());
+        verify(storage, never()).findAllPrices(any());
+    }
+
+    @Test
+    @DisplayName("Las claves cambiadas y las reconstrucciones actualizan el filtro")
+    void shouldLearnChangedKeysAndRebuild() {
+        repository.onPricesChanged(Set.of(new PriceKey(UNKNOWN_PRODUCT_ID, BRAND_ID)), storage);
+        repository.findAllPrices(UNKNOWN_PRODUCT_ID, BRAND_ID);
+        verify(storage).findAllPrices(UNKNOWN_PRODUCT_ID, BRAND_ID);
+
+        keys.set(Set.of());
+        repository.rebuild();
+
+        assertEquals(0, repository.filter().keyCount());
+        assertEquals(0.0, registry.get(FilteringPriceRepository.METRIC_FPP).gauge().value());
+        repository.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
+        verify(storage, never()).findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
+    }
+
+    private double counter(final String result) {
+        return registry.get(FilteringPriceRepository.METRIC_LOOKUPS).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,79 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PriceKeyBloomFilterTest {
+
+    private static final int KEYS = 20_000;
+
+    @Test
+    @DisplayName("Nunca da falsos negativos y respeta la tasa de falsos positivos")
+    void shouldHaveNoFalseNegativesAndBoundedFalsePositives() {
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(KEYS, 0.01);
+        for (long product = 0; product < KEYS; product++) {
+            filter.add(product, product % 7);
+        }
+
+        int falsePositives = 0;
+        for (long product = 0; product < KEYS; product++) {
+            assertTrue(filter.mightContain(product, product % 7));
+            if (filter.mightContain(product + KEYS, 1)) {
+                falsePositives++;
+            }
+        }
+
+        double observed = (double) falsePositives / KEYS;
+        assertTrue(observed < 0.02, "tasa observada " + observed);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+        // Las claves distintas que ya daban positivo al añadirse no cuentan.
+        assertTrue(filter.keyCount() <= KEYS && filter.keyCount() > KEYS * 0.99);
+        assertEquals(7, filter.hashCount());
+        // ~9,6 bits por clave para el 1 %.
+        assertTrue(filter.estimatedBytes() < KEYS * 10 / 8 + 8);
+    }
+
+    @Test
+    @DisplayName("Añadir de nuevo una clave no cambia el recuento ni la tasa estimada")
+    void shouldNotCountRepeatedKeys() {
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(100, 0.01);
+        filter.add(35455L, 1L);
+        filter.add(35456L, 1L);
+        double rate = filter.expectedFalsePositiveRate();
+
+        for (int i = 0; i < 50; i++) {
+            filter.add(35455L, 1L);
+            filter.add(new PriceKey(35456L, 1L));
+        }
+
+        assertEquals(2, filter.keyCount());
+        assertEquals(rate, filter.expectedFalsePositiveRate());
+    }
+
+    @Test
+    @DisplayName("Distingue el producto de la cadena")
+    void shouldDistinguishProductFromBrand() {
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(10, 0.001);
+        filter.add(new PriceKey(35455L, 1L));
+
+        assertTrue(filter.mightContain(35455L, 1L));
+        assertFalse(filter.mightContain(1L, 35455L));
+        assertFalse(filter.mightContain(35455L, 2L));
+    }
+
+    @Test
+    @DisplayName("Un filtro vacío no contiene nada y estima 0 falsos positivos")
+    void shouldBeEmptyWhenCreated() {
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(0, 0.01);
+
+        assertFalse(filter.mightContain(35455L, 1L));
+        assertEquals(0.0, filter.expectedFalsePositiveRate());
+        assertThrows(IllegalArgumentException.class, () -> PriceKeyBloomFilter.create(10, 1.0));
+    }
+}
@@ -0,0 +1,112 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class PriceImportReaderTest {
+
+    @Test
+    @DisplayName("Lee CSV por nombre de columna, en unidades mayores o menores")
+    void shouldReadCsv() throws IOException {
+        List<PriceImportRow> rows = readAll(PriceImportFormat.CSV, """
+                PRODUCT_ID,BRAND_ID,PRICE_LIST,START_DATE,END_DATE,PRIORITY,PRICE,CURR
+                35455,1,1,2020-06-14 00:00:00,2020-12-31T23:59:59,0,35.50,EUR
+
+                "35455","1","2","2020-06-14 15:00:00","2020-06-14 18:30:00","1","25.45","EUR"
+                """);
+
+        assertEquals(2, rows.size());
+        Price first = rows.get(0).price();
+        assertEquals(2L, rows.get(0).line());
+        assertEquals(35455L, first.getProductId());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 0, 0), first.getStartDate());
+        assertEquals(3550L, first.getPriceMinor());
+        assertEquals(4L, rows.get(1).line());
+        assertEquals(2545L, rows.get(1).price().getPriceMinor());
+    }
+
+    @Test
+    @DisplayName("Rechaza con su motivo las filas que no acepta Price.Builder")
+    void shouldRejectInvalidRows() throws IOException {
+        List<PriceImportRow> rows = readAll(PriceImportFormat.CSV, """
+                BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE_MINOR,CURR
+                1,2020-06-14 00:00:00,2020-06-13 00:00:00,1,35455,0,3550,EUR
+                1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,,EUR
+                1,ayer,2020-12-31 23:59:59,1,35455,0,3550,EUR
+                1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0
+                1,2020-06-14 00:00:00,2020-12-31 23:59:59.5,1,35455,0,3550,EUR
+                1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,3550,EUR
+                """);
+
+        assertEquals(List.of("endDate antes de startDate", "price no puede ser nulo",
+                        "Valor no válido en START_DATE: 'ayer'", "Se esperaban 8 columnas y hay 6",
+                        "Valor no válido en END_DATE: '2020-12-31 23:59:59.5' (sin fracciones de segundo)"),
+                rows.stream().limit(5).map(PriceImportRow::error).toList());
+        assertFalse(rows.get(0).isValid());
+        assertTrue(rows.get(5).isValid());
+        assertNull(rows.get(5).error());
+    }
+
+    @Test
+    @DisplayName("Exige las columnas obligatorias en la cabecera CSV")
+    void shouldRejectIncompleteHeader() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> readAll(PriceImportFormat.CSV, "BRAND_ID,START_DATE,END_DATE,PRICE_LIST\n"));
+
+        assertEquals("Falta la columna PRODUCT_ID en la cabecera", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Lee JSONL con los nombres de campo de Price")
+    void shouldReadJsonLines() throws IOException {
+        List<PriceImportRow> rows = readAll(PriceImportFormat.JSONL, """
+                {"brandId":1,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","priceList":1,"productId":35455,"priority":0,"price":35.50,"curr":"EUR"}
+                {"brandId":1,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","priceList":4,"productId":35455,"priority":1,"priceMinor":3895,"curr":"EUR"}
+                {"brandId":-1,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","priceList":1,"productId":35455,"priority":0,"price":1,"curr":"EUR"}
+                [1, 2]
+                {"brandId":
+                """);
+
+        assertEquals(5, rows.size());
+        assertEquals(3550L, rows.get(0).price().getPriceMinor());
+        assertEquals(3895L, rows.get(1).price().getPriceMinor());
+        assertEquals("brandId negativo", rows.get(2).error());
+        assertEquals("Se esperaba un objeto JSON por línea", rows.get(3).error());
+        assertFalse(rows.get(4).isValid());
+    }
+
+    @Test
+    @DisplayName("Deduce el formato por la extensión del fichero")
+    void shouldDetectFormat() {
+        assertEquals(PriceImportFormat.CSV, PriceImportFormat.of(Path.of("tarifas.CSV")));
+        assertEquals(PriceImportFormat.JSONL, PriceImportFormat.of(Path.of("tarifas.ndjson")));
+        assertThrows(IllegalArgumentException.class, () -> PriceImportFormat.of(Path.of("tarifas.xlsx")));
+    }
+
+    private static List<PriceImportRow> readAll(final PriceImportFormat format, final String content)
+            throws IOException {
+        List<PriceImportRow> rows = new ArrayList<>();
+        try (PriceImportReader reader =
+                     new PriceImportReader(new BufferedReader(new StringReader(content)), format)) {
+            for (PriceImportRow row = reader.next(); row != null; row = reader.next()) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,142 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.imports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class PriceImporterTest {
+
+    private static final String HEADER = "BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR";
+
+    @TempDir
+    Path tempDir;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private PriceImportProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE PRICES (ID INT AUTO_INCREMENT PRIMARY KEY,"
+                + " BRAND_ID INT NOT NULL, START_DATE TIMESTAMP NOT NULL, END_DATE TIMESTAMP NOT NULL,"
+                + " PRICE_LIST INT NOT NULL, PRODUCT_ID INT NOT NULL, PRIORITY INT NOT NULL,"
+                + " PRICE_MINOR BIGINT NOT NULL, CURR VARCHAR(3) NOT NULL)");
+        properties = new PriceImportProperties();
+        properties.setChunkSize(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Inserta por lotes y rechaza las filas inválidas sin abortar")
+    void shouldImportValidRowsAndReportRejected() throws IOException {
+        StringBuilder csv = new StringBuilder(HEADER).append('\n');
+        for (int i = 0; i < 7; i++) {
+            csv.append("1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,").append(i).append(",0,10.5,EUR\n");
+        }
+        csv.append("1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,7,-1,10.5,EUR\n");
+        Path file = Files.writeString(tempDir.resolve("tarifas.csv"), csv);
+
+        PriceImportReport report = importer().importFile(file);
+
+        assertEquals(8, report.read());
+        assertEquals(7, report.imported());
+        assertEquals(1, report.rejected());
+        assertEquals(List.of(new PriceImportError(9, "priority negativa")), report.errors());
+        assertEquals(file.toString(), report.source());
+        assertEquals(7, count());
+        assertEquals(1050L, jdbcTemplate.queryForObject(
+                "SELECT PRICE_MINOR FROM PRICES WHERE PRODUCT_ID = 6", Long.class));
+    }
+
+    @Test
+    @DisplayName("Si la base de datos rechaza un lote, reintenta fila a fila")
+    void shouldIsolateRowsRejectedByTheDatabase() throws IOException {
+        // La moneda de la fila 3 no cabe en CURR VARCHAR(3): Price.Builder la acepta.
+        Path file = Files.writeString(tempDir.resolve("tarifas.jsonl"), """
+                {"brandId":1,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","priceList":1,"productId":1,"priority":0,"priceMinor":100,"curr":"EUR"}
+                {"brandId":1,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","priceList":1,"productId":2,"priority":0,"priceMinor":100,"curr":"EUR"}
+                {"brandId":1,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","priceList":1,"productId":3,"priority":0,"priceMinor":100,"curr":"EURO"}
+                {"brandId":1,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","priceList":1,"productId":4,"priority":0,"priceMinor":100,"curr":"EUR"}
+                """);
+
+        PriceImportReport report = importer().importFile(file);
+
+        assertEquals(3, report.imported());
+        assertEquals(1, report.rejected());
+        assertEquals(3, report.errors().get(0).line());
+        assertEquals(List.of(1, 2, 4), jdbcTemplate.queryForList(
+                "SELECT PRODUCT_ID FROM PRICES ORDER BY PRODUCT_ID", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Reparte los lotes grandes en sentencias de varias filas")
+    void shouldSplitLargeChunksIntoMultiRowStatements() throws IOException {
+        properties.setChunkSize(PriceImporter.ROWS_PER_STATEMENT * 2 + 100);
+        int rows = properties.getChunkSize() + 1;
+        StringBuilder csv = new StringBuilder(HEADER).append('\n');
+        for (int i = 0; i < rows; i++) {
+            csv.append("1,2020-06-14 00:00:00,2020-12-31 23:59:59,").append(i).append(",35455,0,10.5,EUR\n");
+        }
+        Path file = Files.writeString(tempDir.resolve("tarifas.csv"), csv);
+
+        PriceImportReport report = importer().importFile(file);
+
+        assertEquals(rows, report.imported());
+        assertEquals(rows, count());
+        assertEquals(rows - 1, jdbcTemplate.queryForObject("SELECT MAX(PRICE_LIST) FROM PRICES", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Limita los rechazos detallados en el informe")
+    void shouldCapReportedErrors() throws IOException {
+        properties.setMaxReportedErrors(2);
+        Path file = Files.writeString(tempDir.resolve("tarifas.csv"),
+                HEADER + "\nx\ny\nz\n");
+
+        PriceImportReport report = importer().importFile(file);
+
+        assertEquals(3, report.rejected());
+        assertEquals(2, report.errors().size());
+        assertEquals(0, count());
+    }
+
+    @Test
+    @DisplayName("No admite lotes vacíos")
+    void shouldRejectInvalidChunkSize() {
+        properties.setChunkSize(0);
+
+        assertThrows(IllegalArgumentException.class, this::importer);
+    }
+
+    private PriceImporter importer() {
+        return new PriceImporter(jdbcTemplate, new DataSourceTransactionManager(database), properties);
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PRICES", Integer.class);
+    }
+}
@@ -0,0 +1,191 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.index;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import com.bcnc.ecommerce.priceservice.domain.service.PriceSelectionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class ColumnarPriceStoreTest {
+
+    private static final long PRODUCT_ID = 35455L;
+    private static final long BRAND_ID = 1L;
+
+    private Price createPrice(
+            final long productId,
+            final LocalDateTime start,
+            final LocalDateTime end,
+            final int priceList,
+            final int priority,
+            final String curr
+    ) {
+        return Price.builder()
+                .brandId(BRAND_ID)
+                .startDate(start)
+                .endDate(end)
+                .priceList(priceList)
+                .productId(productId)
+                .priority(priority)
+                .priceMinor(1_000L + priceList)
+                .curr(curr)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Devuelve la fila ganadora y construye el Price solo al pedirlo")
+    void shouldFindWinningRow() {
+        LocalDateTime base = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Price wholeDay = createPrice(PRODUCT_ID, base, base.plusDays(1), 1, 0, "EUR");
+        Price afternoon = createPrice(PRODUCT_ID, base.plusHours(15), base.plusHours(18), 2, 1, "USD");
+
+        ColumnarPriceStore store = ColumnarPriceStore.of(List.of(afternoon, wholeDay));
+        int row = store.findApplicable(PRODUCT_ID, BRAND_ID, base.plusHours(16));
+
+        assertAll(
+                () -> assertEquals(1, store.priority(row)),
+                () -> assertEquals(2, store.priceList(row)),
+                () -> assertEquals(1_002L, store.priceMinor(row)),
+                () -> assertEquals("USD", store.currency(row)),
+                () -> assertEquals(afternoon, store.toPrice(row)),
+                () -> assertEquals(wholeDay, store.toPrice(
+                        store.findApplicable(PRODUCT_ID, BRAND_ID, base.plusHours(10)))),
+                () -> assertEquals(ColumnarPriceStore.NOT_FOUND,
+                        store.findApplicable(PRODUCT_ID, BRAND_ID, base.minusSeconds(1))),
+                () -> assertEquals(ColumnarPriceStore.NOT_FOUND,
+                        store.findApplicable(PRODUCT_ID + 1, BRAND_ID, base))
+        );
+    }
+
+    @Test
+    @DisplayName("Incluye los extremos y respeta las fracciones de segundo de la consulta")
+    void shouldHonourBoundsWithSubSecondQueries() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 15, 0);
+        LocalDateTime end = LocalDateTime.of(2020, 6, 14, 18, 30);
+        ColumnarPriceStore store = ColumnarPriceStore.of(
+                List.of(createPrice(PRODUCT_ID, start, end, 1, 0, "EUR")));
+
+        assertAll(
+                () -> assertEquals(0, store.findApplicable(PRODUCT_ID, BRAND_ID, start)),
+                () -> assertEquals(0, store.findApplicable(PRODUCT_ID, BRAND_ID, end)),
+                () -> assertEquals(0, store.findApplicable(PRODUCT_ID, BRAND_ID,
+                        end.minusNanos(1))),
+                () -> assertEquals(ColumnarPriceStore.NOT_FOUND,
+                        store.findApplicable(PRODUCT_ID, BRAND_ID, end.plusNanos(1))),
+                () -> assertEquals(ColumnarPriceStore.NOT_FOUND,
+                        store.findApplicable(PRODUCT_ID, BRAND_ID, start.minusNanos(1)))
+        );
+    }
+
+    @Test
+    @DisplayName("Coincide con PriceSelectionService sobre tarifas aleatorias de varias claves")
+    void shouldMatchSelectionService() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            LocalDateTime start = base.plusHours(random.nextInt(2000));
+            prices.add(createPrice(PRODUCT_ID + random.nextInt(5), start,
+                    start.plusHours(random.nextInt(200)), i, random.nextInt(1000),
+                    i % 2 == 0 ? "EUR" : "JPY"));
+        }
+        ColumnarPriceStore store = ColumnarPriceStore.of(prices);
+        PriceSelectionService selection = new PriceSelectionService();
+
+        for (int i = 0; i < 1_000; i++) {
+            long productId = PRODUCT_ID + random.nextInt(6);
+            LocalDateTime date = base.plusHours(random.nextInt(2300));
+            List<Price> candidates = prices.stream()
+                    .filter(price -> price.getProductId() == productId)
+                    .filter(price -> price.isApplicableOn(date))
+                    .sorted(Comparator.comparing(Price::getStartDate))
+                    .toList();
+            Price expected = selection.findApplicablePriceOrNull(candidates, date);
+
+            int row = store.findApplicable(productId, BRAND_ID, date);
+            if (expected == null) {
+                assertEquals(ColumnarPriceStore.NOT_FOUND, row);
+            } else {
+                assertEquals(expected.getPriority(), store.priority(row));
+                assertEquals(expected.getPriority(), store.toPrice(row).getPriority());
+            }
+        }
+        assertEquals(prices.size(), store.size());
+        assertEquals(5, store.keyCount());
+        for (long productId = PRODUCT_ID; productId < PRODUCT_ID + 5; productId++) {
+            long id = productId;
+            assertEquals(prices.stream().filter(p -> p.getProductId() == id).count(),
+                    store.findAll(productId, BRAND_ID).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Ocupa unos 39 bytes por tarifa con cuatro tarifas por clave")
+    void shouldReportBytesPerPrice() {
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder();
+        for (int i = 0; i < 100_000; i++) {
+            builder.add(createPrice(i / 4, base.plusDays(i % 4), base.plusDays(i % 4 + 1),
+                    i % 4, i % 4, "EUR"));
+        }
+        ColumnarPriceStore store = builder.build();
+
+        assertEquals(25_000, store.keyCount());
+        assertTrue(store.bytesPerPrice() > 34 && store.bytesPerPrice() < 40,
+                () -> "bytes/tarifa: " + store.bytesPerPrice());
+        assertEquals(0, ColumnarPriceStore.empty().bytesPerPrice());
+    }
+
+    @Test
+    @DisplayName("Rechaza tarifas con fracciones de segundo")
+    void shouldRejectSubSecondPrices() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 15, 0);
+        Price price = createPrice(PRODUCT_ID, start.plusNanos(5), start.plusHours(1), 1, 0, "EUR");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ColumnarPriceStore.builder().add(price));
+    }
+
+    @Test
+    @DisplayName("Sustituye las filas de las claves cambiadas y copia el resto")
+    void shouldReplaceKeys() {
+        Random random = new Random(7);
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = base.plusHours(random.nextInt(500));
+            prices.add(createPrice(PRODUCT_ID + random.nextInt(4), start,
+                    start.plusHours(random.nextInt(100)), i, random.nextInt(10),
+                    i % 2 == 0 ? "EUR" : "USD"));
+        }
+        Price replacement = createPrice(PRODUCT_ID, base, base.plusDays(1), 999, 0, "JPY");
+        ColumnarPriceStore store = ColumnarPriceStore.of(prices);
+
+        ColumnarPriceStore updated = store.withKeys(Map.of(
+                new PriceKey(PRODUCT_ID, BRAND_ID), List.of(replacement),
+                new PriceKey(PRODUCT_ID + 1, BRAND_ID), List.of()));
+
+        List<Price> expected = new ArrayList<>(prices.stream()
+                .filter(price -> price.getProductId() > PRODUCT_ID + 1)
+                .toList());
+        expected.add(replacement);
+        ColumnarPriceStore rebuilt = ColumnarPriceStore.of(expected);
+        assertEquals(rebuilt.size(), updated.size());
+        assertEquals(3, updated.keyCount());
+        for (long productId = PRODUCT_ID; productId < PRODUCT_ID + 4; productId++) {
+            assertEquals(rebuilt.findAll(productId, BRAND_ID), updated.findAll(productId, BRAND_ID));
+        }
+        assertEquals(prices.size(), store.size());
+    }
+}
@@ -0,0 +1,125 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+class PriceIntervalIndexTest {
+
+    private static final long PRODUCT_ID = 35455L;
+    private static final long BRAND_ID = 1L;
+
+    private Price createPrice(
+            final long productId,
+            final LocalDateTime start,
+            final LocalDateTime end,
+            final int priceList,
+            final int priority
+    ) {
+        return Price.builder()
+                .brandId(BRAND_ID)
+                .startDate(start)
+                .endDate(end)
+                .priceList(priceList)
+                .productId(productId)
+                .priority(priority)
+                .price(new BigDecimal("10.00"))
+                .curr("EUR")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Devuelve las tarifas que contienen la fecha con los extremos incluidos")
+    void shouldReturnIntervalsContainingDate() {
+        LocalDateTime base = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Price wholeDay = createPrice(PRODUCT_ID, base, base.plusDays(1), 1, 0);
+        Price afternoon = createPrice(PRODUCT_ID, base.plusHours(15), base.plusHours(18), 2, 1);
+        Price nextDay = createPrice(PRODUCT_ID, base.plusDays(1).plusHours(1), base.plusDays(2), 3, 1);
+
+        PriceIntervalIndex index = PriceIntervalIndex.of(List.of(nextDay, afternoon, wholeDay));
+
+        assertEquals(List.of(wholeDay), index.findContaining(PRODUCT_ID, BRAND_ID, base.plusHours(10)));
+        assertEquals(List.of(wholeDay, afternoon),
+                index.findContaining(PRODUCT_ID, BRAND_ID, base.plusHours(18)));
+        assertEquals(List.of(wholeDay), index.findContaining(PRODUCT_ID, BRAND_ID, base.plusDays(1)));
+        assertEquals(List.of(nextDay), index.findContaining(PRODUCT_ID, BRAND_ID, base.plusDays(2)));
+        assertTrue(index.findContaining(PRODUCT_ID, BRAND_ID, base.minusNanos(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("No mezcla tarifas de claves distintas y cuenta claves y tarifas")
+    void shouldSeparateKeys() {
+        LocalDateTime base = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Price first = createPrice(PRODUCT_ID, base, base.plusDays(1), 1, 0);
+        Price other = createPrice(PRODUCT_ID + 1, base, base.plusDays(1), 1, 0);
+
+        PriceIntervalIndex index = PriceIntervalIndex.of(List.of(first, other));
+
+        assertEquals(2, index.size());
+        assertEquals(2, index.keyCount());
+        assertEquals(List.of(first), index.findContaining(PRODUCT_ID, BRAND_ID, base));
+        assertTrue(index.findContaining(PRODUCT_ID, BRAND_ID + 1, base).isEmpty());
+        assertTrue(PriceIntervalIndex.empty().findContaining(PRODUCT_ID, BRAND_ID, base).isEmpty());
+        assertEquals(List.of(first), index.findAll(PRODUCT_ID, BRAND_ID));
+        assertTrue(index.findAll(PRODUCT_ID, BRAND_ID + 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Coincide con un filtrado lineal sobre intervalos aleatorios")
+    void shouldMatchLinearScan() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            LocalDateTime start = base.plusHours(random.nextInt(2000));
+            prices.add(createPrice(PRODUCT_ID, start, start.plusHours(random.nextInt(200)), i, i % 4));
+        }
+        PriceIntervalIndex index = PriceIntervalIndex.of(prices);
+
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime date = base.plusHours(random.nextInt(2300));
+            Set<Price> expected = new HashSet<>();
+            for (Price price : prices) {
+                if (price.isApplicableOn(date)) {
+                    expected.add(price);
+                }
+            }
+            assertEquals(expected, new HashSet<>(index.findContaining(PRODUCT_ID, BRAND_ID, date)));
+        }
+    }
+
+    @Test
+    @DisplayName("Sustituye y elimina claves sin modificar el índice original")
+    void shouldReplaceKeys() {
+        LocalDateTime base = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Price first = createPrice(PRODUCT_ID, base, base.plusDays(1), 1, 0);
+        Price other = createPrice(PRODUCT_ID + 1, base, base.plusDays(1), 2, 0);
+        Price replacement = createPrice(PRODUCT_ID, base, base.plusDays(2), 3, 0);
+        PriceIntervalIndex index = PriceIntervalIndex.of(List.of(first, other));
+
+        PriceIntervalIndex updated = index.withKeys(Map.of(
+                new PriceKey(PRODUCT_ID, BRAND_ID), List.of(replacement, first),
+                new PriceKey(PRODUCT_ID + 1, BRAND_ID), List.of()));
+
+        assertEquals(2, updated.size());
+        assertEquals(1, updated.keyCount());
+        assertEquals(Set.of(first, replacement),
+                new HashSet<>(updated.findContaining(PRODUCT_ID, BRAND_ID, base.plusHours(1))));
+        assertTrue(updated.findAll(PRODUCT_ID + 1, BRAND_ID).isEmpty());
+        assertEquals(List.of(first), index.findAll(PRODUCT_ID, BRAND_ID));
+        assertEquals(2, index.size());
+    }
+}
@@ -28,7 +28,7 @@ class PriceMapperTest
         entity.setPriceList(2);
         entity.setProductId(35455L);
         entity.setPriority(1);
-        entity.setPrice(new BigDecimal("25.45"));
+        entity.setPriceMinor(2545L);
         entity.setCurr("EUR");
 
         Price domain = mapper.toDomain(entity);
@@ -40,7 +40,8 @@ class PriceMapperTest
         assertEquals(entity.getPriceList(), domain.getPriceList());
         assertEquals(entity.getProductId(), domain.getProductId());
         assertEquals(entity.getPriority(), domain.getPriority());
-        assertEquals(entity.getPrice(), domain.getPrice());
+        assertEquals(entity.getPriceMinor(), domain.getPriceMinor());
+        assertEquals(new BigDecimal("25.45"), domain.getPrice());
         assertEquals(entity.getCurr(), domain.getCurr());
     }
 
@@ -87,7 +88,7 @@ class PriceMapperTest
         assertEquals(price.getPriceList(), entity.getPriceList());
         assertEquals(price.getProductId(), entity.getProductId());
         assertEquals(price.getPriority(), entity.getPriority());
-        assertEquals(price.getPrice(), entity.getPrice());
+        assertEquals(3550L, entity.getPriceMinor());
         assertEquals(price.getCurr(), entity.getCurr());
     }
 
@@ -108,6 +109,6 @@ class PriceMapperTest
         PriceEntity entity = mapper.toEntity(price);
 
         assertNotNull(entity);
-        assertEquals(BigDecimal.ZERO, entity.getPrice());
+        assertEquals(0L, entity.getPriceMinor());
     }
 }
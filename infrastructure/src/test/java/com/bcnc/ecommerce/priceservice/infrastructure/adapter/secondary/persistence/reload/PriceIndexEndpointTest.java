@@ -0,0 +1,69 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.bcnc.ecommerce.priceservice.domain.repository.PriceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+class PriceIndexEndpointTest {
+
+    private static final PriceIndexStatus STATUS = new PriceIndexStatus(
+            2, Instant.parse("2020-06-14T10:00:00Z"), 15, 4, 160, "1 claves");
+
+    @Test
+    @DisplayName("Informa de que un almacenamiento sin índice no es recargable")
+    void shouldReportNonReloadableStorage() {
+        PriceIndexEndpoint endpoint = new PriceIndexEndpoint(mock(PriceRepository.class));
+
+        Map<String, Object> status = endpoint.status();
+        Map<String, Object> reload = endpoint.reload();
+
+        assertEquals(false, status.get("reloadable"));
+        assertEquals(false, reload.get("reloaded"));
+    }
+
+    @Test
+    @DisplayName("Recarga y devuelve el estado de la nueva versión")
+    void shouldReloadAndReportNewVersion() {
+        PriceRepository storage = mock(PriceRepository.class,
+                withSettings().extraInterfaces(ReloadablePriceStorage.class));
+        ReloadablePriceStorage reloadable = (ReloadablePriceStorage) storage;
+        when(reloadable.indexStatus()).thenReturn(PriceIndexStatus.initial());
+        when(reloadable.reload()).thenReturn(CompletableFuture.completedFuture(STATUS));
+        PriceIndexEndpoint endpoint = new PriceIndexEndpoint(storage);
+
+        Map<String, Object> before = endpoint.status();
+        Map<String, Object> reload = endpoint.reload();
+
+        assertEquals(true, before.get("reloadable"));
+        assertEquals(PriceIndexStatus.initial(), before.get("index"));
+        assertEquals(true, reload.get("reloaded"));
+        assertEquals(STATUS, reload.get("index"));
+    }
+
+    @Test
+    @DisplayName("Devuelve el motivo del rechazo y la versión que se mantiene")
+    void shouldReportRejectedReload() {
+        PriceRepository storage = mock(PriceRepository.class,
+                withSettings().extraInterfaces(ReloadablePriceStorage.class));
+        ReloadablePriceStorage reloadable = (ReloadablePriceStorage) storage;
+        when(reloadable.indexStatus()).thenReturn(STATUS);
+        when(reloadable.reload()).thenReturn(CompletableFuture.failedFuture(
+                new IllegalStateException("sin tarifas")));
+        PriceIndexEndpoint endpoint = new PriceIndexEndpoint(storage);
+
+        Map<String, Object> reload = endpoint.reload();
+
+        assertEquals(false, reload.get("reloaded"));
+        assertEquals("sin tarifas", reload.get("error"));
+        assertEquals(STATUS, reload.get("index"));
+    }
+}
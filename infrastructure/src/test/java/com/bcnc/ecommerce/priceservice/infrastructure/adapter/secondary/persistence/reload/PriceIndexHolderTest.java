@@ -0,0 +1,138 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.reload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+class PriceIndexHolderTest {
+
+    private final List<List<String>> retired = new ArrayList<>();
+    private PriceIndexHolder<List<String>> holder;
+
+    private PriceIndexHolder<List<String>> createHolder(
+            final Supplier<LoadedPriceIndex<List<String>>> loader) {
+        holder = new PriceIndexHolder<>("test", List.of(), loader, retired::add);
+        return holder;
+    }
+
+    private static LoadedPriceIndex<List<String>> loaded(final List<String> prices) {
+        return new LoadedPriceIndex<>(prices, prices.size(), prices.size() * 10L,
+                prices.size() + " tarifas");
+    }
+
+    @AfterEach
+    void tearDown() {
+        holder.close();
+    }
+
+    @Test
+    @DisplayName("Publica cada carga como una versión nueva y retira la anterior")
+    void shouldPublishNewVersions() {
+        AtomicInteger loads = new AtomicInteger();
+        createHolder(() -> loaded(loads.incrementAndGet() == 1
+                ? List.of("a") : List.of("a", "b")));
+        List<String> initial = holder.index();
+
+        PriceIndexStatus first = holder.load();
+        List<String> firstIndex = holder.index();
+        PriceIndexStatus second = holder.load();
+
+        assertEquals(0, PriceIndexStatus.initial().version());
+        assertEquals(1, first.version());
+        assertEquals(2, second.version());
+        assertEquals(2, second.prices());
+        assertEquals(20, second.estimatedBytes());
+        assertNotNull(second.loadedAt());
+        assertEquals(second, holder.status());
+        assertEquals(List.of("a", "b"), holder.index());
+        // Quien leyó la versión anterior sigue trabajando con ella.
+        assertEquals(List.of("a"), firstIndex);
+        assertEquals(List.of(initial, firstIndex), retired);
+    }
+
+    @Test
+    @DisplayName("Rechaza una versión vacía que sustituiría a una con tarifas")
+    void shouldRejectEmptyReplacement() {
+        AtomicInteger loads = new AtomicInteger();
+        createHolder(() -> loaded(loads.incrementAndGet() == 1
+                ? List.of("a") : List.of()));
+        holder.load();
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, holder::load);
+
+        assertTrue(ex.getMessage().contains("versión 1"));
+        assertEquals(1, holder.status().version());
+        assertEquals(List.of("a"), holder.index());
+    }
+
+    @Test
+    @DisplayName("Mantiene la versión publicada si la construcción falla")
+    void shouldKeepVersionWhenLoaderFails() {
+        AtomicInteger loads = new AtomicInteger();
+        createHolder(() -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new IllegalArgumentException("tarifa inválida");
+            }
+            return loaded(List.of("a"));
+        });
+        holder.load();
+
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> holder.reloadAsync().join());
+
+        assertEquals("tarifa inválida", ex.getCause().getMessage());
+        assertEquals(1, holder.status().version());
+        assertEquals(List.of("a"), holder.index());
+    }
+
+    @Test
+    @DisplayName("Recarga en otro hilo, agrupa las peticiones simultáneas y avisa a los oyentes")
+    void shouldReloadInBackgroundAndCoalesce() throws Exception {
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> loaderThread = new AtomicReference<>();
+        AtomicInteger notified = new AtomicInteger();
+        createHolder(() -> {
+            loaderThread.set(Thread.currentThread().getName());
+            building.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return loaded(List.of("a"));
+        });
+        holder.addListener(notified::incrementAndGet);
+
+        CompletableFuture<PriceIndexStatus> first = holder.reloadAsync();
+        assertTrue(building.await(5, TimeUnit.SECONDS));
+        CompletableFuture<PriceIndexStatus> second = holder.reloadAsync();
+        // Mientras se construye, las consultas siguen con la versión 0.
+        assertEquals(List.of(), holder.index());
+        release.countDown();
+
+        assertSame(first, second);
+        assertEquals(1, first.get(5, TimeUnit.SECONDS).version());
+        assertEquals("test-reload", loaderThread.get());
+        assertNotEquals(Thread.currentThread().getName(), loaderThread.get());
+        assertEquals(1, notified.get());
+        assertEquals(2, holder.reloadAsync().get(5, TimeUnit.SECONDS).version());
+    }
+}
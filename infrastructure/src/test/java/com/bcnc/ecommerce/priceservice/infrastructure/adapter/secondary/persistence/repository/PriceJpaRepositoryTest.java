@@ -2,9 +2,11 @@ package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persist
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.bcnc.ecommerce.priceservice.domain.model.PriceKey;
 import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.config.JpaTestConfig;
 import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.entity.PriceEntity;
 
@@ -67,7 +69,7 @@ class PriceJpaRepositoryTest {
                 .priceList(priceList)
                 .productId(PRODUCT_ID)
                 .priority(priority)
-                .price(price)
+                .priceMinor(price.movePointRight(2).longValueExact())
                 .curr("EUR")
                 .build();
     }
@@ -268,4 +270,78 @@ class PriceJpaRepositoryTest {
                 () -> assertEquals(price1, found.get(1))
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findCandidatePrices devuelve las tarifas que se solapan con el rango del lote")
+    void shouldReturnCandidatePrices_forBatchDateRange() {
+        // when
+        List<PriceEntity> found = repository.findCandidatePrices(
+                List.of(new PriceKey(PRODUCT_ID, BRAND_ID), new PriceKey(99999L, BRAND_ID)),
+                DATE_2020_06_14_15_00_00, DATE_2020_06_15_00_00_00);
+
+        // then: price4 empieza después y priceOffRange terminó antes
+        assertAll(
+                () -> assertEquals(3, found.size()),
+                () -> assertTrue(found.contains(price1)),
+                () -> assertTrue(found.contains(price2)),
+                () -> assertTrue(found.contains(price3))
+        );
+    }
+
+    @Test
+    @DisplayName("findCandidatePrices compara las claves como pares y no como producto cartesiano")
+    void shouldNotReturnCandidatesOfUnrequestedKeyCombinations() {
+        // given: la combinación (PRODUCT_ID, 2) no se pide aunque su producto y su cadena sí aparecen
+        PriceEntity otherBrand = PriceEntity.builder()
+                .brandId(2L)
+                .startDate(DATE_2020_06_14_00_00_00)
+                .endDate(DATE_2020_12_31_23_59_59)
+                .priceList(6)
+                .productId(PRODUCT_ID)
+                .priority(0)
+                .priceMinor(1000L)
+                .curr("EUR")
+                .build();
+        repository.save(otherBrand);
+
+        // when
+        List<PriceEntity> found = repository.findCandidatePrices(
+                List.of(new PriceKey(PRODUCT_ID, BRAND_ID), new PriceKey(99999L, 2L)),
+                DATE_2020_06_14_15_00_00, DATE_2020_06_15_00_00_00);
+
+        // then
+        assertAll(
+                () -> assertEquals(3, found.size()),
+                () -> assertTrue(found.stream().allMatch(p -> p.getBrandId().equals(BRAND_ID)))
+        );
+    }
+
+    @Test
+    @DisplayName("findByKeys devuelve todas las tarifas de las claves pedidas, comparadas como pares")
+    void shouldReturnAllPricesOfRequestedKeysOnly() {
+        // given: la combinación (PRODUCT_ID, 2) no se pide aunque su producto y su cadena sí aparecen
+        PriceEntity otherBrand = PriceEntity.builder()
+                .brandId(2L)
+                .startDate(DATE_2020_06_14_00_00_00)
+                .endDate(DATE_2020_12_31_23_59_59)
+                .priceList(6)
+                .productId(PRODUCT_ID)
+                .priority(0)
+                .priceMinor(1000L)
+                .curr("EUR")
+                .build();
+        repository.save(otherBrand);
+
+        // when
+        List<PriceEntity> found = repository.findByKeys(
+                List.of(new PriceKey(PRODUCT_ID, BRAND_ID), new PriceKey(99999L, 2L)));
+
+        // then
+        assertAll(
+                () -> assertFalse(found.isEmpty()),
+                () -> assertFalse(found.contains(otherBrand)),
+                () -> assertTrue(found.stream().allMatch(p -> p.getProductId().equals(PRODUCT_ID)
+                        && p.getBrandId().equals(BRAND_ID)))
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.entity.PriceEntity;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.mapper.PriceMapper;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class PriceSnapshotExporterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Exporta la tabla PRICES al fichero configurado al arrancar")
+    void shouldExportAllPrices() throws IOException {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        PriceJpaRepository priceJpaRepository = mock(PriceJpaRepository.class);
+        when(priceJpaRepository.findAll()).thenReturn(List.of(
+                createPriceEntity(start, start.plusDays(1), 1, 0, 3550L),
+                createPriceEntity(start.plusHours(15), start.plusHours(18), 2, 1, 2545L)));
+        Path file = tempDir.resolve("prices.snapshot");
+        PriceSnapshotExporter exporter = new PriceSnapshotExporter(
+                priceJpaRepository, new PriceMapper(), file.toString());
+
+        exporter.run(null);
+
+        assertTrue(Files.exists(file));
+        try (PriceSnapshot snapshot = PriceSnapshot.open(file)) {
+            assertEquals(2, snapshot.size());
+            assertEquals(new BigDecimal("25.45"), snapshot.toPrice(snapshot.findApplicable(
+                    PRODUCT_ID, BRAND_ID, start.plusHours(16))).getPrice());
+        }
+    }
+
+    private PriceEntity createPriceEntity(
+            final LocalDateTime start,
+            final LocalDateTime end,
+            final int priceList,
+            final int priority,
+            final long priceMinor
+    ) {
+        return PriceEntity.builder()
+                .brandId(BRAND_ID)
+                .startDate(start)
+                .endDate(end)
+                .priceList(priceList)
+                .productId(PRODUCT_ID)
+                .priority(priority)
+                .priceMinor(priceMinor)
+                .curr("EUR")
+                .build();
+    }
+}
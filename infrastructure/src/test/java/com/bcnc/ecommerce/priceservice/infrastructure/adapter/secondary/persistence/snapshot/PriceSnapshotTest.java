@@ -0,0 +1,206 @@
+package com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.persistence.index.ColumnarPriceStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+class PriceSnapshotTest {
+
+    private static final long PRODUCT_ID = 35455L;
+    private static final long BRAND_ID = 1L;
+
+    @TempDir
+    Path tempDir;
+
+    private Price createPrice(
+            final long productId,
+            final LocalDateTime start,
+            final LocalDateTime end,
+            final int priceList,
+            final int priority,
+            final String curr
+    ) {
+        return Price.builder()
+                .brandId(BRAND_ID)
+                .startDate(start)
+                .endDate(end)
+                .priceList(priceList)
+                .productId(productId)
+                .priority(priority)
+                .priceMinor(1_000L + priceList)
+                .curr(curr)
+                .build();
+    }
+
+    private List<Price> randomPrices(final Random random, final LocalDateTime base) {
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            LocalDateTime start = base.plusHours(random.nextInt(2000));
+            prices.add(createPrice(PRODUCT_ID + random.nextInt(5), start,
+                    start.plusHours(random.nextInt(200)), i, random.nextInt(1000),
+                    i % 3 == 0 ? "EUR" : i % 3 == 1 ? "JPY" : "USD"));
+        }
+        return prices;
+    }
+
+    private void assertSameAnswers(final ColumnarPriceStore store, final PriceSnapshot snapshot,
+                                   final Random random, final LocalDateTime base) {
+        for (int i = 0; i < 1_000; i++) {
+            long productId = PRODUCT_ID + random.nextInt(6);
+            LocalDateTime date = base.plusHours(random.nextInt(2300));
+            int expected = store.findApplicable(productId, BRAND_ID, date);
+            int row = snapshot.findApplicable(productId, BRAND_ID, date);
+            assertEquals(expected, row);
+            if (row != PriceSnapshot.NOT_FOUND) {
+                assertEquals(store.toPrice(expected), snapshot.toPrice(row));
+            }
+        }
+        for (long productId = PRODUCT_ID; productId < PRODUCT_ID + 6; productId++) {
+            assertEquals(store.findAll(productId, BRAND_ID),
+                    snapshot.findAll(productId, BRAND_ID));
+        }
+    }
+
+    @Test
+    @DisplayName("Responde igual que el almacén en columnas del que se escribió")
+    void shouldRoundTripColumnarStore() throws IOException {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        ColumnarPriceStore store = ColumnarPriceStore.of(randomPrices(random, base));
+        Path file = tempDir.resolve("prices.snapshot");
+
+        long bytes = PriceSnapshotWriter.write(store, file);
+
+        assertEquals(Files.size(file), bytes);
+        try (PriceSnapshot snapshot = PriceSnapshot.open(file)) {
+            assertEquals(store.size(), snapshot.size());
+            assertEquals(5, snapshot.keyCount());
+            assertEquals(file, snapshot.path());
+            assertSameAnswers(store, snapshot, random, base);
+        }
+    }
+
+    @Test
+    @DisplayName("Lee filas repartidas en varias regiones mapeadas")
+    void shouldReadAcrossMappedChunks() throws IOException {
+        Random random = new Random(7);
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        ColumnarPriceStore store = ColumnarPriceStore.of(randomPrices(random, base));
+        Path file = tempDir.resolve("prices.snapshot");
+        PriceSnapshotWriter.write(store, file);
+
+        // Trozos de 8 filas: 75 regiones para 600 tarifas.
+        try (PriceSnapshot snapshot = PriceSnapshot.open(file, 3)) {
+            assertSameAnswers(store, snapshot, random, base);
+        }
+    }
+
+    @Test
+    @DisplayName("Incluye los extremos de validez y resuelve prioridades")
+    void shouldHonourBoundsAndPriority() throws IOException {
+        LocalDateTime base = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Price wholeDay = createPrice(PRODUCT_ID, base, base.plusDays(1), 1, 0, "EUR");
+        Price afternoon = createPrice(PRODUCT_ID, base.plusHours(15), base.plusHours(18), 2, 1, "EUR");
+        Path file = tempDir.resolve("prices.snapshot");
+        PriceSnapshotWriter.write(ColumnarPriceStore.of(List.of(wholeDay, afternoon)), file);
+
+        try (PriceSnapshot snapshot = PriceSnapshot.open(file)) {
+            assertAll(
+                    () -> assertEquals(afternoon, snapshot.toPrice(
+                            snapshot.findApplicable(PRODUCT_ID, BRAND_ID, base.plusHours(18)))),
+                    () -> assertEquals(wholeDay, snapshot.toPrice(
+                            snapshot.findApplicable(PRODUCT_ID, BRAND_ID,
+                                    base.plusHours(18).plusNanos(1)))),
+                    () -> assertEquals(1_002L, snapshot.priceMinor(
+                            snapshot.findApplicable(PRODUCT_ID, BRAND_ID, base.plusHours(16)))),
+                    () -> assertEquals(PriceSnapshot.NOT_FOUND, snapshot.findApplicable(
+                            PRODUCT_ID, BRAND_ID, base.plusDays(1).plusNanos(1))),
+                    () -> assertEquals(PriceSnapshot.NOT_FOUND, snapshot.findApplicable(
+                            PRODUCT_ID, BRAND_ID + 1, base)),
+                    () -> assertThrows(IndexOutOfBoundsException.class,
+                            () -> snapshot.toPrice(2))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Escribe y abre una instantánea vacía")
+    void shouldHandleEmptySnapshot() throws IOException {
+        Path file = tempDir.resolve("empty.snapshot");
+        PriceSnapshotWriter.write(ColumnarPriceStore.empty(), file);
+
+        try (PriceSnapshot snapshot = PriceSnapshot.open(file)) {
+            assertEquals(0, snapshot.size());
+            assertEquals(PriceSnapshot.NOT_FOUND, snapshot.findApplicable(
+                    PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 0, 0)));
+            assertTrue(snapshot.findAll(PRODUCT_ID, BRAND_ID).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Sustituye una instantánea existente sin dejar temporales")
+    void shouldReplaceExistingSnapshot() throws IOException {
+        LocalDateTime base = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Path file = tempDir.resolve("prices.snapshot");
+        PriceSnapshotWriter.write(ColumnarPriceStore.empty(), file);
+        PriceSnapshotWriter.write(ColumnarPriceStore.of(List.of(
+                createPrice(PRODUCT_ID, base, base.plusDays(1), 1, 0, "EUR"))), file);
+
+        try (PriceSnapshot snapshot = PriceSnapshot.open(file)) {
+            assertEquals(1, snapshot.size());
+        }
+        try (var files = Files.list(tempDir)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Rechaza ficheros que no son instantáneas o están truncados")
+    void shouldRejectInvalidFiles() throws IOException {
+        LocalDateTime base = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Path file = tempDir.resolve("prices.snapshot");
+        PriceSnapshotWriter.write(ColumnarPriceStore.of(List.of(
+                createPrice(PRODUCT_ID, base, base.plusDays(1), 1, 0, "EUR"))), file);
+
+        Path truncated = tempDir.resolve("truncated.snapshot");
+        byte[] content = Files.readAllBytes(file);
+        Files.write(truncated, Arrays.copyOf(content, content.length - 1));
+
+        Path badVersion = tempDir.resolve("version.snapshot");
+        Files.copy(file, badVersion);
+        try (FileChannel channel = FileChannel.open(badVersion, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 99), 4);
+        }
+
+        Path notSnapshot = tempDir.resolve("prices.csv");
+        Files.writeString(notSnapshot, "BRAND_ID;START_DATE;END_DATE;PRICE_LIST;PRODUCT_ID;"
+                + "PRIORITY;PRICE;CURR\n1;2020-06-14;2020-12-31;1;35455;0;35.50;EUR\n");
+
+        assertAll(
+                () -> assertThrows(IOException.class, () -> PriceSnapshot.open(truncated)),
+                () -> assertThrows(IOException.class, () -> PriceSnapshot.open(badVersion)),
+                () -> assertThrows(IOException.class, () -> PriceSnapshot.open(notSnapshot)),
+                () -> assertThrows(IOException.class,
+                        () -> PriceSnapshot.open(tempDir.resolve("missing.snapshot")))
+        );
+    }
+}
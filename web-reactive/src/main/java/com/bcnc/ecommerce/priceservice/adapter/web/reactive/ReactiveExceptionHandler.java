@@ -0,0 +1,129 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.reactive;
+
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceErrorResponse;
+import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Manejador de excepciones de la API reactiva.
+ * <p>
+ * Traduce las excepciones de WebFlux a las mismas respuestas que
+ * {@code GlobalExceptionHandler} da en la API servlet, con idénticos
+ * mensajes, para que ambas variantes sean intercambiables para el cliente.
+ * </p>
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+    /**
+     * Logger de la clase.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    /**
+     * Mensaje de error genérico para excepciones no controladas.
+     */
+    private static final String MSG_INTERNAL_SERVER_ERROR =
+            "Error interno del servidor";
+    /**
+     * Mensaje base para errores de conversión de tipo en parámetros; se
+     * concatena con el nombre del parámetro.
+     */
+    private static final String MSG_TYPE_MISMATCH =
+            "Formato de parámetro inválido: ";
+    /**
+     * Mensaje base para parámetros requeridos que no se enviaron; se
+     * concatena con el nombre del parámetro.
+     */
+    private static final String MSG_MISSING_PARAMETER =
+            "Falta parámetro requerido: ";
+
+    /**
+     * Maneja la ausencia de un parámetro requerido.
+     *
+     * @param ex excepción con el nombre del parámetro.
+     * @return Respuesta HTTP 400 con nombre del parámetro faltante.
+     */
+    @ExceptionHandler(MissingRequestValueException.class)
+    public ResponseEntity<PriceErrorResponse> handleMissingParams(
+            final MissingRequestValueException ex) {
+        return buildResponse(HttpStatus.BAD_REQUEST, MSG_MISSING_PARAMETER
+                + ex.getName());
+    }
+
+    /**
+     * Maneja los parámetros que no pueden convertirse a su tipo.
+     *
+     * @param ex excepción de entrada con el parámetro afectado.
+     * @return Respuesta HTTP 400 con mensaje sobre el parámetro conflictivo.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<PriceErrorResponse> handleTypeMismatch(
+            final ServerWebInputException ex) {
+        MethodParameter parameter = ex.getMethodParameter();
+        if (parameter == null) {
+            return buildResponse(HttpStatus.BAD_REQUEST, ex.getReason());
+        }
+        return buildResponse(HttpStatus.BAD_REQUEST, MSG_TYPE_MISMATCH
+                + parameter.getParameterName());
+    }
+
+    /**
+     * Maneja violaciones de restricciones de validación.
+     *
+     * @param ex Excepción lanzada por Bean Validation.
+     * @return Respuesta HTTP 400 con mensaje del validador.
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<PriceErrorResponse> handleConstraintViolation(
+            final ConstraintViolationException ex) {
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    /**
+     * Conserva el estado de las excepciones propias de WebFlux (por
+     * ejemplo, 404 en rutas inexistentes).
+     *
+     * @param ex excepción con su estado HTTP.
+     * @return Respuesta HTTP con el estado de la excepción.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<PriceErrorResponse> handleResponseStatus(
+            final ResponseStatusException ex) {
+        HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+        if (status == null) {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+        return buildResponse(status, ex.getReason());
+    }
+
+    /**
+     * Maneja cualquier excepción no controlada.
+     *
+     * @param ex Excepción no capturada.
+     * @return Respuesta HTTP 500 con mensaje genérico.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<PriceErrorResponse> handleGeneric(
+            final Exception ex) {
+        LOGGER.error("Error no controlado en la API reactiva", ex);
+        return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+                MSG_INTERNAL_SERVER_ERROR);
+    }
+
+    private ResponseEntity<PriceErrorResponse> buildResponse(
+            final HttpStatus status,
+            final String message) {
+        return ResponseEntity.status(status)
+                .body(PriceErrorResponse.of(status, message));
+    }
+}
@@ -0,0 +1,95 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.reactive;
+
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceErrorResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.mapper.PriceResponseMapper;
+import com.bcnc.ecommerce.priceservice.application.reactive.ReactivePriceService;
+import com.bcnc.ecommerce.priceservice.domain.exception.PriceNotFoundException;
+import jakarta.validation.constraints.Min;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Controlador REST reactivo con el mismo contrato que
+ * {@code GET /prices/applicable} de la API servlet: mismos parámetros,
+ * mismo cuerpo de respuesta y mismos errores.
+ */
+@RestController
+@RequestMapping("/prices")
+@Validated
+public class ReactivePriceController {
+    /**
+     * Logger de la clase ReactivePriceController.
+     */
+    private static final Logger LOG = LoggerFactory
+            .getLogger(ReactivePriceController.class);
+
+    /**
+     * Caso de uso reactivo de precios.
+     */
+    private final ReactivePriceService priceService;
+
+    /**
+     * Mapeador de resultados de dominio a DTO de respuesta.
+     */
+    private final PriceResponseMapper responseMapper;
+
+    /**
+     * Constructor que inyecta el caso de uso y el mapeador.
+     *
+     * @param priceServiceParam caso de uso reactivo de precios.
+     * @param mapper            mapeador de respuestas.
+     */
+    public ReactivePriceController(
+            final ReactivePriceService priceServiceParam,
+            final PriceResponseMapper mapper) {
+        this.priceService = priceServiceParam;
+        this.responseMapper = mapper;
+    }
+
+    /**
+     * Calcula el precio aplicable dado un producto, cadena y fecha.
+     * <p>
+     * Como en la API servlet, el 404 se construye aquí cuando el caso de
+     * uso no emite ningún precio, sin lanzar excepciones.
+     * </p>
+     *
+     * @param applicationDate fecha y hora de aplicación del
+     *                        precio (en formato ISO).
+     * @param productId ID del producto.
+     * @param brandId ID de la cadena.
+     * @return respuesta con los datos del precio aplicable, o el error
+     *         404 si no hay ninguno.
+     */
+    @GetMapping("/applicable")
+    public Mono<ResponseEntity<Object>> getApplicablePrice(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime applicationDate,
+            @RequestParam @Min(0) final Long productId,
+            @RequestParam @Min(0) final Long brandId) {
+
+        LOG.debug("Recibida petición GET /applicable con applicationDate={}, "
+                        + "productId={}, brandId={}",
+                applicationDate, productId, brandId);
+
+        return priceService
+                .findApplicablePrice(applicationDate, productId, brandId)
+                .map(price -> ResponseEntity.ok()
+                        .<Object>body(responseMapper.toResponse(price)))
+                .switchIfEmpty(Mono.fromSupplier(() -> ResponseEntity
+                        .status(HttpStatus.NOT_FOUND)
+                        .body(PriceErrorResponse.of(HttpStatus.NOT_FOUND,
+                                PriceNotFoundException.message(productId,
+                                        brandId, applicationDate)))));
+    }
+}
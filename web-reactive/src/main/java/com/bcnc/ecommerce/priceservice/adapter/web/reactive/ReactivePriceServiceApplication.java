@@ -0,0 +1,26 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.reactive;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Punto de entrada de la variante reactiva de PriceService.
+ * <p>
+ * Solo escanea este paquete: los controladores servlet del módulo
+ * {@code web}, del que se reutilizan los DTO, no se registran.
+ */
+@SuppressWarnings("checkstyle:HideUtilityClassConstructor")
+@SpringBootApplication
+public class ReactivePriceServiceApplication {
+    /**
+     * Método principal que arranca la aplicación.
+     *
+     * @param args argumentos de línea de comandos (por ejemplo,
+     * {@code --server.port=8081})
+     */
+    public static void main(final String[] args) {
+        new SpringApplicationBuilder(ReactivePriceServiceApplication.class)
+            .profiles("default")
+            .run(args);
+    }
+}
@@ -0,0 +1,86 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.reactive.config;
+
+import com.bcnc.ecommerce.priceservice.adapter.web.config.SecurityProperties;
+import com.bcnc.ecommerce.priceservice.adapter.web.mapper.PriceResponseMapper;
+import com.bcnc.ecommerce.priceservice.adapter.web.reactive.security.TokenAuthenticationWebFilter;
+import com.bcnc.ecommerce.priceservice.application.reactive.ReactivePriceRepository;
+import com.bcnc.ecommerce.priceservice.application.reactive.ReactivePriceService;
+import com.bcnc.ecommerce.priceservice.application.reactive.ReactivePriceServiceImpl;
+import com.bcnc.ecommerce.priceservice.domain.service.PriceSelectionService;
+import com.bcnc.ecommerce.priceservice.infrastructure.adapter.secondary.r2dbc.R2dbcPriceRepositoryAdapter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Configuración de los beans de la aplicación reactiva.
+ * <p>
+ * El {@link DatabaseClient} lo crea la autoconfiguración de Spring Boot a
+ * partir de {@code spring.r2dbc.*}; aquí se componen sobre él el
+ * adaptador, el caso de uso y los componentes web reutilizados de la API
+ * servlet.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(SecurityProperties.class)
+public class ReactivePriceConfig {
+
+    /**
+     * Servicio de dominio de selección del precio aplicable.
+     *
+     * @return servicio de selección
+     */
+    @Bean
+    public PriceSelectionService priceSelectionService() {
+        return new PriceSelectionService();
+    }
+
+    /**
+     * Puerto de salida reactivo sobre R2DBC.
+     *
+     * @param databaseClient cliente R2DBC de la base de datos de precios
+     * @return repositorio reactivo
+     */
+    @Bean
+    public ReactivePriceRepository reactivePriceRepository(
+            final DatabaseClient databaseClient) {
+        return new R2dbcPriceRepositoryAdapter(databaseClient);
+    }
+
+    /**
+     * Caso de uso reactivo de búsqueda del precio aplicable.
+     *
+     * @param repository       puerto de salida reactivo
+     * @param selectionService servicio de dominio de selección
+     * @return caso de uso reactivo
+     */
+    @Bean
+    public ReactivePriceService reactivePriceService(
+            final ReactivePriceRepository repository,
+            final PriceSelectionService selectionService) {
+        return new ReactivePriceServiceImpl(repository, selectionService);
+    }
+
+    /**
+     * Mapeador de la API servlet, para responder con los mismos DTO.
+     *
+     * @return mapeador de respuestas
+     */
+    @Bean
+    public PriceResponseMapper priceResponseMapper() {
+        return new PriceResponseMapper();
+    }
+
+    /**
+     * Filtro de autenticación por token.
+     *
+     * @param securityProperties propiedades con el token esperado
+     * @return filtro de autenticación
+     */
+    @Bean
+    public TokenAuthenticationWebFilter tokenAuthenticationWebFilter(
+            final SecurityProperties securityProperties) {
+        return new TokenAuthenticationWebFilter(securityProperties.getToken());
+    }
+}
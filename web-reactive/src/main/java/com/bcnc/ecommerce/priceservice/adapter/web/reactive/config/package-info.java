@@ -0,0 +1,8 @@
+/**
+ * Configuración de la aplicación reactiva.
+ * <p>
+ * Declara los casos de uso reactivos, el adaptador R2DBC y el filtro de
+ * autenticación, que la aplicación servlet no registra.
+ * </p>
+ */
+package com.bcnc.ecommerce.priceservice.adapter.web.reactive.config;
@@ -0,0 +1,16 @@
+/**
+ * Variante reactiva (WebFlux) de la API de precios.
+ * <p>
+ * Publica el mismo contrato que la API servlet sobre una pila no
+ * bloqueante, con su propio punto de entrada:
+ * </p>
+ * <ul>
+ *   <li><b>ReactivePriceServiceApplication</b>: arranca la aplicación
+ *   reactiva.</li>
+ *   <li><b>ReactivePriceController</b>: expone
+ *   {@code GET /prices/applicable}.</li>
+ *   <li><b>ReactiveExceptionHandler</b>: traduce las excepciones en las
+ *   mismas respuestas de error que la API servlet.</li>
+ * </ul>
+ */
+package com.bcnc.ecommerce.priceservice.adapter.web.reactive;
@@ -0,0 +1,129 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.reactive.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Filtro WebFlux que valida que cada petición incluya el token Bearer
+ * esperado en la cabecera Authorization.
+ * <p>
+ * Equivale a {@code TokenAuthenticationFilter} de la API servlet: mismas
+ * rutas públicas (solo en lectura) y misma respuesta 401, con la cabecera
+ * {@code WWW-Authenticate}. No necesita Spring Security: la API no tiene
+ * más reglas de acceso que el token.
+ * </p>
+ */
+public class TokenAuthenticationWebFilter implements WebFilter {
+    /**
+     * Logger de la clase.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(TokenAuthenticationWebFilter.class);
+
+    /**
+     * Prefijos de rutas públicas que no requieren autenticación.
+     */
+    private static final String[] PUBLIC_PATHS = {
+            "/actuator", "/swagger-ui", "/v3/api-docs"
+    };
+
+    /**
+     * Cuerpo de la respuesta 401.
+     */
+    private static final byte[] UNAUTHORIZED_BODY = """
+            {
+                "error": "Unauthorized",
+                "message": "Invalid or missing Bearer token"
+            }
+            """.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Cabecera Authorization esperada.
+     */
+    private final String bearerToken;
+
+    /**
+     * Constructor del filtro.
+     *
+     * @param token el token que debe recibirse en la cabecera
+     *              Authorization
+     */
+    public TokenAuthenticationWebFilter(final String token) {
+        this.bearerToken = "Bearer " + token;
+    }
+
+    /**
+     * Deja pasar las rutas públicas y las peticiones con el token correcto;
+     * al resto responde 401.
+     *
+     * @param exchange petición y respuesta HTTP
+     * @param chain    resto de la cadena de filtros
+     * @return finalización del procesamiento
+     */
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange,
+                             final WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+        if (isPublicPath(path) && isReadOnly(request.getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        String authHeader = request.getHeaders()
+                .getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null
+                && authHeader.trim().equalsIgnoreCase(bearerToken)) {
+            return chain.filter(exchange);
+        }
+
+        LOGGER.warn("Unauthorized access attempt to '{}' from IP {}",
+                path, request.getRemoteAddress());
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE,
+                "Bearer realm=\"price-service\"");
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer body = response.bufferFactory().wrap(UNAUTHORIZED_BODY);
+        return response.writeWith(Mono.just(body));
+    }
+
+    /**
+     * Verifica si la ruta es pública y puede omitirse la autenticación.
+     *
+     * @param path ruta del request
+     * @return {@code true} si la ruta empieza por alguno de los prefijos
+     * públicos
+     */
+    private boolean isPublicPath(final String path) {
+        for (String publicPath : PUBLIC_PATHS) {
+            if (path.startsWith(publicPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica si el método HTTP solo lee.
+     *
+     * @param method método del request
+     * @return {@code true} para {@code GET}, {@code HEAD} y {@code OPTIONS}
+     */
+    private boolean isReadOnly(final HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)
+                || HttpMethod.OPTIONS.equals(method);
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Autenticación por token de la API reactiva.
+ *
+ * <ul>
+ *   <li><b>TokenAuthenticationWebFilter</b>: equivalente WebFlux del filtro
+ *   de la API servlet, con las mismas rutas públicas y la misma respuesta
+ *   401.</li>
+ * </ul>
+ */
+package com.bcnc.ecommerce.priceservice.adapter.web.reactive.security;
@@ -0,0 +1,163 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.reactive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.hamcrest.Matchers.containsString;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@DisplayName("Tests de integración para ReactivePriceController")
+public class ReactivePriceControllerIntegrationTest
+{
+    private static final String AUTH_HEADER = "Bearer 12345678";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private WebTestClient.ResponseSpec getPrice(final String date, final String productId, final String brandId)
+    {
+        return webTestClient.get()
+                .uri(uri -> uri.path("/prices/applicable")
+                        .queryParam("applicationDate", date)
+                        .queryParam("productId", productId)
+                        .queryParam("brandId", brandId)
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+    }
+
+    private void expectPrice(final String date, final int priceList, final double price)
+    {
+        getPrice(date, "35455", "1")
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.productId").isEqualTo(35455)
+                .jsonPath("$.brandId").isEqualTo(1)
+                .jsonPath("$.priceList").isEqualTo(priceList)
+                .jsonPath("$.price").isEqualTo(price)
+                .jsonPath("$.curr").isEqualTo("EUR");
+    }
+
+    @Nested
+    @DisplayName("Casos con precio aplicable")
+    class PriceAvailableTests
+    {
+        @Test
+        @DisplayName("Tarifa 1 el 14 de junio a las 10:00")
+        void testGetPriceAt10AMOnDay14()
+        {
+            expectPrice("2020-06-14T10:00:00", 1, 35.50);
+        }
+
+        @Test
+        @DisplayName("Tarifa 2 el 14 de junio a las 16:00")
+        void testGetPriceAt4PMOnDay14()
+        {
+            expectPrice("2020-06-14T16:00:00", 2, 25.45);
+        }
+
+        @Test
+        @DisplayName("Tarifa 1 el 14 de junio a las 21:00")
+        void testGetPriceAt9PMOnDay14()
+        {
+            expectPrice("2020-06-14T21:00:00", 1, 35.50);
+        }
+
+        @Test
+        @DisplayName("Tarifa 3 el 15 de junio a las 10:00")
+        void testGetPriceAt10AMOnDay15()
+        {
+            expectPrice("2020-06-15T10:00:00", 3, 30.50);
+        }
+
+        @Test
+        @DisplayName("Tarifa 4 el 16 de junio a las 21:00")
+        void testGetPriceAt9PMOnDay16()
+        {
+            expectPrice("2020-06-16T21:00:00", 4, 38.95);
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos de error")
+    class ErrorTests
+    {
+        @Test
+        @DisplayName("Devuelve 404 con el mismo mensaje que la API servlet")
+        void testPriceNotFound_shouldReturn404()
+        {
+            getPrice("2020-06-13T10:00:00", "35455", "1")
+                    .expectStatus().isNotFound()
+                    .expectBody()
+                    .jsonPath("$.status").isEqualTo(404)
+                    .jsonPath("$.error").isEqualTo("Not Found")
+                    .jsonPath("$.message").value(containsString("35455"));
+        }
+
+        @Test
+        @DisplayName("Devuelve 400 si falta un parámetro")
+        void testMissingParameter_shouldReturn400()
+        {
+            webTestClient.get()
+                    .uri("/prices/applicable?productId=35455&brandId=1")
+                    .header(HttpHeaders.AUTHORIZATION, AUTH_HEADER)
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("Falta parámetro requerido: applicationDate");
+        }
+
+        @Test
+        @DisplayName("Devuelve 400 si la fecha no tiene formato ISO")
+        void testInvalidDate_shouldReturn400()
+        {
+            getPrice("14-06-2020", "35455", "1")
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("Formato de parámetro inválido: applicationDate");
+        }
+
+        @Test
+        @DisplayName("Devuelve 400 si un identificador es negativo")
+        void testNegativeProductId_shouldReturn400()
+        {
+            getPrice("2020-06-14T10:00:00", "-1", "1")
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.message").value(containsString("productId"));
+        }
+
+        @Test
+        @DisplayName("Devuelve 401 sin token, con la cabecera WWW-Authenticate")
+        void testMissingToken_shouldReturn401()
+        {
+            webTestClient.get()
+                    .uri("/prices/applicable?applicationDate=2020-06-14T10:00:00&productId=35455&brandId=1")
+                    .exchange()
+                    .expectStatus().isUnauthorized()
+                    .expectHeader().valueEquals(HttpHeaders.WWW_AUTHENTICATE, "Bearer realm=\"price-service\"")
+                    .expectBody()
+                    .jsonPath("$.error").isEqualTo("Unauthorized")
+                    .jsonPath("$.message").isEqualTo("Invalid or missing Bearer token");
+        }
+
+        @Test
+        @DisplayName("Actuator es público")
+        void testActuatorIsPublic()
+        {
+            webTestClient.get()
+                    .uri("/actuator/health")
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+    }
+}
@@ -5,9 +5,13 @@ import com.bcnc.ecommerce.priceservice.domain.exception.PriceNotFoundException;
 
 import jakarta.validation.ConstraintViolationException;
 
-import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -53,9 +57,25 @@ public class GlobalExceptionHandler {
      */
     private static final String MSG_MISSING_PARAMETER =
             "Falta parámetro requerido: ";
+    /**
+     * Mensaje de error para cuerpos de petición que no pueden leerse
+     * (JSON mal formado o con tipos incorrectos).
+     */
+    private static final String MSG_UNREADABLE_BODY =
+            "Cuerpo de la petición inválido o mal formado";
+    /**
+     * Mensaje de error para búsquedas asíncronas rechazadas o que no
+     * terminan a tiempo.
+     */
+    private static final String MSG_UNAVAILABLE =
+            "Servicio saturado, inténtelo de nuevo más tarde";
 
     /**
      * Maneja errores cuando no se encuentra un precio aplicable.
+     * <p>
+     * {@code GET /prices/applicable} ya responde el 404 sin lanzar la
+     * excepción; este manejador queda para el resto de llamantes.
+     * </p>
      *
      * @param ex Excepción personalizada lanzada desde el caso de uso.
      * @return Respuesta HTTP 404 con mensaje informativo.
@@ -119,6 +139,51 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    /**
+     * Maneja errores de validación del cuerpo de la petición
+     * ({@code @Valid @RequestBody}).
+     *
+     * @param ex Excepción lanzada cuando el cuerpo incumple alguna
+     *           restricción de validación.
+     * @return Respuesta HTTP 400 con los campos inválidos.
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<PriceErrorResponse> handleMethodArgumentNotValid(
+            final MethodArgumentNotValidException ex) {
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> error.getField() + ": "
+                        + error.getDefaultMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        return buildResponse(HttpStatus.BAD_REQUEST, message);
+    }
+
+    /**
+     * Maneja errores cuando el cuerpo de la petición no puede leerse.
+     *
+     * @param ex Excepción lanzada por Spring al deserializar el cuerpo.
+     * @return Respuesta HTTP 400 con mensaje genérico.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<PriceErrorResponse> handleMessageNotReadable(
+            final HttpMessageNotReadableException ex) {
+        return buildResponse(HttpStatus.BAD_REQUEST, MSG_UNREADABLE_BODY);
+    }
+
+    /**
+     * Maneja las búsquedas asíncronas que el ejecutor rechaza por estar
+     * saturado o que superan su tiempo máximo de respuesta.
+     *
+     * @param ex Excepción de rechazo o de tiempo agotado.
+     * @return Respuesta HTTP 503 con mensaje genérico.
+     */
+    @ExceptionHandler({RejectedExecutionException.class,
+            TimeoutException.class})
+    public ResponseEntity<PriceErrorResponse> handleUnavailable(
+            final Exception ex) {
+        return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, MSG_UNAVAILABLE);
+    }
+
     /**
      * Manejador genérico para cualquier otra excepción no controlada.
      *
@@ -143,10 +208,8 @@ public class GlobalExceptionHandler {
     private ResponseEntity<PriceErrorResponse> buildResponse(
             final HttpStatus status,
             final String message) {
-        PriceErrorResponse priceErrorResponse =
-                new PriceErrorResponse(LocalDateTime.now(), status.value(),
-                        status.getReasonPhrase(), message);
-        return ResponseEntity.status(status).body(priceErrorResponse);
+        return ResponseEntity.status(status)
+                .body(PriceErrorResponse.of(status, message));
     }
 }
 
@@ -1,9 +1,16 @@
 package com.bcnc.ecommerce.priceservice.adapter.web;
 
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceBatchItemResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceBatchRequest;
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceBatchResponse;
 import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceErrorResponse;
 import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.mapper.PriceResponseMapper;
+import com.bcnc.ecommerce.priceservice.adapter.web.stream.PriceNdjsonStreamer;
 import com.bcnc.ecommerce.priceservice.application.PriceService;
+import com.bcnc.ecommerce.priceservice.domain.exception.PriceNotFoundException;
 import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -13,22 +20,32 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
- * Controlador REST que expone un endpoint para consultar el precio aplicable
- * a un producto de una cadena en una fecha determinada.
+ * Controlador REST que expone los endpoints para consultar el precio
+ * aplicable a un producto de una cadena en una fecha determinada, de forma
+ * individual, en bloque o en streaming.
  */
 @RestController
 @RequestMapping("/prices")
@@ -46,23 +63,46 @@ public class PriceController {
     private final PriceService priceService;
 
     /**
-     * Constructor que inyecta el servicio de precios.
+     * Mapeador de resultados de dominio a DTO de respuesta.
+     */
+    private final PriceResponseMapper responseMapper;
+
+    /**
+     * Componente que resuelve consultas NDJSON en streaming.
+     */
+    private final PriceNdjsonStreamer ndjsonStreamer;
+
+    /**
+     * Constructor que inyecta el servicio de precios y sus colaboradores
+     * de la capa web.
      *
      * @param priceServiceParam servicio de precios.
+     * @param mapper            mapeador de respuestas.
+     * @param streamer          componente de streaming NDJSON.
      */
-    public PriceController(final PriceService priceServiceParam) {
+    public PriceController(final PriceService priceServiceParam,
+                           final PriceResponseMapper mapper,
+                           final PriceNdjsonStreamer streamer) {
         this.priceService = priceServiceParam;
+        this.responseMapper = mapper;
+        this.ndjsonStreamer = streamer;
     }
 
     /**
      * Endpoint que calcula el precio aplicable dado un producto, caden
      * y fecha.
+     * <p>
+     * La ausencia de precio es un resultado habitual: el 404 se construye
+     * aquí, sin lanzar {@code PriceNotFoundException} ni pasar por
+     * {@link GlobalExceptionHandler}, con el mismo cuerpo que este.
+     * </p>
      *
      * @param applicationDate fecha y hora de aplicación del
      *                        precio (en formato ISO).
      * @param productId ID del producto.
      * @param brandId ID de la cadena.
-     * @return respuesta con los datos del precio aplicable.
+     * @return respuesta con los datos del precio aplicable, o el error
+     *         404 si no hay ninguno.
      */
     @Operation(summary =
             "Obtiene el precio aplicable a un producto para una fecha dada")
@@ -123,7 +163,7 @@ public class PriceController {
             )
     })
     @GetMapping("/applicable")
-    public ResponseEntity<PriceResponse> getApplicablePrice(
+    public ResponseEntity<?> getApplicablePrice(
             @Parameter(
                     name = "applicationDate",
                     in = ParameterIn.QUERY,
@@ -160,28 +200,212 @@ public class PriceController {
                         + "productId={}, brandId={}",
                 applicationDate, productId, brandId);
 
-        Price price = priceService.findApplicablePrice(applicationDate,
-                productId, brandId);
+        return applicablePriceResponse(applicationDate, productId, brandId);
+    }
 
-        LOG.info("Precio calculado devuelto: {}", price);
-        return ResponseEntity.ok(mapToResponse(price));
+    /**
+     * Variante de {@code GET /applicable} para el precio vigente: la fecha
+     * es opcional y, si no se indica, se usa el reloj del servidor.
+     * <p>
+     * Con {@code price.current.enabled=true} estas consultas se resuelven
+     * desde la tabla de precios vigentes, sin acceder al almacenamiento.
+     * </p>
+     *
+     * @param applicationDate fecha y hora de aplicación (en formato ISO);
+     *                        por defecto, ahora.
+     * @param productId ID del producto.
+     * @param brandId ID de la cadena.
+     * @return respuesta con los datos del precio aplicable, o el error
+     *         404 si no hay ninguno.
+     */
+    @Operation(summary =
+            "Obtiene el precio vigente de un producto (por defecto, ahora)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Precio calculado correctamente",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation
+                                    = PriceResponse.class))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Parámetros de entrada inválidos o faltantes",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation
+                                    = PriceErrorResponse.class))
+            ),
+            @ApiResponse(responseCode = "404", description
+                    = "No se encontró tarifa aplicable",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation
+                                    = PriceErrorResponse.class))
+            )
+    })
+    @GetMapping("/applicable/now")
+    public ResponseEntity<?> getCurrentPrice(
+            @Parameter(
+                    name = "applicationDate",
+                    in = ParameterIn.QUERY,
+                    description = "Fecha y hora de aplicación en formato "
+                            + "ISO-8601; por defecto, la del servidor",
+                    example = "2020-06-14T10:00:00",
+                    schema = @Schema(type = "string", format = "date-time")
+            )
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime applicationDate,
+
+            @Parameter(
+                    name = "productId",
+                    description = "ID del producto",
+                    required = true,
+                    example = "35455",
+                    schema = @Schema(type = "integer", format = "int64",
+                            minimum = "0")
+            )
+            @RequestParam @Min(0) final Long productId,
+
+            @Parameter(
+                    name = "brandId",
+                    description = "ID de la cadena",
+                    required = true,
+                    example = "1",
+                    schema = @Schema(type = "integer", format = "int64",
+                            minimum = "0")
+            )
+            @RequestParam @Min(0) final Long brandId) {
+
+        LocalDateTime date = applicationDate != null ? applicationDate
+                : LocalDateTime.now();
+        LOG.info("Recibida petición GET /applicable/now con applicationDate={},"
+                        + " productId={}, brandId={}",
+                date, productId, brandId);
+
+        return applicablePriceResponse(date, productId, brandId);
+    }
+
+    /**
+     * Endpoint que calcula en bloque el precio aplicable de varias
+     * consultas (producto, cadena y fecha) con un único acceso al
+     * almacenamiento.
+     * <p>
+     * Las consultas sin tarifa aplicable no hacen fallar la petición: se
+     * devuelven como elementos con {@code status} 404 dentro de la
+     * respuesta, en la misma posición que ocupaban en la petición.
+     * </p>
+     *
+     * @param request lote de consultas a resolver.
+     * @return respuesta con un resultado por consulta.
+     */
+    @Operation(summary =
+            "Obtiene en bloque el precio aplicable de varias consultas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Lote resuelto; cada elemento indica su "
+                            + "propio estado (200 o 404)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation
+                                    = PriceBatchResponse.class))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Cuerpo de la petición inválido o lote "
+                            + "vacío o demasiado grande",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation
+                                    = PriceErrorResponse.class))
+            ),
+            @ApiResponse(responseCode = "500", description =
+                    "Error interno del servidor",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation =
+                                    PriceErrorResponse.class))
+            )
+    })
+    @PostMapping("/applicable:batch")
+    public ResponseEntity<PriceBatchResponse> getApplicablePrices(
+            @Valid @RequestBody final PriceBatchRequest request) {
+
+        LOG.info("Recibida petición POST /applicable:batch con {} consultas",
+                request.queries().size());
+
+        List<PriceQuery> queries = request.queries().stream()
+                .map(query -> new PriceQuery(query.applicationDate(),
+                        query.productId(), query.brandId()))
+                .toList();
+
+        List<PriceBatchItemResponse> results = priceService
+                .findApplicablePrices(queries).stream()
+                .map(responseMapper::toItemResponse)
+                .toList();
+
+        return ResponseEntity.ok(new PriceBatchResponse(results));
+    }
+
+    /**
+     * Endpoint que resuelve en streaming un número arbitrario de consultas
+     * en formato NDJSON (una consulta JSON por línea).
+     * <p>
+     * Los resultados se escriben, también en NDJSON, a medida que se
+     * resuelve cada lote de consultas, por lo que la memoria usada no
+     * depende del tamaño de la entrada. Cada línea de salida tiene el
+     * formato de un elemento de {@link PriceBatchItemResponse} y los errores
+     * de cada consulta se informan en su propia línea.
+     * </p>
+     *
+     * @param request  petición con el cuerpo NDJSON.
+     * @param response respuesta donde se escriben los resultados.
+     * @throws IOException si falla la lectura o la escritura.
+     */
+    @Operation(summary =
+            "Obtiene en streaming el precio aplicable de consultas NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Un resultado NDJSON por consulta; cada "
+                            + "línea indica su propio estado",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation
+                                    = PriceBatchItemResponse.class))
+            )
+    })
+    @PostMapping(value = "/applicable:stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamApplicablePrices(final HttpServletRequest request,
+                                       final HttpServletResponse response)
+            throws IOException {
+
+        LOG.info("Recibida petición POST /applicable:stream");
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        ndjsonStreamer.stream(request.getInputStream(),
+                response.getOutputStream());
     }
 
     /**
-     * Mapea el objeto dominio {@link Price} a un DTO {@link PriceResponse}.
+     * Busca el precio aplicable y construye la respuesta: 200 con el
+     * precio o 404 con el mismo cuerpo que {@link GlobalExceptionHandler}.
      *
-     * @param price objeto dominio Price
-     * @return DTO PriceResponse
+     * @param applicationDate fecha de aplicación.
+     * @param productId       ID del producto.
+     * @param brandId         ID de la cadena.
+     * @return respuesta 200 o 404.
      */
-    private PriceResponse mapToResponse(final Price price) {
-        return new PriceResponse(
-                price.getProductId(),
-                price.getBrandId(),
-                price.getPriceList(),
-                price.getStartDate(),
-                price.getEndDate(),
-                price.getPrice(),
-                price.getCurr()
-        );
+    private ResponseEntity<?> applicablePriceResponse(
+            final LocalDateTime applicationDate,
+            final Long productId,
+            final Long brandId) {
+        Price price = priceService.findApplicablePriceOrNull(applicationDate,
+                productId, brandId);
+        if (price == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(PriceErrorResponse.of(HttpStatus.NOT_FOUND,
+                            PriceNotFoundException.message(productId, brandId,
+                                    applicationDate)));
+        }
+
+        LOG.info("Precio calculado devuelto: {}", price);
+        return ResponseEntity.ok(responseMapper.toResponse(price));
     }
 }
@@ -0,0 +1,49 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.async;
+
+import com.bcnc.ecommerce.priceservice.application.AsyncPriceService;
+import com.bcnc.ecommerce.priceservice.application.PriceService;
+import com.bcnc.ecommerce.priceservice.application.impl.AsyncPriceServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de las búsquedas asíncronas
+ * ({@code price.async.enabled=true}).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "price.async", name = "enabled",
+        havingValue = "true")
+@EnableConfigurationProperties(AsyncPriceProperties.class)
+public class AsyncPriceConfig {
+
+    /**
+     * Ejecutor dedicado de las búsquedas asíncronas.
+     *
+     * @param properties hilos y capacidad de la cola
+     * @param registry   registro de métricas
+     * @return ejecutor de búsquedas
+     */
+    @Bean
+    public PriceLookupExecutor priceLookupExecutor(
+            final AsyncPriceProperties properties,
+            final MeterRegistry registry) {
+        return new PriceLookupExecutor(properties, registry);
+    }
+
+    /**
+     * Caso de uso asíncrono sobre el síncrono.
+     *
+     * @param priceService caso de uso síncrono
+     * @param executor     ejecutor de búsquedas
+     * @return caso de uso asíncrono
+     */
+    @Bean
+    public AsyncPriceService asyncPriceService(
+            final PriceService priceService,
+            final PriceLookupExecutor executor) {
+        return new AsyncPriceServiceImpl(priceService, executor.executor());
+    }
+}
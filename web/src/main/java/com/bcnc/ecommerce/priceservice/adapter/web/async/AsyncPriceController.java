@@ -0,0 +1,174 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.async;
+
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceBatchItemResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceBatchRequest;
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceBatchResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceErrorResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.mapper.PriceResponseMapper;
+import com.bcnc.ecommerce.priceservice.application.AsyncPriceService;
+import com.bcnc.ecommerce.priceservice.application.PriceLookupResult;
+import com.bcnc.ecommerce.priceservice.domain.exception.PriceNotFoundException;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Variante asíncrona de {@code GET /prices/applicable} y
+ * {@code POST /prices/applicable:batch}, con los mismos parámetros y
+ * respuestas, bajo {@code /prices/async}.
+ * <p>
+ * Cada endpoint devuelve un {@link CompletableFuture}: Spring MVC libera
+ * el hilo de Tomcat en cuanto la búsqueda se encola y completa la
+ * respuesta desde el ejecutor de búsquedas. Con el ejecutor saturado o
+ * pasado {@code price.async.timeout}, la respuesta es un 503; en el
+ * segundo caso, además, la búsqueda se descarta si sigue en cola.
+ * </p>
+ */
+@RestController
+@RequestMapping("/prices/async")
+@Validated
+@ConditionalOnProperty(prefix = "price.async", name = "enabled",
+        havingValue = "true")
+public class AsyncPriceController {
+    /**
+     * Logger de la clase AsyncPriceController.
+     */
+    private static final Logger LOG = LoggerFactory
+            .getLogger(AsyncPriceController.class);
+
+    /**
+     * Caso de uso asíncrono de precios.
+     */
+    private final AsyncPriceService priceService;
+
+    /**
+     * Mapeador de resultados de dominio a DTO de respuesta.
+     */
+    private final PriceResponseMapper responseMapper;
+
+    /**
+     * Tiempo máximo de respuesta de una búsqueda.
+     */
+    private final Duration timeout;
+
+    /**
+     * Constructor que inyecta el caso de uso asíncrono y el mapeador.
+     *
+     * @param asyncPriceService caso de uso asíncrono de precios.
+     * @param mapper            mapeador de respuestas.
+     * @param properties        propiedades con el tiempo máximo de
+     *                          respuesta.
+     */
+    public AsyncPriceController(final AsyncPriceService asyncPriceService,
+                                final PriceResponseMapper mapper,
+                                final AsyncPriceProperties properties) {
+        this.priceService = asyncPriceService;
+        this.responseMapper = mapper;
+        this.timeout = properties.getTimeout();
+    }
+
+    /**
+     * Calcula de forma asíncrona el precio aplicable dado un producto,
+     * cadena y fecha.
+     *
+     * @param applicationDate fecha y hora de aplicación del
+     *                        precio (en formato ISO).
+     * @param productId ID del producto.
+     * @param brandId ID de la cadena.
+     * @return futuro con la respuesta 200 con el precio aplicable, o 404
+     *         si no hay ninguno.
+     */
+    @Operation(summary = "Obtiene de forma asíncrona el precio aplicable a "
+            + "un producto para una fecha dada")
+    @GetMapping("/applicable")
+    public CompletableFuture<ResponseEntity<?>> getApplicablePrice(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime applicationDate,
+            @RequestParam @Min(0) final Long productId,
+            @RequestParam @Min(0) final Long brandId) {
+
+        LOG.info("Recibida petición GET /async/applicable con "
+                        + "applicationDate={}, productId={}, brandId={}",
+                applicationDate, productId, brandId);
+
+        return withTimeout(priceService
+                .findApplicablePriceAsync(applicationDate, productId, brandId))
+                .thenApply(this::toResponse);
+    }
+
+    /**
+     * Calcula de forma asíncrona y en bloque el precio aplicable de varias
+     * consultas, con un único acceso al almacenamiento.
+     *
+     * @param request lote de consultas a resolver.
+     * @return futuro con un resultado por consulta.
+     */
+    @Operation(summary = "Obtiene de forma asíncrona y en bloque el precio "
+            + "aplicable de varias consultas")
+    @PostMapping("/applicable:batch")
+    public CompletableFuture<ResponseEntity<PriceBatchResponse>>
+            getApplicablePrices(
+                    @Valid @RequestBody final PriceBatchRequest request) {
+
+        LOG.info("Recibida petición POST /async/applicable:batch con {} "
+                + "consultas", request.queries().size());
+
+        List<PriceQuery> queries = request.queries().stream()
+                .map(query -> new PriceQuery(query.applicationDate(),
+                        query.productId(), query.brandId()))
+                .toList();
+
+        return withTimeout(priceService.findApplicablePricesAsync(queries))
+                .thenApply(results -> {
+                    List<PriceBatchItemResponse> items = results.stream()
+                            .map(responseMapper::toItemResponse)
+                            .toList();
+                    return ResponseEntity.ok(new PriceBatchResponse(items));
+                });
+    }
+
+    /**
+     * Construye la respuesta de una búsqueda: 200 con el precio o 404 con
+     * el mismo cuerpo que {@code GET /prices/applicable}.
+     */
+    private ResponseEntity<?> toResponse(final PriceLookupResult result) {
+        PriceQuery query = result.query();
+        if (!result.found()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(PriceErrorResponse.of(HttpStatus.NOT_FOUND,
+                            PriceNotFoundException.message(query.productId(),
+                                    query.brandId(),
+                                    query.applicationDate())));
+        }
+        return ResponseEntity.ok(responseMapper.toResponse(result.price()));
+    }
+
+    /**
+     * Acota el futuro del servicio, no el de la respuesta derivada de él:
+     * al vencer, el servicio descarta la búsqueda si aún no ha empezado.
+     */
+    private <T> CompletableFuture<T> withTimeout(
+            final CompletableFuture<T> future) {
+        return future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,79 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.async;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de las búsquedas asíncronas ({@code price.async.*}).
+ *
+ * <p>Ejemplo:</p>
+ * <pre>
+ * price.async.enabled=true
+ * price.async.threads=16
+ * price.async.queue-capacity=256
+ * price.async.timeout=5s
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "price.async")
+public class AsyncPriceProperties {
+
+    /**
+     * Hilos del ejecutor de búsquedas.
+     */
+    private int threads = 16;
+
+    /**
+     * Búsquedas que pueden esperar en cola con todos los hilos ocupados;
+     * las siguientes se rechazan.
+     */
+    private int queueCapacity = 256;
+
+    /**
+     * Tiempo máximo de respuesta de una búsqueda, incluida la espera en
+     * cola.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * @return hilos del ejecutor de búsquedas
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @param threadsParam hilos del ejecutor de búsquedas
+     */
+    public void setThreads(final int threadsParam) {
+        this.threads = threadsParam;
+    }
+
+    /**
+     * @return capacidad de la cola de búsquedas
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * @param queueCapacityParam capacidad de la cola de búsquedas
+     */
+    public void setQueueCapacity(final int queueCapacityParam) {
+        this.queueCapacity = queueCapacityParam;
+    }
+
+    /**
+     * @return tiempo máximo de respuesta de una búsqueda
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @param timeoutParam tiempo máximo de respuesta de una búsqueda
+     */
+    public void setTimeout(final Duration timeoutParam) {
+        this.timeout = timeoutParam;
+    }
+}
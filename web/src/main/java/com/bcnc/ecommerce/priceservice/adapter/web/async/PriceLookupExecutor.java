@@ -0,0 +1,121 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ejecutor dedicado y acotado de las búsquedas asíncronas.
+ * <p>
+ * Un número fijo de hilos y una cola de capacidad fija: con ambos llenos,
+ * las búsquedas se rechazan con
+ * {@link java.util.concurrent.RejectedExecutionException} en lugar de
+ * acumularse sin límite. Publica las métricas {@code executor.*} de
+ * Micrometer con {@code name=}{@value #NAME} (entre ellas
+ * {@code executor.queued}, la profundidad de la cola, y
+ * {@code executor.active}), además de {@value #METRIC_REJECTED} y
+ * {@value #METRIC_SATURATION}.
+ * </p>
+ * <p>
+ * No es un {@link Executor}, sino que lo expone con {@link #executor()}:
+ * un bean de ese tipo haría que Spring Boot no creara su ejecutor de
+ * tareas por defecto.
+ * </p>
+ */
+public class PriceLookupExecutor implements AutoCloseable {
+
+    /**
+     * Nombre del ejecutor en sus métricas y sus hilos.
+     */
+    public static final String NAME = "price-lookup";
+
+    /**
+     * Métrica de búsquedas rechazadas por saturación.
+     */
+    public static final String METRIC_REJECTED = "prices.async.rejected";
+
+    /**
+     * Métrica de ocupación: búsquedas en curso y en cola respecto a las
+     * que admite el ejecutor (1 = las siguientes se rechazan).
+     */
+    public static final String METRIC_SATURATION = "prices.async.saturation";
+
+    /**
+     * Grupo de hilos con su cola acotada.
+     */
+    private final ThreadPoolExecutor pool;
+
+    /**
+     * Ejecutor instrumentado sobre {@link #pool}.
+     */
+    private final ExecutorService monitored;
+
+    /**
+     * Crea el ejecutor y registra sus métricas.
+     *
+     * @param properties hilos y capacidad de la cola
+     * @param registry   registro de métricas
+     */
+    public PriceLookupExecutor(final AsyncPriceProperties properties,
+                               final MeterRegistry registry) {
+        int threads = properties.getThreads();
+        int capacity = properties.getQueueCapacity();
+        if (threads < 1 || capacity < 1) {
+            throw new IllegalArgumentException(
+                    "threads y queueCapacity deben ser positivos");
+        }
+        Counter rejected = Counter.builder(METRIC_REJECTED)
+                .description("Búsquedas asíncronas rechazadas por saturación")
+                .register(registry);
+        RejectedExecutionHandler abort = new ThreadPoolExecutor.AbortPolicy();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L,
+                TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity),
+                threadFactory(), (task, executor) -> {
+                    rejected.increment();
+                    abort.rejectedExecution(task, executor);
+                });
+        Gauge.builder(METRIC_SATURATION, pool,
+                        p -> (double) (p.getActiveCount() + p.getQueue().size())
+                                / (threads + capacity))
+                .description("Ocupación del ejecutor de búsquedas asíncronas")
+                .register(registry);
+        this.monitored = ExecutorServiceMetrics.monitor(registry, pool, NAME,
+                Tags.empty());
+    }
+
+    /**
+     * @return ejecutor instrumentado de las búsquedas
+     */
+    public Executor executor() {
+        return monitored;
+    }
+
+    /**
+     * Detiene el ejecutor; las búsquedas en cola se descartan.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable,
+                    NAME + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Búsquedas de precios asíncronas.
+ *
+ * <p>Con {@code price.async.enabled=true}, los endpoints
+ * {@code /prices/async/*} devuelven un {@code CompletableFuture}: el hilo
+ * de Tomcat queda libre en cuanto la búsqueda se encola en un ejecutor
+ * dedicado y acotado, cuya cola y saturación se publican como métricas.</p>
+ */
+package com.bcnc.ecommerce.priceservice.adapter.web.async;
@@ -1,9 +1,11 @@
 package com.bcnc.ecommerce.priceservice.adapter.web.config;
 
 import com.bcnc.ecommerce.priceservice.adapter.web.security.TokenAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
@@ -21,8 +23,9 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  *   <li>Registra un {@link TokenAuthenticationFilter} personalizado.</li>
  *   <li>Desactiva CSRF (no necesario en APIs sin sesiones de navegador).</li>
  *   <li>Permite el acceso sin autenticar a rutas públicas (Swagger,
- *   Actuator).</li>
- *   <li>Requiere autenticación para cualquier otra petición.</li>
+ *   Actuator), salvo a las operaciones de escritura de Actuator.</li>
+ *   <li>Requiere autenticación para cualquier otra petición, salvo en el
+ *   redespacho de las respuestas asíncronas.</li>
  * </ul>
  */
 @Configuration
@@ -81,6 +84,17 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // El redespacho de una respuesta asíncrona no trae
+                        // token: la petición ya se validó en su despacho
+                        // inicial
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                        .permitAll()
+                        // Las operaciones de escritura de Actuator no son
+                        // públicas aunque su ruta lo sea
+                        .requestMatchers(HttpMethod.POST, "/actuator/**")
+                        .authenticated()
+                        .requestMatchers(HttpMethod.DELETE, "/actuator/**")
+                        .authenticated()
                         .requestMatchers(PUBLIC_PATHS).permitAll()
                         .anyRequest().authenticated()
                 )
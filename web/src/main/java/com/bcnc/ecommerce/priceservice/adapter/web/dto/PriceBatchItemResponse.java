@@ -0,0 +1,43 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+/**
+ * Resultado de una consulta dentro de una respuesta de precios en bloque.
+ * <p>
+ * Si se encontró precio, {@code status} es 200 y {@code price} contiene la
+ * tarifa aplicable; si no, {@code status} es 404 y {@code message} explica
+ * el motivo.
+ * </p>
+ *
+ * @param productId       identificador del producto consultado
+ * @param brandId         identificador de la cadena consultada
+ * @param applicationDate fecha de aplicación consultada
+ * @param status          código de estado HTTP del elemento
+ * @param price           precio aplicable, si existe
+ * @param message         mensaje de error, si no existe precio
+ */
+@Schema(name = "PriceBatchItemResponse")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PriceBatchItemResponse(
+        @Schema(description = "Identificador del producto", example = "35455")
+        Long productId,
+
+        @Schema(description = "Identificador de la cadena", example = "1")
+        Long brandId,
+
+        @Schema(description = "Fecha de aplicación consultada",
+                example = "2020-06-14T10:00:00")
+        LocalDateTime applicationDate,
+
+        @Schema(description = "Código de estado del elemento", example = "200")
+        int status,
+
+        @Schema(description = "Precio aplicable (solo si status = 200)")
+        PriceResponse price,
+
+        @Schema(description = "Mensaje de error (solo si status != 200)")
+        String message
+) { }
@@ -0,0 +1,33 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Petición de búsqueda de precios en bloque.
+ *
+ * <pre>
+ * {
+ *   "queries": [
+ *     { "applicationDate": "2020-06-14T10:00:00",
+ *       "productId": 35455, "brandId": 1 }
+ *   ]
+ * }
+ * </pre>
+ *
+ * @param queries consultas a resolver (entre 1 y {@value #MAX_QUERIES})
+ */
+@Schema(name = "PriceBatchRequest")
+public record PriceBatchRequest(
+        @Schema(description = "Consultas a resolver")
+        @NotEmpty
+        @Size(max = PriceBatchRequest.MAX_QUERIES)
+        List<@Valid @NotNull PriceQueryRequest> queries
+) {
+    /** Número máximo de consultas admitidas en un lote. */
+    public static final int MAX_QUERIES = 500;
+}
@@ -0,0 +1,16 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Respuesta de una búsqueda de precios en bloque, con un resultado por
+ * consulta en el mismo orden de la petición.
+ *
+ * @param results resultados de cada consulta
+ */
+@Schema(name = "PriceBatchResponse")
+public record PriceBatchResponse(
+        @Schema(description = "Resultados en el orden de la petición")
+        List<PriceBatchItemResponse> results
+) { }
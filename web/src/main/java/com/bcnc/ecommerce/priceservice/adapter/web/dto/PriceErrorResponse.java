@@ -1,5 +1,7 @@
 package com.bcnc.ecommerce.priceservice.adapter.web.dto;
 
+import org.springframework.http.HttpStatus;
+
 import java.time.LocalDateTime;
 
 /**
@@ -29,4 +31,18 @@ public record PriceErrorResponse(
         int status,
         String error,
         String message
-) { }
+) {
+
+    /**
+     * Crea la respuesta de error de un estado HTTP con la fecha actual.
+     *
+     * @param status  estado HTTP del error
+     * @param message mensaje explicativo detallado
+     * @return respuesta de error
+     */
+    public static PriceErrorResponse of(final HttpStatus status,
+                                        final String message) {
+        return new PriceErrorResponse(LocalDateTime.now(), status.value(),
+                status.getReasonPhrase(), message);
+    }
+}
@@ -0,0 +1,29 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * Consulta individual dentro de una petición de precios en bloque.
+ *
+ * @param applicationDate fecha y hora de aplicación (ISO-8601)
+ * @param productId       identificador del producto
+ * @param brandId         identificador de la cadena
+ */
+@Schema(name = "PriceQueryRequest")
+public record PriceQueryRequest(
+        @Schema(description = "Fecha y hora de aplicación",
+                example = "2020-06-14T10:00:00")
+        @NotNull
+        LocalDateTime applicationDate,
+
+        @Schema(description = "Identificador del producto", example = "35455")
+        @NotNull @Min(0)
+        Long productId,
+
+        @Schema(description = "Identificador de la cadena", example = "1")
+        @NotNull @Min(0)
+        Long brandId
+) { }
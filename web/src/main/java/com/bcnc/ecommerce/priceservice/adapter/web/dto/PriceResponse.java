@@ -1,7 +1,9 @@
 package com.bcnc.ecommerce.priceservice.adapter.web.dto;
 
+import com.bcnc.ecommerce.priceservice.adapter.web.json.MoneyJsonSerializer;
+import com.bcnc.ecommerce.priceservice.domain.model.Money;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.swagger.v3.oas.annotations.media.Schema;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -30,7 +32,7 @@ import java.time.LocalDateTime;
  * @param priceList identificador de la tarifa aplicada
  * @param startDate fecha y hora de inicio de validez
  * @param endDate fecha y hora de fin de validez
- * @param price precio final
+ * @param price precio final, serializado como número en unidades mayores
  * @param curr moneda del precio
  */
 @Schema(
@@ -58,8 +60,10 @@ public record PriceResponse(
                 example = "2020-06-14T18:30:00")
         LocalDateTime endDate,
 
-        @Schema(description = "Precio final", example = "25.45")
-        BigDecimal price,
+        @Schema(description = "Precio final", type = "number",
+                example = "25.45")
+        @JsonSerialize(using = MoneyJsonSerializer.class)
+        Money price,
 
         @Schema(description = "Moneda", example = "EUR")
         String curr
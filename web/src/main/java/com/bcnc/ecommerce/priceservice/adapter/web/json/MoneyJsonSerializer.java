@@ -0,0 +1,57 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.json;
+
+import com.bcnc.ecommerce.priceservice.domain.model.Money;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Serializa un {@link Money} como número JSON en unidades mayores (por
+ * ejemplo, {@code 25.45}), igual que se serializaba el antiguo
+ * {@code BigDecimal}; la moneda se publica en su propio campo.
+ * <p>
+ * Los dígitos se escriben directamente desde las unidades menores en un
+ * búfer reutilizado por hilo, sin pasar por {@code BigDecimal} ni crear
+ * cadenas intermedias.
+ * </p>
+ */
+public class MoneyJsonSerializer extends StdSerializer<Money> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Longitud de búfer suficiente para cualquier importe.
+     */
+    private static final int BUFFER_LENGTH = 24;
+
+    /**
+     * Búfer de dígitos de cada hilo.
+     */
+    private static final ThreadLocal<char[]> BUFFER =
+            ThreadLocal.withInitial(() -> new char[BUFFER_LENGTH]);
+
+    /**
+     * Constructor usado por Jackson.
+     */
+    public MoneyJsonSerializer() {
+        super(Money.class);
+    }
+
+    /**
+     * Escribe el importe como número JSON.
+     *
+     * @param value     importe a serializar
+     * @param gen       generador JSON
+     * @param provider  proveedor de serializadores (no se usa)
+     * @throws IOException si falla la escritura
+     */
+    @Override
+    public void serialize(final Money value, final JsonGenerator gen,
+                          final SerializerProvider provider)
+            throws IOException {
+        char[] buffer = BUFFER.get();
+        gen.writeNumber(buffer, 0, value.writeDecimal(buffer));
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Contiene los serializadores JSON propios de la API, para los tipos del
+ * dominio que no se exponen con su forma Java.
+ */
+package com.bcnc.ecommerce.priceservice.adapter.web.json;
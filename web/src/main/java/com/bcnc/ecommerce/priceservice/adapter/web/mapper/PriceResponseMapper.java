@@ -0,0 +1,83 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.mapper;
+
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceBatchItemResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceResponse;
+import com.bcnc.ecommerce.priceservice.application.PriceLookupResult;
+import com.bcnc.ecommerce.priceservice.domain.exception.PriceNotFoundException;
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Componente responsable de mapear el modelo de dominio {@link Price} y los
+ * resultados de búsqueda a los DTO de respuesta de la API.
+ *
+ * <p>Lo comparten los endpoints individual, en bloque y en streaming para
+ * que todos devuelvan exactamente la misma representación.</p>
+ */
+@Component
+public class PriceResponseMapper {
+
+    /**
+     * Mapea el objeto dominio {@link Price} a un DTO {@link PriceResponse}.
+     *
+     * @param price objeto dominio Price
+     * @return DTO PriceResponse
+     */
+    public PriceResponse toResponse(final Price price) {
+        return new PriceResponse(
+                price.getProductId(),
+                price.getBrandId(),
+                price.getPriceList(),
+                price.getStartDate(),
+                price.getEndDate(),
+                price.getMoney(),
+                price.getCurr()
+        );
+    }
+
+    /**
+     * Mapea el resultado de una consulta en bloque a su DTO
+     * {@link PriceBatchItemResponse}.
+     *
+     * @param result resultado de la consulta
+     * @return DTO con el precio o con el motivo de su ausencia
+     */
+    public PriceBatchItemResponse toItemResponse(
+            final PriceLookupResult result) {
+        PriceQuery query = result.query();
+        if (result.found()) {
+            return new PriceBatchItemResponse(query.productId(),
+                    query.brandId(), query.applicationDate(),
+                    HttpStatus.OK.value(), toResponse(result.price()),
+                    null);
+        }
+        return new PriceBatchItemResponse(query.productId(),
+                query.brandId(), query.applicationDate(),
+                HttpStatus.NOT_FOUND.value(), null,
+                PriceNotFoundException.message(query.productId(),
+                        query.brandId(), query.applicationDate()));
+    }
+
+    /**
+     * Construye el DTO de un elemento que no ha podido resolverse por un
+     * error distinto de la ausencia de precio.
+     *
+     * @param query   consulta afectada, o {@code null} si no pudo leerse
+     * @param status  código de estado del elemento
+     * @param message mensaje explicativo del error
+     * @return DTO con el error del elemento
+     */
+    public PriceBatchItemResponse toErrorItemResponse(final PriceQuery query,
+                                                      final HttpStatus status,
+                                                      final String message) {
+        if (query == null) {
+            return new PriceBatchItemResponse(null, null, null,
+                    status.value(), null, message);
+        }
+        return new PriceBatchItemResponse(query.productId(),
+                query.brandId(), query.applicationDate(), status.value(),
+                null, message);
+    }
+}
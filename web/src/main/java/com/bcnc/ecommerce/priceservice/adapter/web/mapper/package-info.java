@@ -0,0 +1,5 @@
+/**
+ * Contiene los mapeadores entre el modelo de dominio y los DTO expuestos
+ * por la API REST.
+ */
+package com.bcnc.ecommerce.priceservice.adapter.web.mapper;
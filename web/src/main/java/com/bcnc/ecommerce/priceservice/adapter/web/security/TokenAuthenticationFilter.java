@@ -25,7 +25,9 @@ import java.util.Collections;
  * </p>
  *
  * <p>Las rutas públicas configuradas (como Swagger y actuator) quedan excluidas
- * de validación.</p>
+ * de validación solo para lecturas ({@code GET}, {@code HEAD},
+ * {@code OPTIONS}): las operaciones de escritura de Actuator (recarga del
+ * índice, importación, exportación) exigen el token.</p>
  */
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
     /**
@@ -73,8 +75,8 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String path = request.getRequestURI();
 
-        // Rutas públicas que se deben permitir sin token
-        if (isPublicPath(path)) {
+        // Rutas públicas que se deben permitir sin token, solo en lectura
+        if (isPublicPath(path) && isReadOnly(request.getMethod())) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -125,4 +127,15 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         }
         return false;
     }
+
+    /**
+     * Verifica si el método HTTP solo lee.
+     *
+     * @param method método del request
+     * @return {@code true} para {@code GET}, {@code HEAD} y {@code OPTIONS}
+     */
+    private boolean isReadOnly(final String method) {
+        return "GET".equals(method) || "HEAD".equals(method)
+                || "OPTIONS".equals(method);
+    }
 }
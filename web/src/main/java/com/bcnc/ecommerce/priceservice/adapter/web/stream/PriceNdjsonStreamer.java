@@ -0,0 +1,341 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.stream;
+
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceBatchItemResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceQueryRequest;
+import com.bcnc.ecommerce.priceservice.adapter.web.mapper.PriceResponseMapper;
+import com.bcnc.ecommerce.priceservice.application.PriceLookupResult;
+import com.bcnc.ecommerce.priceservice.application.PriceService;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resuelve en streaming consultas de precio en formato NDJSON
+ * (<em>newline-delimited JSON</em>).
+ * <p>
+ * Lee una consulta por línea, agrupa las consultas en lotes de tamaño fijo,
+ * resuelve cada lote con {@link PriceService#findApplicablePrices(List)} y
+ * escribe un resultado por línea antes de leer el siguiente lote. La memoria
+ * usada depende solo del tamaño de lote y de la longitud máxima de línea,
+ * no del tamaño de la entrada.
+ * </p>
+ * <p>
+ * La contrapresión la aporta la propia E/S bloqueante: si el cliente deja de
+ * leer la respuesta, la escritura se bloquea y no se leen más consultas.
+ * </p>
+ * <p>
+ * Cada línea de salida es un {@link PriceBatchItemResponse}, en el mismo
+ * orden que las líneas de entrada (las líneas en blanco se ignoran). Los
+ * errores de un elemento no interrumpen el flujo: una línea ilegible se
+ * responde con {@code status} 400 y un fallo al resolver un lote con
+ * {@code status} 500 en cada uno de sus elementos.
+ * </p>
+ */
+@Component
+public class PriceNdjsonStreamer {
+    /**
+     * Logger de la clase PriceNdjsonStreamer.
+     */
+    private static final Logger LOG = LoggerFactory
+            .getLogger(PriceNdjsonStreamer.class);
+
+    /**
+     * Mensaje de error para líneas que superan la longitud máxima.
+     */
+    private static final String MSG_LINE_TOO_LONG =
+            "La línea supera la longitud máxima de ";
+
+    /**
+     * Mensaje de error para líneas que no son una consulta válida.
+     */
+    private static final String MSG_INVALID_LINE =
+            "Consulta inválida o mal formada";
+
+    /**
+     * Mensaje de error para elementos de un lote que no pudo resolverse.
+     */
+    private static final String MSG_BATCH_FAILED =
+            "Error interno al resolver el lote";
+
+    /**
+     * Tamaño de búfer de lectura y escritura.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Servicio de precios que resuelve cada lote.
+     */
+    private final PriceService priceService;
+
+    /**
+     * Mapeador de resultados a DTO de respuesta.
+     */
+    private final PriceResponseMapper responseMapper;
+
+    /**
+     * Lector JSON de consultas.
+     */
+    private final ObjectReader queryReader;
+
+    /**
+     * Escritor JSON de resultados.
+     */
+    private final ObjectWriter itemWriter;
+
+    /**
+     * Número de consultas que se resuelven juntas.
+     */
+    private final int chunkSize;
+
+    /**
+     * Longitud máxima en bytes de una línea de entrada.
+     */
+    private final int maxLineLength;
+
+    /**
+     * Constructor con las dependencias y límites del streaming.
+     *
+     * @param priceServiceParam servicio de precios
+     * @param mapper            mapeador de respuestas
+     * @param objectMapper      mapeador JSON configurado por Spring
+     * @param chunkSizeParam    consultas por lote
+     * @param maxLineParam      longitud máxima de línea en bytes
+     */
+    public PriceNdjsonStreamer(
+            final PriceService priceServiceParam,
+            final PriceResponseMapper mapper,
+            final ObjectMapper objectMapper,
+            @Value("${price.stream.chunk-size:500}") final int chunkSizeParam,
+            @Value("${price.stream.max-line-length:4096}")
+            final int maxLineParam) {
+        if (chunkSizeParam <= 0 || maxLineParam <= 0) {
+            throw new IllegalArgumentException(
+                    "chunk-size y max-line-length deben ser positivos");
+        }
+        this.priceService = priceServiceParam;
+        this.responseMapper = mapper;
+        this.queryReader = objectMapper.readerFor(PriceQueryRequest.class);
+        this.itemWriter = objectMapper.writerFor(PriceBatchItemResponse.class);
+        this.chunkSize = chunkSizeParam;
+        this.maxLineLength = maxLineParam;
+    }
+
+    /**
+     * Lee consultas NDJSON de {@code in} y escribe los resultados NDJSON en
+     * {@code out} hasta agotar la entrada. No cierra ninguno de los flujos.
+     *
+     * @param in  entrada con una consulta por línea
+     * @param out salida donde se escribe un resultado por línea
+     * @return número de líneas de resultado escritas
+     * @throws IOException si falla la lectura o la escritura
+     */
+    public long stream(final InputStream in, final OutputStream out)
+            throws IOException {
+        InputStream input = new BufferedInputStream(in, BUFFER_SIZE);
+        OutputStream output = new BufferedOutputStream(out, BUFFER_SIZE);
+        LineReader lines = new LineReader(input, maxLineLength);
+
+        List<Object> pending = new ArrayList<>(chunkSize);
+        List<PriceQuery> queries = new ArrayList<>(chunkSize);
+        long written = 0;
+
+        byte[] line;
+        while ((line = lines.next()) != null) {
+            if (isBlank(line)) {
+                continue;
+            }
+            Object entry = parse(line, lines.truncated());
+            pending.add(entry);
+            if (entry instanceof PriceQuery query) {
+                queries.add(query);
+            }
+            if (pending.size() == chunkSize) {
+                written += flushChunk(pending, queries, output);
+            }
+        }
+        written += flushChunk(pending, queries, output);
+
+        LOG.info("Streaming NDJSON finalizado: {} resultados", written);
+        return written;
+    }
+
+    /**
+     * Resuelve las consultas pendientes y escribe sus resultados en orden,
+     * intercalando los errores de lectura en su posición original.
+     *
+     * @param pending consultas o errores de lectura pendientes
+     * @param queries consultas válidas pendientes
+     * @param out     salida
+     * @return número de líneas escritas
+     * @throws IOException si falla la escritura
+     */
+    private int flushChunk(final List<Object> pending,
+                           final List<PriceQuery> queries,
+                           final OutputStream out) throws IOException {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<PriceLookupResult> results = null;
+        if (!queries.isEmpty()) {
+            try {
+                results = priceService.findApplicablePrices(
+                        List.copyOf(queries));
+            } catch (RuntimeException ex) {
+                LOG.error("Error resolviendo un lote de {} consultas",
+                        queries.size(), ex);
+            }
+        }
+
+        int next = 0;
+        for (Object entry : pending) {
+            PriceBatchItemResponse item;
+            if (entry instanceof PriceQuery query) {
+                item = results != null
+                        ? responseMapper.toItemResponse(results.get(next))
+                        : responseMapper.toErrorItemResponse(query,
+                                HttpStatus.INTERNAL_SERVER_ERROR,
+                                MSG_BATCH_FAILED);
+                next++;
+            } else {
+                item = (PriceBatchItemResponse) entry;
+            }
+            out.write(itemWriter.writeValueAsBytes(item));
+            out.write('\n');
+        }
+        out.flush();
+
+        int written = pending.size();
+        pending.clear();
+        queries.clear();
+        return written;
+    }
+
+    /**
+     * Convierte una línea en una {@link PriceQuery}, o en el elemento de
+     * error correspondiente si la línea no es válida.
+     *
+     * @param line      bytes de la línea, sin el salto de línea
+     * @param truncated si la línea superaba la longitud máxima
+     * @return la consulta o el elemento de error
+     */
+    private Object parse(final byte[] line, final boolean truncated) {
+        if (truncated) {
+            return responseMapper.toErrorItemResponse(null,
+                    HttpStatus.BAD_REQUEST,
+                    MSG_LINE_TOO_LONG + maxLineLength + " bytes");
+        }
+        try {
+            PriceQueryRequest request = queryReader.readValue(line);
+            if (request == null
+                    || request.applicationDate() == null
+                    || request.productId() == null || request.productId() < 0
+                    || request.brandId() == null || request.brandId() < 0) {
+                return responseMapper.toErrorItemResponse(null,
+                        HttpStatus.BAD_REQUEST, MSG_INVALID_LINE);
+            }
+            return new PriceQuery(request.applicationDate(),
+                    request.productId(), request.brandId());
+        } catch (IOException ex) {
+            return responseMapper.toErrorItemResponse(null,
+                    HttpStatus.BAD_REQUEST, MSG_INVALID_LINE);
+        }
+    }
+
+    /**
+     * @param line bytes de una línea
+     * @return true si la línea solo contiene espacios en blanco
+     */
+    private static boolean isBlank(final byte[] line) {
+        for (byte b : line) {
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lector de líneas sobre bytes con longitud máxima: las líneas más
+     * largas se descartan hasta el siguiente salto de línea sin acumularse
+     * en memoria.
+     */
+    private static final class LineReader {
+        /**
+         * Flujo de entrada.
+         */
+        private final InputStream in;
+
+        /**
+         * Longitud máxima de línea.
+         */
+        private final int maxLength;
+
+        /**
+         * Búfer reutilizado para la línea actual.
+         */
+        private final ByteArrayOutputStream buffer;
+
+        /**
+         * Si la última línea leída superaba la longitud máxima.
+         */
+        private boolean truncated;
+
+        /**
+         * @param input     flujo de entrada
+         * @param maxLength longitud máxima de línea
+         */
+        LineReader(final InputStream input, final int maxLength) {
+            this.in = input;
+            this.maxLength = maxLength;
+            this.buffer = new ByteArrayOutputStream(
+                    Math.min(maxLength, BUFFER_SIZE));
+        }
+
+        /**
+         * Lee la siguiente línea.
+         *
+         * @return bytes de la línea sin el salto, o {@code null} al final
+         * @throws IOException si falla la lectura
+         */
+        byte[] next() throws IOException {
+            buffer.reset();
+            truncated = false;
+            int b = in.read();
+            if (b == -1) {
+                return null;
+            }
+            while (b != -1 && b != '\n') {
+                if (buffer.size() < maxLength) {
+                    buffer.write(b);
+                } else {
+                    truncated = true;
+                }
+                b = in.read();
+            }
+            return buffer.toByteArray();
+        }
+
+        /**
+         * @return si la última línea leída superaba la longitud máxima
+         */
+        boolean truncated() {
+            return truncated;
+        }
+    }
+}
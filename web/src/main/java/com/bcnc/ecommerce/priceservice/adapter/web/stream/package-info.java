@@ -0,0 +1,5 @@
+/**
+ * Contiene los componentes que resuelven consultas de precio en streaming
+ * (NDJSON) con memoria acotada.
+ */
+package com.bcnc.ecommerce.priceservice.adapter.web.stream;
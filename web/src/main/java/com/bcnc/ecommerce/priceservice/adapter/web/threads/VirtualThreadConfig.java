@@ -0,0 +1,40 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del modo de hilos virtuales
+ * ({@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * Spring Boot ya pasa a hilos virtuales el ejecutor de Tomcat y el de
+ * tareas de la aplicación cuando la JVM es Java 21 o posterior; esta
+ * configuración añade el informe de los hilos fijados a su portador.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled",
+        havingValue = "true")
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadConfig {
+
+    /**
+     * Informe por JFR de los hilos virtuales fijados.
+     *
+     * @param properties propiedades del informe
+     * @param registry   registro de métricas
+     * @return monitor de hilos fijados
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "price.virtual-threads",
+            name = "pinning-report", havingValue = "true",
+            matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            final VirtualThreadProperties properties,
+            final MeterRegistry registry) {
+        return new VirtualThreadPinningMonitor(properties, registry);
+    }
+}
@@ -0,0 +1,193 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Informe de los hilos virtuales que se bloquean fijados a su hilo
+ * portador.
+ * <p>
+ * Un hilo virtual que espera dentro de un bloque {@code synchronized} (o
+ * de código nativo) no libera su portador: mientras dura la espera, ese
+ * portador no atiende otras peticiones. Este monitor se suscribe con un
+ * {@link RecordingStream} al evento JFR {@value #PINNED_EVENT}, que la JVM
+ * emite para esas esperas cuando superan {@code pinned-threshold}, y
+ * publica su duración en {@value #METRIC_PINNED}. La primera vez que un
+ * punto del código (el primer marco fuera del JDK) fija un hilo, registra
+ * en WARN la pila completa; las siguientes solo cuentan.
+ * </p>
+ * <p>
+ * El evento existe desde Java 21: en versiones anteriores el monitor no
+ * arranca y avisa de que la petición se sigue atendiendo en el pool de
+ * hilos de plataforma de Tomcat.
+ * </p>
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    /**
+     * Evento JFR de un hilo virtual bloqueado sin liberar su portador.
+     */
+    public static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /**
+     * Métrica de la duración de los bloqueos fijados.
+     */
+    public static final String METRIC_PINNED = "threads.virtual.pinned";
+
+    /**
+     * Primera versión de Java con hilos virtuales.
+     */
+    static final int VIRTUAL_THREADS_RELEASE = 21;
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    /**
+     * Paquetes cuyos marcos no identifican el punto que fija el hilo.
+     */
+    private static final List<String> JDK_PACKAGES =
+            List.of("java.", "javax.", "jdk.", "sun.");
+
+    /**
+     * Duración mínima de un bloqueo fijado para informar de él.
+     */
+    private final Duration threshold;
+
+    /**
+     * Duración de los bloqueos fijados.
+     */
+    private final Timer pinned;
+
+    /**
+     * Puntos del código ya registrados con su pila.
+     */
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Suscripción a los eventos JFR, o {@code null} si está parada.
+     */
+    private volatile RecordingStream stream;
+
+    /**
+     * Crea el monitor y registra sus métricas.
+     *
+     * @param properties propiedades del informe
+     * @param registry   registro de métricas
+     */
+    public VirtualThreadPinningMonitor(
+            final VirtualThreadProperties properties,
+            final MeterRegistry registry) {
+        this.threshold = Objects.requireNonNull(
+                properties.getPinnedThreshold(),
+                "pinnedThreshold no puede ser nulo");
+        this.pinned = Timer.builder(METRIC_PINNED)
+                .description("Bloqueos de hilos virtuales fijados a su"
+                        + " portador")
+                .register(registry);
+    }
+
+    /**
+     * Se suscribe al evento de hilos fijados, si la JVM tiene hilos
+     * virtuales.
+     */
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        if (Runtime.version().feature() < VIRTUAL_THREADS_RELEASE) {
+            LOGGER.warn("spring.threads.virtual.enabled requiere Java {}"
+                    + " (en ejecución: {}); las peticiones se atienden en"
+                    + " el pool de hilos de Tomcat",
+                    VIRTUAL_THREADS_RELEASE, Runtime.version().feature());
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold)
+                .withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onEvent);
+        recording.startAsync();
+        stream = recording;
+        LOGGER.info("Informe por JFR de los hilos virtuales fijados más de"
+                + " {}", threshold);
+    }
+
+    /**
+     * Cierra la suscripción.
+     */
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    /**
+     * @return si la suscripción está activa
+     */
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onEvent(final RecordedEvent event) {
+        List<String> frames = new ArrayList<>();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                frames.add(frame.getMethod().getType().getName() + "."
+                        + frame.getMethod().getName() + ":"
+                        + frame.getLineNumber());
+            }
+        }
+        onPinned(event.getDuration(), frames);
+    }
+
+    /**
+     * Registra un bloqueo fijado.
+     *
+     * @param duration duración del bloqueo
+     * @param frames   pila del hilo, del marco más interno al más externo
+     * @return si es la primera vez que se informa de su punto del código
+     */
+    boolean onPinned(final Duration duration, final List<String> frames) {
+        pinned.record(duration);
+        String site = site(frames);
+        if (!reportedSites.add(site)) {
+            return false;
+        }
+        LOGGER.warn("Hilo virtual fijado a su portador durante {} en {}:"
+                + "\n\tat {}", duration, site, String.join("\n\tat ", frames));
+        return true;
+    }
+
+    /**
+     * Primer marco fuera del JDK, o el más interno si no hay ninguno.
+     */
+    private static String site(final List<String> frames) {
+        for (String frame : frames) {
+            if (JDK_PACKAGES.stream().noneMatch(frame::startsWith)) {
+                return frame;
+            }
+        }
+        return frames.isEmpty() ? "(sin pila)" : frames.get(0);
+    }
+}
@@ -0,0 +1,57 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.threads;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del informe de hilos virtuales fijados
+ * ({@code price.virtual-threads.*}).
+ *
+ * <p>Ejemplo:</p>
+ * <pre>
+ * price.virtual-threads.pinning-report=true
+ * price.virtual-threads.pinned-threshold=20ms
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "price.virtual-threads")
+public class VirtualThreadProperties {
+
+    /**
+     * Si se registran por JFR los hilos virtuales fijados a su portador.
+     */
+    private boolean pinningReport = true;
+
+    /**
+     * Duración mínima de un bloqueo fijado para informar de él.
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /**
+     * @return si se registran los hilos virtuales fijados
+     */
+    public boolean isPinningReport() {
+        return pinningReport;
+    }
+
+    /**
+     * @param pinningReportParam si se registran los hilos virtuales fijados
+     */
+    public void setPinningReport(final boolean pinningReportParam) {
+        this.pinningReport = pinningReportParam;
+    }
+
+    /**
+     * @return duración mínima de un bloqueo fijado para informar de él
+     */
+    public Duration getPinnedThreshold() {
+        return pinnedThreshold;
+    }
+
+    /**
+     * @param pinnedThresholdParam duración mínima de un bloqueo fijado
+     */
+    public void setPinnedThreshold(final Duration pinnedThresholdParam) {
+        this.pinnedThreshold = pinnedThresholdParam;
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Ejecución de las peticiones en hilos virtuales.
+ *
+ * <p>Con {@code spring.threads.virtual.enabled=true} y Java 21, Tomcat
+ * atiende cada petición, y por tanto cada llamada al repositorio, en un
+ * hilo virtual en lugar de en su pool de hilos de plataforma. Este paquete
+ * informa por JFR de los puntos en los que un hilo virtual queda fijado a
+ * su hilo portador.</p>
+ */
+package com.bcnc.ecommerce.priceservice.adapter.web.threads;
@@ -14,10 +14,18 @@ import com.bcnc.ecommerce.priceservice.domain.exception.PriceNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
@@ -140,4 +148,61 @@ class GlobalExceptionHandlerTest {
                 () -> assertEquals("Error interno del servidor", body.message())
         );
     }
+
+    @Test
+    @DisplayName("handleMethodArgumentNotValid → devuelve 400 con los campos inválidos")
+    void handleMethodArgumentNotValid_returnsBadRequest() {
+
+        BeanPropertyBindingResult bindingResult =
+                new BeanPropertyBindingResult(new Object(), "request");
+        bindingResult.addError(new FieldError("request", "queries",
+                "must not be empty"));
+        MethodArgumentNotValidException ex = new MethodArgumentNotValidException(
+                mock(MethodParameter.class), bindingResult);
+
+        ResponseEntity<PriceErrorResponse> response = handler.handleMethodArgumentNotValid(ex);
+        PriceErrorResponse body = response.getBody();
+
+        assertAll("MethodArgumentNotValid response",
+                () -> assertEquals(400, response.getStatusCode().value()),
+                () -> assertNotNull(body),
+                () -> assertEquals("queries: must not be empty", body.message())
+        );
+    }
+
+    @Test
+    @DisplayName("handleMessageNotReadable → devuelve 400 con mensaje genérico")
+    void handleMessageNotReadable_returnsBadRequest() {
+
+        HttpMessageNotReadableException ex = new HttpMessageNotReadableException(
+                "JSON parse error", new MockHttpInputMessage(new byte[0]));
+
+        ResponseEntity<PriceErrorResponse> response = handler.handleMessageNotReadable(ex);
+        PriceErrorResponse body = response.getBody();
+
+        assertAll("MessageNotReadable response",
+                () -> assertEquals(400, response.getStatusCode().value()),
+                () -> assertNotNull(body),
+                () -> assertEquals("Cuerpo de la petición inválido o mal formado",
+                        body.message())
+        );
+    }
+
+    @Test
+    @DisplayName("handleUnavailable → devuelve 503 si el ejecutor está saturado o se agota el tiempo")
+    void handleUnavailable_returnsServiceUnavailable() {
+
+        for (Exception ex : new Exception[] {new RejectedExecutionException(), new TimeoutException()}) {
+            ResponseEntity<PriceErrorResponse> response = handler.handleUnavailable(ex);
+            PriceErrorResponse body = response.getBody();
+
+            assertAll("Unavailable response",
+                    () -> assertEquals(503, response.getStatusCode().value()),
+                    () -> assertNotNull(body),
+                    () -> assertEquals("Service Unavailable", body.error()),
+                    () -> assertEquals("Servicio saturado, inténtelo de nuevo más tarde",
+                            body.message())
+            );
+        }
+    }
 }
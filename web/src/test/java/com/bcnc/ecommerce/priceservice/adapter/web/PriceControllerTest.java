@@ -2,30 +2,50 @@ package com.bcnc.ecommerce.priceservice.adapter.web;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceBatchItemResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceBatchRequest;
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceBatchResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceErrorResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceQueryRequest;
 import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceResponse;
+import com.bcnc.ecommerce.priceservice.adapter.web.mapper.PriceResponseMapper;
+import com.bcnc.ecommerce.priceservice.adapter.web.stream.PriceNdjsonStreamer;
+import com.bcnc.ecommerce.priceservice.application.PriceLookupResult;
 import com.bcnc.ecommerce.priceservice.application.PriceService;
+import com.bcnc.ecommerce.priceservice.domain.exception.PriceNotFoundException;
+import com.bcnc.ecommerce.priceservice.domain.model.Money;
 import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 class PriceControllerTest {
 
     private PriceService priceService;
+    private PriceNdjsonStreamer streamer;
     private PriceController controller;
 
     @BeforeEach
     void setUp() {
         priceService = mock(PriceService.class);
-        controller = new PriceController(priceService);
+        streamer = mock(PriceNdjsonStreamer.class);
+        controller = new PriceController(priceService, new PriceResponseMapper(), streamer);
     }
 
     @Test
@@ -46,23 +66,126 @@ class PriceControllerTest {
                 .curr("EUR")
                 .build();
 
-        when(priceService.findApplicablePrice(date, productId, brandId)).thenReturn(mockPrice);
+        when(priceService.findApplicablePriceOrNull(date, productId, brandId)).thenReturn(mockPrice);
 
         // When
-        ResponseEntity<PriceResponse> response = controller.getApplicablePrice(date, productId, brandId);
+        ResponseEntity<?> response = controller.getApplicablePrice(date, productId, brandId);
 
         // Then
         assertEquals(200, response.getStatusCode().value());
-        PriceResponse body = response.getBody();
+        PriceResponse body = (PriceResponse) response.getBody();
         assertNotNull(body);
         assertEquals(productId, body.productId());
         assertEquals(brandId, body.brandId());
         assertEquals(1, body.priceList());
-        assertEquals(new BigDecimal("25.45"), body.price());
+        assertEquals(Money.ofMinor(2545, "EUR"), body.price());
         assertEquals("EUR", body.curr());
         assertEquals(date, body.startDate());
         assertEquals(date.plusHours(2), body.endDate());
 
-        verify(priceService).findApplicablePrice(date, productId, brandId);
+        verify(priceService).findApplicablePriceOrNull(date, productId, brandId);
+    }
+
+    @Test
+    void getApplicablePrice_ReturnsNotFoundWithoutThrowing() {
+        // Given
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+        when(priceService.findApplicablePriceOrNull(date, 99999L, 1L)).thenReturn(null);
+
+        // When
+        ResponseEntity<?> response = controller.getApplicablePrice(date, 99999L, 1L);
+
+        // Then
+        assertEquals(404, response.getStatusCode().value());
+        PriceErrorResponse body = (PriceErrorResponse) response.getBody();
+        assertNotNull(body);
+        assertEquals(404, body.status());
+        assertEquals("Not Found", body.error());
+        assertEquals(PriceNotFoundException.message(99999L, 1L, date), body.message());
+        assertNotNull(body.timestamp());
+    }
+
+    @Test
+    void getCurrentPrice_DefaultsToServerClock() {
+        // Given
+        LocalDateTime before = LocalDateTime.now();
+        when(priceService.findApplicablePriceOrNull(any(LocalDateTime.class), any(), any())).thenReturn(null);
+
+        // When
+        ResponseEntity<?> response = controller.getCurrentPrice(null, 35455L, 1L);
+
+        // Then
+        assertEquals(404, response.getStatusCode().value());
+        ArgumentCaptor<LocalDateTime> date = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(priceService).findApplicablePriceOrNull(date.capture(), any(), any());
+        assertTrue(!date.getValue().isBefore(before) && !date.getValue().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void getApplicablePrices_ReturnsOneItemPerQueryInOrder() {
+        // Given
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+        PriceQuery found = new PriceQuery(date, 35455L, 1L);
+        PriceQuery missing = new PriceQuery(date, 99999L, 1L);
+
+        Price mockPrice = Price.builder()
+                .brandId(1L)
+                .startDate(date)
+                .endDate(date.plusHours(2))
+                .priceList(1)
+                .productId(35455L)
+                .priority(1)
+                .price(new BigDecimal("25.45"))
+                .curr("EUR")
+                .build();
+
+        when(priceService.findApplicablePrices(List.of(found, missing)))
+                .thenReturn(List.of(new PriceLookupResult(found, mockPrice),
+                        new PriceLookupResult(missing, null)));
+
+        PriceBatchRequest request = new PriceBatchRequest(List.of(
+                new PriceQueryRequest(date, 35455L, 1L),
+                new PriceQueryRequest(date, 99999L, 1L)));
+
+        // When
+        ResponseEntity<PriceBatchResponse> response = controller.getApplicablePrices(request);
+
+        // Then
+        assertEquals(200, response.getStatusCode().value());
+        PriceBatchResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals(2, body.results().size());
+
+        PriceBatchItemResponse first = body.results().get(0);
+        assertEquals(200, first.status());
+        assertEquals(35455L, first.productId());
+        assertNotNull(first.price());
+        assertEquals(Money.ofMinor(2545, "EUR"), first.price().price());
+        assertNull(first.message());
+
+        PriceBatchItemResponse second = body.results().get(1);
+        assertEquals(404, second.status());
+        assertEquals(99999L, second.productId());
+        assertNull(second.price());
+        assertTrue(second.message().contains("producto 99999"));
+
+        verify(priceService).findApplicablePrices(List.of(found, missing));
+    }
+
+    @Test
+    void streamApplicablePrices_DelegatesToStreamerWithNdjsonResponse() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST",
+                "/prices/applicable:stream");
+        request.setContent("{}\n".getBytes());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        controller.streamApplicablePrices(request, response);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertTrue(response.getContentType().startsWith("application/x-ndjson"));
+        verify(streamer).stream(any(), any());
     }
 }
@@ -0,0 +1,75 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class PriceLookupExecutorTest {
+
+    private SimpleMeterRegistry registry;
+    private PriceLookupExecutor lookupExecutor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        AsyncPriceProperties properties = new AsyncPriceProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(2);
+        registry = new SimpleMeterRegistry();
+        lookupExecutor = new PriceLookupExecutor(properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        lookupExecutor.close();
+    }
+
+    private void block(final Executor executor, final CountDownLatch started) {
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Publica la profundidad de la cola y la ocupación, y rechaza con hilos y cola llenos")
+    void shouldExposeQueueDepthAndRejectWhenSaturated() throws InterruptedException {
+        Executor executor = lookupExecutor.executor();
+        CountDownLatch started = new CountDownLatch(1);
+        block(executor, started);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        block(executor, new CountDownLatch(1));
+        block(executor, new CountDownLatch(1));
+
+        assertEquals(2.0, registry.get("executor.queued").tag("name", PriceLookupExecutor.NAME).gauge().value());
+        assertEquals(1.0, registry.get(PriceLookupExecutor.METRIC_SATURATION).gauge().value());
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        assertEquals(1.0, registry.get(PriceLookupExecutor.METRIC_REJECTED).counter().count());
+    }
+
+    @Test
+    @DisplayName("Rechaza una configuración sin hilos o sin cola")
+    void shouldRejectInvalidConfiguration() {
+        AsyncPriceProperties properties = new AsyncPriceProperties();
+        properties.setQueueCapacity(0);
+
+        assertThrows(IllegalArgumentException.class, () -> new PriceLookupExecutor(properties, new SimpleMeterRegistry()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.json;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bcnc.ecommerce.priceservice.adapter.web.dto.PriceResponse;
+import com.bcnc.ecommerce.priceservice.domain.model.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+class MoneyJsonSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("El precio se serializa como número en unidades mayores")
+    void shouldSerializePriceAsDecimalNumber() throws Exception {
+        PriceResponse response = new PriceResponse(35455L, 1L, 2,
+                LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30),
+                Money.ofMinor(2545, "EUR"), "EUR");
+
+        String json = objectMapper.writeValueAsString(response);
+
+        assertTrue(json.contains("\"price\":25.45,"), json);
+    }
+
+    @Test
+    @DisplayName("Respeta los decimales de cada moneda y el signo")
+    void shouldWriteCurrencyFractionDigits() throws Exception {
+        assertAll(
+                () -> assertEquals("0.05", write(Money.ofMinor(5, "EUR"))),
+                () -> assertEquals("-12.30", write(Money.ofMinor(-1230, "EUR"))),
+                () -> assertEquals("1500", write(Money.ofMinor(1500, "JPY"))),
+                () -> assertEquals("1.250", write(Money.ofMinor(1250, "KWD")))
+        );
+    }
+
+    private String write(final Money money) throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(
+                new SimpleModule().addSerializer(new MoneyJsonSerializer()));
+        return mapper.writeValueAsString(money);
+    }
+}
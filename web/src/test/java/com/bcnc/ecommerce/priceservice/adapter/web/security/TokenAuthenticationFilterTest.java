@@ -47,6 +47,18 @@ class TokenAuthenticationFilterTest {
         assertEquals(HttpStatus.OK.value(), response.getStatus());
     }
 
+    @Test
+    @DisplayName("Bloquea las operaciones de escritura de Actuator sin token")
+    void blocksActuatorWriteWithoutToken() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/actuator/priceindex");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+    }
+
     @Test
     @DisplayName("Bloquea acceso a ruta protegida sin token")
     void blocksProtectedPathWithoutToken() throws ServletException, IOException {
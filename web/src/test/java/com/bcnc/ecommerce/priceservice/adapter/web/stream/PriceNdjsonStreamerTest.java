@@ -0,0 +1,222 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bcnc.ecommerce.priceservice.adapter.web.mapper.PriceResponseMapper;
+import com.bcnc.ecommerce.priceservice.application.PriceLookupResult;
+import com.bcnc.ecommerce.priceservice.application.PriceService;
+import com.bcnc.ecommerce.priceservice.domain.model.Price;
+import com.bcnc.ecommerce.priceservice.domain.model.PriceQuery;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PriceNdjsonStreamerTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+    private static final String FOUND_LINE =
+            "{\"applicationDate\":\"2020-06-14T16:00:00\",\"productId\":35455,\"brandId\":1}";
+    private static final String MISSING_LINE =
+            "{\"applicationDate\":\"2020-06-14T16:00:00\",\"productId\":99999,\"brandId\":1}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private PriceService priceService;
+
+    @BeforeEach
+    void setUp() {
+        priceService = mock(PriceService.class);
+        when(priceService.findApplicablePrices(anyList())).thenAnswer(invocation -> {
+            List<PriceQuery> queries = invocation.getArgument(0);
+            return queries.stream()
+                    .map(query -> new PriceLookupResult(query,
+                            query.productId() == 35455L ? createPrice() : null))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("Escribe un resultado por línea en el orden de la entrada")
+    void shouldWriteOneResultPerLineInOrder() throws Exception {
+        String input = FOUND_LINE + "\n\n" + MISSING_LINE + "\r\n" + "no-json\n"
+                + "{\"applicationDate\":\"2020-06-14T16:00:00\",\"productId\":-1,\"brandId\":1}\n"
+                + FOUND_LINE;
+
+        List<JsonNode> lines = run(streamer(500), input);
+
+        assertAll(
+                () -> assertEquals(5, lines.size()),
+                () -> assertEquals(200, lines.get(0).get("status").asInt()),
+                () -> assertEquals(2, lines.get(0).get("price").get("priceList").asInt()),
+                () -> assertEquals("2020-06-14T16:00:00",
+                        lines.get(0).get("applicationDate").asText()),
+                () -> assertEquals(404, lines.get(1).get("status").asInt()),
+                () -> assertEquals(99999, lines.get(1).get("productId").asLong()),
+                () -> assertEquals(400, lines.get(2).get("status").asInt()),
+                () -> assertEquals(400, lines.get(3).get("status").asInt()),
+                () -> assertEquals(200, lines.get(4).get("status").asInt())
+        );
+        verify(priceService, times(1)).findApplicablePrices(anyList());
+    }
+
+    @Test
+    @DisplayName("Resuelve la entrada en lotes del tamaño configurado")
+    void shouldResolveInputInChunks() throws Exception {
+        String input = String.join("\n", FOUND_LINE, MISSING_LINE, FOUND_LINE,
+                MISSING_LINE, FOUND_LINE);
+
+        List<JsonNode> lines = run(streamer(2), input);
+
+        assertEquals(5, lines.size());
+        verify(priceService, times(3)).findApplicablePrices(anyList());
+    }
+
+    @Test
+    @DisplayName("Responde 400 a las líneas que superan la longitud máxima sin acumularlas")
+    void shouldRejectLinesLongerThanLimit() throws Exception {
+        String input = "{\"padding\":\"" + "x".repeat(500) + "\"}\n" + FOUND_LINE;
+
+        List<JsonNode> lines = run(new PriceNdjsonStreamer(priceService,
+                new PriceResponseMapper(), objectMapper, 10, 200), input);
+
+        assertAll(
+                () -> assertEquals(2, lines.size()),
+                () -> assertEquals(400, lines.get(0).get("status").asInt()),
+                () -> assertTrue(lines.get(0).get("message").asText().contains("200")),
+                () -> assertEquals(200, lines.get(1).get("status").asInt())
+        );
+    }
+
+    @Test
+    @DisplayName("Un fallo al resolver un lote se informa con 500 en sus elementos")
+    void shouldReportBatchFailurePerItem() throws Exception {
+        when(priceService.findApplicablePrices(anyList()))
+                .thenThrow(new IllegalStateException("boom"));
+
+        List<JsonNode> lines = run(streamer(500), FOUND_LINE + "\n" + "no-json\n");
+
+        assertAll(
+                () -> assertEquals(2, lines.size()),
+                () -> assertEquals(500, lines.get(0).get("status").asInt()),
+                () -> assertEquals(35455, lines.get(0).get("productId").asLong()),
+                () -> assertEquals(400, lines.get(1).get("status").asInt())
+        );
+    }
+
+    @Test
+    @DisplayName("Procesa entradas grandes sin retener consultas ni resultados")
+    void shouldStreamLargeInputWithBoundedBuffers() throws Exception {
+        int total = 200_000;
+        byte[] line = (MISSING_LINE + "\n").getBytes(StandardCharsets.UTF_8);
+        InputStream input = new RepeatingInputStream(line, total);
+        CountingOutputStream output = new CountingOutputStream();
+
+        long written = streamer(500).stream(input, output);
+
+        assertEquals(total, written);
+        assertEquals(total, output.lines);
+        verify(priceService, times(total / 500)).findApplicablePrices(anyList());
+    }
+
+    @Test
+    @DisplayName("Rechaza límites no positivos")
+    void shouldRejectNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new PriceNdjsonStreamer(
+                priceService, new PriceResponseMapper(), objectMapper, 0, 100));
+    }
+
+    private PriceNdjsonStreamer streamer(final int chunkSize) {
+        return new PriceNdjsonStreamer(priceService, new PriceResponseMapper(),
+                objectMapper, chunkSize, 4096);
+    }
+
+    private List<JsonNode> run(final PriceNdjsonStreamer streamer, final String input)
+            throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamer.stream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private Price createPrice() {
+        return Price.builder()
+                .brandId(1L)
+                .startDate(DATE.minusHours(1))
+                .endDate(DATE.plusHours(2))
+                .priceList(2)
+                .productId(35455L)
+                .priority(1)
+                .price(new BigDecimal("25.45"))
+                .curr("EUR")
+                .build();
+    }
+
+    /**
+     * Entrada que repite una línea sin materializar el contenido completo.
+     */
+    private static final class RepeatingInputStream extends InputStream {
+        private final byte[] line;
+        private long remaining;
+        private int position;
+
+        RepeatingInputStream(final byte[] line, final long times) {
+            this.line = line;
+            this.remaining = times;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            int b = line[position++];
+            if (position == line.length) {
+                position = 0;
+                remaining--;
+            }
+            return b;
+        }
+    }
+
+    /**
+     * Salida que solo cuenta saltos de línea.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long lines;
+
+        @Override
+        public void write(final int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+    }
+}
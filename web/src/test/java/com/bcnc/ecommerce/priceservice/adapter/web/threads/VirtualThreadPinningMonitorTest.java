@@ -0,0 +1,68 @@
+package com.bcnc.ecommerce.priceservice.adapter.web.threads;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+class VirtualThreadPinningMonitorTest {
+
+    private static final List<String> H2_STACK = List.of(
+            "jdk.internal.misc.Unsafe.park:-1",
+            "java.util.concurrent.locks.LockSupport.park:221",
+            "org.h2.mvstore.MVStore.lock:432",
+            "org.h2.engine.SessionLocal.lock:210");
+
+    private SimpleMeterRegistry registry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(new VirtualThreadProperties(), registry);
+    }
+
+    @Test
+    @DisplayName("Mide cada bloqueo fijado y registra la pila una sola vez por punto del código")
+    void shouldReportEachSiteOnce() {
+        assertTrue(monitor.onPinned(Duration.ofMillis(30), H2_STACK));
+        assertFalse(monitor.onPinned(Duration.ofMillis(50), H2_STACK));
+        assertTrue(monitor.onPinned(Duration.ofMillis(25), List.of("java.lang.Object.wait:-1")));
+        assertTrue(monitor.onPinned(Duration.ofMillis(25), List.of()));
+
+        Timer pinned = registry.get(VirtualThreadPinningMonitor.METRIC_PINNED).timer();
+        assertEquals(4, pinned.count());
+        assertEquals(130.0, pinned.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    @DisplayName("Sin hilos virtuales en la JVM no se suscribe al evento")
+    void shouldNotStartWithoutVirtualThreads() {
+        monitor.start();
+
+        assertFalse(monitor.isRunning());
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("Con hilos virtuales en la JVM se suscribe al evento hasta que se detiene")
+    void shouldStartWithVirtualThreads() {
+        monitor.start();
+        assertTrue(monitor.isRunning());
+
+        monitor.stop();
+        assertFalse(monitor.isRunning());
+    }
+}